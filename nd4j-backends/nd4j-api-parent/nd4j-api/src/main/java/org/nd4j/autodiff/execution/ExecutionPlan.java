@@ -0,0 +1,319 @@
+package org.nd4j.autodiff.execution;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.nd4j.autodiff.functions.DifferentialFunction;
+import org.nd4j.autodiff.samediff.SDVariable;
+import org.nd4j.autodiff.samediff.SameDiff;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.memory.MemoryWorkspace;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.CustomOp;
+import org.nd4j.linalg.api.ops.DynamicCustomOp;
+import org.nd4j.linalg.api.ops.Op;
+import org.nd4j.linalg.api.ops.impl.transforms.gradient.GradientBackwardsMarker;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.*;
+
+/**
+ * Compiled execution plan for repeated inference of the same SameDiff graph, when only placeholder contents change.
+ *
+ * Plan is prepared once: graph is executed once to resolve all shapes, topological order of ops is recorded,
+ * and intermediate arrays are moved into single preallocated arena. Intermediate arrays with disjoint lifetimes
+ * share the same region of arena, so memory footprint is defined by the widest point of the graph,
+ * not by the total number of intermediate arrays.
+ *
+ * Every subsequent {@link #run(Map)} call copies placeholder contents into planned placeholder arrays,
+ * and executes ops in recorded order without resolving variables or allocating outputs.
+ *
+ * PLEASE NOTE: plan takes over arrays of the given SameDiff instance, so graph shouldn't be modified or
+ * executed by other means afterwards. Plan isn't thread safe, use one plan per thread.
+ * PLEASE NOTE: output arrays are owned by plan, and are overwritten by next run() call.
+ * PLEASE NOTE: graphs with control flow ops aren't supported.
+ */
+@Slf4j
+public class ExecutionPlan {
+    // arena offsets are aligned to this number of elements
+    private static final int ALIGNMENT = 16;
+
+    private final SameDiff graph;
+    private final List<DifferentialFunction> steps = new ArrayList<>();
+    private final Map<String, INDArray> placeholders = new LinkedHashMap<>();
+    private final String[] outputNames;
+    private final INDArray[] outputs;
+
+    private DataBuffer arena;
+
+    /**
+     * Total number of bytes allocated for intermediate arrays
+     */
+    @Getter
+    private long arenaBytes;
+
+    /**
+     * Number of bytes intermediate arrays would take without reuse
+     */
+    @Getter
+    private long requiredBytes;
+
+    protected ExecutionPlan(@NonNull SameDiff graph, @NonNull Map<String, INDArray> placeholders,
+                    String... outputNames) {
+        this.graph = graph;
+
+        if (ParallelGraphExecutioner.hasControlFlow(graph))
+            throw new ND4JIllegalStateException("ExecutionPlan doesn't support graphs with control flow ops");
+
+        // plan owns placeholder arrays, so caller is free to reuse arrays passed in
+        val resolved = new LinkedHashMap<String, INDArray>();
+        for (val entry : placeholders.entrySet())
+            resolved.put(entry.getKey(), entry.getValue().dup(entry.getValue().ordering()));
+
+        graph.resolveVariablesWith(resolved);
+
+        // first run is used to resolve all shapes and allocate all arrays
+        graph.exec();
+
+        for (val function : graph.functions()) {
+            if (function instanceof SDVariable || function instanceof GradientBackwardsMarker)
+                continue;
+
+            if (!(function instanceof CustomOp) && !(function instanceof Op))
+                throw new ND4JIllegalStateException("Unsupported function: [" + function.opName() + "]");
+
+            steps.add(function);
+        }
+
+        if (steps.isEmpty())
+            throw new ND4JIllegalStateException("Graph has no ops to execute");
+
+        if (outputNames == null || outputNames.length == 0)
+            outputNames = new String[] {steps.get(steps.size() - 1).outputVariables()[0].getVarName()};
+
+        this.outputNames = outputNames;
+
+        for (val name : resolved.keySet())
+            this.placeholders.put(name, graph.getArrForVarName(name));
+
+        planArena();
+        bindOps();
+
+        this.outputs = new INDArray[outputNames.length];
+        for (int e = 0; e < outputNames.length; e++) {
+            outputs[e] = graph.getArrForVarName(outputNames[e]);
+            if (outputs[e] == null)
+                throw new ND4JIllegalStateException("Unknown output variable: [" + outputNames[e] + "]");
+        }
+
+        log.debug("ExecutionPlan prepared: {} ops; arena: {} bytes instead of {} bytes", steps.size(), arenaBytes,
+                        requiredBytes);
+    }
+
+    /**
+     * This method prepares execution plan for given graph
+     *
+     * @param graph graph to execute
+     * @param placeholders arrays for placeholders. Shapes of these arrays are used for all subsequent runs
+     * @param outputNames names of variables to be returned. Output of the last op is returned if nothing specified
+     * @return
+     */
+    public static ExecutionPlan prepare(@NonNull SameDiff graph, @NonNull Map<String, INDArray> placeholders,
+                    String... outputNames) {
+        return new ExecutionPlan(graph, placeholders, outputNames);
+    }
+
+    /**
+     * This method executes planned graph
+     *
+     * @param placeholders arrays for placeholders, shapes should match arrays used for plan preparation
+     * @return arrays for requested outputs, in the same order as they were requested
+     */
+    public INDArray[] run(@NonNull Map<String, INDArray> placeholders) {
+        for (val entry : placeholders.entrySet()) {
+            val target = this.placeholders.get(entry.getKey());
+            if (target == null)
+                throw new ND4JIllegalStateException("Unknown placeholder: [" + entry.getKey() + "]");
+
+            if (!Arrays.equals(target.shape(), entry.getValue().shape()))
+                throw new ND4JIllegalStateException("Placeholder [" + entry.getKey() + "] was planned with shape "
+                                + Arrays.toString(target.shape()) + ", but got "
+                                + Arrays.toString(entry.getValue().shape()));
+
+            target.assign(entry.getValue());
+        }
+
+        for (int e = 0; e < steps.size(); e++)
+            graph.execPreparedFunction(steps.get(e));
+
+        return outputs;
+    }
+
+    /**
+     * This method returns names of planned outputs
+     *
+     * @return
+     */
+    public String[] getOutputNames() {
+        return outputNames;
+    }
+
+    /**
+     * This method returns number of ops in plan
+     *
+     * @return
+     */
+    public int numberOfOps() {
+        return steps.size();
+    }
+
+    /**
+     * This method moves intermediate arrays into single arena, reusing memory of arrays that aren't used anymore
+     */
+    protected void planArena() {
+        val producers = new HashMap<String, Integer>();
+        val lastUse = new HashMap<String, Integer>();
+
+        for (int e = 0; e < steps.size(); e++) {
+            val function = steps.get(e);
+            for (val input : graph.getInputsForFunction(function))
+                lastUse.put(input, e);
+
+            val outputs = graph.getOutputsForFunction(function);
+            if (outputs != null)
+                for (val output : outputs)
+                    if (!producers.containsKey(output))
+                        producers.put(output, e);
+        }
+
+        // arrays sharing memory with anything else (in-place ops, views) are left as is
+        val buffers = new IdentityHashMap<DataBuffer, Integer>();
+        for (val variable : graph.variables()) {
+            val array = variable.getArr();
+            if (array == null)
+                continue;
+
+            val buffer = array.data();
+            buffers.put(buffer, buffers.containsKey(buffer) ? buffers.get(buffer) + 1 : 1);
+        }
+
+        val excluded = new HashSet<String>(Arrays.asList(outputNames));
+        excluded.addAll(placeholders.keySet());
+
+        val intervals = new ArrayList<Interval>();
+        for (val entry : producers.entrySet()) {
+            val name = entry.getKey();
+            val array = graph.getArrForVarName(name);
+            if (excluded.contains(name) || array == null || array.isView() || array.isCompressed()
+                            || array.data().dataType() != Nd4j.dataType() || buffers.get(array.data()) != 1)
+                continue;
+
+            int start = entry.getValue();
+            int end = lastUse.containsKey(name) ? Math.max(start, lastUse.get(name)) : start;
+            intervals.add(new Interval(name, start, end, array.length()));
+        }
+
+        if (intervals.isEmpty())
+            return;
+
+        Collections.sort(intervals, new Comparator<Interval>() {
+            @Override
+            public int compare(Interval o1, Interval o2) {
+                return Integer.compare(o1.start, o2.start);
+            }
+        });
+
+        // greedy interval coloring: each slot holds one array at a time
+        val slots = new ArrayList<Slot>();
+        for (val interval : intervals) {
+            requiredBytes += interval.length * Nd4j.sizeOfDataType();
+
+            Slot bestFit = null;
+            Slot largest = null;
+            for (val slot : slots) {
+                // array can't be written by the same op that reads previous occupant of the slot
+                if (slot.busyUntil >= interval.start)
+                    continue;
+
+                if (slot.capacity >= interval.length && (bestFit == null || slot.capacity < bestFit.capacity))
+                    bestFit = slot;
+
+                if (largest == null || slot.capacity > largest.capacity)
+                    largest = slot;
+            }
+
+            Slot slot = bestFit != null ? bestFit : largest;
+            if (slot == null) {
+                slot = new Slot();
+                slots.add(slot);
+            }
+
+            slot.capacity = Math.max(slot.capacity, interval.length);
+            slot.busyUntil = interval.end;
+            interval.slot = slot;
+        }
+
+        long total = 0;
+        for (val slot : slots) {
+            slot.offset = total;
+            total += (slot.capacity + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        }
+
+        try (MemoryWorkspace ws = Nd4j.getMemoryManager().scopeOutOfWorkspaces()) {
+            arena = Nd4j.createBuffer(total, false);
+        }
+        arenaBytes = total * Nd4j.sizeOfDataType();
+
+        for (val interval : intervals) {
+            val original = graph.getArrForVarName(interval.name);
+            val shape = original.shape();
+            val order = original.ordering();
+            val array = Nd4j.create(arena, shape, Nd4j.getStrides(shape, order), interval.slot.offset, order);
+            graph.updateArrayForVarName(interval.name, array);
+        }
+    }
+
+    /**
+     * This method attaches planned arrays to ops, so ops can be executed as is during run() calls
+     */
+    protected void bindOps() {
+        for (val function : steps) {
+            graph.prepareFunctionForExecution(function);
+
+            val outputs = graph.getOutputsForFunction(function);
+            if (outputs == null)
+                continue;
+
+            if (function instanceof DynamicCustomOp) {
+                val customOp = (DynamicCustomOp) function;
+                for (int e = 0; e < Math.min(outputs.length, customOp.numOutputArguments()); e++)
+                    customOp.setOutputArgument(e, graph.getArrForVarName(outputs[e]));
+            } else if (function instanceof Op && outputs.length > 0) {
+                ((Op) function).setZ(graph.getArrForVarName(outputs[0]));
+            }
+        }
+    }
+
+    private static class Interval {
+        private final String name;
+        private final int start;
+        private final int end;
+        private final long length;
+        private Slot slot;
+
+        private Interval(String name, int start, int end, long length) {
+            this.name = name;
+            this.start = start;
+            this.end = end;
+            this.length = length;
+        }
+    }
+
+    private static class Slot {
+        private long offset;
+        private long capacity;
+        private int busyUntil = -1;
+    }
+}
@@ -0,0 +1,329 @@
+package org.nd4j.autodiff.execution;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.nd4j.autodiff.execution.conf.ExecutionMode;
+import org.nd4j.autodiff.execution.conf.ExecutorConfiguration;
+import org.nd4j.autodiff.functions.DifferentialFunction;
+import org.nd4j.autodiff.samediff.SDVariable;
+import org.nd4j.autodiff.samediff.SameDiff;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.CustomOp;
+import org.nd4j.linalg.api.ops.DynamicCustomOp;
+import org.nd4j.linalg.api.ops.Op;
+import org.nd4j.linalg.api.ops.impl.controlflow.If;
+import org.nd4j.linalg.api.ops.impl.controlflow.While;
+import org.nd4j.linalg.api.ops.impl.controlflow.compat.BaseCompatOp;
+import org.nd4j.linalg.api.ops.impl.transforms.gradient.GradientBackwardsMarker;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.linalg.executors.ExecutorServiceProvider;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * GraphExecutioner that executes independent ops of SameDiff graph concurrently.
+ *
+ * Dependency graph is built from op inputs and outputs, keeping sequential semantics of {@link SameDiff#exec()}:
+ * op waits for producers of its inputs, and ops that overwrite variable (in-place ops, or ops sharing output name)
+ * wait for all earlier readers of that variable. Ops which have all dependencies satisfied are submitted
+ * to work-stealing pool.
+ *
+ * Graphs with control flow ops (Enter/Exit/Merge/Switch/NextIteration/LoopCond, If and While) rely on
+ * FlowPath and frames, so they are executed sequentially via {@link SameDiff#exec()}.
+ *
+ * Output arrays are owned by SameDiff instance, so they are allocated on first run and reused on subsequent runs.
+ *
+ * Everything besides graph execution (FlatBuffers conversion, graph registration etc) is passed through to
+ * delegate executioner, NativeGraphExecutioner by default.
+ */
+@Slf4j
+public class ParallelGraphExecutioner implements GraphExecutioner {
+    private static final String DEFAULT_DELEGATE = "org.nd4j.autodiff.execution.NativeGraphExecutioner";
+
+    private final ExecutorService executor;
+    private final GraphExecutioner delegate;
+
+    public ParallelGraphExecutioner() {
+        this(ExecutorServiceProvider.getForkJoinPool());
+    }
+
+    /**
+     * @param executor executor used for ops execution, work-stealing pool is preferred
+     */
+    public ParallelGraphExecutioner(@NonNull ExecutorService executor) {
+        this(executor, defaultDelegate());
+    }
+
+    /**
+     * @param executor executor used for ops execution, work-stealing pool is preferred
+     * @param delegate executioner used for everything besides graph execution
+     */
+    public ParallelGraphExecutioner(@NonNull ExecutorService executor, @NonNull GraphExecutioner delegate) {
+        this.executor = executor;
+        this.delegate = delegate;
+    }
+
+    private static GraphExecutioner defaultDelegate() {
+        // NativeGraphExecutioner lives in nd4j-native-api, which is available with any backend
+        try {
+            return (GraphExecutioner) Class.forName(DEFAULT_DELEGATE).newInstance();
+        } catch (Exception e) {
+            throw new ND4JIllegalStateException("Unable to instantiate " + DEFAULT_DELEGATE, e);
+        }
+    }
+
+    /**
+     * This method returns Type of this executioner
+     *
+     * @return
+     */
+    @Override
+    public Type getExecutionerType() {
+        return Type.LOCAL;
+    }
+
+    /**
+     * This method executes given graph and returns results
+     *
+     * PLEASE NOTE: ops are executed in parallel only if ExecutionMode.AUTO was set in configuration
+     *
+     * @param graph
+     * @param configuration
+     * @return
+     */
+    @Override
+    public INDArray[] executeGraph(SameDiff graph, ExecutorConfiguration configuration) {
+        return executeGraph(graph, Collections.<String, INDArray>emptyMap(), configuration);
+    }
+
+    /**
+     * This method executes given graph and returns results. Independent ops are executed in parallel.
+     *
+     * @param graph
+     * @return
+     */
+    @Override
+    public INDArray[] executeGraph(SameDiff graph) {
+        return executeGraph(graph, ExecutorConfiguration.builder().executionMode(ExecutionMode.AUTO).build());
+    }
+
+    /**
+     * This method resolves placeholders with given arrays, and executes given graph
+     *
+     * @param graph
+     * @param placeholders arrays for placeholders, by variable name
+     * @param configuration
+     * @return
+     */
+    public INDArray[] executeGraph(@NonNull SameDiff graph, @NonNull Map<String, INDArray> placeholders,
+                    @NonNull ExecutorConfiguration configuration) {
+        if (configuration.getExecutionMode() != ExecutionMode.AUTO || hasControlFlow(graph)) {
+            graph.resolveVariablesWith(placeholders);
+            val ops = graph.exec().getRight();
+            return new INDArray[] {ops.get(ops.size() - 1).outputVariables()[0].getArr()};
+        }
+
+        graph.resolveVariablesWith(placeholders);
+
+        val nodes = buildDependencies(graph);
+        if (nodes.isEmpty())
+            throw new ND4JIllegalStateException("Graph has no ops to execute");
+
+        run(graph, nodes);
+
+        return new INDArray[] {nodes.get(nodes.size() - 1).function.outputVariables()[0].getArr()};
+    }
+
+    /**
+     * This method checks, if graph has ops that modify execution order
+     */
+    protected static boolean hasControlFlow(SameDiff graph) {
+        for (val function : graph.functions()) {
+            if (function instanceof BaseCompatOp || function instanceof If || function instanceof While)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * This method builds dependency graph, nodes are returned in sequential execution order
+     */
+    protected List<OpNode> buildDependencies(SameDiff graph) {
+        val nodes = new ArrayList<OpNode>();
+
+        // node that wrote variable last, and nodes that read it since then
+        val writers = new HashMap<String, OpNode>();
+        val readers = new HashMap<String, List<OpNode>>();
+
+        for (val function : graph.functions()) {
+            if (function instanceof SDVariable || function instanceof GradientBackwardsMarker)
+                continue;
+
+            if (!(function instanceof CustomOp) && !(function instanceof Op))
+                continue;
+
+            val node = new OpNode(function);
+            val inputs = graph.getInputsForFunction(function);
+            val outputs = graph.getOutputsForFunction(function);
+            boolean inPlace = function.isInPlace()
+                            || (function instanceof DynamicCustomOp && ((DynamicCustomOp) function).isInplaceCall());
+
+            for (val input : inputs) {
+                node.dependsOn(writers.get(input));
+                readersOf(readers, input).add(node);
+            }
+
+            // in-place op overwrites own input, so it can't run before earlier readers of that input
+            val written = new LinkedHashSet<String>();
+            if (inPlace && inputs.length > 0)
+                written.add(inputs[0]);
+
+            if (outputs != null)
+                written.addAll(Arrays.asList(outputs));
+
+            for (val variable : written) {
+                node.dependsOn(writers.get(variable));
+                for (val reader : readersOf(readers, variable))
+                    node.dependsOn(reader);
+
+                writers.put(variable, node);
+                readers.remove(variable);
+            }
+
+            nodes.add(node);
+        }
+
+        return nodes;
+    }
+
+    private static List<OpNode> readersOf(Map<String, List<OpNode>> readers, String variable) {
+        List<OpNode> list = readers.get(variable);
+        if (list == null) {
+            list = new ArrayList<>();
+            readers.put(variable, list);
+        }
+        return list;
+    }
+
+    protected void run(final SameDiff graph, List<OpNode> nodes) {
+        final CountDownLatch latch = new CountDownLatch(nodes.size());
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final Integer deviceId = Nd4j.getAffinityManager().getDeviceForCurrentThread();
+
+        for (val node : nodes)
+            node.pending.set(node.dependencies.size());
+
+        for (val node : nodes)
+            if (node.dependencies.isEmpty())
+                submit(graph, node, latch, error, deviceId);
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        if (error.get() != null)
+            throw new ND4JIllegalStateException("Graph execution failed", error.get());
+    }
+
+    private void submit(final SameDiff graph, final OpNode node, final CountDownLatch latch,
+                    final AtomicReference<Throwable> error, final Integer deviceId) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                // once something failed, we just drain remaining nodes
+                if (error.get() == null) {
+                    try {
+                        Nd4j.getAffinityManager().attachThreadToDevice(Thread.currentThread(), deviceId);
+                        execute(graph, node.function);
+                    } catch (Throwable t) {
+                        error.compareAndSet(null, t);
+                    }
+                }
+
+                for (val dependant : node.dependants)
+                    if (dependant.pending.decrementAndGet() == 0)
+                        submit(graph, dependant, latch, error, deviceId);
+
+                latch.countDown();
+            }
+        });
+    }
+
+    protected void execute(SameDiff graph, DifferentialFunction function) {
+        if (log.isTraceEnabled())
+            log.trace("Executing op {} for node [{}]", function.opName(), function.getOwnName());
+
+        // SameDiff state isn't thread safe, so only actual op execution goes without lock
+        synchronized (graph) {
+            function.resolvePropertiesFromSameDiffBeforeExecution();
+            graph.prepareFunctionForExecution(function);
+        }
+
+        graph.execPreparedFunction(function);
+    }
+
+    /**
+     * This method converts given SameDiff instance to FlatBuffers representation
+     *
+     * @param diff
+     * @return
+     */
+    @Override
+    public ByteBuffer convertToFlatBuffers(SameDiff diff, ExecutorConfiguration configuration) {
+        return delegate.convertToFlatBuffers(diff, configuration);
+    }
+
+    @Override
+    public INDArray[] reuseGraph(SameDiff graph, Map<Integer, INDArray> inputs) {
+        return delegate.reuseGraph(graph, inputs);
+    }
+
+    @Override
+    public INDArray[] executeGraph(int id, SDVariable... variables) {
+        return delegate.executeGraph(id, variables);
+    }
+
+    @Override
+    public int registerGraph(SameDiff graph) {
+        return delegate.registerGraph(graph);
+    }
+
+    @Override
+    public INDArray[] importProto(File file) {
+        return delegate.importProto(file);
+    }
+
+    /**
+     * Single op within dependency graph
+     */
+    protected static class OpNode {
+        protected final DifferentialFunction function;
+        protected final Set<OpNode> dependencies = new LinkedHashSet<>();
+        protected final List<OpNode> dependants = new ArrayList<>();
+        protected final AtomicInteger pending = new AtomicInteger(0);
+
+        protected OpNode(DifferentialFunction function) {
+            this.function = function;
+        }
+
+        protected void dependsOn(OpNode node) {
+            if (node == null || node == this)
+                return;
+
+            if (dependencies.add(node))
+                node.dependants.add(this);
+        }
+    }
+}
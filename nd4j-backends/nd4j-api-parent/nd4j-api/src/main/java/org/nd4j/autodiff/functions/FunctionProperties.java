@@ -56,6 +56,7 @@ public class FunctionProperties {
      */
     public static FunctionProperties fromFlatProperties(FlatProperties properties) {
         val props = new FunctionProperties();
+        props.setName(properties.name());
 
         for (int e = 0; e < properties.iLength(); e++)
             props.getI().add(properties.i(e));
@@ -66,7 +67,7 @@ public class FunctionProperties {
         for (int e = 0; e < properties.dLength(); e++)
             props.getD().add(properties.d(e));
 
-        for (int e = 0; e < properties.iLength(); e++)
+        for (int e = 0; e < properties.aLength(); e++)
             props.getA().add(Nd4j.createFromFlatArray(properties.a(e)));
 
         return props;
@@ -3,6 +3,7 @@ package org.nd4j.autodiff.samediff;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
+import com.google.common.primitives.Doubles;
 import com.google.common.primitives.Ints;
 import com.google.flatbuffers.FlatBufferBuilder;
 import com.rits.cloning.Cloner;
@@ -19,6 +20,7 @@ import org.nd4j.autodiff.samediff.flow.FlowPath;
 import org.nd4j.autodiff.util.cloner.DataBufferFastCloner;
 import org.nd4j.autodiff.util.cloner.INDArrayFastCloner;
 import org.nd4j.graph.*;
+import org.nd4j.imports.converters.DifferentialFunctionClassHolder;
 import org.nd4j.linalg.api.blas.params.MMulTranspose;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.buffer.factory.DataBufferFactory;
@@ -70,6 +72,7 @@ import java.io.*;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -4778,7 +4781,8 @@ public class SameDiff {
 
             val args = getInputsForFunction(differentialFunction);
 
-            log.info("Step: {}; Executing op {} for node [{}]", exec_counter, opName, ownName);
+            if (log.isTraceEnabled())
+                log.trace("Step: {}; Executing op {} for node [{}]", exec_counter, opName, ownName);
 
             // check if inputs are active nodes. skip step otherwise
             // please note: Exit node can't be skipped, because it's either rewind point or exit loop point
@@ -5067,78 +5071,97 @@ public class SameDiff {
 
                 flowPath.markExecuted(differentialFunction.getOwnName(), true);
 
-            } else if (differentialFunction instanceof CustomOp) {
-                DynamicCustomOp customOp = (DynamicCustomOp) differentialFunction;
-                customOp.populateInputsAndOutputsFromSameDiff();
-                customOp.assertValidForExecution();
+            } else if (differentialFunction instanceof CustomOp || differentialFunction instanceof Op) {
+                prepareFunctionForExecution(differentialFunction);
+                execPreparedFunction(differentialFunction);
 
-                customOp.updateInputsFromSameDiff();
+                flowPath.markExecuted(differentialFunction.getOwnName(), true);
 
-                Nd4j.getExecutioner().exec(customOp);
+                ops.add(differentialFunction);
+            }
 
-                /*
-                if (customOp instanceof LessThanOrEqual) {
-                    log.info("Step: {}; InnerCondition: {} <= {} = {}", exec_counter, customOp.getInputArgument(0), customOp.getInputArgument(1), customOp.getOutputArgument(0));
-                } else if (customOp instanceof LessThan) {
-                    log.info("Step: {}; OuterCondition: {} <= {} = {}", exec_counter, customOp.getInputArgument(0), customOp.getInputArgument(1), customOp.getOutputArgument(0));
-                }
-                */
+            //debug
+           // printFunction(differentialFunction);
+        }
 
-                flowPath.markExecuted(differentialFunction.getOwnName(), true);
+        return new Pair<>(opMap, ops);
+    }
 
-                ops.add(customOp);
-            } else if (differentialFunction instanceof Op) {
-                val inputs = getInputVariablesForFunction(differentialFunction);
 
-                Op op = (Op) differentialFunction;
+    /**
+     * This method attaches actual input/output arrays to the given op, so it can be executed via
+     * {@link #execPreparedFunction(DifferentialFunction)}.
+     *
+     * PLEASE NOTE: this method reads and updates state of this SameDiff instance, so it's not thread safe.
+     * Control flow ops aren't supported here, they are handled by {@link #exec()} only.
+     *
+     * @param function op to prepare
+     */
+    public void prepareFunctionForExecution(DifferentialFunction function) {
+        if (function instanceof CustomOp) {
+            DynamicCustomOp customOp = (DynamicCustomOp) function;
+            customOp.populateInputsAndOutputsFromSameDiff();
+            customOp.assertValidForExecution();
 
-                // ops in differential function might have stale NDArrays used. we should renew them
-                op.setX(inputs[0].getArr());
-                if (inputs.length == 2)
-                    op.setY(inputs[1].getArr());
+            customOp.updateInputsFromSameDiff();
+        } else if (function instanceof Op) {
+            val inputs = getInputVariablesForFunction(function);
 
-                if (differentialFunction.getDimensions() == null)
-                    Nd4j.getExecutioner().exec(op);
-                else if (op.isExecSpecial()) {
-                    op.exec();
-                } else {
-                    int[] axes = differentialFunction.getDimensions();
-                    if (differentialFunction instanceof Accumulation) {
-                        Accumulation accumulation = (Accumulation) differentialFunction;
+            Op op = (Op) function;
 
-                        Nd4j.getExecutioner().exec(accumulation, axes);
+            // ops in differential function might have stale NDArrays used. we should renew them
+            op.setX(inputs[0].getArr());
+            if (inputs.length == 2)
+                op.setY(inputs[1].getArr());
+        } else
+            throw new ND4JIllegalStateException("Function [" + function.opName() + "] isn't an op");
+    }
 
-                        if (differentialFunction.outputVariables()[0].getArr() == null) {
-                            val var = differentialFunction.outputVariables()[0];
-                            updateArrayForVarName(var.getVarName(), accumulation.z());
-                            updateShapeForVarName(var.getVarName(), accumulation.z().shape());
-                        }
-                    } else if(differentialFunction instanceof BroadcastOp) {
-                        BroadcastOp broadcastOp = (BroadcastOp) differentialFunction;
-                        Nd4j.getExecutioner().exec(broadcastOp, axes);
-                    } else if(differentialFunction instanceof GradientOp) {
-                        Nd4j.getExecutioner().exec(op);
-                    } else if(differentialFunction instanceof IndexAccumulation) {
-                        IndexAccumulation indexAccumulation = (IndexAccumulation) differentialFunction;
-                        Nd4j.getExecutioner().exec(indexAccumulation, axes);
-
-                    } else if(differentialFunction instanceof TransformOp){
-                        TransformOp t = (TransformOp)differentialFunction;
-                        Nd4j.getExecutioner().exec(t, axes);
-                    }
-                }
+    /**
+     * This method executes op previously prepared with {@link #prepareFunctionForExecution(DifferentialFunction)}.
+     * Ops with disjoint inputs and outputs can be executed concurrently.
+     *
+     * @param function op to execute
+     */
+    public void execPreparedFunction(DifferentialFunction function) {
+        if (function instanceof CustomOp) {
+            Nd4j.getExecutioner().exec((CustomOp) function);
+            return;
+        }
 
+        Op op = (Op) function;
+        if (function.getDimensions() == null)
+            Nd4j.getExecutioner().exec(op);
+        else if (op.isExecSpecial()) {
+            op.exec();
+        } else {
+            int[] axes = function.getDimensions();
+            if (function instanceof Accumulation) {
+                Accumulation accumulation = (Accumulation) function;
 
-                flowPath.markExecuted(differentialFunction.getOwnName(), true);
+                Nd4j.getExecutioner().exec(accumulation, axes);
 
-                ops.add(differentialFunction);
+                synchronized (this) {
+                    if (function.outputVariables()[0].getArr() == null) {
+                        val var = function.outputVariables()[0];
+                        updateArrayForVarName(var.getVarName(), accumulation.z());
+                        updateShapeForVarName(var.getVarName(), accumulation.z().shape());
+                    }
+                }
+            } else if(function instanceof BroadcastOp) {
+                BroadcastOp broadcastOp = (BroadcastOp) function;
+                Nd4j.getExecutioner().exec(broadcastOp, axes);
+            } else if(function instanceof GradientOp) {
+                Nd4j.getExecutioner().exec(op);
+            } else if(function instanceof IndexAccumulation) {
+                IndexAccumulation indexAccumulation = (IndexAccumulation) function;
+                Nd4j.getExecutioner().exec(indexAccumulation, axes);
+
+            } else if(function instanceof TransformOp){
+                TransformOp t = (TransformOp) function;
+                Nd4j.getExecutioner().exec(t, axes);
             }
-
-            //debug
-           // printFunction(differentialFunction);
         }
-
-        return new Pair<>(opMap, ops);
     }
 
 
@@ -5364,6 +5387,17 @@ public class SameDiff {
 
         // TODO: Adam, just put your props here, instead of empty list, and they will be saved
         List<FunctionProperties> props = new ArrayList<>();
+
+        // first entry holds op name and floating point arguments, the rest are names of output variables
+        val opProps = FunctionProperties.builder().name(opName).build();
+        if (node.opType() == Op.Type.CUSTOM)
+            opProps.getD().addAll(Doubles.asList(((DynamicCustomOp) node).tArgs()));
+
+        props.add(opProps);
+        for (int i = 0; i < outputVertexId.length; i++)
+            props.add(FunctionProperties.builder().name(outputVertexId[i].getVarName()).i(Collections.singletonList(i))
+                            .build());
+
         int properties = FunctionProperties.asFlatProperties(bufferBuilder, props);
 
         int nodesIn = FlatNode.createInputVector(bufferBuilder, new int[]{});
@@ -5572,6 +5606,227 @@ public class SameDiff {
         }
     }
 
+    /**
+     * This method restores SameDiff instance from file created with {@link #asFlatFile(File)}.
+     *
+     * The file is opened read-only and mapped with {@link FileChannel.MapMode#READ_ONLY}, and variable arrays
+     * are copied out of the mapping, so read-only model files work, arrays may be freely modified,
+     * and changes are never written back to the file.
+     * Use {@link #fromFlatFile(File, FileChannel.MapMode)} to back variable arrays by the file pages without copying.
+     *
+     * @param file
+     * @return
+     * @throws IOException
+     */
+    public static SameDiff fromFlatFile(@NonNull File file) throws IOException {
+        return fromFlatFile(file, FileChannel.MapMode.READ_ONLY, true);
+    }
+
+    /**
+     * This method restores SameDiff instance from file created with {@link #asFlatFile(File)},
+     * memory mapping the file with given mode. Variable arrays are backed by the file pages directly:
+     * nothing is copied on load, and pages are shared between all processes mapping the same file
+     * (until they're modified, in case of {@link FileChannel.MapMode#PRIVATE}).
+     *
+     * {@link FileChannel.MapMode#PRIVATE} and {@link FileChannel.MapMode#READ_WRITE} need the file to be opened
+     * for writing. For a file that isn't writable, PRIVATE falls back to copying variable arrays
+     * as {@link #fromFlatFile(File)} does, while READ_WRITE fails.
+     *
+     * PLEASE NOTE: with {@link FileChannel.MapMode#READ_ONLY} variable arrays MUST NOT be modified,
+     * since writes go straight to read-only pages and will crash the JVM.
+     * With {@link FileChannel.MapMode#READ_WRITE} changes to the arrays are written back to the file.
+     *
+     * @param file
+     * @param mode
+     * @return
+     * @throws IOException
+     */
+    public static SameDiff fromFlatFile(@NonNull File file, @NonNull FileChannel.MapMode mode) throws IOException {
+        if (mode == FileChannel.MapMode.PRIVATE && !file.canWrite())
+            return fromFlatFile(file, FileChannel.MapMode.READ_ONLY, true);
+
+        return fromFlatFile(file, mode, false);
+    }
+
+    private static SameDiff fromFlatFile(File file, FileChannel.MapMode mode, boolean copy) throws IOException {
+        // "rw" would silently create a missing file
+        if (!file.isFile())
+            throw new FileNotFoundException("File [" + file.getAbsolutePath() + "] doesn't exist or isn't a regular file");
+
+        try (val raf = new RandomAccessFile(file, mode == FileChannel.MapMode.READ_ONLY ? "r" : "rw")) {
+            val channel = raf.getChannel();
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new ND4JIllegalStateException("FlatBuffers file can't be larger than 2GB: [" + file + "]");
+
+            // mapping doesn't depend on the channel: it's unmapped once it becomes unreachable,
+            // and variable arrays keep it reachable via their DataBuffers
+            return fromFlatBuffers(channel.map(mode, 0, channel.size()), copy);
+        }
+    }
+
+    /**
+     * This method restores SameDiff instance from FlatBuffers representation, as produced by {@link #asFlatBuffers()}.
+     *
+     * If given buffer is direct, i.e. memory mapped, variable arrays are backed by it without copying,
+     * and keep it alive for as long as they're reachable. See {@link Nd4j#createFromFlatArrayView(FlatArray)} for details.
+     *
+     * PLEASE NOTE: graphs with scopes or control flow ops aren't supported yet
+     *
+     * @param buffer
+     * @return
+     */
+    public static SameDiff fromFlatBuffers(@NonNull ByteBuffer buffer) {
+        return fromFlatBuffers(buffer, false);
+    }
+
+    private static SameDiff fromFlatBuffers(ByteBuffer buffer, boolean copy) {
+        val graph = FlatGraph.getRootAsFlatGraph(buffer);
+        val sameDiff = SameDiff.create();
+
+        // (node or variable id, output index) -> variable name, same way asFlatNode() references inputs
+        val names = new HashMap<Pair<Integer, Integer>, String>();
+
+        for (int e = 0; e < graph.variablesLength(); e++) {
+            val flatVariable = graph.variables(e);
+            val name = flatVariable.name();
+
+            val array = Nd4j.createFromFlatArrayView(flatVariable.ndarray());
+            sameDiff.var(name, copy ? array.dup(array.ordering()) : array);
+            names.put(Pair.pairOf(flatVariable.id().first(), parseVariable(name).getSecond()), name);
+        }
+
+        for (int e = 0; e < graph.nodesLength(); e++) {
+            val node = graph.nodes(e);
+            if (node.opType() == OpType.LOGIC)
+                throw new UnsupportedOperationException("Scopes and control flow ops aren't supported yet: ["
+                                + node.name() + "]");
+
+            // files written before op properties were saved have op name & first output name only
+            val outputNames = new String[Math.max(1, node.propertiesLength() - 1)];
+            String opName = null;
+            double[] tArgs = new double[0];
+            if (node.propertiesLength() > 0) {
+                val opProps = FunctionProperties.fromFlatProperties(node.properties(0));
+                opName = opProps.getName();
+                tArgs = Doubles.toArray(opProps.getD());
+
+                for (int i = 1; i < node.propertiesLength(); i++)
+                    outputNames[i - 1] = node.properties(i).name();
+            } else
+                outputNames[0] = node.name();
+
+            val op = instantiateFlatOp(opName, node.opType(), node.opNum());
+            op.setSameDiff(sameDiff);
+            op.setOwnName(outputNames[0]);
+
+            val args = new SDVariable[node.inputPairedLength()];
+            for (int i = 0; i < args.length; i++) {
+                val input = node.inputPaired(i);
+                val name = names.get(Pair.pairOf(input.first(), input.second()));
+                if (name == null)
+                    throw new ND4JIllegalStateException("Unknown input [" + input.first() + ":" + input.second()
+                                    + "] used in node [" + node.name() + "]");
+
+                args[i] = sameDiff.getVariable(name);
+            }
+
+            val outputs = new SDVariable[outputNames.length];
+            for (int i = 0; i < outputs.length; i++) {
+                // op outputs that had arrays at export time are restored as variables already
+                outputs[i] = sameDiff.getVariable(outputNames[i]);
+                if (outputs[i] == null)
+                    outputs[i] = sameDiff.var(outputNames[i], null, new ZeroInitScheme('c'));
+
+                names.put(Pair.pairOf(node.id(), parseVariable(outputNames[i]).getSecond()), outputNames[i]);
+            }
+
+            if (op instanceof DynamicCustomOp) {
+                val customOp = (DynamicCustomOp) op;
+                for (int i = 0; i < node.extraIntegerLength(); i++)
+                    customOp.addIArgument(node.extraInteger(i));
+
+                customOp.addTArgument(tArgs);
+            } else {
+                if (node.extraParamsLength() > 0) {
+                    val extras = new Object[node.extraParamsLength()];
+                    for (int i = 0; i < extras.length; i++)
+                        extras[i] = (double) node.extraParams(i);
+
+                    op.setExtraArgs(extras);
+                }
+
+                if (node.dimensionsLength() > 0) {
+                    val dimensions = new int[node.dimensionsLength()];
+                    for (int i = 0; i < dimensions.length; i++)
+                        dimensions[i] = node.dimensions(i);
+
+                    op.setDimensions(dimensions);
+                }
+
+                if (node.opType() == OpType.SCALAR)
+                    op.setScalarValue(node.scalar());
+            }
+
+            sameDiff.addArgsFor(args, op);
+            sameDiff.putFunctionForId(op.getOwnName(), op);
+            sameDiff.addOutgoingFor(outputs, op);
+        }
+
+        return sameDiff;
+    }
+
+    /**
+     * This method creates new op instance for FlatNode: by op name if it's known, or by op type and op num/hash otherwise
+     *
+     * @param opName
+     * @param opType
+     * @param opNum
+     * @return
+     */
+    protected static DifferentialFunction instantiateFlatOp(String opName, byte opType, long opNum) {
+        val holder = DifferentialFunctionClassHolder.getInstance();
+        DifferentialFunction prototype = opName != null ? holder.getInstance(opName) : null;
+
+        if (prototype == null && opType == OpType.CUSTOM) {
+            for (val entry : Nd4j.getExecutioner().getCustomOperations().entrySet()) {
+                if (entry.getValue().getHash() != opNum)
+                    continue;
+
+                prototype = holder.getInstance(entry.getKey());
+                // there's no dedicated class for this op, but it still can be executed as is
+                if (prototype == null)
+                    return DynamicCustomOp.builder(entry.getKey()).build();
+
+                break;
+            }
+        } else if (prototype == null) {
+            for (val name : holder.opNames()) {
+                val candidate = holder.getInstance(name);
+                if (!(candidate instanceof BaseOp) || candidate.opType() == null)
+                    continue;
+
+                try {
+                    if (getFlatOpType(candidate.opType()) == opType && candidate.opNum() == opNum) {
+                        prototype = candidate;
+                        break;
+                    }
+                } catch (UnsupportedOperationException e) {
+                    // op types which can't be exported are skipped
+                }
+            }
+        }
+
+        if (prototype == null)
+            throw new ND4JIllegalStateException("Can't find op [" + opName + "] of type [" + getTypeFromByte(opType)
+                            + "] with opNum/hash [" + opNum + "]");
+
+        try {
+            return prototype.getClass().newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new ND4JIllegalStateException("Failed to instantiate op [" + prototype.opName() + "]", e);
+        }
+    }
+
     /**
      * This method returns "flattened" graph.
      *
@@ -7,8 +7,10 @@ import org.nd4j.linalg.api.ops.*;
 import org.nd4j.linalg.api.ops.aggregates.Aggregate;
 import org.nd4j.linalg.api.ops.aggregates.Batch;
 import org.nd4j.linalg.api.ops.executioner.OpExecutioner;
+import org.nd4j.linalg.api.ops.executioner.PreparedCustomOp;
 import org.nd4j.linalg.api.ops.impl.accum.Variance;
 import org.nd4j.linalg.api.rng.Random;
+import org.nd4j.linalg.cache.CacheStatistics;
 import org.nd4j.linalg.cache.TADManager;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.profiler.OpProfiler;
@@ -501,6 +503,16 @@ public class SameDiffOpExecutioner implements OpExecutioner,OpProfiler.OpProfile
         return backendExecutioner.calculateOutputShape(op);
     }
 
+    @Override
+    public PreparedCustomOp prepare(CustomOp op) {
+        return backendExecutioner.prepare(op);
+    }
+
+    @Override
+    public CacheStatistics getShapeCacheStatistics() {
+        return backendExecutioner.getShapeCacheStatistics();
+    }
+
 
     @Override
     public void registerGraph(long id, Pointer graph) {
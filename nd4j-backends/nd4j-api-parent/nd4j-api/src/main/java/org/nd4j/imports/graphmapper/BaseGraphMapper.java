@@ -10,11 +10,13 @@ import org.nd4j.autodiff.samediff.SameDiff;
 import org.nd4j.imports.NoOpNameFoundException;
 import org.nd4j.imports.descriptors.properties.PropertyMapping;
 import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.ops.Op;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.weightinit.impl.ZeroInitScheme;
 
 import java.io.*;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -152,6 +154,8 @@ public abstract class BaseGraphMapper<GRAPH_TYPE,NODE_TYPE,ATTR_TYPE,TENSOR_TYPE
         val variablesForGraph = variablesForGraph(tfGraph);
         importState.setVariables(variablesForGraph);
 
+        // large constants might be decoded in advance, i.e. in parallel
+        val prefetched = prefetchArrays(variablesForGraph, tfGraph);
 
         //map the names of the nodes while accumulating the vertex ids
         //for each variable
@@ -168,7 +172,8 @@ public abstract class BaseGraphMapper<GRAPH_TYPE,NODE_TYPE,ATTR_TYPE,TENSOR_TYPE
                 continue;
             }
 
-            val arr = getNDArrayFromTensor(entry.getKey(), entry.getValue(), tfGraph);
+            val arr = prefetched.containsKey(entry.getKey()) ? prefetched.get(entry.getKey())
+                            : getNDArrayFromTensor(entry.getKey(), entry.getValue(), tfGraph);
             if(arr != null) {
                 val var = importState.getSameDiff().var(entry.getKey(),arr);
                 //ensure the array is made available for later processing
@@ -225,6 +230,20 @@ public abstract class BaseGraphMapper<GRAPH_TYPE,NODE_TYPE,ATTR_TYPE,TENSOR_TYPE
 
 
 
+    /**
+     * This method allows mappers to decode some of graph variables before actual import starts.
+     * Arrays returned here are used as is, instead of calling {@link #getNDArrayFromTensor(String, Object, Object)}
+     *
+     * Default implementation doesn't prefetch anything
+     *
+     * @param variables variables of the graph, as returned by variablesForGraph()
+     * @param graph
+     * @return map of variable name to decoded array
+     */
+    protected Map<String, INDArray> prefetchArrays(Map<String, TENSOR_TYPE> variables, GRAPH_TYPE graph) {
+        return Collections.emptyMap();
+    }
+
     @Override
     public boolean validTensorDataType(TENSOR_TYPE tensorType) {
         return dataTypeForTensor(tensorType) != DataBuffer.Type.UNKNOWN;
@@ -25,6 +25,7 @@ import org.tensorflow.framework.*;
 import java.io.*;
 import java.nio.ByteOrder;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Map tensorflow graph protos
@@ -38,6 +39,10 @@ public class TFGraphMapper extends BaseGraphMapper<GraphDef,NodeDef,AttrValue,No
     private Set<String> seenNodes = new LinkedHashSet<>();
     public final static String VALUE_ATTR_KEY = "value";
     public final static String SHAPE_KEY = "shape";
+    /**
+     * Constants with binary content of at least this size (in bytes) are decoded in parallel during import
+     */
+    public final static int PARALLEL_DECODE_THRESHOLD = 64 * 1024;
     private static TFGraphMapper MAPPER_INSTANCE = new TFGraphMapper();
     private Set<String> graphMapper = new HashSet<String>(){{
         //While and If
@@ -769,6 +774,83 @@ public class TFGraphMapper extends BaseGraphMapper<GraphDef,NodeDef,AttrValue,No
 
 
 
+    /**
+     * This method decodes large constants of the graph in parallel, since for frozen models they usually
+     * make up most of the import time. Small tensors aren't worth the scheduling overhead, so they're
+     * decoded sequentially during import.
+     *
+     * @param variables
+     * @param graph
+     * @return
+     */
+    @Override
+    protected Map<String, INDArray> prefetchArrays(Map<String, NodeDef> variables, GraphDef graph) {
+        final List<Map.Entry<String, NodeDef>> candidates = new ArrayList<>();
+        for (Map.Entry<String, NodeDef> entry : variables.entrySet()) {
+            val node = entry.getValue();
+            if (!node.containsAttr("value") || dataTypeForTensor(node) == DataBuffer.Type.UNKNOWN)
+                continue;
+
+            if (node.getAttrOrThrow("value").getTensor().getTensorContent().size() >= PARALLEL_DECODE_THRESHOLD)
+                candidates.add(entry);
+        }
+
+        int numThreads = Math.min(Runtime.getRuntime().availableProcessors(), candidates.size());
+        if (numThreads < 2)
+            return Collections.emptyMap();
+
+        // largest tensors go first, so threads finish at roughly the same time
+        Collections.sort(candidates, new Comparator<Map.Entry<String, NodeDef>>() {
+            @Override
+            public int compare(Map.Entry<String, NodeDef> o1, Map.Entry<String, NodeDef> o2) {
+                return Integer.compare(contentSize(o2.getValue()), contentSize(o1.getValue()));
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "TFGraphMapper-decoder");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        try {
+            final Integer deviceId = Nd4j.getAffinityManager().getDeviceForCurrentThread();
+            Map<String, Future<INDArray>> futures = new LinkedHashMap<>();
+            for (final Map.Entry<String, NodeDef> entry : candidates) {
+                futures.put(entry.getKey(), executor.submit(new Callable<INDArray>() {
+                    @Override
+                    public INDArray call() throws Exception {
+                        Nd4j.getAffinityManager().unsafeSetDevice(deviceId);
+                        return mapTensorProto(entry.getValue().getAttrOrThrow("value").getTensor());
+                    }
+                }));
+            }
+
+            Map<String, INDArray> result = new HashMap<>();
+            for (Map.Entry<String, Future<INDArray>> entry : futures.entrySet())
+                result.put(entry.getKey(), entry.getValue().get());
+
+            return result;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+
+            throw new ND4JIllegalStateException("Failed to decode graph constants", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ND4JIllegalStateException("Interrupted while decoding graph constants", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int contentSize(NodeDef node) {
+        return node.getAttrOrThrow("value").getTensor().getTensorContent().size();
+    }
+
     public INDArray mapTensorProto(TensorProto tfTensor) {
         // building shape first
         int dims = tfTensor.getTensorShape().getDimCount();
@@ -791,6 +873,10 @@ public class TFGraphMapper extends BaseGraphMapper<GraphDef,NodeDef,AttrValue,No
 
         arrayShape = Ints.toArray(dimensions);
 
+        // binary representation is decoded straight into the array buffer, for all data types
+        if (!tfTensor.getTensorContent().isEmpty())
+            return TFTensorDecoder.decode(tfTensor.getTensorContent(), tfTensor.getDtype(), arrayShape);
+
         if (tfTensor.getDtype() == DataType.DT_INT32 || tfTensor.getDtype() == DataType.DT_INT16 || tfTensor.getDtype() == DataType.DT_INT8) {
             // valueOf
             if (tfTensor.getIntValCount() == 1 || ArrayUtil.prod(arrayShape) == 1) {
@@ -806,7 +892,7 @@ public class TFGraphMapper extends BaseGraphMapper<GraphDef,NodeDef,AttrValue,No
 
                 INDArray array = Nd4j.valueArrayOf(arrayShape, (double) val);
                 return array;
-            } else if (tfTensor.getInt64ValCount() > 0) {
+            } else if (tfTensor.getIntValCount() > 0) {
                 double[] jArray = new double[tfTensor.getIntValCount()];
                 for (int e = 0; e < tfTensor.getIntValCount(); e++) {
                     jArray[e] = (double) tfTensor.getIntVal(e);
@@ -815,30 +901,6 @@ public class TFGraphMapper extends BaseGraphMapper<GraphDef,NodeDef,AttrValue,No
                 // TF arrays are always C
                 INDArray array = Nd4j.create(jArray, arrayShape, 0, 'c');
                 return array;
-            } else {
-                // FIXME: INT bytebuffers should be converted to floating point
-                //throw new UnsupportedOperationException("To be implemented yet");
-                long length = ArrayUtil.prodLong(arrayShape);
-                // binary representation
-                val bb = tfTensor.getTensorContent().asReadOnlyByteBuffer();
-                val fb = bb.order(ByteOrder.nativeOrder()).asIntBuffer();
-                val fa = new float[fb.capacity()];
-                for (int e = 0; e < fb.capacity(); e++)
-                    fa[e] = (float) fb.get(e);
-
-                if (fa.length == 0)
-                    throw new ND4JIllegalStateException("Can't find Tensor values! Probably you've forgot to freeze graph before saving?");
-
-                if (fa.length == 1)
-                    return Nd4j.trueScalar(fa[0]);
-
-                if (arrayShape.length == 1)
-                    return Nd4j.trueVector(fa);
-
-                val array = Nd4j.create(fa, arrayShape, 'c', 0);
-                //log.debug("SUM1: {}", array.sumNumber());
-                //log.debug("Data: {}", Arrays.toString(array.data().asFloat()));
-                return array;
             }
         } else if (tfTensor.getDtype() == DataType.DT_FLOAT) {
             if (tfTensor.getFloatValCount() == 1 || ArrayUtil.prod(arrayShape) == 1) {
@@ -863,25 +925,6 @@ public class TFGraphMapper extends BaseGraphMapper<GraphDef,NodeDef,AttrValue,No
                 // FIXME: we're missing float[] signature
                 INDArray array = Nd4j.create(Nd4j.createBuffer(jArray), arrayShape,  'c');
                 return array;
-            } else if (tfTensor.getTensorContent().size() > 0){
-                // binary representation
-                val bb = tfTensor.getTensorContent().asReadOnlyByteBuffer();
-                val fb = bb.order(ByteOrder.nativeOrder()).asFloatBuffer();
-                val fa = new float[fb.capacity()];
-                for (int e = 0; e < fb.capacity(); e++)
-                    fa[e] = fb.get(e);
-
-                if (fa.length == 0)
-                    throw new ND4JIllegalStateException("Can't find Tensor values! Probably you've forgot to freeze graph before saving?");
-
-                if (fa.length == 1)
-                    return Nd4j.trueScalar(fa[0]);
-
-                if (arrayShape.length == 1)
-                    return Nd4j.trueVector(fa);
-
-                val array = Nd4j.create(fa, arrayShape, 'c', 0);
-                return array;
             }
         } else if (tfTensor.getDtype() == DataType.DT_DOUBLE) {
             if (tfTensor.getDoubleValCount() == 1 || ArrayUtil.prod(arrayShape) == 1) {
@@ -901,29 +944,6 @@ public class TFGraphMapper extends BaseGraphMapper<GraphDef,NodeDef,AttrValue,No
                 // TF arrays are always C
                 INDArray array = Nd4j.create(jArray, arrayShape, 0, 'c');
                 return array;
-            } else if (tfTensor.getTensorContent().size() > 0) {
-                // binary representation
-                //DataBuffer buffer = Nd4j.createBuffer(tfTensor.getTensorContent().asReadOnlyByteBuffer(), DataBuffer.Type.FLOAT, (int) length);
-                //INDArray array = Nd4j.createArrayFromShapeBuffer(buffer, Nd4j.getShapeInfoProvider().createShapeInformation(arrayShape, 'c'));
-
-                // binary representation
-                val bb = tfTensor.getTensorContent().asReadOnlyByteBuffer();
-                val fb = bb.order(ByteOrder.nativeOrder()).asDoubleBuffer();
-                val da = new double[fb.capacity()];
-                for (int e = 0; e < fb.capacity(); e++)
-                    da[e] = fb.get(e);
-
-                if (da.length == 0)
-                    throw new ND4JIllegalStateException("Can't find Tensor values! Probably you've forgot to freeze graph before saving?");
-
-                if (da.length == 1)
-                    return Nd4j.trueScalar(da[0]);
-
-                if (arrayShape.length == 1)
-                    return Nd4j.trueVector(da);
-
-                val array = Nd4j.create(da, arrayShape, 0, 'c');
-                return array;
             }
         } else if (tfTensor.getDtype() == DataType.DT_INT64) {
             if (tfTensor.getInt64ValCount() == 1 || ArrayUtil.prod(arrayShape) == 1) {
@@ -943,9 +963,6 @@ public class TFGraphMapper extends BaseGraphMapper<GraphDef,NodeDef,AttrValue,No
                 // TF arrays are always C
                 INDArray array = Nd4j.create(jArray, arrayShape, 0, 'c');
                 return array;
-            } else if (tfTensor.getTensorContent().size() > 0){
-                // FIXME: INT bytebuffers should be converted to floating point
-                throw new UnsupportedOperationException("To be implemented yet");
             }
         }  else {
             throw new UnsupportedOperationException("Unknown dataType found: [" + tfTensor.getDtype() + "]");
@@ -0,0 +1,237 @@
+package org.nd4j.imports.graphmapper.tf;
+
+import com.google.protobuf.ByteString;
+import lombok.NonNull;
+import org.bytedeco.javacpp.indexer.HalfIndexer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.memory.MemoryWorkspace;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.util.ArrayUtil;
+import org.tensorflow.framework.DataType;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+/**
+ * This class decodes binary TensorProto content straight into off-heap buffer of the new array.
+ *
+ * No intermediate Java arrays are involved: if TF data type matches Nd4j data type, content is copied
+ * with single bulk copy, otherwise values are converted element by element while being copied.
+ * All numeric TF data types are supported, as well as DT_BOOL.
+ */
+public class TFTensorDecoder {
+
+    private TFTensorDecoder() {
+        // no-op
+    }
+
+    /**
+     * This method returns size of single element for given data type, or -1 if data type isn't supported
+     *
+     * @param dataType
+     * @return
+     */
+    public static int elementSize(@NonNull DataType dataType) {
+        switch (dataType) {
+            case DT_DOUBLE:
+            case DT_INT64:
+            case DT_UINT64:
+                return 8;
+            case DT_FLOAT:
+            case DT_INT32:
+            case DT_UINT32:
+                return 4;
+            case DT_HALF:
+            case DT_BFLOAT16:
+            case DT_INT16:
+            case DT_UINT16:
+                return 2;
+            case DT_INT8:
+            case DT_UINT8:
+            case DT_BOOL:
+                return 1;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * This method creates INDArray from binary tensor content.
+     * Single element tensors are returned as scalars, rank 1 tensors are returned as vectors.
+     *
+     * @param content binary tensor content, as stored in TensorProto
+     * @param dataType TF data type of the content
+     * @param shape tensor shape
+     * @return
+     */
+    public static INDArray decode(@NonNull ByteString content, @NonNull DataType dataType, @NonNull int[] shape) {
+        int elementSize = elementSize(dataType);
+        if (elementSize < 0)
+            throw new UnsupportedOperationException("Unknown dataType found: [" + dataType + "]");
+
+        long length = content.size() / elementSize;
+        if (length == 0)
+            throw new ND4JIllegalStateException(
+                            "Can't find Tensor values! Probably you've forgot to freeze graph before saving?");
+
+        if (content.size() % elementSize != 0 || (shape.length > 0 && length != ArrayUtil.prodLong(shape)))
+            throw new ND4JIllegalStateException("Tensor content size " + content.size() + " doesn't match shape "
+                            + Arrays.toString(shape) + " and data type " + dataType);
+
+        INDArray array;
+        try (MemoryWorkspace workspace = Nd4j.getMemoryManager().scopeOutOfWorkspaces()) {
+            DataBuffer buffer = Nd4j.createBuffer(length, false);
+            if (length == 1)
+                array = Nd4j.create(buffer, new int[] {}, new int[] {}, 0, 'c');
+            else if (shape.length == 1)
+                array = Nd4j.create(buffer, new int[] {(int) length}, new int[] {1}, 0, 'c');
+            else
+                array = Nd4j.create(buffer, shape, ArrayUtil.calcStrides(shape), 0, 'c');
+        }
+
+        // TF always stores tensor content in little endian order
+        ByteBuffer source = content.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        decodeInto(source, dataType, array.data(), (int) length);
+
+        Nd4j.getAffinityManager().tagLocation(array, AffinityManager.Location.HOST);
+        return array;
+    }
+
+    protected static void decodeInto(ByteBuffer source, DataType dataType, DataBuffer buffer, int length) {
+        ByteBuffer target = buffer.asNio().order(ByteOrder.nativeOrder());
+        target.position(0);
+
+        // bulk copy is possible only if types and byte order match
+        boolean sameType = (dataType == DataType.DT_FLOAT && buffer.dataType() == DataBuffer.Type.FLOAT)
+                        || (dataType == DataType.DT_DOUBLE && buffer.dataType() == DataBuffer.Type.DOUBLE);
+        if (sameType && ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN) {
+            target.put(source);
+            return;
+        }
+
+        ElementWriter writer;
+        switch (buffer.dataType()) {
+            case DOUBLE:
+                writer = new DoubleWriter(target.asDoubleBuffer());
+                break;
+            case FLOAT:
+                writer = new FloatWriter(target.asFloatBuffer());
+                break;
+            case HALF:
+                writer = new HalfWriter(target.asShortBuffer());
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported data type: [" + buffer.dataType() + "]");
+        }
+
+        switch (dataType) {
+            case DT_DOUBLE:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.getDouble(e * 8));
+                break;
+            case DT_FLOAT:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.getFloat(e * 4));
+                break;
+            case DT_INT64:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.getLong(e * 8));
+                break;
+            case DT_UINT64:
+                for (int e = 0; e < length; e++) {
+                    long value = source.getLong(e * 8);
+                    writer.put(e, value >= 0 ? value : (value >>> 1) * 2.0 + (value & 1));
+                }
+                break;
+            case DT_INT32:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.getInt(e * 4));
+                break;
+            case DT_UINT32:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.getInt(e * 4) & 0xFFFFFFFFL);
+                break;
+            case DT_INT16:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.getShort(e * 2));
+                break;
+            case DT_UINT16:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.getShort(e * 2) & 0xFFFF);
+                break;
+            case DT_HALF:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, HalfIndexer.toFloat(source.getShort(e * 2) & 0xFFFF));
+                break;
+            case DT_BFLOAT16:
+                // bfloat16 is upper half of float32
+                for (int e = 0; e < length; e++)
+                    writer.put(e, Float.intBitsToFloat((source.getShort(e * 2) & 0xFFFF) << 16));
+                break;
+            case DT_INT8:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.get(e));
+                break;
+            case DT_UINT8:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.get(e) & 0xFF);
+                break;
+            case DT_BOOL:
+                for (int e = 0; e < length; e++)
+                    writer.put(e, source.get(e) != 0 ? 1.0 : 0.0);
+                break;
+            default:
+                throw new UnsupportedOperationException("Unknown dataType found: [" + dataType + "]");
+        }
+    }
+
+    private interface ElementWriter {
+        void put(int index, double value);
+    }
+
+    private static class DoubleWriter implements ElementWriter {
+        private final DoubleBuffer buffer;
+
+        private DoubleWriter(DoubleBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void put(int index, double value) {
+            buffer.put(index, value);
+        }
+    }
+
+    private static class FloatWriter implements ElementWriter {
+        private final FloatBuffer buffer;
+
+        private FloatWriter(FloatBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void put(int index, double value) {
+            buffer.put(index, (float) value);
+        }
+    }
+
+    private static class HalfWriter implements ElementWriter {
+        private final ShortBuffer buffer;
+
+        private HalfWriter(ShortBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void put(int index, double value) {
+            buffer.put(index, ArrayUtil.toHalf(value));
+        }
+    }
+}
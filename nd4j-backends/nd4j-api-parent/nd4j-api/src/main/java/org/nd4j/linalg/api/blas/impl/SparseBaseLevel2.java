@@ -5,6 +5,7 @@ import org.nd4j.linalg.api.blas.params.SparseCOOGemvParameters;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
+import org.nd4j.linalg.api.ndarray.BaseSparseNDArrayCSR;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.ops.executioner.DefaultOpExecutioner;
 
@@ -16,34 +17,81 @@ import static com.google.common.base.Preconditions.checkArgument;
 public abstract class SparseBaseLevel2 extends SparseBaseLevel implements Level2 {
 
 
+    /**
+     * Sparse matrix-vector product:
+     * y := alpha*op(a)*x + beta*y
+     * where a is sparse m-by-k matrix in CSR or COO format, and x and y are dense vectors.
+     *
+     * @param order ignored, sparse matrices have no ordering
+     * @param transA 'N' for op(a) = a, 'T' for op(a) = a'
+     * @param alpha
+     * @param A sparse matrix
+     * @param X dense vector
+     * @param beta
+     * @param Y dense vector
+     */
     @Override
     public void gemv(char order, char transA, double alpha, INDArray A, INDArray X, double beta, INDArray Y) {
         checkArgument(A.isMatrix());
         checkArgument(X.isVector());
         checkArgument(Y.isVector());
 
-        SparseCOOGemvParameters parameters = new SparseCOOGemvParameters(A, X, Y);
-
-
-        switch (A.data().dataType()) {
-            case DOUBLE:
-                DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, parameters.getA(), parameters.getX(),
-                                parameters.getY());
-                dcoomv(parameters.getAOrdering(), parameters.getM(), parameters.getVal(), parameters.getRowInd(),
-                                parameters.getColInd(), parameters.getNnz(), parameters.getX(), parameters.getY());
-
+        boolean transposed = transA == 'T' || transA == 't';
+        int m = A.rows();
+        int k = A.columns();
+        checkArgument(X.length() == (transposed ? m : k), "Length of X doesn't match op(A) columns");
+        checkArgument(Y.length() == (transposed ? k : m), "Length of Y doesn't match op(A) rows");
+
+        // sparse routines expect dense vectors with unit stride
+        INDArray x = X.elementWiseStride() == 1 ? X : X.dup();
+        INDArray y = Y.elementWiseStride() == 1 ? Y : Y.dup();
+        char trans = transposed ? 'T' : 'N';
+
+        switch (A.getFormat()) {
+            case CSR:
+                BaseSparseNDArrayCSR csr = (BaseSparseNDArrayCSR) A;
+                switch (A.data().dataType()) {
+                    case DOUBLE:
+                        DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, x, y);
+                        dcsrmv(trans, m, k, alpha, csr.data(), csr.getVectorCoordinates(), csr.getPointerB(),
+                                        csr.getPointerE(), x, beta, y);
+                        break;
+                    case FLOAT:
+                        DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, x, y);
+                        scsrmv(trans, m, k, alpha, csr.data(), csr.getVectorCoordinates(), csr.getPointerB(),
+                                        csr.getPointerE(), x, beta, y);
+                        break;
+                    default:
+                        throw new UnsupportedOperationException();
+                }
                 break;
-            case FLOAT:
-                DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, parameters.getA(), parameters.getX(),
-                                parameters.getY());
-                scoomv(parameters.getAOrdering(), parameters.getM(), parameters.getVal(), parameters.getRowInd(),
-                                parameters.getColInd(), parameters.getNnz(), parameters.getX(), parameters.getY());
-
+            case COO:
+                SparseCOOGemvParameters parameters = new SparseCOOGemvParameters(A, x, y);
+                switch (A.data().dataType()) {
+                    case DOUBLE:
+                        DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, parameters.getX(),
+                                        parameters.getY());
+                        dcoomv(trans, m, k, alpha, parameters.getVal(), parameters.getRowInd(),
+                                        parameters.getColInd(), parameters.getNnz(), parameters.getX(), beta,
+                                        parameters.getY());
+                        break;
+                    case FLOAT:
+                        DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, parameters.getX(),
+                                        parameters.getY());
+                        scoomv(trans, m, k, alpha, parameters.getVal(), parameters.getRowInd(),
+                                        parameters.getColInd(), parameters.getNnz(), parameters.getX(), beta,
+                                        parameters.getY());
+                        break;
+                    default:
+                        throw new UnsupportedOperationException();
+                }
                 break;
             default:
-                throw new UnsupportedOperationException();
+                throw new UnsupportedOperationException("Unsupported sparse format: " + A.getFormat());
         }
 
+        if (y != Y)
+            Y.assign(y);
     }
 
     @Override
@@ -170,9 +218,15 @@ public abstract class SparseBaseLevel2 extends SparseBaseLevel implements Level2
     }
 
     // ----
-    protected abstract void scoomv(char transA, int M, DataBuffer values, DataBuffer rowInd, DataBuffer colInd, int nnz,
-                    INDArray x, INDArray y);
+    protected abstract void scoomv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray x, double beta, INDArray y);
+
+    protected abstract void dcoomv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray x, double beta, INDArray y);
+
+    protected abstract void scsrmv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray x, double beta, INDArray y);
 
-    protected abstract void dcoomv(char transA, int M, DataBuffer values, DataBuffer rowInd, DataBuffer colInd, int nnz,
-                    INDArray x, INDArray y);
+    protected abstract void dcsrmv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray x, double beta, INDArray y);
 }
@@ -1,24 +1,120 @@
 package org.nd4j.linalg.api.blas.impl;
 
 import org.nd4j.linalg.api.blas.Level3;
+import org.nd4j.linalg.api.blas.params.SparseCOOGemvParameters;
+import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
+import org.nd4j.linalg.api.ndarray.BaseSparseNDArrayCSR;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.executioner.DefaultOpExecutioner;
+import org.nd4j.linalg.factory.Nd4j;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * @author Audrey Loeffel
  */
-public class SparseBaseLevel3 extends SparseBaseLevel implements Level3 {
+public abstract class SparseBaseLevel3 extends SparseBaseLevel implements Level3 {
+
+    /**
+     * Sparse-dense matrix product:
+     * c := alpha*op(a)*op(b) + beta*c
+     * where a is sparse m-by-k matrix in CSR or COO format, and b and c are dense matrices.
+     *
+     * Sparse indices are zero-based, so dense operands are passed to the sparse routines in row-major order.
+     * Operands in any other layout are copied (and c is assigned back after the call).
+     *
+     * @param Order ignored, sparse matrices have no ordering
+     * @param TransA 'N' for op(a) = a, 'T' for op(a) = a'
+     * @param TransB 'N' for op(b) = b, 'T' for op(b) = b'
+     * @param alpha
+     * @param A sparse matrix
+     * @param B dense matrix
+     * @param beta
+     * @param C dense matrix
+     */
     @Override
     public void gemm(char Order, char TransA, char TransB, double alpha, INDArray A, INDArray B, double beta,
                     INDArray C) {
-
+        checkArgument(A.isMatrix() && B.isMatrix() && C.isMatrix(), "Only matrices are supported");
+        checkArgument(A.isSparse() && !B.isSparse() && !C.isSparse(), "Only sparse A and dense B, C are supported");
+
+        boolean transposeA = TransA == 'T' || TransA == 't';
+        INDArray opB = TransB == 'T' || TransB == 't' ? B.transpose() : B;
+
+        int m = A.rows();
+        int k = A.columns();
+        int rowsOpA = transposeA ? k : m;
+        int columnsOpA = transposeA ? m : k;
+        checkArgument(opB.rows() == columnsOpA, "Number of rows of op(B) doesn't match number of columns of op(A)");
+        checkArgument(C.rows() == rowsOpA && C.columns() == opB.columns(), "Shape of C doesn't match op(A)*op(B)");
+
+        INDArray b = isRowMajor(opB) ? opB : opB.dup('c');
+        INDArray c;
+        if (isRowMajor(C))
+            c = C;
+        else
+            c = beta == 0.0 ? Nd4j.createUninitialized(C.shape(), 'c') : C.dup('c');
+
+        int n = b.columns();
+        char trans = transposeA ? 'T' : 'N';
+
+        switch (A.getFormat()) {
+            case CSR:
+                BaseSparseNDArrayCSR csr = (BaseSparseNDArrayCSR) A;
+                switch (A.data().dataType()) {
+                    case DOUBLE:
+                        DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, b, c);
+                        dcsrmm(trans, m, n, k, alpha, csr.data(), csr.getVectorCoordinates(), csr.getPointerB(),
+                                        csr.getPointerE(), b, n, beta, c, n);
+                        break;
+                    case FLOAT:
+                        DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, b, c);
+                        scsrmm(trans, m, n, k, alpha, csr.data(), csr.getVectorCoordinates(), csr.getPointerB(),
+                                        csr.getPointerE(), b, n, beta, c, n);
+                        break;
+                    default:
+                        throw new UnsupportedOperationException();
+                }
+                break;
+            case COO:
+                SparseCOOGemvParameters parameters = new SparseCOOGemvParameters(A, b, c);
+                switch (A.data().dataType()) {
+                    case DOUBLE:
+                        DefaultOpExecutioner.validateDataType(DataBuffer.Type.DOUBLE, b, c);
+                        dcoomm(trans, m, n, k, alpha, parameters.getVal(), parameters.getRowInd(),
+                                        parameters.getColInd(), parameters.getNnz(), b, n, beta, c, n);
+                        break;
+                    case FLOAT:
+                        DefaultOpExecutioner.validateDataType(DataBuffer.Type.FLOAT, b, c);
+                        scoomm(trans, m, n, k, alpha, parameters.getVal(), parameters.getRowInd(),
+                                        parameters.getColInd(), parameters.getNnz(), b, n, beta, c, n);
+                        break;
+                    default:
+                        throw new UnsupportedOperationException();
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported sparse format: " + A.getFormat());
+        }
+
+        if (c != C)
+            C.assign(c);
     }
 
     @Override
     public void gemm(INDArray A, INDArray B, INDArray C, boolean transposeA, boolean transposeB, double alpha,
                     double beta) {
+        gemm('c', transposeA ? 'T' : 'N', transposeB ? 'T' : 'N', alpha, A, B, beta, C);
+    }
 
+    /**
+     * Returns true if array can be passed to the sparse routines as is: row-major, with rows stored contiguously
+     */
+    protected static boolean isRowMajor(INDArray array) {
+        return array.ordering() == 'c' && array.elementWiseStride() == 1
+                        && array.stride(0) == array.columns() && array.stride(1) == 1;
     }
 
     @Override
@@ -101,4 +197,21 @@ public class SparseBaseLevel3 extends SparseBaseLevel implements Level3 {
                     IComplexNDArray B) {
 
     }
+
+    // ----
+    protected abstract void scsrmm(char transA, int M, int N, int K, double alpha, DataBuffer values,
+                    DataBuffer columns, DataBuffer pointerB, DataBuffer pointerE, INDArray B, int ldb, double beta,
+                    INDArray C, int ldc);
+
+    protected abstract void dcsrmm(char transA, int M, int N, int K, double alpha, DataBuffer values,
+                    DataBuffer columns, DataBuffer pointerB, DataBuffer pointerE, INDArray B, int ldb, double beta,
+                    INDArray C, int ldc);
+
+    protected abstract void scoomm(char transA, int M, int N, int K, double alpha, DataBuffer values,
+                    DataBuffer rowInd, DataBuffer colInd, int nnz, INDArray B, int ldb, double beta, INDArray C,
+                    int ldc);
+
+    protected abstract void dcoomm(char transA, int M, int N, int K, double alpha, DataBuffer values,
+                    DataBuffer rowInd, DataBuffer colInd, int nnz, INDArray B, int ldb, double beta, INDArray C,
+                    int ldc);
 }
@@ -28,7 +28,6 @@ import lombok.val;
 import net.ericaro.neoitertools.Generator;
 import org.apache.commons.math3.util.FastMath;
 import org.nd4j.autodiff.samediff.SameDiff;
-import org.nd4j.graph.ByteOrder;
 import org.nd4j.graph.FlatArray;
 import org.nd4j.linalg.api.blas.BlasBufferUtil;
 import org.nd4j.linalg.api.blas.params.MMulTranspose;
@@ -65,6 +64,7 @@ import org.nd4j.linalg.util.NDArrayMath;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.util.*;
 
@@ -5621,11 +5621,26 @@ public abstract class BaseNDArray implements INDArray, Iterable {
 
     @Override
     public int toFlatArray(FlatBufferBuilder builder) {
-        int shape = FlatArray.createShapeVector(builder, this.shapeInfoDataBuffer().asInt());
-        int buffer = FlatArray.createBufferVector(builder, this.data().asBytes());
-        int array = FlatArray.createFlatArray(builder, shape, buffer, SameDiff.getDataTypeAsByte(this.data().dataType()), ByteOrder.BE);
-
-        return array;
+        // views are detached first, so buffer holds exactly this array
+        INDArray array = isView() ? dup(ordering()) : this;
+        int shape = FlatArray.createShapeVector(builder, array.shapeInfoDataBuffer().asInt());
+
+        // data is stored as is: native byte order, aligned to element size. So it can be mapped back without copies
+        int elementSize = array.data().getElementSize();
+        long numBytes = array.lengthLong() * elementSize;
+        if (numBytes > Integer.MAX_VALUE)
+            throw new ND4JIllegalStateException("Arrays larger than 2GB can't be stored in FlatBuffers: ["
+                            + numBytes + "] bytes");
+
+        ByteBuffer source = array.data().asNio().duplicate();
+        source.position(0);
+        source.limit((int) numBytes);
+
+        builder.createUnintializedVector(1, (int) numBytes, elementSize).put(source);
+        int buffer = builder.endVector();
+
+        return FlatArray.createFlatArray(builder, shape, buffer, SameDiff.getDataTypeAsByte(array.data().dataType()),
+                        SameDiff.getOrderAsByte());
     }
 
     /*
@@ -2,7 +2,7 @@ package org.nd4j.linalg.api.ndarray;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.math3.util.FastMath;
-import org.nd4j.linalg.api.blas.BlasBufferUtil;
+import org.nd4j.linalg.api.blas.params.MMulTranspose;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.complex.IComplexNumber;
@@ -18,13 +18,11 @@ import org.nd4j.linalg.indexing.ShapeOffsetResolution;
 import org.nd4j.linalg.indexing.conditions.Condition;
 import org.nd4j.linalg.primitives.Pair;
 import org.nd4j.linalg.util.ArrayUtil;
-import org.nd4j.linalg.util.LinAlgExceptions;
 
 import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.List;
 
-import static org.nd4j.linalg.factory.Nd4j.createUninitialized;
 
 /**
  * @author Audrey Loeffel
@@ -883,18 +881,20 @@ public abstract class BaseSparseNDArray implements ISparseNDArray {
         return null;
     }
 
+    /**
+     * Sparse-dense matrix multiplication, the result is dense array
+     *
+     * @param other dense matrix or column vector
+     * @return the result of the matrix multiplication
+     */
     @Override
     public INDArray mmul(INDArray other) {
-        int[] shape = {rows(), other.columns()};
-        INDArray result = createUninitialized(shape, 'f');
-        if (result.isScalar())
-            return Nd4j.scalar(Nd4j.getBlasWrapper().dot(this, other));
-        return mmuli(other, result);
+        return mmul(other, MMulTranspose.allFalse());
     }
 
     @Override
     public INDArray mmul(INDArray other, INDArray result) {
-        return null;
+        return mmuli(other, result);
     }
 
     @Override
@@ -937,59 +937,68 @@ public abstract class BaseSparseNDArray implements ISparseNDArray {
         return null;
     }
 
+    /**
+     * Dense result can't be stored within sparse array, so this method is equal to {@link #mmul(INDArray)}
+     */
     @Override
     public INDArray mmuli(INDArray other) {
-        return null;
+        return mmul(other);
     }
 
     @Override
     public INDArray mmuli(INDArray other, INDArray result) {
-        LinAlgExceptions.assertMultiplies(this, other);
+        return mmuli(other, result, MMulTranspose.allFalse());
+    }
 
+    @Override
+    public INDArray mmul(INDArray other, MMulTranspose mMulTranspose) {
+        int rows = mMulTranspose.isTransposeA() ? columns() : rows();
+        int columns = mMulTranspose.isTransposeB() ? other.rows() : other.columns();
+        int[] shape = mMulTranspose.isTransposeResult() ? new int[] {columns, rows} : new int[] {rows, columns};
 
-        if (other.isScalar()) {
-            return muli(other.getDouble(0), result);
-        }
-        if (isScalar()) {
-            return other.muli(getDouble(0), result);
-        }
+        return mmuli(other, Nd4j.createUninitialized(shape, 'c'), mMulTranspose);
+    }
 
-        /* check sizes and resize if necessary */
+    @Override
+    public INDArray mmul(INDArray other, INDArray result, MMulTranspose mMulTranspose) {
+        return mmuli(other, result, mMulTranspose);
+    }
 
+    /**
+     * Dense result can't be stored within sparse array, so this method is equal to {@link #mmul(INDArray, MMulTranspose)}
+     */
+    @Override
+    public INDArray mmuli(INDArray other, MMulTranspose transpose) {
+        return mmul(other, transpose);
+    }
 
+    /**
+     * Sparse-dense matrix multiplication, computed by sparse BLAS without densifying this array
+     *
+     * @param other dense matrix or column vector
+     * @param result dense array for the result
+     * @param transpose the transpose status of each array
+     * @return result
+     */
+    @Override
+    public INDArray mmuli(INDArray other, INDArray result, MMulTranspose transpose) {
+        if (other.isSparse())
+            throw new UnsupportedOperationException("Sparse-sparse matrix multiplication isn't supported");
 
-        //We require that the result array is 'f' (fortran) order
-        // However, user might have called mmuli with a c order array for the result
-        // In which case, we need to allocate a temporary f order array, and later do an assign to the real result array
+        if (result.isSparse())
+            throw new UnsupportedOperationException("Result of sparse-dense matrix multiplication should be dense");
 
-        boolean requiresTemp = result.ordering() == 'c';
-        INDArray gemmResultArr;
-        if (requiresTemp) {
-            //Can use createUninitialized due to beta==0.0 parameter in gemm
-            gemmResultArr = Nd4j.createUninitialized(result.shape(), 'f');
-        } else {
-            gemmResultArr = result;
-        }
+        char transA = transpose.isTransposeA() ? 'T' : 'N';
+        // (op(A) * op(B))' is written straight into transposed view of the result
+        INDArray target = transpose.isTransposeResult() ? result.transpose() : result;
 
-        if (other.columns() == 1) {
-            Nd4j.getBlasWrapper().level2().gemv(ordering(), BlasBufferUtil.getCharForTranspose(other), 1.0, this, other,
-                            0.0, gemmResultArr);
+        if (!transpose.isTransposeB() && other.isColumnVector()) {
+            Nd4j.getSparseBlasWrapper().level2().gemv('c', transA, 1.0, this, other, 0.0, target);
         } else {
-            //gemm doesn't support strides so vectors and views
-            //don't work
-            if (isView() && isVector()) {
-                return dup().mmuli(other, gemmResultArr);
-            }
-
-            Nd4j.getBlasWrapper().level3().gemm(ordering(), BlasBufferUtil.getCharForTranspose(other),
-                            BlasBufferUtil.getCharForTranspose(gemmResultArr), 1.0, this, other, 0.0, gemmResultArr);
+            Nd4j.getSparseBlasWrapper().level3().gemm('c', transA, transpose.isTransposeB() ? 'T' : 'N', 1.0, this,
+                            other, 0.0, target);
         }
 
-        if (requiresTemp) {
-            result.assign(gemmResultArr);
-        }
-
-
         if (Nd4j.ENFORCE_NUMERICAL_STABILITY)
             Nd4j.clearNans(result);
 
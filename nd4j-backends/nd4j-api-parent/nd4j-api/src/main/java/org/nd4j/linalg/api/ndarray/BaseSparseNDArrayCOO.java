@@ -3,7 +3,6 @@ package org.nd4j.linalg.api.ndarray;
 import com.google.common.primitives.Doubles;
 import com.google.flatbuffers.FlatBufferBuilder;
 import net.ericaro.neoitertools.Generator;
-import org.nd4j.linalg.api.blas.params.MMulTranspose;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.ops.executioner.OpExecutioner;
 import org.nd4j.linalg.api.shape.Shape;
@@ -1045,34 +1044,6 @@ public class BaseSparseNDArrayCOO extends BaseSparseNDArray {
         return null;
     }
 
-    @Override
-    public INDArray mmul(INDArray other, MMulTranspose mMulTranspose) {
-        return null;
-    }
-
-    /**
-     * Perform an copy matrix multiplication
-     *
-     * @param other         the other matrix to perform matrix multiply with
-     * @param result        the result ndarray
-     * @param mMulTranspose the transpose status of each array
-     * @return the result of the matrix multiplication
-     */
-    @Override
-    public INDArray mmul(INDArray other, INDArray result, MMulTranspose mMulTranspose) {
-        return null;
-    }
-
-    @Override
-    public INDArray mmuli(INDArray other, MMulTranspose transpose) {
-        return null;
-    }
-
-    @Override
-    public INDArray mmuli(INDArray other, INDArray result, MMulTranspose transpose) {
-        return null;
-    }
-
     @Override
     public INDArray convertToFloats() {
         return null;
@@ -509,9 +509,6 @@ public class DynamicCustomOp extends DifferentialFunction implements CustomOp {
         if (descriptor == null)
             throw new ND4JIllegalStateException("No op found for " + opName());
 
-        System.out.println(isInplaceCall());
-
-
         if (isInplaceCall()) {
             if (numInputArguments() != descriptor.getNumInputs()) {
                 //clear just in case
@@ -0,0 +1,30 @@
+package org.nd4j.linalg.api.ops.executioner;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.nd4j.linalg.api.ops.CustomOp;
+
+/**
+ * PreparedCustomOp implementation for backends without native argument binding: each execution is passed through
+ * to {@link OpExecutioner#exec(CustomOp)}
+ */
+public class BasicPreparedCustomOp implements PreparedCustomOp {
+    private final OpExecutioner executioner;
+    @Getter
+    private final CustomOp op;
+
+    public BasicPreparedCustomOp(@NonNull OpExecutioner executioner, @NonNull CustomOp op) {
+        this.executioner = executioner;
+        this.op = op;
+    }
+
+    @Override
+    public void exec() {
+        executioner.exec(op);
+    }
+
+    @Override
+    public void close() {
+        // no-op
+    }
+}
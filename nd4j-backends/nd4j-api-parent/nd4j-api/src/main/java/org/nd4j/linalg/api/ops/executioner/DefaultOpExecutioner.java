@@ -32,6 +32,7 @@ import org.nd4j.linalg.api.ops.aggregates.Aggregate;
 import org.nd4j.linalg.api.ops.aggregates.Batch;
 import org.nd4j.linalg.api.ops.impl.accum.Variance;
 import org.nd4j.linalg.api.rng.Random;
+import org.nd4j.linalg.cache.CacheStatistics;
 import org.nd4j.linalg.cache.TADManager;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
@@ -416,6 +417,8 @@ public class DefaultOpExecutioner implements OpExecutioner {
             case OPERATIONS:
                 OpProfiler.getInstance().processOpCall(op, tadBuffers);
                 break;
+            case SAMPLING:
+                return OpProfiler.getInstance().sampleOpCall(op);
             case DISABLED:
             default:
                 return 0L;
@@ -489,6 +492,8 @@ public class DefaultOpExecutioner implements OpExecutioner {
             case SCOPE_PANIC:
                 checkForWorkspaces(op);
                 return 0L;
+            case SAMPLING:
+                return OpProfiler.getInstance().sampleOpCall(op);
             case DISABLED:
             default:
                 return 0L;
@@ -509,6 +514,10 @@ public class DefaultOpExecutioner implements OpExecutioner {
             case OPERATIONS:
                 OpProfiler.getInstance().timeOpCall(op, timeStart);
                 break;
+            case SAMPLING:
+                if (timeStart != 0L)
+                    OpProfiler.getInstance().timeSampledOpCall(op, timeStart);
+                break;
             case NAN_PANIC:
                 OpExecutionerUtil.checkForNaN(op);
                 break;
@@ -674,6 +683,16 @@ public class DefaultOpExecutioner implements OpExecutioner {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public PreparedCustomOp prepare(CustomOp op) {
+        return new BasicPreparedCustomOp(this, op);
+    }
+
+    @Override
+    public CacheStatistics getShapeCacheStatistics() {
+        return null;
+    }
+
 
     @Override
     public void enableDebugMode(boolean reallyEnable) {
@@ -26,6 +26,7 @@ import org.nd4j.linalg.api.ops.aggregates.Aggregate;
 import org.nd4j.linalg.api.ops.aggregates.Batch;
 import org.nd4j.linalg.api.ops.impl.accum.Variance;
 import org.nd4j.linalg.api.rng.Random;
+import org.nd4j.linalg.cache.CacheStatistics;
 import org.nd4j.linalg.cache.TADManager;
 
 import java.util.List;
@@ -45,7 +46,7 @@ public interface OpExecutioner {
     }
 
     enum ProfilingMode {
-        DISABLED, NAN_PANIC, INF_PANIC, ANY_PANIC, OPERATIONS, METHODS, ALL, SCOPE_PANIC
+        DISABLED, NAN_PANIC, INF_PANIC, ANY_PANIC, OPERATIONS, METHODS, ALL, SCOPE_PANIC, SAMPLING
     }
 
     /**
@@ -353,6 +354,23 @@ public interface OpExecutioner {
 
     List<int[]> calculateOutputShape(CustomOp op);
 
+    /**
+     * This method binds inputs, outputs and arguments of given CustomOp once,
+     * and returns handle that can be executed multiple times without per-call allocations
+     *
+     * PLEASE NOTE: You're responsible for input/output validation
+     * @param op
+     * @return
+     */
+    PreparedCustomOp prepare(CustomOp op);
+
+    /**
+     * This method returns statistics of output shapes cache used by {@link #calculateOutputShape(CustomOp)},
+     * or null if current backend doesn't cache output shapes
+     * @return
+     */
+    CacheStatistics getShapeCacheStatistics();
+
 
     void enableDebugMode(boolean reallyEnable);
 
@@ -0,0 +1,31 @@
+package org.nd4j.linalg.api.ops.executioner;
+
+import org.nd4j.linalg.api.ops.CustomOp;
+
+/**
+ * CustomOp with inputs, outputs and arguments bound once, so it can be executed multiple times without
+ * per-call argument marshalling.
+ *
+ * PLEASE NOTE: Inputs and outputs are bound by memory address, so results of in-place modification of bound arrays
+ * are visible on next execution, but replacing op arguments after preparation has no effect.
+ * PLEASE NOTE: Instances aren't thread-safe.
+ */
+public interface PreparedCustomOp extends AutoCloseable {
+
+    /**
+     * This method returns CustomOp bound to this instance
+     * @return
+     */
+    CustomOp getOp();
+
+    /**
+     * This method executes bound CustomOp
+     */
+    void exec();
+
+    /**
+     * This method releases resources held by this instance
+     */
+    @Override
+    void close();
+}
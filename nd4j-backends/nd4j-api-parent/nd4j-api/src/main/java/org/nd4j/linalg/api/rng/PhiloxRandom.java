@@ -0,0 +1,537 @@
+package org.nd4j.linalg.api.rng;
+
+import lombok.NonNull;
+import org.bytedeco.javacpp.Pointer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter-based Random implementation, built on top of Philox4x32-10 block function.
+ *
+ * Every value is pure function of key and counter: key is derived from seed, and 128-bit counter consists of
+ * substream id (upper 64 bits) and block index (lower 64 bits). That gives us:
+ * - lock-free scalar draws: each thread gets its own substream, so threads never share any mutable state
+ * - deterministic skip-ahead: moving any number of values forward costs nothing
+ * - bulk fills of DataBuffers, which produce exactly the same values as sequential draws
+ *
+ * PLEASE NOTE: substreams are assigned to threads in order of their first draw. If reproducible results are
+ * required for multi-threaded code, use {@link #getStream(long)} with explicit substream ids.
+ *
+ * PLEASE NOTE: this implementation has no native state, so it can't be passed to RandomOps directly,
+ * and it can't be configured as backend Random either: Nd4j refuses to initialize with it.
+ * NativeRandom.refreshState() can use it as state source for native RandomOps instead.
+ */
+public class PhiloxRandom implements Random {
+    protected static final int ROUNDS = 10;
+    protected static final long M0 = 0xD2511F53L;
+    protected static final long M1 = 0xCD9E8D57L;
+    protected static final int W0 = 0x9E3779B9;
+    protected static final int W1 = 0xBB67AE85;
+    protected static final long MASK = 0xFFFFFFFFL;
+
+    protected volatile long seed;
+    protected volatile long key;
+    // bumped on every re-seed, so thread substreams know they should restart
+    protected volatile int epoch;
+
+    // distinguishes default seeds of instances created at the same time
+    private static final AtomicLong seedUniquifier = new AtomicLong(0x5DEECE66DL);
+
+    protected final AtomicLong streamIds = new AtomicLong(0);
+    protected final ThreadLocal<Stream> threadStreams = new ThreadLocal<>();
+
+    /**
+     * Creates generator with seed derived from current time and a per-instance value,
+     * so instances created within the same millisecond still produce different values
+     */
+    public PhiloxRandom() {
+        this(seedUniquifier.addAndGet(0x9E3779B97F4A7C15L) ^ System.nanoTime());
+    }
+
+    public PhiloxRandom(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Counter-based generator doesn't need any buffer, so numberOfElements is ignored.
+     * This constructor exists for compatibility with {@link org.nd4j.linalg.factory.RandomFactory}
+     *
+     * @param seed
+     * @param numberOfElements
+     */
+    public PhiloxRandom(long seed, long numberOfElements) {
+        this(seed);
+    }
+
+    /**
+     * This method applies Philox4x32-10 block function to given counter
+     *
+     * @param k0 lower half of the key
+     * @param k1 upper half of the key
+     * @param counter 4 words of the counter
+     * @param output 4 words of output, might be the same array as counter
+     */
+    public static void philox(int k0, int k1, @NonNull int[] counter, @NonNull int[] output) {
+        int c0 = counter[0], c1 = counter[1], c2 = counter[2], c3 = counter[3];
+        for (int r = 0; r < ROUNDS; r++) {
+            if (r > 0) {
+                k0 += W0;
+                k1 += W1;
+            }
+
+            long p0 = (c0 & MASK) * M0;
+            long p1 = (c2 & MASK) * M1;
+
+            c0 = (int) (p1 >>> 32) ^ c1 ^ k0;
+            c1 = (int) p1;
+            c2 = (int) (p0 >>> 32) ^ c3 ^ k1;
+            c3 = (int) p0;
+        }
+
+        output[0] = c0;
+        output[1] = c1;
+        output[2] = c2;
+        output[3] = c3;
+    }
+
+    /**
+     * This method returns substream associated with calling thread
+     *
+     * @return
+     */
+    public Stream getStream() {
+        // epoch is written after key, so reading it first guarantees we see matching key
+        int currentEpoch = epoch;
+        Stream stream = threadStreams.get();
+        if (stream == null) {
+            stream = new Stream(key, streamIds.getAndIncrement());
+            stream.epoch = currentEpoch;
+            threadStreams.set(stream);
+        } else if (stream.epoch != currentEpoch) {
+            // generator was re-seeded: thread keeps its substream id, but starts from the beginning
+            stream.reset(key);
+            stream.epoch = currentEpoch;
+        }
+
+        return stream;
+    }
+
+    /**
+     * This method returns new substream with given id. Substreams with the same id and seed always produce
+     * the same values, and substreams with different ids are independent.
+     *
+     * PLEASE NOTE: returned Stream isn't thread-safe, and it's not affected by later re-seeds of this generator
+     *
+     * @param streamId
+     * @return
+     */
+    public Stream getStream(long streamId) {
+        return new Stream(key, streamId);
+    }
+
+    @Override
+    public void setSeed(int seed) {
+        setSeed((long) seed);
+    }
+
+    @Override
+    public void setSeed(int[] seed) {
+        long sd = 0;
+        for (int em : seed)
+            sd = sd * 31 + em;
+
+        setSeed(sd);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.key = seed;
+        this.epoch++;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        getStream().nextBytes(bytes);
+    }
+
+    @Override
+    public int nextInt() {
+        return getStream().nextInt();
+    }
+
+    @Override
+    public int nextInt(int n) {
+        return getStream().nextInt(n);
+    }
+
+    @Override
+    public long nextLong() {
+        return getStream().nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return getStream().nextBoolean();
+    }
+
+    @Override
+    public float nextFloat() {
+        return getStream().nextFloat();
+    }
+
+    @Override
+    public double nextDouble() {
+        return getStream().nextDouble();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return getStream().nextGaussian();
+    }
+
+    @Override
+    public INDArray nextGaussian(int[] shape) {
+        return nextGaussian(Nd4j.order(), shape);
+    }
+
+    @Override
+    public INDArray nextGaussian(char order, int[] shape) {
+        INDArray array = Nd4j.createUninitialized(shape, order);
+        getStream().fillGaussian(array.data(), 0.0, 1.0);
+        return array;
+    }
+
+    @Override
+    public INDArray nextDouble(int[] shape) {
+        return nextDouble(Nd4j.order(), shape);
+    }
+
+    @Override
+    public INDArray nextDouble(char order, int[] shape) {
+        INDArray array = Nd4j.createUninitialized(shape, order);
+        getStream().fillUniform(array.data(), 0.0, 1.0);
+        return array;
+    }
+
+    @Override
+    public INDArray nextFloat(int[] shape) {
+        return nextFloat(Nd4j.order(), shape);
+    }
+
+    @Override
+    public INDArray nextFloat(char order, int[] shape) {
+        return nextDouble(order, shape);
+    }
+
+    @Override
+    public INDArray nextInt(int[] shape) {
+        return nextInt(Integer.MAX_VALUE, shape);
+    }
+
+    @Override
+    public INDArray nextInt(int n, int[] shape) {
+        INDArray array = Nd4j.createUninitialized(shape, Nd4j.order());
+        DataBuffer buffer = array.data();
+        Stream stream = getStream();
+        for (long e = 0; e < buffer.length(); e++)
+            buffer.put(e, stream.nextInt(n));
+
+        return array;
+    }
+
+    /**
+     * This method returns NULL, since there's no native state for this generator.
+     * Use NativeRandom.refreshState(Stream) to run RandomOps with values of this generator.
+     *
+     * @return
+     */
+    @Override
+    public Pointer getStatePointer() {
+        return null;
+    }
+
+    /**
+     * This method returns NULL, since there's no native state for this generator.
+     * Use NativeRandom.refreshState(Stream) to run RandomOps with values of this generator.
+     *
+     * @return
+     */
+    @Override
+    public DataBuffer getStateBuffer() {
+        return null;
+    }
+
+    @Override
+    public void reSeed() {
+        reSeed(System.currentTimeMillis());
+    }
+
+    /**
+     * This method mixes given amplifier into the key, seed value stays the same
+     *
+     * @param amplifier
+     */
+    @Override
+    public void reSeed(long amplifier) {
+        this.key = seed ^ (amplifier * 0x9E3779B97F4A7C15L + 11);
+        this.epoch++;
+    }
+
+    @Override
+    public void close() throws Exception {
+        // no-op
+    }
+
+    /**
+     * Single substream of PhiloxRandom: sequence of 64-bit values, produced from consecutive counters.
+     *
+     * PLEASE NOTE: This class isn't thread-safe
+     */
+    public static class Stream {
+        private int k0;
+        private int k1;
+        private final long streamId;
+        // number of 64-bit values consumed so far
+        private long position;
+
+        private final int[] block = new int[4];
+        private long cachedBlock = -1;
+
+        private boolean hasGaussian;
+        private double cachedGaussian;
+
+        // used by PhiloxRandom to track re-seeds
+        private int epoch;
+
+        protected Stream(long key, long streamId) {
+            this.streamId = streamId;
+            reset(key);
+        }
+
+        protected void reset(long key) {
+            this.k0 = (int) key;
+            this.k1 = (int) (key >>> 32);
+            this.position = 0;
+            this.cachedBlock = -1;
+            this.hasGaussian = false;
+        }
+
+        public long getStreamId() {
+            return streamId;
+        }
+
+        /**
+         * This method returns number of 64-bit values drawn from this stream so far
+         */
+        public long getPosition() {
+            return position;
+        }
+
+        /**
+         * This method moves stream to given position, without computing anything in between
+         *
+         * @param position number of 64-bit values from the start of the stream
+         */
+        public void setPosition(long position) {
+            if (position < 0)
+                throw new IllegalArgumentException("Position can't be negative: " + position);
+
+            this.position = position;
+            this.hasGaussian = false;
+        }
+
+        /**
+         * This method skips given number of 64-bit values
+         *
+         * @param numberOfValues
+         */
+        public void skip(long numberOfValues) {
+            setPosition(position + numberOfValues);
+        }
+
+        public long nextLong() {
+            long blockIndex = position >>> 1;
+            if (blockIndex != cachedBlock) {
+                block[0] = (int) blockIndex;
+                block[1] = (int) (blockIndex >>> 32);
+                block[2] = (int) streamId;
+                block[3] = (int) (streamId >>> 32);
+                philox(k0, k1, block, block);
+                cachedBlock = blockIndex;
+            }
+
+            int offset = (int) (position & 1) * 2;
+            position++;
+
+            return (block[offset] & MASK) | ((long) block[offset + 1] << 32);
+        }
+
+        public int nextInt() {
+            return (int) (nextLong() >>> 32);
+        }
+
+        /**
+         * This method returns uniformly distributed value in range [0, n)
+         *
+         * @param n
+         * @return
+         */
+        public int nextInt(int n) {
+            if (n <= 0)
+                throw new IllegalArgumentException("Bound must be positive: " + n);
+
+            // rejection sampling removes modulo bias
+            long bound = n;
+            long limit = (1L << 32) - ((1L << 32) % bound);
+            long value;
+            do {
+                value = nextLong() >>> 32;
+            } while (value >= limit);
+
+            return (int) (value % bound);
+        }
+
+        public boolean nextBoolean() {
+            return nextLong() < 0;
+        }
+
+        /**
+         * This method returns uniformly distributed value in range [0, 1)
+         */
+        public float nextFloat() {
+            return (nextLong() >>> 40) * 0x1.0p-24f;
+        }
+
+        /**
+         * This method returns uniformly distributed value in range [0, 1)
+         */
+        public double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+
+        public double nextGaussian() {
+            if (hasGaussian) {
+                hasGaussian = false;
+                return cachedGaussian;
+            }
+
+            // Box-Muller transform, 1 - u keeps argument of log() within (0, 1]
+            double u0 = 1.0 - nextDouble();
+            double u1 = nextDouble();
+            double r = Math.sqrt(-2.0 * Math.log(u0));
+
+            cachedGaussian = r * Math.sin(2.0 * Math.PI * u1);
+            hasGaussian = true;
+
+            return r * Math.cos(2.0 * Math.PI * u1);
+        }
+
+        public void nextBytes(byte[] bytes) {
+            for (int e = 0; e < bytes.length;) {
+                long value = nextLong();
+                for (int i = 0; i < 8 && e < bytes.length; i++, value >>>= 8)
+                    bytes[e++] = (byte) value;
+            }
+        }
+
+        /**
+         * This method fills given buffer with uniformly distributed values in range [from, to)
+         *
+         * @param buffer
+         * @param from
+         * @param to
+         */
+        public void fillUniform(@NonNull DataBuffer buffer, double from, double to) {
+            double scale = to - from;
+            long length = buffer.length();
+            switch (buffer.dataType()) {
+                case DOUBLE: {
+                    // nio buffers are positioned at buffer offset already
+                    DoubleBuffer db = buffer.asNioDouble().slice();
+                    for (int e = 0; e < length; e++)
+                        db.put(e, from + nextDouble() * scale);
+
+                    Nd4j.getAffinityManager().tagLocation(buffer, AffinityManager.Location.HOST);
+                }
+                    break;
+                case FLOAT: {
+                    FloatBuffer fb = buffer.asNioFloat().slice();
+                    for (int e = 0; e < length; e++)
+                        fb.put(e, (float) (from + nextDouble() * scale));
+
+                    Nd4j.getAffinityManager().tagLocation(buffer, AffinityManager.Location.HOST);
+                }
+                    break;
+                default:
+                    for (long e = 0; e < length; e++)
+                        buffer.put(e, from + nextDouble() * scale);
+            }
+        }
+
+        /**
+         * This method fills given buffer with normally distributed values
+         *
+         * @param buffer
+         * @param mean
+         * @param stdDev
+         */
+        public void fillGaussian(@NonNull DataBuffer buffer, double mean, double stdDev) {
+            long length = buffer.length();
+            switch (buffer.dataType()) {
+                case DOUBLE: {
+                    DoubleBuffer db = buffer.asNioDouble().slice();
+                    for (int e = 0; e < length; e++)
+                        db.put(e, mean + nextGaussian() * stdDev);
+
+                    Nd4j.getAffinityManager().tagLocation(buffer, AffinityManager.Location.HOST);
+                }
+                    break;
+                case FLOAT: {
+                    FloatBuffer fb = buffer.asNioFloat().slice();
+                    for (int e = 0; e < length; e++)
+                        fb.put(e, (float) (mean + nextGaussian() * stdDev));
+
+                    Nd4j.getAffinityManager().tagLocation(buffer, AffinityManager.Location.HOST);
+                }
+                    break;
+                default:
+                    for (long e = 0; e < length; e++)
+                        buffer.put(e, mean + nextGaussian() * stdDev);
+            }
+        }
+
+        /**
+         * This method fills given buffer with raw 64-bit values, regardless of its data type.
+         * That's the format NativeRandom keeps its state in.
+         *
+         * @param buffer
+         */
+        public void fillState(@NonNull DataBuffer buffer) {
+            // asNio() starts at the beginning of underlying memory, so view offset is applied here
+            ByteBuffer bb = buffer.asNio();
+            bb.position((int) (buffer.offset() * buffer.getElementSize()));
+            LongBuffer lb = bb.slice().order(ByteOrder.nativeOrder()).asLongBuffer();
+
+            int length = (int) (buffer.length() * buffer.getElementSize() / 8);
+            for (int e = 0; e < length; e++)
+                lb.put(e, nextLong());
+
+            Nd4j.getAffinityManager().tagLocation(buffer, AffinityManager.Location.HOST);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.nd4j.linalg.cache;
+
+import lombok.NonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is size and bytes bounded LRU cache, used for TAD and constant buffers caching.
+ *
+ * Entries are spread over a number of independently locked segments,
+ * each segment keeps its own access order, and evicts least recently used entries
+ * once it goes over its share of the entries or bytes limits.
+ *
+ * PLEASE NOTE: evicted values are never released explicitly.
+ * They are only dropped from the cache, so buffers still referenced by arrays stay valid,
+ * and are released by GC once nothing references them anymore.
+ */
+public class BoundedCache<K, V> {
+
+    /**
+     * This interface describes how much memory cached value occupies
+     */
+    public interface Weigher<V> {
+        /**
+         * @param value cached value
+         * @return number of bytes used by value
+         */
+        long weigh(V value);
+    }
+
+    private final Segment<K, V>[] segments;
+    private final Weigher<V> weigher;
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+    private final AtomicLong bytes = new AtomicLong(0);
+
+    /**
+     * @param maxEntries maximum number of entries, 0 or negative value means no limit
+     * @param maxBytes maximum number of bytes, 0 or negative value means no limit
+     * @param numSegments number of independently locked segments
+     * @param weigher used to calculate size of cached values
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedCache(long maxEntries, long maxBytes, int numSegments, @NonNull Weigher<V> weigher) {
+        if (numSegments < 1)
+            throw new IllegalArgumentException("Number of segments should be positive value");
+
+        this.weigher = weigher;
+        this.segments = new Segment[numSegments];
+
+        long segmentEntries = maxEntries > 0 ? Math.max(1, maxEntries / numSegments) : 0;
+        long segmentBytes = maxBytes > 0 ? Math.max(1, maxBytes / numSegments) : 0;
+        for (int i = 0; i < numSegments; i++)
+            segments[i] = new Segment<>(segmentEntries, segmentBytes);
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int h = key.hashCode();
+        // spread bits a bit, to avoid clustering of similar hashes
+        h ^= (h >>> 16);
+        return segments[(h & 0x7fffffff) % segments.length];
+    }
+
+    /**
+     * This method returns cached value, or null if there's no value for given key
+     *
+     * @param key
+     * @return
+     */
+    public V get(@NonNull K key) {
+        Segment<K, V> segment = segmentFor(key);
+        V value;
+        synchronized (segment) {
+            value = segment.map.get(key);
+        }
+
+        if (value != null)
+            hits.incrementAndGet();
+        else
+            misses.incrementAndGet();
+
+        return value;
+    }
+
+    /**
+     * This method stores value in cache, evicting least recently used entries if limits were reached.
+     *
+     * PLEASE NOTE: value larger then bytes limit of single segment won't be cached at all.
+     *
+     * @param key
+     * @param value
+     * @return true if value was cached, false otherwise
+     */
+    public boolean put(@NonNull K key, @NonNull V value) {
+        Segment<K, V> segment = segmentFor(key);
+        long weight = weigher.weigh(value);
+
+        if (segment.maxBytes > 0 && weight > segment.maxBytes)
+            return false;
+
+        synchronized (segment) {
+            V previous = segment.map.put(key, value);
+            if (previous != null)
+                segment.release(weigher.weigh(previous), bytes);
+
+            segment.bytes += weight;
+            bytes.addAndGet(weight);
+
+            Iterator<Map.Entry<K, V>> iterator = segment.map.entrySet().iterator();
+            while (segment.isOverflown() && iterator.hasNext()) {
+                Map.Entry<K, V> eldest = iterator.next();
+                // we never evict entry we've just added
+                if (eldest.getKey().equals(key))
+                    continue;
+
+                iterator.remove();
+                segment.release(weigher.weigh(eldest.getValue()), bytes);
+                evictions.incrementAndGet();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * This method checks if given key is cached. Doesn't affect access order or counters.
+     *
+     * @param key
+     * @return
+     */
+    public boolean containsKey(@NonNull K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.map.containsKey(key);
+        }
+    }
+
+    /**
+     * This method removes all cached entries. Counters are left intact.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.map.clear();
+                bytes.addAndGet(-segment.bytes);
+                segment.bytes = 0;
+            }
+        }
+    }
+
+    /**
+     * This method returns number of cached entries
+     *
+     * @return
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * This method returns number of bytes used by cached values
+     *
+     * @return
+     */
+    public long getCachedBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * This method returns number of get() calls that returned cached value
+     *
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * This method returns number of get() calls that found nothing in cache
+     *
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * This method returns number of entries evicted due to limits
+     *
+     * @return
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    private static class Segment<K, V> {
+        // access-ordered map, so iteration starts from least recently used entry
+        private final LinkedHashMap<K, V> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maxEntries;
+        private final long maxBytes;
+        private long bytes;
+
+        private Segment(long maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        private boolean isOverflown() {
+            return (maxEntries > 0 && map.size() > maxEntries) || (maxBytes > 0 && bytes > maxBytes);
+        }
+
+        private void release(long weight, AtomicLong total) {
+            bytes -= weight;
+            total.addAndGet(-weight);
+        }
+    }
+}
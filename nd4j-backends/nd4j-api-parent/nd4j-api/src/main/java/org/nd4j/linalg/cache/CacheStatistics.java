@@ -0,0 +1,27 @@
+package org.nd4j.linalg.cache;
+
+/**
+ * Optional interface for caches that track their efficiency, i.e. TAD and constant caches
+ */
+public interface CacheStatistics {
+
+    /**
+     * This method returns number of requests served from cache
+     */
+    long getCacheHits();
+
+    /**
+     * This method returns number of requests that weren't served from cache
+     */
+    long getCacheMisses();
+
+    /**
+     * This method returns number of entries evicted from cache
+     */
+    long getCacheEvictions();
+
+    /**
+     * This method returns number of bytes used by cached entries
+     */
+    long getCachedBytes();
+}
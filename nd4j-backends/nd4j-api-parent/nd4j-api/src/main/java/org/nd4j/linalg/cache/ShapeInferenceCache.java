@@ -0,0 +1,198 @@
+package org.nd4j.linalg.cache;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.CustomOp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache for CustomOp output shapes, keyed by op hash, input shapes and integer/floating point arguments.
+ *
+ * Some ops take their output shape from input values rather than from input shapes, i.e. reshape or tile
+ * with shape passed as array. To handle them, values of small inputs (up to {@link #MAX_VALUES_LENGTH} elements)
+ * are included into the key as well. Ops which output shape depends on values of arbitrary inputs, i.e. unique,
+ * are never cached: see {@link #exclude(String)}
+ *
+ * Shapes are copied on both put and get, so callers are free to modify arrays they pass in or get back.
+ */
+public class ShapeInferenceCache implements CacheStatistics {
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+    public static final int MAX_VALUES_LENGTH = 32;
+
+    private static final String[] DEFAULT_EXCLUSIONS = new String[] {"unique", "dynamic_partition", "dynamic_stitch",
+                    "listdiff", "bincount", "confusion_matrix"};
+
+    private final BoundedCache<ShapeKey, List<int[]>> cache;
+    private final Set<String> exclusions = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    @Getter
+    @Setter
+    private volatile boolean enabled = true;
+
+    public ShapeInferenceCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ShapeInferenceCache(int maxEntries) {
+        cache = new BoundedCache<>(maxEntries, 0, 8, new BoundedCache.Weigher<List<int[]>>() {
+            @Override
+            public long weigh(List<int[]> value) {
+                long bytes = 0;
+                for (int[] shape : value)
+                    bytes += shape.length * 4;
+
+                return bytes;
+            }
+        });
+
+        exclusions.addAll(Arrays.asList(DEFAULT_EXCLUSIONS));
+    }
+
+    /**
+     * This method disables caching for given op, i.e. if its output shape depends on input values
+     *
+     * @param opName
+     */
+    public void exclude(@NonNull String opName) {
+        exclusions.add(opName.toLowerCase());
+    }
+
+    /**
+     * This method builds cache key for given op, or returns null if op shouldn't be cached
+     *
+     * @param op
+     * @return
+     */
+    public ShapeKey keyFor(@NonNull CustomOp op) {
+        if (!enabled)
+            return null;
+
+        // list ops are stateful, so their shapes aren't cached either
+        String opName = op.opName().toLowerCase();
+        if (exclusions.contains(opName) || opName.endsWith("_list"))
+            return null;
+
+        INDArray[] inputs = op.inputArguments();
+        int[][] shapes = new int[inputs.length][];
+        double[][] values = new double[inputs.length][];
+        for (int e = 0; e < inputs.length; e++) {
+            INDArray input = inputs[e];
+            if (input == null)
+                return null;
+
+            // order matters for some ops, i.e. reshape
+            int[] shape = input.shape();
+            shapes[e] = Arrays.copyOf(shape, shape.length + 1);
+            shapes[e][shape.length] = input.ordering();
+
+            if (input.length() <= MAX_VALUES_LENGTH) {
+                values[e] = new double[(int) input.length()];
+                for (int i = 0; i < values[e].length; i++)
+                    values[e][i] = input.getDouble(i);
+            }
+        }
+
+        return new ShapeKey(op.opHash(), shapes, values, op.iArgs(), op.tArgs());
+    }
+
+    /**
+     * This method returns copy of cached shapes for given key, or null if there's nothing cached
+     */
+    public List<int[]> get(@NonNull ShapeKey key) {
+        List<int[]> shapes = cache.get(key);
+        return shapes == null ? null : copyOf(shapes);
+    }
+
+    public void put(@NonNull ShapeKey key, @NonNull List<int[]> shapes) {
+        cache.put(key, Collections.unmodifiableList(copyOf(shapes)));
+    }
+
+    private static List<int[]> copyOf(List<int[]> shapes) {
+        List<int[]> result = new ArrayList<>(shapes.size());
+        for (int[] shape : shapes)
+            result.add(shape.clone());
+
+        return result;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return cache.getHits();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return cache.getMisses();
+    }
+
+    @Override
+    public long getCacheEvictions() {
+        return cache.getEvictions();
+    }
+
+    @Override
+    public long getCachedBytes() {
+        return cache.getCachedBytes();
+    }
+
+    /**
+     * Immutable key for output shapes cache
+     */
+    public static class ShapeKey {
+        private final long opHash;
+        private final int[][] shapes;
+        private final double[][] values;
+        private final int[] iArgs;
+        private final double[] tArgs;
+        private final int hashCode;
+
+        protected ShapeKey(long opHash, int[][] shapes, double[][] values, int[] iArgs, double[] tArgs) {
+            this.opHash = opHash;
+            this.shapes = shapes;
+            this.values = values;
+            this.iArgs = iArgs == null ? new int[0] : iArgs.clone();
+            this.tArgs = tArgs == null ? new double[0] : tArgs.clone();
+
+            int result = (int) (opHash ^ (opHash >>> 32));
+            result = 31 * result + Arrays.deepHashCode(shapes);
+            result = 31 * result + Arrays.deepHashCode(values);
+            result = 31 * result + Arrays.hashCode(this.iArgs);
+            result = 31 * result + Arrays.hashCode(this.tArgs);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            ShapeKey that = (ShapeKey) o;
+            return hashCode == that.hashCode && opHash == that.opHash && Arrays.equals(iArgs, that.iArgs)
+                            && Arrays.equals(tArgs, that.tArgs) && Arrays.deepEquals(shapes, that.shapes)
+                            && Arrays.deepEquals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
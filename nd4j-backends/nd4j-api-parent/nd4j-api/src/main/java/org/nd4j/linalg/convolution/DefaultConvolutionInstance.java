@@ -21,14 +21,40 @@ package org.nd4j.linalg.convolution;
 
 import org.nd4j.linalg.api.complex.IComplexNDArray;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Default convolution instance (FFT based)
  *
+ * Convolution is computed as pointwise product of zero-padded spectra. The innermost convolution axis uses
+ * real-input FFT (half-size complex transform), remaining axes use complex transforms. Transform sizes are
+ * rounded up to powers of two, and FFT plans are cached per size.
+ *
+ * Long 1D signals (convolution along single axis, with kernel much shorter than the input) are processed
+ * with overlap-add: input is split into blocks and each block is convolved with short transform,
+ * so cost grows linearly with the signal length.
+ *
+ * Kernel should have the same rank as the input (lower rank kernels are broadcast over leading dimensions).
+ * Along dimensions that aren't convolved, kernel size should be either 1 or equal to the input size.
+ *
  * @author Adam Gibson
  */
 public class DefaultConvolutionInstance extends BaseConvolution {
 
+    /**
+     * Overlap-add is used only if input is at least this many times longer than the kernel
+     */
+    protected static final int OVERLAP_ADD_RATIO = 8;
+
+    /**
+     * Overlap-add block transform size, relative to kernel length
+     */
+    protected static final int OVERLAP_ADD_BLOCK_FACTOR = 4;
+
     /**
      * ND Convolution
      *
@@ -54,7 +80,423 @@ public class DefaultConvolutionInstance extends BaseConvolution {
      */
     @Override
     public INDArray convn(INDArray input, INDArray kernel, Convolution.Type type, int[] axes) {
-        throw new UnsupportedOperationException();
+        int rank = input.rank();
+        int[] inputShape = input.shape();
+        int[] kernelShape = broadcastShape(kernel.shape(), rank);
+        boolean[] convolved = validateAxes(axes, rank);
+
+        int[] outputShape = new int[rank];
+        int[] outputOffset = new int[rank];
+        for (int d = 0; d < rank; d++) {
+            int n = inputShape[d];
+            int k = kernelShape[d];
+            if (!convolved[d]) {
+                if (k != 1 && k != n)
+                    throw new IllegalArgumentException("Kernel size along dimension " + d + " should be 1 or "
+                                    + n + ", got " + k);
+                outputShape[d] = n;
+                continue;
+            }
+
+            switch (type) {
+                case FULL:
+                    outputShape[d] = n + k - 1;
+                    outputOffset[d] = 0;
+                    break;
+                case SAME:
+                    outputShape[d] = n;
+                    outputOffset[d] = (k - 1) / 2;
+                    break;
+                case VALID:
+                    if (n < k)
+                        throw new IllegalArgumentException("VALID convolution requires input to be at least as "
+                                        + "large as kernel along dimension " + d + ": input " + n + ", kernel " + k);
+                    outputShape[d] = n - k + 1;
+                    outputOffset[d] = k - 1;
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Unknown convolution type: " + type);
+            }
+        }
+
+        double[] x = input.dup('c').data().asDouble();
+        double[] h = kernel.dup('c').data().asDouble();
+
+        int[] sortedAxes = new int[axes.length];
+        int cnt = 0;
+        for (int d = 0; d < rank; d++)
+            if (convolved[d])
+                sortedAxes[cnt++] = d;
+
+        double[] result;
+        if (sortedAxes.length == 1 && useOverlapAdd(inputShape[sortedAxes[0]], kernelShape[sortedAxes[0]]))
+            result = overlapAdd(x, inputShape, h, kernelShape, sortedAxes[0], outputShape, outputOffset);
+        else
+            result = fftConvolve(x, inputShape, h, kernelShape, sortedAxes, outputShape, outputOffset);
+
+        return Nd4j.create(result, outputShape, 'c');
+    }
+
+    protected static boolean useOverlapAdd(int inputLength, int kernelLength) {
+        if (inputLength < OVERLAP_ADD_RATIO * kernelLength)
+            return false;
+
+        // there's no point in blocks as large as the whole signal
+        return FFTPlan.nextPowerOfTwo(OVERLAP_ADD_BLOCK_FACTOR * kernelLength) < FFTPlan
+                        .nextPowerOfTwo(inputLength + kernelLength - 1);
+    }
+
+    private static int[] broadcastShape(int[] kernelShape, int rank) {
+        if (kernelShape.length > rank)
+            throw new IllegalArgumentException("Kernel rank should not exceed input rank: kernel "
+                            + Arrays.toString(kernelShape) + ", input rank " + rank);
+
+        int[] result = new int[rank];
+        Arrays.fill(result, 1);
+        System.arraycopy(kernelShape, 0, result, rank - kernelShape.length, kernelShape.length);
+        return result;
+    }
+
+    private static boolean[] validateAxes(int[] axes, int rank) {
+        if (axes == null || axes.length == 0)
+            throw new IllegalArgumentException("At least one convolution axis should be specified");
+
+        boolean[] result = new boolean[rank];
+        for (int axis : axes) {
+            int a = axis < 0 ? axis + rank : axis;
+            if (a < 0 || a >= rank)
+                throw new IllegalArgumentException("Invalid axis " + axis + " for rank " + rank);
+            if (result[a])
+                throw new IllegalArgumentException("Duplicate axis " + axis + ": " + Arrays.toString(axes));
+            result[a] = true;
+        }
+
+        return result;
+    }
+
+    /**
+     * Convolution over all given axes at once, as product of N-dimensional spectra
+     */
+    protected static double[] fftConvolve(double[] x, int[] xShape, double[] h, int[] hShape, int[] axes,
+                    int[] outputShape, int[] outputOffset) {
+        int rank = xShape.length;
+        int realAxis = axes[axes.length - 1];
+
+        // padded real shapes: convolution axes are padded to power of two, other dimensions are left as is
+        int[] xPadded = xShape.clone();
+        int[] hPadded = hShape.clone();
+        for (int a : axes) {
+            int size = FFTPlan.nextPowerOfTwo(xShape[a] + hShape[a] - 1);
+            xPadded[a] = size;
+            hPadded[a] = size;
+        }
+
+        double[][] xSpectrum = forward(x, xShape, xPadded, axes, realAxis);
+        double[][] hSpectrum = forward(h, hShape, hPadded, axes, realAxis);
+
+        int[] xSpectrumShape = spectrumShape(xPadded, realAxis);
+        int[] hSpectrumShape = spectrumShape(hPadded, realAxis);
+        multiply(xSpectrum, xSpectrumShape, hSpectrum, hSpectrumShape);
+
+        double[] padded = inverse(xSpectrum, xSpectrumShape, xPadded, axes, realAxis);
+        return crop(padded, xPadded, outputShape, outputOffset);
+    }
+
+    /**
+     * Convolution along single axis using overlap-add: each block of input is convolved separately,
+     * and results are summed at block offsets
+     */
+    protected static double[] overlapAdd(double[] x, int[] xShape, double[] h, int[] hShape, int axis,
+                    int[] outputShape, int[] outputOffset) {
+        int n = xShape[axis];
+        int k = hShape[axis];
+        int fullLength = n + k - 1;
+
+        FFTPlan plan = FFTPlan.forSize(FFTPlan.nextPowerOfTwo(OVERLAP_ADD_BLOCK_FACTOR * k));
+        int size = plan.size();
+        int bins = size / 2 + 1;
+        int blockLength = size - k + 1;
+
+        int[] xStrides = strides(xShape);
+        int[] hStrides = broadcastStrides(hShape);
+        int[] outStrides = strides(outputShape);
+        int[] xLines = lineOffsets(xShape, xStrides, axis);
+        int[] hLines = lineOffsets(xShape, hStrides, axis);
+        int[] outLines = lineOffsets(xShape, outStrides, axis);
+
+        double[] result = new double[length(outputShape)];
+        double[] block = new double[size];
+        double[] re = new double[bins];
+        double[] im = new double[bins];
+        double[] zr = new double[size / 2 + 1];
+        double[] zi = new double[size / 2 + 1];
+        double[] full = new double[fullLength];
+
+        // kernel spectra are shared by all lines the kernel is broadcast over
+        Map<Integer, double[][]> kernelSpectra = new HashMap<>();
+
+        for (int line = 0; line < xLines.length; line++) {
+            double[][] kernelSpectrum = kernelSpectra.get(hLines[line]);
+            if (kernelSpectrum == null) {
+                Arrays.fill(block, 0.0);
+                for (int i = 0; i < k; i++)
+                    block[i] = h[hLines[line] + i * hStrides[axis]];
+
+                kernelSpectrum = new double[][] {new double[bins], new double[bins]};
+                plan.realForward(block, kernelSpectrum[0], kernelSpectrum[1], zr, zi);
+                kernelSpectra.put(hLines[line], kernelSpectrum);
+            }
+
+            Arrays.fill(full, 0.0);
+            for (int start = 0; start < n; start += blockLength) {
+                int len = Math.min(blockLength, n - start);
+                Arrays.fill(block, 0.0);
+                for (int i = 0; i < len; i++)
+                    block[i] = x[xLines[line] + (start + i) * xStrides[axis]];
+
+                plan.realForward(block, re, im, zr, zi);
+                multiply(re, im, 0, kernelSpectrum[0], kernelSpectrum[1], 0, bins);
+                plan.realInverse(re, im, block, zr, zi);
+
+                int limit = Math.min(len + k - 1, fullLength - start);
+                for (int i = 0; i < limit; i++)
+                    full[start + i] += block[i];
+            }
+
+            int offset = outputOffset[axis];
+            for (int i = 0; i < outputShape[axis]; i++)
+                result[outLines[line] + i * outStrides[axis]] = full[offset + i];
+        }
+
+        return result;
+    }
+
+    private static int[] spectrumShape(int[] padded, int realAxis) {
+        int[] result = padded.clone();
+        result[realAxis] = padded[realAxis] / 2 + 1;
+        return result;
     }
 
+    /**
+     * Forward transform of zero-padded real array: real-input FFT along realAxis, complex FFT along other axes
+     */
+    private static double[][] forward(double[] data, int[] shape, int[] padded, int[] axes, int realAxis) {
+        int[] spectrumShape = spectrumShape(padded, realAxis);
+        int[] spectrumStrides = strides(spectrumShape);
+        int spectrumLength = length(spectrumShape);
+        double[] re = new double[spectrumLength];
+        double[] im = new double[spectrumLength];
+
+        FFTPlan plan = FFTPlan.forSize(padded[realAxis]);
+        int size = plan.size();
+        int bins = size / 2 + 1;
+        double[] line = new double[size];
+        double[] lineRe = new double[bins];
+        double[] lineIm = new double[bins];
+        double[] zr = new double[size / 2 + 1];
+        double[] zi = new double[size / 2 + 1];
+
+        // lines outside of the original data are all zeros, so their spectra are zeros as well
+        int[] strides = strides(shape);
+        int[] srcLines = lineOffsets(shape, strides, realAxis);
+        int[] dstLines = lineOffsets(shape, spectrumStrides, realAxis);
+        int n = shape[realAxis];
+        for (int l = 0; l < srcLines.length; l++) {
+            Arrays.fill(line, 0.0);
+            for (int i = 0; i < n; i++)
+                line[i] = data[srcLines[l] + i * strides[realAxis]];
+
+            plan.realForward(line, lineRe, lineIm, zr, zi);
+            for (int i = 0; i < bins; i++) {
+                re[dstLines[l] + i * spectrumStrides[realAxis]] = lineRe[i];
+                im[dstLines[l] + i * spectrumStrides[realAxis]] = lineIm[i];
+            }
+        }
+
+        for (int a : axes)
+            if (a != realAxis)
+                transform(re, im, spectrumShape, spectrumStrides, a, false);
+
+        return new double[][] {re, im};
+    }
+
+    /**
+     * Inverse of forward(), returns padded real array scaled by 1/N
+     */
+    private static double[] inverse(double[][] spectrum, int[] spectrumShape, int[] padded, int[] axes,
+                    int realAxis) {
+        double[] re = spectrum[0];
+        double[] im = spectrum[1];
+        int[] spectrumStrides = strides(spectrumShape);
+
+        double scale = 1.0;
+        for (int a : axes) {
+            if (a != realAxis) {
+                transform(re, im, spectrumShape, spectrumStrides, a, true);
+                scale /= padded[a];
+            }
+        }
+
+        FFTPlan plan = FFTPlan.forSize(padded[realAxis]);
+        int size = plan.size();
+        int bins = size / 2 + 1;
+        double[] line = new double[size];
+        double[] lineRe = new double[bins];
+        double[] lineIm = new double[bins];
+        double[] zr = new double[size / 2 + 1];
+        double[] zi = new double[size / 2 + 1];
+
+        int[] paddedStrides = strides(padded);
+        double[] result = new double[length(padded)];
+        int[] srcLines = lineOffsets(spectrumShape, spectrumStrides, realAxis);
+        int[] dstLines = lineOffsets(spectrumShape, paddedStrides, realAxis);
+        for (int l = 0; l < srcLines.length; l++) {
+            for (int i = 0; i < bins; i++) {
+                lineRe[i] = re[srcLines[l] + i * spectrumStrides[realAxis]];
+                lineIm[i] = im[srcLines[l] + i * spectrumStrides[realAxis]];
+            }
+
+            plan.realInverse(lineRe, lineIm, line, zr, zi);
+            for (int i = 0; i < size; i++)
+                result[dstLines[l] + i * paddedStrides[realAxis]] = line[i] * scale;
+        }
+
+        return result;
+    }
+
+    /**
+     * In-place complex FFT of all lines along given axis
+     */
+    private static void transform(double[] re, double[] im, int[] shape, int[] strides, int axis, boolean inverse) {
+        FFTPlan plan = FFTPlan.forSize(shape[axis]);
+        int size = plan.size();
+        int stride = strides[axis];
+        double[] lineRe = new double[size];
+        double[] lineIm = new double[size];
+
+        for (int offset : lineOffsets(shape, strides, axis)) {
+            for (int i = 0; i < size; i++) {
+                lineRe[i] = re[offset + i * stride];
+                lineIm[i] = im[offset + i * stride];
+            }
+
+            plan.transform(lineRe, lineIm, inverse);
+            for (int i = 0; i < size; i++) {
+                re[offset + i * stride] = lineRe[i];
+                im[offset + i * stride] = lineIm[i];
+            }
+        }
+    }
+
+    /**
+     * Pointwise product of spectra, kernel spectrum is broadcast along dimensions of size 1
+     */
+    private static void multiply(double[][] x, int[] xShape, double[][] h, int[] hShape) {
+        int rank = xShape.length;
+        int last = rank - 1;
+        int[] hStrides = broadcastStrides(hShape);
+        int[] xStrides = strides(xShape);
+        int[] xLines = lineOffsets(xShape, xStrides, last);
+        int[] hLines = lineOffsets(xShape, hStrides, last);
+
+        for (int l = 0; l < xLines.length; l++) {
+            if (hStrides[last] == 1) {
+                multiply(x[0], x[1], xLines[l], h[0], h[1], hLines[l], xShape[last]);
+            } else {
+                for (int i = 0; i < xShape[last]; i++)
+                    multiply(x[0], x[1], xLines[l] + i, h[0], h[1], hLines[l], 1);
+            }
+        }
+    }
+
+    private static void multiply(double[] xRe, double[] xIm, int xOffset, double[] hRe, double[] hIm, int hOffset,
+                    int length) {
+        for (int i = 0; i < length; i++) {
+            double ar = xRe[xOffset + i];
+            double ai = xIm[xOffset + i];
+            double br = hRe[hOffset + i];
+            double bi = hIm[hOffset + i];
+            xRe[xOffset + i] = ar * br - ai * bi;
+            xIm[xOffset + i] = ar * bi + ai * br;
+        }
+    }
+
+    private static double[] crop(double[] data, int[] shape, int[] outputShape, int[] outputOffset) {
+        int rank = shape.length;
+        int last = rank - 1;
+        int[] strides = strides(shape);
+        int[] outStrides = strides(outputShape);
+        int[] srcLines = lineOffsets(outputShape, strides, last);
+        int[] dstLines = lineOffsets(outputShape, outStrides, last);
+
+        int base = 0;
+        for (int d = 0; d < rank; d++)
+            base += outputOffset[d] * strides[d];
+
+        double[] result = new double[length(outputShape)];
+        for (int l = 0; l < srcLines.length; l++)
+            System.arraycopy(data, base + srcLines[l], result, dstLines[l], outputShape[last]);
+
+        return result;
+    }
+
+    private static int length(int[] shape) {
+        int result = 1;
+        for (int s : shape)
+            result *= s;
+        return result;
+    }
+
+    private static int[] strides(int[] shape) {
+        int[] result = new int[shape.length];
+        int stride = 1;
+        for (int d = shape.length - 1; d >= 0; d--) {
+            result[d] = stride;
+            stride *= shape[d];
+        }
+        return result;
+    }
+
+    /**
+     * C order strides, with zero strides along dimensions of size 1, so such dimensions are broadcast
+     */
+    private static int[] broadcastStrides(int[] shape) {
+        int[] result = strides(shape);
+        for (int d = 0; d < shape.length; d++)
+            if (shape[d] == 1)
+                result[d] = 0;
+        return result;
+    }
+
+    /**
+     * This method returns offsets of the first elements of all lines along given axis,
+     * iterating over given shape in C order and using given strides
+     */
+    private static int[] lineOffsets(int[] shape, int[] strides, int axis) {
+        int rank = shape.length;
+        int numLines = length(shape) / shape[axis];
+        int[] result = new int[numLines];
+        int[] index = new int[rank];
+        int offset = 0;
+
+        for (int l = 0; l < numLines; l++) {
+            result[l] = offset;
+
+            // odometer increment over all dimensions except axis
+            for (int d = rank - 1; d >= 0; d--) {
+                if (d == axis)
+                    continue;
+
+                if (++index[d] < shape[d]) {
+                    offset += strides[d];
+                    break;
+                }
+
+                offset -= (shape[d] - 1) * strides[d];
+                index[d] = 0;
+            }
+        }
+
+        return result;
+    }
 }
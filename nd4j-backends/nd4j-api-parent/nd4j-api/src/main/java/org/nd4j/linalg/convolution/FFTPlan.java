@@ -0,0 +1,196 @@
+package org.nd4j.linalg.convolution;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed radix-2 FFT plan for single power-of-two size: bit-reversal permutation and twiddle factors.
+ *
+ * Plans are immutable and cached per size, so they're shared between threads and calls.
+ * All transforms work over split real/imaginary double arrays, with caller-provided buffers.
+ */
+final class FFTPlan {
+    private static final ConcurrentHashMap<Integer, FFTPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int[] reversed;
+    // cos/sin of 2 * PI * j / size, for j < size / 2
+    private final double[] cos;
+    private final double[] sin;
+
+    private FFTPlan(int size) {
+        this.size = size;
+
+        int bits = Integer.numberOfTrailingZeros(size);
+        reversed = new int[size];
+        for (int i = 0; i < size; i++)
+            reversed[i] = bits == 0 ? 0 : Integer.reverse(i) >>> (32 - bits);
+
+        cos = new double[size / 2];
+        sin = new double[size / 2];
+        for (int j = 0; j < size / 2; j++) {
+            double angle = 2 * Math.PI * j / size;
+            cos[j] = Math.cos(angle);
+            sin[j] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * This method returns cached plan for given size
+     *
+     * @param size power of two
+     * @return
+     */
+    static FFTPlan forSize(int size) {
+        if (size < 1 || Integer.bitCount(size) != 1)
+            throw new IllegalArgumentException("FFT size should be power of two, got [" + size + "]");
+
+        FFTPlan plan = PLANS.get(size);
+        if (plan == null) {
+            plan = new FFTPlan(size);
+            FFTPlan existing = PLANS.putIfAbsent(size, plan);
+            if (existing != null)
+                plan = existing;
+        }
+
+        return plan;
+    }
+
+    static int nextPowerOfTwo(int value) {
+        int result = 1;
+        while (result < value)
+            result <<= 1;
+
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * In-place complex transform of first size() elements.
+     * Forward transform uses exp(-i...) kernel, inverse transform is NOT scaled by 1/size.
+     */
+    void transform(double[] re, double[] im, boolean inverse) {
+        int n = size;
+        for (int i = 0; i < n; i++) {
+            int j = reversed[i];
+            if (j > i) {
+                double t = re[i];
+                re[i] = re[j];
+                re[j] = t;
+                t = im[i];
+                im[i] = im[j];
+                im[j] = t;
+            }
+        }
+
+        for (int len = 2; len <= n; len <<= 1) {
+            int half = len >> 1;
+            int step = n / len;
+            for (int i = 0; i < n; i += len) {
+                for (int j = 0, t = 0; j < half; j++, t += step) {
+                    double wr = cos[t];
+                    double wi = inverse ? sin[t] : -sin[t];
+                    int a = i + j;
+                    int b = a + half;
+                    double xr = re[b] * wr - im[b] * wi;
+                    double xi = re[b] * wi + im[b] * wr;
+                    re[b] = re[a] - xr;
+                    im[b] = im[a] - xi;
+                    re[a] += xr;
+                    im[a] += xi;
+                }
+            }
+        }
+    }
+
+    /**
+     * Forward transform of real input. Input is packed into complex sequence of half length,
+     * so this costs roughly half of the complex transform.
+     *
+     * @param in real input, size() elements
+     * @param re real part of the output, size() / 2 + 1 elements
+     * @param im imaginary part of the output, size() / 2 + 1 elements
+     * @param zr scratch buffer, at least size() / 2 elements
+     * @param zi scratch buffer, at least size() / 2 elements
+     */
+    void realForward(double[] in, double[] re, double[] im, double[] zr, double[] zi) {
+        if (size == 1) {
+            re[0] = in[0];
+            im[0] = 0.0;
+            return;
+        }
+
+        int h = size / 2;
+        for (int m = 0; m < h; m++) {
+            zr[m] = in[2 * m];
+            zi[m] = in[2 * m + 1];
+        }
+        forSize(h).transform(zr, zi, false);
+
+        for (int k = 0; k <= h; k++) {
+            int p = k % h;
+            int q = (h - k) % h;
+            double ar = zr[p];
+            double ai = zi[p];
+            double br = zr[q];
+            double bi = zi[q];
+
+            // spectra of even and odd samples
+            double er = 0.5 * (ar + br);
+            double ei = 0.5 * (ai - bi);
+            double or = 0.5 * (ai + bi);
+            double oi = -0.5 * (ar - br);
+
+            double c = k < h ? cos[k] : -1.0;
+            double s = k < h ? sin[k] : 0.0;
+            re[k] = er + c * or + s * oi;
+            im[k] = ei + c * oi - s * or;
+        }
+    }
+
+    /**
+     * Inverse of {@link #realForward(double[], double[], double[], double[], double[])}, scaled by 1/size()
+     *
+     * @param re real part of the half spectrum, size() / 2 + 1 elements
+     * @param im imaginary part of the half spectrum, size() / 2 + 1 elements
+     * @param out real output, size() elements
+     * @param zr scratch buffer, at least size() / 2 elements
+     * @param zi scratch buffer, at least size() / 2 elements
+     */
+    void realInverse(double[] re, double[] im, double[] out, double[] zr, double[] zi) {
+        if (size == 1) {
+            out[0] = re[0];
+            return;
+        }
+
+        int h = size / 2;
+        for (int k = 0; k < h; k++) {
+            double pr = re[k];
+            double pi = im[k];
+            double qr = re[h - k];
+            double qi = im[h - k];
+
+            double er = 0.5 * (pr + qr);
+            double ei = 0.5 * (pi - qi);
+            double dr = 0.5 * (pr - qr);
+            double di = 0.5 * (pi + qi);
+
+            double c = cos[k];
+            double s = sin[k];
+            double or = dr * c - di * s;
+            double oi = dr * s + di * c;
+
+            zr[k] = er - oi;
+            zi[k] = ei + or;
+        }
+        forSize(h).transform(zr, zi, true);
+
+        double scale = 1.0 / h;
+        for (int m = 0; m < h; m++) {
+            out[2 * m] = zr[m] * scale;
+            out[2 * m + 1] = zi[m] * scale;
+        }
+    }
+}
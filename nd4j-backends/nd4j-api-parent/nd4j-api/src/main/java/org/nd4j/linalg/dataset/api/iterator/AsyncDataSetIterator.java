@@ -0,0 +1,137 @@
+package org.nd4j.linalg.dataset.api.iterator;
+
+import lombok.NonNull;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
+
+import java.util.List;
+
+/**
+ * DataSetIterator that prefetches DataSets from underlying iterator on background thread.
+ *
+ * DataSets are built in rotating set of workspaces, and preprocessor set via
+ * {@link #setPreProcessor(DataSetPreProcessor)} is applied on background thread as well,
+ * so training thread doesn't wait for ETL as long as producer keeps up.
+ * Prefetching starts on first hasNext() or next() call, so preprocessor may be set after construction.
+ * Number of times consumer had to wait is available via {@link #getStallCount()}.
+ *
+ * PLEASE NOTE: DataSet returned by next() stays valid until next() is called again.
+ * PLEASE NOTE: {@link #shutdown()} should be called once iterator isn't needed anymore.
+ */
+public class AsyncDataSetIterator extends BaseAsyncIterator<DataSet> implements DataSetIterator {
+    public static final int DEFAULT_QUEUE_SIZE = 8;
+
+    private final DataSetIterator backedIterator;
+    private volatile DataSetPreProcessor preProcessor;
+
+    public AsyncDataSetIterator(@NonNull DataSetIterator iterator) {
+        this(iterator, DEFAULT_QUEUE_SIZE);
+    }
+
+    public AsyncDataSetIterator(@NonNull DataSetIterator iterator, int queueSize) {
+        this(iterator, queueSize, true);
+    }
+
+    /**
+     * @param iterator underlying iterator
+     * @param queueSize number of DataSets to prefetch
+     * @param useWorkspaces if true, DataSets are built within workspaces
+     */
+    public AsyncDataSetIterator(@NonNull DataSetIterator iterator, int queueSize, boolean useWorkspaces) {
+        super(queueSize, useWorkspaces);
+        this.backedIterator = iterator;
+    }
+
+    @Override
+    protected boolean sourceHasNext() {
+        return backedIterator.hasNext();
+    }
+
+    @Override
+    protected DataSet sourceNext() {
+        return backedIterator.next();
+    }
+
+    @Override
+    protected void sourceReset() {
+        backedIterator.reset();
+    }
+
+    @Override
+    protected void preProcess(DataSet element) {
+        DataSetPreProcessor preProcessor = this.preProcessor;
+        if (preProcessor != null)
+            preProcessor.preProcess(element);
+    }
+
+    @Override
+    public DataSet next(int num) {
+        throw new UnsupportedOperationException("Unable to load custom number of examples");
+    }
+
+    @Override
+    public int totalExamples() {
+        return backedIterator.totalExamples();
+    }
+
+    @Override
+    public int inputColumns() {
+        return backedIterator.inputColumns();
+    }
+
+    @Override
+    public int totalOutcomes() {
+        return backedIterator.totalOutcomes();
+    }
+
+    @Override
+    public boolean resetSupported() {
+        return backedIterator.resetSupported();
+    }
+
+    @Override
+    public boolean asyncSupported() {
+        return false;
+    }
+
+    @Override
+    public int batch() {
+        return backedIterator.batch();
+    }
+
+    @Override
+    public int cursor() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int numExamples() {
+        return backedIterator.numExamples();
+    }
+
+    /**
+     * PLEASE NOTE: preprocessor is applied on background thread, so once iteration has started it's
+     * applied only to DataSets that weren't prefetched yet. Set it before iteration, or call reset() after it.
+     *
+     * @param preProcessor
+     */
+    @Override
+    public void setPreProcessor(DataSetPreProcessor preProcessor) {
+        this.preProcessor = preProcessor;
+    }
+
+    @Override
+    public DataSetPreProcessor getPreProcessor() {
+        return preProcessor;
+    }
+
+    @Override
+    public List<String> getLabels() {
+        return backedIterator.getLabels();
+    }
+
+    @Override
+    public void remove() {
+        //no opt;
+    }
+}
@@ -0,0 +1,100 @@
+package org.nd4j.linalg.dataset.api.iterator;
+
+import lombok.NonNull;
+import org.nd4j.linalg.dataset.api.MultiDataSet;
+import org.nd4j.linalg.dataset.api.MultiDataSetPreProcessor;
+
+/**
+ * MultiDataSetIterator that prefetches MultiDataSets from underlying iterator on background thread.
+ *
+ * MultiDataSets are built in rotating set of workspaces, and preprocessor set via
+ * {@link #setPreProcessor(MultiDataSetPreProcessor)} is applied on background thread as well,
+ * so training thread doesn't wait for ETL as long as producer keeps up.
+ * Prefetching starts on first hasNext() or next() call, so preprocessor may be set after construction.
+ * Number of times consumer had to wait is available via {@link #getStallCount()}.
+ *
+ * PLEASE NOTE: MultiDataSet returned by next() stays valid until next() is called again.
+ * PLEASE NOTE: {@link #shutdown()} should be called once iterator isn't needed anymore.
+ */
+public class AsyncMultiDataSetIterator extends BaseAsyncIterator<MultiDataSet> implements MultiDataSetIterator {
+    public static final int DEFAULT_QUEUE_SIZE = 8;
+
+    private final MultiDataSetIterator backedIterator;
+    private volatile MultiDataSetPreProcessor preProcessor;
+
+    public AsyncMultiDataSetIterator(@NonNull MultiDataSetIterator iterator) {
+        this(iterator, DEFAULT_QUEUE_SIZE);
+    }
+
+    public AsyncMultiDataSetIterator(@NonNull MultiDataSetIterator iterator, int queueSize) {
+        this(iterator, queueSize, true);
+    }
+
+    /**
+     * @param iterator underlying iterator
+     * @param queueSize number of MultiDataSets to prefetch
+     * @param useWorkspaces if true, MultiDataSets are built within workspaces
+     */
+    public AsyncMultiDataSetIterator(@NonNull MultiDataSetIterator iterator, int queueSize, boolean useWorkspaces) {
+        super(queueSize, useWorkspaces);
+        this.backedIterator = iterator;
+    }
+
+    @Override
+    protected boolean sourceHasNext() {
+        return backedIterator.hasNext();
+    }
+
+    @Override
+    protected MultiDataSet sourceNext() {
+        return backedIterator.next();
+    }
+
+    @Override
+    protected void sourceReset() {
+        backedIterator.reset();
+    }
+
+    @Override
+    protected void preProcess(MultiDataSet element) {
+        MultiDataSetPreProcessor preProcessor = this.preProcessor;
+        if (preProcessor != null)
+            preProcessor.preProcess(element);
+    }
+
+    @Override
+    public MultiDataSet next(int num) {
+        throw new UnsupportedOperationException("Unable to load custom number of examples");
+    }
+
+    @Override
+    public boolean resetSupported() {
+        return backedIterator.resetSupported();
+    }
+
+    @Override
+    public boolean asyncSupported() {
+        return false;
+    }
+
+    /**
+     * PLEASE NOTE: preprocessor is applied on background thread, so once iteration has started it's
+     * applied only to MultiDataSets that weren't prefetched yet. Set it before iteration, or call reset() after it.
+     *
+     * @param preProcessor
+     */
+    @Override
+    public void setPreProcessor(MultiDataSetPreProcessor preProcessor) {
+        this.preProcessor = preProcessor;
+    }
+
+    @Override
+    public MultiDataSetPreProcessor getPreProcessor() {
+        return preProcessor;
+    }
+
+    @Override
+    public void remove() {
+        //no opt;
+    }
+}
@@ -0,0 +1,263 @@
+package org.nd4j.linalg.dataset.api.iterator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nd4j.linalg.api.memory.MemoryWorkspace;
+import org.nd4j.linalg.api.memory.conf.WorkspaceConfiguration;
+import org.nd4j.linalg.api.memory.enums.AllocationPolicy;
+import org.nd4j.linalg.api.memory.enums.LearningPolicy;
+import org.nd4j.linalg.api.memory.enums.ResetPolicy;
+import org.nd4j.linalg.api.memory.enums.SpillPolicy;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Base class for asynchronous prefetching iterators.
+ *
+ * Background thread fetches elements from underlying iterator and applies preprocessor, while consumer
+ * works with previous elements. Every element is built within its own workspace, taken from rotating set of
+ * queueSize + 3 workspaces: up to queueSize queued elements, plus the one peeked by hasNext(), the one
+ * returned by next(), and the one being built. So memory is reused across elements without any allocations
+ * after the first cycle, and no workspace is reused while its element can still be in use.
+ * Background thread is started lazily, on first hasNext() or next() call.
+ *
+ * PLEASE NOTE: element returned by next() stays valid until next() is called again.
+ * If element should be kept for longer - it should be detached (i.e. via dup()).
+ */
+@Slf4j
+abstract class BaseAsyncIterator<T> {
+    private static final Object TERMINATOR = new Object();
+
+    protected final int queueSize;
+    protected final boolean useWorkspaces;
+
+    private final LinkedBlockingQueue<Object> queue;
+    private final Semaphore epochStart = new Semaphore(0);
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final WorkspaceConfiguration configuration;
+    private final String workspaceId = "ASYNC_ITERATOR_" + UUID.randomUUID().toString();
+    private final Thread thread;
+
+    private volatile boolean cancelled;
+    private volatile boolean shutdown;
+    private boolean started;
+    private Object nextElement;
+
+    private final AtomicLong produced = new AtomicLong(0);
+    private final AtomicLong stalls = new AtomicLong(0);
+    private final AtomicLong stallTime = new AtomicLong(0);
+
+    protected BaseAsyncIterator(int queueSize, boolean useWorkspaces) {
+        if (queueSize < 2)
+            throw new IllegalArgumentException("Queue size should be at least 2");
+
+        this.queueSize = queueSize;
+        this.useWorkspaces = useWorkspaces;
+        // terminator shares capacity with elements, so number of queued elements never exceeds queueSize
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+        this.configuration = WorkspaceConfiguration.builder().policyAllocation(AllocationPolicy.OVERALLOCATE)
+                        .overallocationLimit(0.1).policyLearning(LearningPolicy.FIRST_LOOP)
+                        .policyReset(ResetPolicy.BLOCK_LEFT).policySpill(SpillPolicy.EXTERNAL).build();
+
+        final Integer deviceId = Nd4j.getAffinityManager().getDeviceForCurrentThread();
+        this.thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Nd4j.getAffinityManager().attachThreadToDevice(Thread.currentThread(), deviceId);
+                produce();
+            }
+        });
+        thread.setName("AsyncIterator prefetch thread");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * This method starts background thread, and prefetching of the first epoch, unless it was started already
+     */
+    private void startIfNeeded() {
+        if (!started && !shutdown) {
+            started = true;
+            thread.start();
+            epochStart.release();
+        }
+    }
+
+    protected abstract boolean sourceHasNext();
+
+    protected abstract T sourceNext();
+
+    protected abstract void sourceReset();
+
+    protected abstract void preProcess(T element);
+
+    private void produce() {
+        long cnt = 0;
+        try {
+            while (!shutdown) {
+                epochStart.acquire();
+
+                try {
+                    while (!cancelled && !shutdown && sourceHasNext()) {
+                        T element;
+                        if (useWorkspaces) {
+                            // besides queueSize queued elements, consumer holds current and peeked ones,
+                            // and one more is being built here, so we need 3 extra workspaces
+                            String id = workspaceId + "_" + (cnt % (queueSize + 3));
+                            try (MemoryWorkspace ws = Nd4j.getWorkspaceManager()
+                                            .getAndActivateWorkspace(configuration, id)) {
+                                element = sourceNext();
+                                preProcess(element);
+                            }
+                        } else {
+                            element = sourceNext();
+                            preProcess(element);
+                        }
+
+                        cnt++;
+                        produced.incrementAndGet();
+                        queue.put(element);
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Throwable t) {
+                    error.set(t);
+                }
+
+                queue.put(TERMINATOR);
+            }
+        } catch (InterruptedException e) {
+            // shutdown was requested
+        } finally {
+            if (useWorkspaces)
+                Nd4j.getWorkspaceManager().destroyAllWorkspacesForCurrentThread();
+        }
+    }
+
+    public boolean hasNext() {
+        if (nextElement == null) {
+            if (shutdown)
+                return false;
+
+            startIfNeeded();
+
+            nextElement = queue.poll();
+            if (nextElement == null) {
+                // consumer has to wait for producer here
+                stalls.incrementAndGet();
+                long time = System.nanoTime();
+                try {
+                    nextElement = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                stallTime.addAndGet(System.nanoTime() - time);
+            }
+        }
+
+        if (nextElement == TERMINATOR && error.get() != null) {
+            Throwable t = error.getAndSet(null);
+            throw new RuntimeException("Exception in prefetch thread", t);
+        }
+
+        return nextElement != TERMINATOR;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        T element = (T) nextElement;
+        nextElement = null;
+        return element;
+    }
+
+    public void reset() {
+        if (shutdown)
+            throw new IllegalStateException("Iterator was shut down");
+
+        if (!started) {
+            // nothing was prefetched yet
+            sourceReset();
+            return;
+        }
+
+        // stopping current epoch, and waiting till producer is idle
+        cancelled = true;
+        while (nextElement != TERMINATOR) {
+            try {
+                nextElement = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        nextElement = null;
+        error.set(null);
+        sourceReset();
+
+        cancelled = false;
+        epochStart.release();
+    }
+
+    /**
+     * This method stops background thread, and releases workspaces.
+     * Elements obtained from this iterator shouldn't be used after this call.
+     */
+    public void shutdown() {
+        shutdown = true;
+        if (!started)
+            return;
+
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.clear();
+    }
+
+    /**
+     * This method returns number of elements currently waiting in queue
+     *
+     * @return
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * This method returns number of times consumer had to wait for producer
+     *
+     * @return
+     */
+    public long getStallCount() {
+        return stalls.get();
+    }
+
+    /**
+     * This method returns total time consumer spent waiting for producer, in milliseconds
+     *
+     * @return
+     */
+    public long getStallTime() {
+        return stallTime.get() / 1000000L;
+    }
+
+    /**
+     * This method returns number of elements fetched by background thread so far
+     *
+     * @return
+     */
+    public long getNumberOfProducedElements() {
+        return produced.get();
+    }
+}
@@ -0,0 +1,117 @@
+package org.nd4j.linalg.dataset.api.iterator;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.CustomOp;
+import org.nd4j.linalg.api.ops.DynamicCustomOp;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Helper for in-memory iterators: builds DataSets out of examples of source DataSet, picked by indices.
+ *
+ * Contiguous ascending index ranges are returned as views of the source arrays, everything else
+ * is gathered along dimension 0 with single native op per array, optionally into reusable arrays.
+ */
+final class IndexGatherer {
+
+    private IndexGatherer() {
+        // no-op
+    }
+
+    /**
+     * This method returns examples of source DataSet, specified by indices
+     *
+     * @param source     source DataSet
+     * @param indices    indices of examples
+     * @param allowViews if true, contiguous ranges will be returned as views of source arrays
+     * @param reuse      DataSet with arrays to gather into, or null. Arrays are used only if their shapes match
+     * @return
+     */
+    static DataSet gather(DataSet source, int[] indices, boolean allowViews, DataSet reuse) {
+        if (indices.length == 0)
+            throw new IllegalStateException("Indices shouldn't be empty");
+
+        if (allowViews && isRange(indices))
+            return (DataSet) source.getRange(indices[0], indices[0] + indices.length);
+
+        INDArray features = gather(source.getFeatures(), indices, reuse == null ? null : reuse.getFeatures());
+        INDArray labels = gather(source.getLabels(), indices, reuse == null ? null : reuse.getLabels());
+        INDArray featuresMask = gather(source.getFeaturesMaskArray(), indices,
+                        reuse == null ? null : reuse.getFeaturesMaskArray());
+        INDArray labelsMask = gather(source.getLabelsMaskArray(), indices,
+                        reuse == null ? null : reuse.getLabelsMaskArray());
+
+        if (reuse != null) {
+            reuse.setFeatures(features);
+            reuse.setLabels(labels);
+            reuse.setFeaturesMaskArray(featuresMask);
+            reuse.setLabelsMaskArray(labelsMask);
+            return reuse;
+        }
+
+        return new DataSet(features, labels, featuresMask, labelsMask);
+    }
+
+    /**
+     * This method gathers slices of source array along dimension 0
+     *
+     * @param source  source array, or null
+     * @param indices indices of slices
+     * @param target  array to gather into, or null. Used only if its shape matches
+     * @return
+     */
+    static INDArray gather(INDArray source, int[] indices, INDArray target) {
+        if (source == null)
+            return null;
+
+        int[] shape = source.shape().clone();
+        shape[0] = indices.length;
+
+        if (target == null || target.isView() || !Arrays.equals(shape, target.shape()))
+            target = Nd4j.createUninitialized(shape, 'c');
+
+        CustomOp op = DynamicCustomOp.builder("gather")
+                        .addInputs(source)
+                        .addOutputs(target)
+                        .addIntegerArguments(0)
+                        .addIntegerArguments(indices)
+                        .build();
+        Nd4j.getExecutioner().exec(op);
+
+        return target;
+    }
+
+    /**
+     * This method returns true if indices form contiguous ascending range
+     */
+    static boolean isRange(int[] indices) {
+        for (int i = 1; i < indices.length; i++)
+            if (indices[i] != indices[i - 1] + 1)
+                return false;
+
+        return true;
+    }
+
+    /**
+     * In-place Fisher-Yates shuffle
+     */
+    static void shuffle(int[] array, Random rng) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = array[i];
+            array[i] = array[j];
+            array[j] = t;
+        }
+    }
+
+    static int[] range(int length) {
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++)
+            result[i] = i;
+
+        return result;
+    }
+}
@@ -3,12 +3,15 @@ package org.nd4j.linalg.dataset.api.iterator;
 import org.nd4j.linalg.dataset.DataSet;
 import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Splits a dataset into k folds.
- * DataSet is duplicated in memory once
+ * DataSet is never duplicated in memory: folds are defined by permutation of example indices,
+ * and every fold is gathered with native op into its own arrays, so folds may be modified (i.e. normalized) in place.
+ * Optionally gathered folds may reuse the same arrays, see {@link #setReuseBuffers(boolean)}, and folds that form
+ * contiguous range of examples may be returned as views of the source DataSet, see {@link #setAllowViews(boolean)}
  * call .next() to get the k-1 folds to train on and call .testfold() to get the corresponding kth fold for testing
  * @author Susan Eraly
  */
@@ -22,6 +25,12 @@ public class KFoldIterator implements DataSetIterator {
     private DataSet train;
     protected DataSetPreProcessor preProcessor;
 
+    // permutation of example indices, identity until first reset()
+    private int[] order;
+    private Random rng;
+    private boolean reuseBuffers = false;
+    private boolean allowViews = false;
+
     public KFoldIterator(DataSet singleFold) {
         this(10, singleFold);
     }
@@ -34,8 +43,21 @@ public class KFoldIterator implements DataSetIterator {
      */
 
     public KFoldIterator(int k, DataSet singleFold) {
+        this(k, singleFold, System.nanoTime());
+    }
+
+    /**Create an iterator given the dataset, a value of k and seed used for shuffling on reset()
+     * PLEASE NOTE: Source DataSet isn't copied, so it shouldn't be modified while this iterator is used.
+     *
+     * @param k number of folds
+     * @param singleFold DataSet to split into k folds
+     * @param seed seed for shuffling, same seed gives the same folds after each reset()
+     */
+    public KFoldIterator(int k, DataSet singleFold, long seed) {
         this.k = k;
-        this.singleFold = singleFold.copy();
+        this.singleFold = singleFold;
+        this.order = IndexGatherer.range(singleFold.numExamples());
+        this.rng = new Random(seed);
         if (k <= 1)
             throw new IllegalArgumentException();
         if (singleFold.numExamples() % k != 0) {
@@ -95,7 +117,7 @@ public class KFoldIterator implements DataSetIterator {
     @Override
     public void reset() {
         //shuffle and return new k folds
-        singleFold.shuffle();
+        IndexGatherer.shuffle(order, rng);
         kCursor = 0;
     }
 
@@ -164,6 +186,30 @@ public class KFoldIterator implements DataSetIterator {
         return train;
     }
 
+    /**
+     * If set to true, gathered folds will be written into the same arrays on each next() call,
+     * so DataSets returned by previous next() and testFold() calls become invalid.
+     * Default value: false
+     *
+     * @param reuseBuffers
+     */
+    public void setReuseBuffers(boolean reuseBuffers) {
+        this.reuseBuffers = reuseBuffers;
+    }
+
+    /**
+     * If set to true, folds that form contiguous range of examples (i.e. test fold before first reset())
+     * are returned as views of the source DataSet instead of being copied.
+     * PLEASE NOTE: in this case in-place modifications of returned folds modify the source DataSet as well,
+     * so they'll affect all following folds.
+     * Default value: false
+     *
+     * @param allowViews
+     */
+    public void setAllowViews(boolean allowViews) {
+        this.allowViews = allowViews;
+    }
+
     @Override
     public void remove() {
         // no-op
@@ -180,17 +226,14 @@ public class KFoldIterator implements DataSetIterator {
             right = left + batch;
         }
 
-        List<DataSet> kMinusOneFoldList = new ArrayList<DataSet>();
-        if (right < totalExamples()) {
-            if (left > 0) {
-                kMinusOneFoldList.add((DataSet) singleFold.getRange(0, left));
-            }
-            kMinusOneFoldList.add((DataSet) singleFold.getRange(right, totalExamples()));
-            train = DataSet.merge(kMinusOneFoldList);
-        } else {
-            train = (DataSet) singleFold.getRange(0, left);
-        }
-        test = (DataSet) singleFold.getRange(left, right);
+        int[] testIndices = new int[right - left];
+        int[] trainIndices = new int[totalExamples() - testIndices.length];
+        System.arraycopy(order, left, testIndices, 0, testIndices.length);
+        System.arraycopy(order, 0, trainIndices, 0, left);
+        System.arraycopy(order, right, trainIndices, left, totalExamples() - right);
+
+        train = IndexGatherer.gather(singleFold, trainIndices, allowViews, reuseBuffers ? train : null);
+        test = IndexGatherer.gather(singleFold, testIndices, allowViews, reuseBuffers ? test : null);
 
         kCursor++;
 
@@ -0,0 +1,211 @@
+package org.nd4j.linalg.dataset.api.iterator;
+
+import lombok.NonNull;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
+import org.nd4j.linalg.dataset.api.iterator.cache.MappedFileDataSetCache;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+
+/**
+ * DataSetIterator over DataSets stored in {@link MappedFileDataSetCache}, in order they were added.
+ *
+ * Next few DataSets are mapped and loaded into memory on background thread,
+ * so next() doesn't wait for disk reads.
+ * The thread is started on demand and stopped once all DataSets were loaded,
+ * or after it was idle for {@link #KEEP_ALIVE_SECONDS}, so abandoned iterators don't leak it.
+ */
+public class MappedFileDataSetIterator implements DataSetIterator {
+    public static final int DEFAULT_PREFETCH_SIZE = 4;
+    public static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final MappedFileDataSetCache cache;
+    private final int prefetchSize;
+    private ThreadPoolExecutor executor;
+    private final ArrayDeque<Future<DataSet>> queue = new ArrayDeque<>();
+
+    private List<String> keys;
+    private int submitted;
+    private int cursor;
+    private DataSetPreProcessor preProcessor;
+
+    public MappedFileDataSetIterator(@NonNull MappedFileDataSetCache cache) {
+        this(cache, DEFAULT_PREFETCH_SIZE);
+    }
+
+    /**
+     * @param cache cache to iterate over
+     * @param prefetchSize number of DataSets loaded ahead
+     */
+    public MappedFileDataSetIterator(@NonNull MappedFileDataSetCache cache, int prefetchSize) {
+        if (prefetchSize < 1)
+            throw new IllegalArgumentException("Prefetch size should be positive value");
+
+        this.cache = cache;
+        this.prefetchSize = prefetchSize;
+
+        reset();
+    }
+
+    private void fill() {
+        while (queue.size() < prefetchSize && submitted < keys.size()) {
+            if (executor == null) {
+                executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                                    @Override
+                                    public Thread newThread(Runnable r) {
+                                        Thread t = Executors.defaultThreadFactory().newThread(r);
+                                        t.setName("MappedFileDataSetIterator prefetch thread");
+                                        t.setDaemon(true);
+                                        return t;
+                                    }
+                                });
+                executor.allowCoreThreadTimeOut(true);
+            }
+
+            final String key = keys.get(submitted++);
+            queue.add(executor.submit(new Callable<DataSet>() {
+                @Override
+                public DataSet call() throws Exception {
+                    return cache.getAndLoad(key);
+                }
+            }));
+        }
+    }
+
+    @Override
+    public DataSet next(int num) {
+        throw new UnsupportedOperationException("Unable to load custom number of examples");
+    }
+
+    @Override
+    public int totalExamples() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int inputColumns() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int totalOutcomes() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean resetSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean asyncSupported() {
+        // we're already prefetching
+        return false;
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (Future<DataSet> future : queue)
+            future.cancel(false);
+
+        queue.clear();
+        release();
+        keys = cache.keys();
+        submitted = 0;
+        cursor = 0;
+        fill();
+    }
+
+    @Override
+    public int batch() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int cursor() {
+        return cursor;
+    }
+
+    @Override
+    public int numExamples() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setPreProcessor(DataSetPreProcessor preProcessor) {
+        this.preProcessor = preProcessor;
+    }
+
+    @Override
+    public DataSetPreProcessor getPreProcessor() {
+        return preProcessor;
+    }
+
+    @Override
+    public List<String> getLabels() {
+        return null;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        return cursor < keys.size();
+    }
+
+    @Override
+    public void remove() {
+        //no opt;
+    }
+
+    @Override
+    public synchronized DataSet next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        DataSet ds;
+        try {
+            ds = queue.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+
+        cursor++;
+        fill();
+
+        // everything is loaded, no need to keep the thread around
+        if (queue.isEmpty())
+            release();
+
+        if (ds == null)
+            throw new IllegalStateException("DataSet [" + keys.get(cursor - 1) + "] was removed from cache");
+
+        if (preProcessor != null)
+            preProcessor.preProcess(ds);
+
+        return ds;
+    }
+
+    private void release() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * This method stops background thread.
+     * It's started again on next reset()
+     */
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -23,10 +23,13 @@ import org.nd4j.linalg.dataset.DataSet;
 import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
 
 import java.util.List;
+import java.util.Random;
 
 /**
  * A wrapper for a dataset to sample from.
  * This will randomly sample from the given dataset.
+ * Sampled examples are gathered from the source DataSet with native op, one op per array,
+ * optionally into the same arrays on each call, see {@link #setReuseBuffers(boolean)}
  *
  * @author Adam Gibson
  */
@@ -42,6 +45,11 @@ public class SamplingDataSetIterator implements DataSetIterator {
     private int numTimesSampled;
     private boolean replace = false;
     private DataSetPreProcessor preProcessor;
+    private Random rng;
+    // pool of example indices, used for sampling without replacement
+    private int[] pool;
+    private boolean reuseBuffers = false;
+    private DataSet buffer;
 
     /**
      * @param sampleFrom         the dataset to sample from
@@ -49,11 +57,24 @@ public class SamplingDataSetIterator implements DataSetIterator {
      * @param totalNumberSamples the sample size
      */
     public SamplingDataSetIterator(DataSet sampleFrom, int batchSize, int totalNumberSamples, boolean replace) {
+        this(sampleFrom, batchSize, totalNumberSamples, replace, System.nanoTime());
+    }
+
+    /**
+     * @param sampleFrom         the dataset to sample from
+     * @param batchSize          the batch size to sample
+     * @param totalNumberSamples the sample size
+     * @param replace            whether to sample with replacement
+     * @param seed               seed for sampling, same seed gives the same sequence of samples
+     */
+    public SamplingDataSetIterator(DataSet sampleFrom, int batchSize, int totalNumberSamples, boolean replace,
+                    long seed) {
         super();
         this.sampleFrom = sampleFrom;
         this.batchSize = batchSize;
         this.totalNumberSamples = totalNumberSamples;
         this.replace = replace;
+        this.rng = new Random(seed);
     }
 
 
@@ -63,10 +84,7 @@ public class SamplingDataSetIterator implements DataSetIterator {
      * @param totalNumberSamples the sample size
      */
     public SamplingDataSetIterator(DataSet sampleFrom, int batchSize, int totalNumberSamples) {
-        super();
-        this.sampleFrom = sampleFrom;
-        this.batchSize = batchSize;
-        this.totalNumberSamples = totalNumberSamples;
+        this(sampleFrom, batchSize, totalNumberSamples, false);
     }
 
     @Override
@@ -76,7 +94,7 @@ public class SamplingDataSetIterator implements DataSetIterator {
 
     @Override
     public DataSet next() {
-        DataSet ret = sampleFrom.sample(batchSize, replace);
+        DataSet ret = sample(batchSize);
         numTimesSampled += batchSize;
 
         if (preProcessor != null) {
@@ -86,6 +104,49 @@ public class SamplingDataSetIterator implements DataSetIterator {
         return ret;
     }
 
+    /**
+     * If set to true, samples will be written into the same arrays on each next() call,
+     * so DataSets returned by previous next() calls become invalid.
+     * Default value: false
+     *
+     * @param reuseBuffers
+     */
+    public void setReuseBuffers(boolean reuseBuffers) {
+        this.reuseBuffers = reuseBuffers;
+    }
+
+    protected DataSet sample(int num) {
+        int numExamples = sampleFrom.numExamples();
+        int[] indices = new int[num];
+        if (replace) {
+            for (int i = 0; i < num; i++)
+                indices[i] = rng.nextInt(numExamples);
+        } else {
+            if (num > numExamples)
+                throw new IllegalStateException("Can't sample " + num + " examples without replacement out of "
+                                + numExamples + " examples");
+
+            if (pool == null)
+                pool = IndexGatherer.range(numExamples);
+
+            // partial Fisher-Yates shuffle over persistent pool: first num elements are the sample
+            for (int i = 0; i < num; i++) {
+                int j = i + rng.nextInt(numExamples - i);
+                int t = pool[i];
+                pool[i] = pool[j];
+                pool[j] = t;
+                indices[i] = pool[i];
+            }
+        }
+
+        // no views here: preprocessor works in place, and source DataSet should stay intact
+        DataSet ret = IndexGatherer.gather(sampleFrom, indices, false, reuseBuffers ? buffer : null);
+        if (reuseBuffers)
+            buffer = ret;
+
+        return ret;
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
@@ -159,7 +220,7 @@ public class SamplingDataSetIterator implements DataSetIterator {
 
     @Override
     public DataSet next(int num) {
-        DataSet ret = sampleFrom.sample(num);
+        DataSet ret = sample(num);
         numTimesSampled++;
         return ret;
     }
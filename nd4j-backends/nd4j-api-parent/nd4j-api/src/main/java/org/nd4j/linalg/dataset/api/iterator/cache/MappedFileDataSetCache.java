@@ -0,0 +1,327 @@
+package org.nd4j.linalg.dataset.api.iterator.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.serde.binary.BinarySerde;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSetCache backed by single append-only file, which is memory mapped on reads.
+ *
+ * Each DataSet is appended to the file as one record, and in-memory index keeps record offsets.
+ * Cached DataSets are served without deserialization: arrays wrap mapped file regions directly,
+ * and reading from disk is left to the OS, with its read-ahead and page cache.
+ * Index is rebuilt from the file on start, so cache can be reused across runs.
+ *
+ * Mapped regions are copy-on-write, so in-place changes to returned arrays (i.e. by preprocessors)
+ * never reach the file. Each mapping is referenced by DataBuffers of arrays wrapping it, so it stays mapped
+ * for as long as any of these arrays is in use, and is released by GC afterwards.
+ *
+ * PLEASE NOTE: records for overwritten keys are kept in file, they're just not referenced anymore.
+ */
+@Slf4j
+public class MappedFileDataSetCache implements DataSetCache, Closeable {
+    public static final String DATA_FILE = "datasets.bin";
+
+    // record header: magic, key length, payload length
+    private static final int MAGIC = 0x4E44534D;
+    private static final int HEADER_LENGTH = 16;
+    // records and arrays are aligned, so array data is always aligned to element size
+    private static final int ALIGNMENT = 8;
+
+    private final File cacheDirectory;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final Map<String, long[]> index = new LinkedHashMap<>();
+    private long position;
+
+    public MappedFileDataSetCache(File cacheDirectory) {
+        if (cacheDirectory.exists() && !cacheDirectory.isDirectory()) {
+            throw new IllegalArgumentException("can't use path " + cacheDirectory + " as file cache directory "
+                            + "because it already exists, but is not a directory");
+        }
+
+        if (!cacheDirectory.exists() && !cacheDirectory.mkdirs())
+            throw new IllegalStateException("ERROR: cannot create cache directory: " + cacheDirectory);
+
+        this.cacheDirectory = cacheDirectory;
+
+        try {
+            file = new RandomAccessFile(new File(cacheDirectory, DATA_FILE), "rw");
+            channel = file.getChannel();
+            rebuildIndex();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public MappedFileDataSetCache(Path cacheDirectory) {
+        this(cacheDirectory.toFile());
+    }
+
+    public MappedFileDataSetCache(String cacheDirectory) {
+        this(new File(cacheDirectory));
+    }
+
+    /**
+     * This method scans data file and restores index. Incomplete record at the end of file is dropped.
+     */
+    private void rebuildIndex() throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.nativeOrder());
+
+        position = 0;
+        while (position + HEADER_LENGTH <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+
+            if (header.getInt() != MAGIC)
+                break;
+
+            int keyLength = header.getInt();
+            long payloadLength = header.getLong();
+            long payloadOffset = align(position + HEADER_LENGTH + keyLength);
+            if (keyLength < 0 || payloadLength < 0 || payloadOffset + payloadLength > size)
+                break;
+
+            ByteBuffer key = ByteBuffer.allocate(keyLength);
+            channel.read(key, position + HEADER_LENGTH);
+            index.put(new String(key.array(), StandardCharsets.UTF_8), new long[] {payloadOffset, payloadLength});
+
+            position = align(payloadOffset + payloadLength);
+        }
+
+        if (position < size) {
+            log.warn("Dropping incomplete data in {} after offset {}", DATA_FILE, position);
+            channel.truncate(position);
+        }
+    }
+
+    private static long align(long value) {
+        return (value + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private File namespaceFile(String namespace) {
+        String filename = String.format("%s-complete.txt", namespace);
+        return new File(cacheDirectory, filename);
+    }
+
+    @Override
+    public boolean isComplete(String namespace) {
+        return namespaceFile(namespace).exists();
+    }
+
+    @Override
+    public void setComplete(String namespace, boolean value) {
+        File file = namespaceFile(namespace);
+        if (value) {
+            if (!file.exists()) {
+                try {
+                    // everything written so far should reach the disk, before namespace is marked complete
+                    channel.force(false);
+                    file.createNewFile();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        } else {
+            if (file.exists()) {
+                file.delete();
+            }
+        }
+    }
+
+    @Override
+    public DataSet get(String key) {
+        MappedByteBuffer buffer = map(key);
+        if (buffer == null)
+            return null;
+
+        return decode(buffer);
+    }
+
+    /**
+     * This method maps record for given key, and asks OS to load it into memory.
+     * Subsequent {@link #get(String)} call for the same key won't wait for disk.
+     *
+     * @param key
+     * @return DataSet for given key, or null if there's no such key
+     */
+    public DataSet getAndLoad(String key) {
+        MappedByteBuffer buffer = map(key);
+        if (buffer == null)
+            return null;
+
+        buffer.load();
+        return decode(buffer);
+    }
+
+    private MappedByteBuffer map(String key) {
+        long[] record;
+        synchronized (index) {
+            record = index.get(key);
+        }
+
+        if (record == null)
+            return null;
+
+        try {
+            return channel.map(FileChannel.MapMode.PRIVATE, record[0], record[1]);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private DataSet decode(ByteBuffer buffer) {
+        buffer.order(ByteOrder.nativeOrder());
+        INDArray[] arrays = new INDArray[4];
+        for (int i = 0; i < arrays.length; i++) {
+            int length = buffer.getInt();
+            buffer.position((int) align(buffer.position()));
+            if (length < 0)
+                continue;
+
+            // slice refers to the mapping, and array's DataBuffer holds the slice, so mapping lives as long as array
+            ByteBuffer slice = buffer.slice();
+            slice.limit(length);
+            arrays[i] = BinarySerde.toArrayView(slice);
+            buffer.position((int) align(buffer.position() + length));
+        }
+
+        return new DataSet(arrays[0], arrays[1], arrays[2], arrays[3]);
+    }
+
+    @Override
+    public void put(String key, DataSet dataSet) {
+        INDArray[] arrays = new INDArray[] {dataSet.getFeatures(), dataSet.getLabels(),
+                        dataSet.getFeaturesMaskArray(), dataSet.getLabelsMaskArray()};
+
+        long payloadLength = 0;
+        for (int i = 0; i < arrays.length; i++) {
+            // views can't be written directly
+            if (arrays[i] != null && arrays[i].isView())
+                arrays[i] = arrays[i].dup();
+
+            payloadLength = align(align(payloadLength + 4)
+                            + (arrays[i] == null ? 0 : BinarySerde.byteBufferSizeFor(arrays[i])));
+        }
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long payloadOffset = align(HEADER_LENGTH + keyBytes.length);
+        long recordLength = align(payloadOffset + payloadLength);
+        if (recordLength > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("DataSet [" + key + "] is too large to be cached: " + recordLength
+                            + " bytes");
+
+        ByteBuffer record = ByteBuffer.allocateDirect((int) recordLength).order(ByteOrder.nativeOrder());
+        record.putInt(MAGIC);
+        record.putInt(keyBytes.length);
+        record.putLong(payloadLength);
+        record.put(keyBytes);
+
+        record.position((int) payloadOffset);
+        for (INDArray array : arrays) {
+            if (array == null) {
+                record.putInt(-1);
+                record.position((int) align(record.position()));
+                continue;
+            }
+
+            int length = BinarySerde.byteBufferSizeFor(array);
+            record.putInt(length);
+            record.position((int) align(record.position()));
+
+            ByteBuffer slice = record.slice().order(ByteOrder.nativeOrder());
+            if (array.isCompressed())
+                BinarySerde.doByteBufferPutCompressed(array, slice, false);
+            else
+                BinarySerde.doByteBufferPutUnCompressed(array, slice, false);
+
+            record.position((int) align(record.position() + length));
+        }
+        record.position(0);
+        record.limit((int) recordLength);
+
+        try {
+            synchronized (index) {
+                long offset = position;
+                while (record.hasRemaining())
+                    channel.write(record, offset + record.position());
+
+                position += recordLength;
+                index.put(key, new long[] {offset + payloadOffset, payloadLength});
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean contains(String key) {
+        synchronized (index) {
+            return index.containsKey(key);
+        }
+    }
+
+    /**
+     * This method returns all cached keys, in order they were added
+     *
+     * @return
+     */
+    public List<String> keys() {
+        synchronized (index) {
+            return new ArrayList<>(index.keySet());
+        }
+    }
+
+    /**
+     * This method returns number of cached DataSets
+     *
+     * @return
+     */
+    public int size() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    /**
+     * This method returns number of bytes used by cache file
+     *
+     * @return
+     */
+    public long fileSize() {
+        synchronized (index) {
+            return position;
+        }
+    }
+
+    /**
+     * This method closes underlying file. DataSets returned before stay valid, since mappings outlive the channel.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (index) {
+            channel.force(false);
+            file.close();
+        }
+    }
+}
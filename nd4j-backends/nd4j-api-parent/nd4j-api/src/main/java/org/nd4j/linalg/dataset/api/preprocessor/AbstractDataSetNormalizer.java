@@ -87,7 +87,9 @@ public abstract class AbstractDataSetNormalizer<S extends NormalizerStats> exten
         S.Builder featureNormBuilder = newBuilder();
         S.Builder labelNormBuilder = newBuilder();
 
-        iterator.reset();
+        // iterators without reset support are consumed in a single pass
+        if (iterator.resetSupported())
+            iterator.reset();
         while (iterator.hasNext()) {
             DataSet next = iterator.next();
             featureNormBuilder.addFeatures(next);
@@ -99,7 +101,59 @@ public abstract class AbstractDataSetNormalizer<S extends NormalizerStats> exten
         if (fitLabels) {
             labelStats = (S) labelNormBuilder.build();
         }
-        iterator.reset();
+        if (iterator.resetSupported())
+            iterator.reset();
+    }
+
+    /**
+     * Fit the given model using multiple threads. Each thread builds statistics for its own share of
+     * batches, and partial statistics are merged afterwards, so result is the same as for {@link #fit(DataSetIterator)}
+     * up to floating point rounding. If statistics builder doesn't implement {@link NormalizerStats.MergeableBuilder},
+     * fitting falls back to single thread.
+     *
+     * @param iterator for the data to iterate over
+     * @param numWorkers number of threads to use
+     */
+    public void fit(@NonNull DataSetIterator iterator, int numWorkers) {
+        if (numWorkers < 2 || !(newBuilder() instanceof NormalizerStats.MergeableBuilder)) {
+            fit(iterator);
+            return;
+        }
+
+        if (iterator.resetSupported())
+            iterator.reset();
+
+        S.Builder[] builders = new ParallelStatsFitter<DataSet, S.Builder[]>() {
+            @Override
+            protected S.Builder[] newPartial() {
+                return new S.Builder[] {newBuilder(), newBuilder()};
+            }
+
+            @Override
+            protected void add(S.Builder[] partial, DataSet batch) {
+                partial[0].addFeatures(batch);
+                if (fitLabels)
+                    partial[1].addLabels(batch);
+            }
+
+            @Override
+            protected void merge(S.Builder[] target, S.Builder[] source) {
+                ((NormalizerStats.MergeableBuilder) target[0]).merge(source[0]);
+                ((NormalizerStats.MergeableBuilder) target[1]).merge(source[1]);
+            }
+
+            @Override
+            protected void detach(DataSet batch) {
+                batch.detach();
+            }
+        }.fit(iterator, numWorkers);
+
+        featureStats = (S) builders[0].build();
+        if (fitLabels) {
+            labelStats = (S) builders[1].build();
+        }
+        if (iterator.resetSupported())
+            iterator.reset();
     }
 
     protected abstract S.Builder newBuilder();
@@ -25,6 +25,9 @@ public abstract class AbstractMultiDataSetNormalizer<S extends NormalizerStats>
     @Setter
     private List<S> labelStats;
     private boolean fitLabels = false;
+    // running statistics for partialFit() calls
+    private transient List<S.Builder> streamingFeatureBuilders;
+    private transient List<S.Builder> streamingLabelBuilders;
 
     protected AbstractMultiDataSetNormalizer() {
         super();
@@ -102,7 +105,9 @@ public abstract class AbstractMultiDataSetNormalizer<S extends NormalizerStats>
         List<S.Builder> featureNormBuilders = new ArrayList<>();
         List<S.Builder> labelNormBuilders = new ArrayList<>();
 
-        iterator.reset();
+        // iterators without reset support are consumed in a single pass
+        if (iterator.resetSupported())
+            iterator.reset();
         while (iterator.hasNext()) {
             MultiDataSet next = iterator.next();
             fitPartial(next, featureNormBuilders, labelNormBuilders);
@@ -114,6 +119,93 @@ public abstract class AbstractMultiDataSetNormalizer<S extends NormalizerStats>
         }
     }
 
+    /**
+     * Fit an iterator using multiple threads. Each thread builds statistics for its own share of batches,
+     * and partial statistics are merged afterwards, so result is the same as for {@link #fit(MultiDataSetIterator)}
+     * up to floating point rounding. If statistics builder doesn't implement {@link NormalizerStats.MergeableBuilder},
+     * fitting falls back to single thread.
+     *
+     * @param iterator for the data to iterate over
+     * @param numWorkers number of threads to use
+     */
+    public void fit(@NonNull MultiDataSetIterator iterator, int numWorkers) {
+        if (numWorkers < 2 || !(newBuilder() instanceof NormalizerStats.MergeableBuilder)) {
+            fit(iterator);
+            return;
+        }
+
+        if (iterator.resetSupported())
+            iterator.reset();
+
+        List<S.Builder>[] builders = new ParallelStatsFitter<MultiDataSet, List<S.Builder>[]>() {
+            @Override
+            protected List<S.Builder>[] newPartial() {
+                return new List[] {new ArrayList<S.Builder>(), new ArrayList<S.Builder>()};
+            }
+
+            @Override
+            protected void add(List<S.Builder>[] partial, MultiDataSet batch) {
+                fitPartial(batch, partial[0], partial[1]);
+            }
+
+            @Override
+            protected void merge(List<S.Builder>[] target, List<S.Builder>[] source) {
+                mergeList(target[0], source[0]);
+                mergeList(target[1], source[1]);
+            }
+
+            @Override
+            protected void detach(MultiDataSet batch) {
+                batch.detach();
+            }
+        }.fit(iterator, numWorkers);
+
+        featureStats = buildList(builders[0]);
+        if (isFitLabel()) {
+            labelStats = buildList(builders[1]);
+        }
+    }
+
+    /**
+     * Update statistics with given MultiDataSet, keeping statistics of all MultiDataSets passed to this method
+     * since last {@link #resetPartialFit()} call. Normalizer can be used right after each call.
+     * This allows single-pass fitting on streams, where data can't be iterated twice.
+     *
+     * @param dataSet the dataset to add
+     */
+    public void partialFit(@NonNull MultiDataSet dataSet) {
+        if (streamingFeatureBuilders == null) {
+            streamingFeatureBuilders = new ArrayList<>();
+            streamingLabelBuilders = new ArrayList<>();
+        }
+
+        fitPartial(dataSet, streamingFeatureBuilders, streamingLabelBuilders);
+
+        featureStats = buildList(streamingFeatureBuilders);
+        if (isFitLabel()) {
+            labelStats = buildList(streamingLabelBuilders);
+        }
+    }
+
+    /**
+     * Forget statistics accumulated via {@link #partialFit(MultiDataSet)} calls.
+     * Statistics built so far are kept till next fit call.
+     */
+    public void resetPartialFit() {
+        streamingFeatureBuilders = null;
+        streamingLabelBuilders = null;
+    }
+
+    private void mergeList(List<S.Builder> target, List<S.Builder> source) {
+        if (target.isEmpty()) {
+            target.addAll(source);
+            return;
+        }
+
+        for (int i = 0; i < source.size(); i++)
+            ((NormalizerStats.MergeableBuilder) target.get(i)).merge(source.get(i));
+    }
+
     private List<S> buildList(@NonNull List<S.Builder> builders) {
         List<S> result = new ArrayList<>(builders.size());
         for (S.Builder builder : builders) {
@@ -0,0 +1,105 @@
+package org.nd4j.linalg.dataset.api.preprocessor;
+
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Helper for multi-threaded normalizer fitting.
+ *
+ * Each worker thread pulls batches from shared iterator and accumulates them into its own partial statistics,
+ * so workers never share state while fitting. Partial statistics are merged once iterator is exhausted.
+ *
+ * @param <T> type of batches
+ * @param <P> type of partial statistics
+ */
+abstract class ParallelStatsFitter<T, P> {
+
+    /**
+     * This method creates empty partial statistics for one worker
+     */
+    protected abstract P newPartial();
+
+    /**
+     * This method adds given batch to partial statistics
+     */
+    protected abstract void add(P partial, T batch);
+
+    /**
+     * This method merges source partial statistics into target
+     */
+    protected abstract void merge(P target, P source);
+
+    /**
+     * This method detaches batch from iterator memory, so it stays valid after next() call (i.e. workspaces)
+     */
+    protected abstract void detach(T batch);
+
+    /**
+     * This method consumes given iterator with given number of threads
+     *
+     * @param iterator
+     * @param numWorkers
+     * @return merged statistics
+     */
+    public P fit(final Iterator<? extends T> iterator, int numWorkers) {
+        final Integer deviceId = Nd4j.getAffinityManager().getDeviceForCurrentThread();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final List<P> partials = new ArrayList<>(numWorkers);
+        final List<Thread> threads = new ArrayList<>(numWorkers);
+
+        for (int i = 0; i < numWorkers; i++) {
+            final P partial = newPartial();
+            partials.add(partial);
+
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Nd4j.getAffinityManager().attachThreadToDevice(Thread.currentThread(), deviceId);
+                    try {
+                        while (error.get() == null) {
+                            T batch;
+                            // iterators aren't thread safe, so only fetching is serialized
+                            synchronized (iterator) {
+                                if (!iterator.hasNext())
+                                    break;
+
+                                batch = iterator.next();
+                                detach(batch);
+                            }
+
+                            add(partial, batch);
+                        }
+                    } catch (Throwable t) {
+                        error.compareAndSet(null, t);
+                    }
+                }
+            });
+            thread.setName("Normalizer fitting thread " + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error.compareAndSet(null, e);
+            }
+        }
+
+        if (error.get() != null)
+            throw new RuntimeException("Normalizer fitting failed", error.get());
+
+        P result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++)
+            merge(result, partials.get(i));
+
+        return result;
+    }
+}
@@ -68,8 +68,8 @@ public class DistributionStats implements NormalizerStats {
      * DynamicCustomOpsBuilder class that can incrementally update a running mean and variance in order to create statistics for a
      * large set of data
      */
-    public static class Builder implements NormalizerStats.Builder<DistributionStats> {
-        private int runningCount = 0;
+    public static class Builder implements NormalizerStats.MergeableBuilder<DistributionStats> {
+        private long runningCount = 0;
         private INDArray runningMean;
         private INDArray runningVariance;
 
@@ -124,7 +124,7 @@ public class DistributionStats implements NormalizerStats {
                 INDArray mB = variance.muli(count);
                 runningVariance.muli(runningCount).addiRowVector(mB)
                                 .addiRowVector(deltaSquared
-                                                .muli((float) (runningCount * count) / (runningCount + count)))
+                                                .muli((double) runningCount * count / (runningCount + count)))
                                 .divi(runningCount + count);
 
                 // Update running count
@@ -138,6 +138,38 @@ public class DistributionStats implements NormalizerStats {
             return this;
         }
 
+        /**
+         * Merge running mean and variance of another builder into this one, using the same parallel algorithm
+         * as {@link #add(INDArray, INDArray)}. This allows to build partial statistics on disjoint parts of the data
+         * (i.e. in different threads), and combine them afterwards.
+         *
+         * @param other builder to merge, it's left intact
+         */
+        @Override
+        public Builder merge(@NonNull NormalizerStats.Builder<DistributionStats> other) {
+            Builder builder = (Builder) other;
+            if (builder.runningMean == null)
+                return this;
+
+            if (runningMean == null) {
+                runningMean = builder.runningMean.dup();
+                runningVariance = builder.runningVariance.dup();
+                runningCount = builder.runningCount;
+                return this;
+            }
+
+            long count = builder.runningCount;
+            long total = runningCount + count;
+            INDArray delta = builder.runningMean.sub(runningMean);
+
+            runningVariance.muli(runningCount).addi(builder.runningVariance.mul(count))
+                            .addi(delta.mul(delta).muli((double) runningCount * count / total)).divi(total);
+            runningMean.addi(delta.muli((double) count / total));
+            runningCount = total;
+
+            return this;
+        }
+
         /**
          * Create a DistributionStats object from the data ingested so far. Can be used multiple times when updating
          * online.
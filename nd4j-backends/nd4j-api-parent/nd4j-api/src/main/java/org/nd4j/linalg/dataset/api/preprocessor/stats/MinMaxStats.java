@@ -71,7 +71,7 @@ public class MinMaxStats implements NormalizerStats {
      * DynamicCustomOpsBuilder class that can incrementally update a running lower and upper bound in order to create statistics for a
      * large set of data
      */
-    public static class Builder implements NormalizerStats.Builder<MinMaxStats> {
+    public static class Builder implements NormalizerStats.MergeableBuilder<MinMaxStats> {
         private INDArray runningLower;
         private INDArray runningUpper;
 
@@ -124,6 +124,28 @@ public class MinMaxStats implements NormalizerStats {
             return this;
         }
 
+        /**
+         * Merge running bounds of another builder into this one
+         *
+         * @param other builder to merge, it's left intact
+         */
+        @Override
+        public MinMaxStats.Builder merge(@NonNull NormalizerStats.Builder<MinMaxStats> other) {
+            MinMaxStats.Builder builder = (MinMaxStats.Builder) other;
+            if (builder.runningLower == null)
+                return this;
+
+            if (runningLower == null) {
+                runningLower = builder.runningLower.dup();
+                runningUpper = builder.runningUpper.dup();
+            } else {
+                Transforms.min(runningLower, builder.runningLower, false);
+                Transforms.max(runningUpper, builder.runningUpper, false);
+            }
+
+            return this;
+        }
+
         /**
          * Create a DistributionStats object from the data ingested so far. Can be used multiple times when updating
          * online.
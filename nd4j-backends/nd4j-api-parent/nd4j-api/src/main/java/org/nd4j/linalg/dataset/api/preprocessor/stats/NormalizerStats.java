@@ -34,4 +34,17 @@ public interface NormalizerStats extends Serializable {
          */
         S build();
     }
+
+    /**
+     * Builder which can combine partial statistics, i.e. built on disjoint parts of the data in different threads
+     */
+    interface MergeableBuilder<S extends NormalizerStats> extends Builder<S> {
+        /**
+         * Merge statistics accumulated by another builder of the same type into this one.
+         * Result is the same as if all data added to the other builder was added to this one.
+         *
+         * @param other builder to merge, it's left intact
+         */
+        MergeableBuilder<S> merge(Builder<S> other);
+    }
 }
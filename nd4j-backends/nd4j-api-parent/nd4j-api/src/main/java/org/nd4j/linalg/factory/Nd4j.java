@@ -62,6 +62,7 @@ import org.nd4j.linalg.api.ops.random.impl.GaussianDistribution;
 import org.nd4j.linalg.api.ops.random.impl.Linspace;
 import org.nd4j.linalg.api.ops.random.impl.UniformDistribution;
 import org.nd4j.linalg.api.rng.DefaultRandom;
+import org.nd4j.linalg.api.rng.PhiloxRandom;
 import org.nd4j.linalg.api.rng.distribution.Distribution;
 import org.nd4j.linalg.api.rng.distribution.factory.DefaultDistributionFactory;
 import org.nd4j.linalg.api.rng.distribution.factory.DistributionFactory;
@@ -88,6 +89,7 @@ import java.lang.ref.ReferenceQueue;
 import java.lang.reflect.Constructor;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
@@ -6381,6 +6383,11 @@ public class Nd4j {
             allowsOrder = backend.allowsOrder();
             String rand = pp.toString(RANDOM_PROVIDER, DefaultRandom.class.getName());
             randomClazz = (Class<? extends org.nd4j.linalg.api.rng.Random>) Class.forName(rand);
+            // RandomOps need native state, which PhiloxRandom doesn't have
+            if (PhiloxRandom.class.isAssignableFrom(randomClazz))
+                throw new ND4JIllegalStateException("PhiloxRandom can't be used as backend Random, since it has no native state."
+                                + " Use NativeRandom.refreshState(PhiloxRandom.Stream) instead");
+
             randomFactory = new RandomFactory(randomClazz);
 
             workspaceManagerClazz = (Class<? extends MemoryWorkspaceManager>) Class
@@ -6743,4 +6750,41 @@ public class Nd4j {
 
         return Nd4j.create(doubles, shapeOf, stridesOf, 0, ordering);
     }
+
+    /**
+     * This method creates INDArray backed by memory of given FlatArray, without copying the data.
+     *
+     * That's possible only if FlatArray resides in direct ByteBuffer (i.e. memory mapped file),
+     * stored in native byte order and its data type matches {@link #dataType()}.
+     * Otherwise data is copied, as in {@link #createFromFlatArray(FlatArray)}
+     *
+     * PLEASE NOTE: the array shares memory with the buffer, so changes to either of them are visible in both.
+     * The array's DataBuffer holds a reference to the buffer, so i.e. file mapping stays valid as long as the array is reachable
+     *
+     * @param array
+     * @return
+     */
+    public static INDArray createFromFlatArrayView(FlatArray array) {
+        val _dtype = SameDiff.getDataTypeFromByte(array.dtype());
+        val _order = SameDiff.getOrderFromByte(array.byteOrder());
+        val bb = array.bufferAsByteBuffer();
+        if (bb == null || !bb.isDirect() || _dtype != dataType() || !_order.equals(ByteOrder.nativeOrder()))
+            return createFromFlatArray(array);
+
+        val rank = array.shape(0);
+        val shape = new int[rank * 2 + 4];
+        for (int e = 0; e < shape.length; e++)
+            shape[e] = array.shape(e);
+
+        char ordering = shape[shape.length - 1] == 99 ? 'c' : 'f';
+
+        val shapeOf = Shape.shapeOf(shape);
+        val stridesOf = Shape.stridesOf(shape);
+        val prod = rank > 0 ? ArrayUtil.prod(shapeOf) : 1;
+
+        // bufferAsByteBuffer() is positioned at the vector start, slice starts exactly at the data.
+        // slice references the original buffer, and data buffer references the slice
+        val buffer = createBuffer(bb.slice(), _dtype, prod);
+        return create(buffer, shapeOf, stridesOf, 0, ordering);
+    }
 }
@@ -34,6 +34,7 @@ import org.nd4j.linalg.api.shape.loop.coordinatefunction.CoordinateFunction;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.indexing.conditions.BaseCondition;
 import org.nd4j.linalg.indexing.conditions.Condition;
+import org.nd4j.linalg.indexing.conditions.Conditions;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -124,18 +125,11 @@ public class BooleanIndexing {
 
         MatchCondition op = new MatchCondition(n, condition);
         INDArray arr = Nd4j.getExecutioner().exec(op, dimension);
-        boolean[] result = new boolean[arr.length()];
 
         long tadLength = Shape.getTADLength(n.shape(), dimension);
 
-        for (int i = 0; i < arr.length(); i++) {
-            if (arr.getDouble(i) == tadLength)
-                result[i] = true;
-            else
-                result[i] = false;
-        }
-
-        return result;
+        // TADs where all elements matched
+        return BooleanMask.of(arr, Conditions.equals(tadLength)).toBooleanArray();
     }
 
 
@@ -153,16 +147,9 @@ public class BooleanIndexing {
 
         MatchCondition op = new MatchCondition(n, condition);
         INDArray arr = Nd4j.getExecutioner().exec(op, dimension);
-        boolean[] result = new boolean[arr.length()];
 
-        for (int i = 0; i < arr.length(); i++) {
-            if (arr.getDouble(i) > 0)
-                result[i] = true;
-            else
-                result[i] = false;
-        }
-
-        return result;
+        // TADs where at least one element matched
+        return BooleanMask.of(arr, Conditions.greaterThan(0.0)).toBooleanArray();
     }
 
     /**
@@ -206,8 +193,13 @@ public class BooleanIndexing {
      */
     public static void applyWhere(final INDArray to, final Condition condition,
                     final Function<Number, Number> function) {
-        // keep original java implementation for dynamic
+        if (condition instanceof BaseCondition) {
+            // matching elements are found natively, function is applied to them only
+            applyWhere(to, BooleanMask.of(to, condition), function);
+            return;
+        }
 
+        // keep original java implementation for dynamic
         Shape.iterate(to, new CoordinateFunction() {
             @Override
             public void process(int[]... coord) {
@@ -312,6 +304,14 @@ public class BooleanIndexing {
      */
     public static void applyWhere(final INDArray to, final Condition condition, final Function<Number, Number> function,
                     final Function<Number, Number> alternativeFunction) {
+        if (condition instanceof BaseCondition) {
+            BooleanMask mask = BooleanMask.of(to, condition);
+            BooleanMask alternative = mask.not();
+            applyWhere(to, mask, function);
+            applyWhere(to, alternative, alternativeFunction);
+            return;
+        }
+
         Shape.iterate(to, new CoordinateFunction() {
             @Override
             public void process(int[]... coord) {
@@ -325,6 +325,52 @@ public class BooleanIndexing {
 
     }
 
+    /**
+     * This method applies function to the elements selected by mask.
+     * Selected elements are gathered into contiguous buffer and scattered back with native ops,
+     * so function is called only for selected elements, without any per-element indexing.
+     *
+     * @param to       the ndarray to op
+     * @param mask     mask of the elements to op
+     * @param function the function to apply
+     */
+    public static void applyWhere(@NonNull INDArray to, @NonNull BooleanMask mask,
+                    @NonNull Function<Number, Number> function) {
+        INDArray selected = mask.select(to);
+        if (selected == null)
+            return;
+
+        double[] values = selected.data().asDouble();
+        for (int i = 0; i < values.length; i++)
+            values[i] = function.apply(values[i]).doubleValue();
+
+        mask.scatter(to, Nd4j.create(values));
+    }
+
+    /**
+     * This method returns mask of the elements matching given condition
+     *
+     * @param array
+     * @param condition static condition
+     * @return
+     */
+    public static BooleanMask mask(@NonNull INDArray array, @NonNull Condition condition) {
+        return BooleanMask.of(array, condition);
+    }
+
+    /**
+     * This method returns elements matching given condition, as row vector in C order
+     *
+     * PLEASE NOTE: This method returns null if no elements matched
+     *
+     * @param array
+     * @param condition static condition
+     * @return
+     */
+    public static INDArray select(@NonNull INDArray array, @NonNull Condition condition) {
+        return BooleanMask.of(array, condition).select(array);
+    }
+
     /**
      * Based on the matching elements
      * op to based on condition to with function function
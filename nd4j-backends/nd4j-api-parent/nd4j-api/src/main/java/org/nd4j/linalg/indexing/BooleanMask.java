@@ -0,0 +1,305 @@
+package org.nd4j.linalg.indexing;
+
+import lombok.NonNull;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.CustomOp;
+import org.nd4j.linalg.api.ops.DynamicCustomOp;
+import org.nd4j.linalg.api.ops.custom.ScatterUpdate;
+import org.nd4j.linalg.api.ops.impl.accum.MatchCondition;
+import org.nd4j.linalg.api.ops.impl.transforms.And;
+import org.nd4j.linalg.api.ops.impl.transforms.MatchConditionTransform;
+import org.nd4j.linalg.api.ops.impl.transforms.Not;
+import org.nd4j.linalg.api.ops.impl.transforms.Or;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.indexing.conditions.BaseCondition;
+import org.nd4j.linalg.indexing.conditions.Condition;
+import org.nd4j.linalg.indexing.conditions.Conditions;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * Boolean mask over ndarray: array of the same shape, with 1.0 for selected elements and 0.0 for all others.
+ *
+ * Masks are built, combined and applied with native ops, so large arrays never go through per-element
+ * Java calls. The only host-side pass is extraction of selected indices for select() and scatter(),
+ * and counting for masks too large to be counted exactly in their own data type.
+ *
+ * Usage:
+ * <pre>
+ * BooleanMask mask = BooleanMask.of(array, Conditions.greaterThan(0.0));
+ * INDArray positives = mask.select(array);      // row vector of matching elements, C order
+ * mask.scatter(array, positives.muli(2.0));     // write them back
+ * INDArray relu = mask.where(array, Nd4j.zeros(array.shape()));
+ * </pre>
+ */
+public class BooleanMask {
+    private final INDArray mask;
+
+    protected BooleanMask(@NonNull INDArray mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * This method builds mask of elements matching given condition
+     *
+     * @param array
+     * @param condition static condition
+     * @return
+     */
+    public static BooleanMask of(@NonNull INDArray array, @NonNull Condition condition) {
+        if (!(condition instanceof BaseCondition))
+            throw new UnsupportedOperationException("Only static Conditions are supported");
+
+        INDArray mask = Nd4j.createUninitialized(array.shape(), 'c');
+        Nd4j.getExecutioner().exec(new MatchConditionTransform(array, mask, condition));
+        return new BooleanMask(mask);
+    }
+
+    /**
+     * This method builds mask out of existing array: all non-zero elements are treated as selected
+     *
+     * @param array
+     * @return
+     */
+    public static BooleanMask fromArray(@NonNull INDArray array) {
+        return of(array, Conditions.notEquals(0.0));
+    }
+
+    /**
+     * This method returns underlying 0/1 array
+     *
+     * @return
+     */
+    public INDArray getMask() {
+        return mask;
+    }
+
+    public int[] shape() {
+        return mask.shape();
+    }
+
+    /**
+     * This method returns number of selected elements
+     *
+     * @return
+     */
+    public long count() {
+        // native accumulator has mask data type, so it's exact only up to 2^24 for floats (2^11 for halfs)
+        if (mask.lengthLong() <= exactCountLimit(mask.data().dataType())) {
+            MatchCondition op = new MatchCondition(mask, Conditions.notEquals(0.0));
+            return (long) Nd4j.getExecutioner().exec(op, Integer.MAX_VALUE).getDouble(0);
+        }
+
+        Nd4j.getAffinityManager().ensureLocation(mask, AffinityManager.Location.HOST);
+
+        long cnt = 0;
+        long length = mask.lengthLong();
+        DataBuffer buffer = mask.data();
+        for (long i = 0; i < length; i++)
+            if (buffer.getDouble(i) != 0.0)
+                cnt++;
+
+        return cnt;
+    }
+
+    private static long exactCountLimit(DataBuffer.Type type) {
+        switch (type) {
+            case DOUBLE:
+                return 1L << 53;
+            case FLOAT:
+                return 1L << 24;
+            default:
+                return 1L << 11;
+        }
+    }
+
+    /**
+     * This method returns true if at least one element is selected
+     */
+    public boolean any() {
+        return count() > 0;
+    }
+
+    /**
+     * This method returns true if all elements are selected
+     */
+    public boolean all() {
+        return count() == mask.lengthLong();
+    }
+
+    public BooleanMask and(@NonNull BooleanMask other) {
+        checkShape(other.mask);
+        INDArray result = Nd4j.createUninitialized(mask.shape(), 'c');
+        Nd4j.getExecutioner().exec(new And(mask, other.mask, result));
+        return new BooleanMask(result);
+    }
+
+    public BooleanMask or(@NonNull BooleanMask other) {
+        checkShape(other.mask);
+        INDArray result = Nd4j.createUninitialized(mask.shape(), 'c');
+        Nd4j.getExecutioner().exec(new Or(mask, other.mask, result));
+        return new BooleanMask(result);
+    }
+
+    public BooleanMask not() {
+        INDArray result = Nd4j.createUninitialized(mask.shape(), 'c');
+        Nd4j.getExecutioner().exec(new Not(mask, result));
+        return new BooleanMask(result);
+    }
+
+    /**
+     * This method returns linear (C order) indices of selected elements
+     *
+     * @return
+     */
+    public int[] indices() {
+        Nd4j.getAffinityManager().ensureLocation(mask, AffinityManager.Location.HOST);
+
+        // single pass over host memory, result grows as we go
+        int length = mask.length();
+        int[] result = new int[Math.min(length, 1024)];
+        int cnt = 0;
+
+        DataBuffer buffer = mask.data();
+        switch (buffer.dataType()) {
+            case FLOAT: {
+                FloatBuffer values = buffer.asNioFloat().slice();
+                for (int i = 0; i < length; i++)
+                    if (values.get(i) != 0.0f) {
+                        if (cnt == result.length)
+                            result = grow(result, length);
+                        result[cnt++] = i;
+                    }
+                break;
+            }
+            case DOUBLE: {
+                DoubleBuffer values = buffer.asNioDouble().slice();
+                for (int i = 0; i < length; i++)
+                    if (values.get(i) != 0.0) {
+                        if (cnt == result.length)
+                            result = grow(result, length);
+                        result[cnt++] = i;
+                    }
+                break;
+            }
+            default:
+                for (int i = 0; i < length; i++)
+                    if (buffer.getDouble(i) != 0.0) {
+                        if (cnt == result.length)
+                            result = grow(result, length);
+                        result[cnt++] = i;
+                    }
+        }
+
+        return cnt == result.length ? result : Arrays.copyOf(result, cnt);
+    }
+
+    private static int[] grow(int[] array, int limit) {
+        return Arrays.copyOf(array, (int) Math.min((long) array.length * 2, limit));
+    }
+
+    /**
+     * This method returns mask as java boolean array, in C order
+     *
+     * @return
+     */
+    public boolean[] toBooleanArray() {
+        boolean[] result = new boolean[mask.length()];
+        for (int index : indices())
+            result[index] = true;
+
+        return result;
+    }
+
+    /**
+     * This method gathers selected elements of given array (aka compress)
+     *
+     * PLEASE NOTE: This method returns null if no elements were selected
+     *
+     * @param array array of the same shape as mask
+     * @return row vector of selected elements, in C order
+     */
+    public INDArray select(@NonNull INDArray array) {
+        checkShape(array);
+
+        int[] indices = indices();
+        if (indices.length == 0)
+            return null;
+
+        INDArray result = Nd4j.createUninitialized(new int[] {indices.length, 1}, 'c');
+
+        CustomOp op = DynamicCustomOp.builder("gather")
+                        .addInputs(array.reshape('c', array.length(), 1))
+                        .addOutputs(result)
+                        .addIntegerArguments(0)
+                        .addIntegerArguments(indices)
+                        .build();
+        Nd4j.getExecutioner().exec(op);
+
+        return result.reshape('c', 1, indices.length);
+    }
+
+    /**
+     * This method writes given values into selected elements of target array, in C order.
+     * This is the inverse of {@link #select(INDArray)}
+     *
+     * @param target array of the same shape as mask, updated in place
+     * @param values array with {@link #count()} elements
+     * @return target
+     */
+    public INDArray scatter(@NonNull INDArray target, @NonNull INDArray values) {
+        checkShape(target);
+
+        int[] indices = indices();
+        if (values.length() != indices.length)
+            throw new IllegalStateException("Number of values [" + values.length()
+                            + "] doesn't match number of selected elements [" + indices.length + "]");
+
+        if (indices.length == 0)
+            return target;
+
+        // scatter_update works in place, so we need flat view over target
+        boolean inPlace = target.ordering() == 'c' && target.elementWiseStride() == 1 && !target.isView();
+        INDArray flat = (inPlace ? target : target.dup('c')).reshape('c', target.length(), 1);
+
+        INDArray updates = values.reshape('c', indices.length, 1);
+        Nd4j.getExecutioner().exec(
+                        new ScatterUpdate(flat, updates, indices, new int[] {1}, ScatterUpdate.UpdateOp.ASSIGN));
+
+        if (!inPlace)
+            target.assign(flat.reshape('c', target.shape()));
+
+        return target;
+    }
+
+    /**
+     * This method picks elements from x where mask is set, and from y elsewhere
+     *
+     * @param x array of the same shape as mask
+     * @param y array of the same shape as mask
+     * @return new array
+     */
+    public INDArray where(@NonNull INDArray x, @NonNull INDArray y) {
+        checkShape(x);
+        checkShape(y);
+
+        INDArray result = Nd4j.createUninitialized(mask.shape(), 'c');
+        CustomOp op = DynamicCustomOp.builder("select")
+                        .addInputs(mask, x, y)
+                        .addOutputs(result)
+                        .build();
+        Nd4j.getExecutioner().exec(op);
+
+        return result;
+    }
+
+    private void checkShape(INDArray array) {
+        if (!Arrays.equals(mask.shape(), array.shape()))
+            throw new IllegalStateException("Array shape " + Arrays.toString(array.shape())
+                            + " doesn't match mask shape " + Arrays.toString(mask.shape()));
+    }
+}
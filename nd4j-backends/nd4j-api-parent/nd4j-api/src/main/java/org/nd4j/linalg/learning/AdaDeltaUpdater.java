@@ -83,6 +83,11 @@ public class AdaDeltaUpdater implements GradientUpdater<AdaDelta> {
         double rho = config.getRho();
         double epsilon = config.getEpsilon();
 
+        if (FusedUpdaters.canFuse(gradient, msg, msdx)) {
+            FusedUpdaters.adaDelta(gradient, msg, msdx, rho, epsilon);
+            return;
+        }
+
         //Line 4 of Algorithm 1: https://arxiv.org/pdf/1212.5701v1.pdf
         //E[g^2]_t = rho * E[g^2]_{t−1} + (1-rho)*g^2_t
         msg.muli(rho).addi(gradient.mul(gradient).muli(1 - rho));
@@ -83,6 +83,11 @@ public class AdaGradUpdater implements GradientUpdater<AdaGrad> {
         double learningRate = config.getLearningRate(iteration, epoch);
         double epsilon = config.getEpsilon();
 
+        if (FusedUpdaters.canFuse(gradient, historicalGradient)) {
+            FusedUpdaters.adaGrad(gradient, historicalGradient, learningRate, epsilon);
+            return;
+        }
+
         historicalGradient.addi(gradient.mul(gradient));
 
         INDArray sqrtHistory = sqrt(historicalGradient.dup(gradientReshapeOrder), false).addi(epsilon);
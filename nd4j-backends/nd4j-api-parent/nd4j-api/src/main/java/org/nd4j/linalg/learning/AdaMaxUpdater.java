@@ -59,14 +59,6 @@ public class AdaMaxUpdater implements GradientUpdater<AdaMax> {
         if (m == null || u == null)
             throw new IllegalStateException("Updater has not been initialized with view state");
 
-        //m = B_1 * m + (1-B_1)*grad
-        m.muli(config.getBeta1()).addi(gradient.mul(1 - config.getBeta1()));
-
-        //u = max(B_2 * u, |grad|)
-        u.muli(config.getBeta2());
-        Transforms.abs(gradient, false); //In-place should be OK here, original gradient values aren't used again later
-        Nd4j.getExecutioner().exec(new OldMax(u, gradient, u, u.length()));
-
         double beta1t = FastMath.pow(config.getBeta1(), iteration + 1);
 
         double learningRate = config.getLearningRate(iteration, epoch);
@@ -75,6 +67,19 @@ public class AdaMaxUpdater implements GradientUpdater<AdaMax> {
             alphat = config.getEpsilon();
         }
 
+        if (FusedUpdaters.canFuse(gradient, m, u)) {
+            FusedUpdaters.adaMax(gradient, m, u, config.getBeta1(), config.getBeta2(), alphat);
+            return;
+        }
+
+        //m = B_1 * m + (1-B_1)*grad
+        m.muli(config.getBeta1()).addi(gradient.mul(1 - config.getBeta1()));
+
+        //u = max(B_2 * u, |grad|)
+        u.muli(config.getBeta2());
+        Transforms.abs(gradient, false); //In-place should be OK here, original gradient values aren't used again later
+        Nd4j.getExecutioner().exec(new OldMax(u, gradient, u, u.length()));
+
         u.addi(1e-32); // prevent NaNs in params
         gradient.assign(m).muli(alphat).divi(u);
     }
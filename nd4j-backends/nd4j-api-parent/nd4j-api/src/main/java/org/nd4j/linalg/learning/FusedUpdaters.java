@@ -0,0 +1,403 @@
+package org.nd4j.linalg.learning;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.executors.ExecutorServiceProvider;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Fused updater kernels.
+ *
+ * Each kernel updates updater state and gradient within single pass over memory, without any temporary arrays.
+ * Generic updater implementations issue 5-10 separate ops per step, and allocate few full-size temporary arrays,
+ * which is significant memory traffic for large models.
+ *
+ * Kernels work directly on host memory, so they're used only for contiguous FLOAT/DOUBLE arrays of the same shape
+ * that are available on host. Large arrays are split into chunks processed in parallel.
+ * In all other cases updaters fall back to generic implementation.
+ *
+ * Fused kernels are disabled by default, until UpdaterBenchmark in nd4j-perf shows they're faster than generic
+ * implementation on supported backends. They can be enabled with "org.nd4j.linalg.learning.fused" system property,
+ * or via {@link #setEnabled(boolean)}
+ */
+@Slf4j
+public class FusedUpdaters {
+    public static final String FUSED_UPDATERS_PROPERTY = "org.nd4j.linalg.learning.fused";
+
+    // arrays shorter than this are processed by calling thread
+    private static final int PARALLEL_THRESHOLD = 65536;
+    private static final int MIN_CHUNK_SIZE = 16384;
+
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty(FUSED_UPDATERS_PROPERTY, "false"));
+
+    private FusedUpdaters() {}
+
+    /**
+     * This method enables or disables fused kernels for all updaters
+     *
+     * @param reallyEnable
+     */
+    public static void setEnabled(boolean reallyEnable) {
+        enabled = reallyEnable;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * This method checks, if fused kernel can be applied to given arrays
+     *
+     * @param arrays gradient first, updater state arrays next
+     * @return
+     */
+    public static boolean canFuse(INDArray... arrays) {
+        if (!enabled)
+            return false;
+
+        INDArray first = arrays[0];
+        if (first == null)
+            return false;
+
+        DataBuffer.Type type = first.data().dataType();
+        if (type != DataBuffer.Type.FLOAT && type != DataBuffer.Type.DOUBLE)
+            return false;
+
+        AffinityManager affinityManager = Nd4j.getAffinityManager();
+        for (INDArray array : arrays) {
+            if (array == null || array.isCompressed() || array.data().dataType() != type)
+                return false;
+
+            if (!Arrays.equals(array.shape(), first.shape()) || array.elementWiseStride() != 1)
+                return false;
+
+            // contiguous arrays of different ordering map linear index to different elements
+            if (array.ordering() != first.ordering() && !array.isVector())
+                return false;
+
+            if (array.data().offset() + array.length() >= Integer.MAX_VALUE)
+                return false;
+
+            if (affinityManager.getActiveLocation(array) == AffinityManager.Location.DEVICE)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Adam: m = b1 * m + (1 - b1) * g; v = b2 * v + (1 - b2) * g^2; g = alphat * m / (sqrt(v) + eps)
+     */
+    public static void adam(INDArray gradient, INDArray m, INDArray v, final double beta1, final double beta2,
+                    final double alphat, final double epsilon) {
+        run(new Kernel() {
+            @Override
+            void exec(FloatBuffer[] b, int from, int to) {
+                FloatBuffer g = b[0], m = b[1], v = b[2];
+                float b1 = (float) beta1, b2 = (float) beta2, a = (float) alphat, eps = (float) epsilon;
+                float ob1 = (float) (1.0 - beta1), ob2 = (float) (1.0 - beta2);
+                for (int i = from; i < to; i++) {
+                    float gi = g.get(i);
+                    float mi = b1 * m.get(i) + ob1 * gi;
+                    float vi = b2 * v.get(i) + ob2 * gi * gi;
+                    m.put(i, mi);
+                    v.put(i, vi);
+                    g.put(i, a * mi / ((float) Math.sqrt(vi) + eps));
+                }
+            }
+
+            @Override
+            void exec(DoubleBuffer[] b, int from, int to) {
+                DoubleBuffer g = b[0], m = b[1], v = b[2];
+                for (int i = from; i < to; i++) {
+                    double gi = g.get(i);
+                    double mi = beta1 * m.get(i) + (1.0 - beta1) * gi;
+                    double vi = beta2 * v.get(i) + (1.0 - beta2) * gi * gi;
+                    m.put(i, mi);
+                    v.put(i, vi);
+                    g.put(i, alphat * mi / (Math.sqrt(vi) + epsilon));
+                }
+            }
+        }, gradient, m, v);
+    }
+
+    /**
+     * Nadam: m = b1 * m + (1 - b1) * g; v = b2 * v + (1 - b2) * g^2;
+     * g = lr * (b1 * m + (1 - b1) * g) / (1 - b1^t) / (sqrt(v) + eps)
+     */
+    public static void nadam(INDArray gradient, INDArray m, INDArray v, final double beta1, final double beta2,
+                    final double learningRate, final double beta1t, final double epsilon) {
+        run(new Kernel() {
+            @Override
+            void exec(FloatBuffer[] b, int from, int to) {
+                FloatBuffer g = b[0], m = b[1], v = b[2];
+                float b1 = (float) beta1, b2 = (float) beta2, eps = (float) epsilon;
+                float ob1 = (float) (1.0 - beta1), ob2 = (float) (1.0 - beta2);
+                float scale = (float) (learningRate / (1.0 - beta1t));
+                for (int i = from; i < to; i++) {
+                    float gi = g.get(i);
+                    float mi = b1 * m.get(i) + ob1 * gi;
+                    float vi = b2 * v.get(i) + ob2 * gi * gi;
+                    m.put(i, mi);
+                    v.put(i, vi);
+                    g.put(i, scale * (b1 * mi + ob1 * gi) / ((float) Math.sqrt(vi) + eps));
+                }
+            }
+
+            @Override
+            void exec(DoubleBuffer[] b, int from, int to) {
+                DoubleBuffer g = b[0], m = b[1], v = b[2];
+                double scale = learningRate / (1.0 - beta1t);
+                for (int i = from; i < to; i++) {
+                    double gi = g.get(i);
+                    double mi = beta1 * m.get(i) + (1.0 - beta1) * gi;
+                    double vi = beta2 * v.get(i) + (1.0 - beta2) * gi * gi;
+                    m.put(i, mi);
+                    v.put(i, vi);
+                    g.put(i, scale * (beta1 * mi + (1.0 - beta1) * gi) / (Math.sqrt(vi) + epsilon));
+                }
+            }
+        }, gradient, m, v);
+    }
+
+    /**
+     * AdaMax: m = b1 * m + (1 - b1) * g; u = max(b2 * u, |g|) + 1e-32; g = alphat * m / u
+     */
+    public static void adaMax(INDArray gradient, INDArray m, INDArray u, final double beta1, final double beta2,
+                    final double alphat) {
+        run(new Kernel() {
+            @Override
+            void exec(FloatBuffer[] b, int from, int to) {
+                FloatBuffer g = b[0], m = b[1], u = b[2];
+                float b1 = (float) beta1, b2 = (float) beta2, a = (float) alphat, ob1 = (float) (1.0 - beta1);
+                for (int i = from; i < to; i++) {
+                    float gi = g.get(i);
+                    float mi = b1 * m.get(i) + ob1 * gi;
+                    float ui = Math.max(b2 * u.get(i), Math.abs(gi)) + 1e-32f;
+                    m.put(i, mi);
+                    u.put(i, ui);
+                    g.put(i, a * mi / ui);
+                }
+            }
+
+            @Override
+            void exec(DoubleBuffer[] b, int from, int to) {
+                DoubleBuffer g = b[0], m = b[1], u = b[2];
+                for (int i = from; i < to; i++) {
+                    double gi = g.get(i);
+                    double mi = beta1 * m.get(i) + (1.0 - beta1) * gi;
+                    double ui = Math.max(beta2 * u.get(i), Math.abs(gi)) + 1e-32;
+                    m.put(i, mi);
+                    u.put(i, ui);
+                    g.put(i, alphat * mi / ui);
+                }
+            }
+        }, gradient, m, u);
+    }
+
+    /**
+     * RmsProp: c = d * c + (1 - d) * g^2; g = lr * g / (sqrt(c) + eps)
+     */
+    public static void rmsProp(INDArray gradient, INDArray cache, final double rmsDecay, final double learningRate,
+                    final double epsilon) {
+        run(new Kernel() {
+            @Override
+            void exec(FloatBuffer[] b, int from, int to) {
+                FloatBuffer g = b[0], c = b[1];
+                float d = (float) rmsDecay, od = (float) (1.0 - rmsDecay), lr = (float) learningRate,
+                                eps = (float) epsilon;
+                for (int i = from; i < to; i++) {
+                    float gi = g.get(i);
+                    float ci = d * c.get(i) + od * gi * gi;
+                    c.put(i, ci);
+                    g.put(i, lr * gi / ((float) Math.sqrt(ci) + eps));
+                }
+            }
+
+            @Override
+            void exec(DoubleBuffer[] b, int from, int to) {
+                DoubleBuffer g = b[0], c = b[1];
+                for (int i = from; i < to; i++) {
+                    double gi = g.get(i);
+                    double ci = rmsDecay * c.get(i) + (1.0 - rmsDecay) * gi * gi;
+                    c.put(i, ci);
+                    g.put(i, learningRate * gi / (Math.sqrt(ci) + epsilon));
+                }
+            }
+        }, gradient, cache);
+    }
+
+    /**
+     * AdaDelta: msg = rho * msg + (1 - rho) * g^2; g = g * sqrt(msdx + eps) / sqrt(msg + eps);
+     * msdx = rho * msdx + (1 - rho) * g^2
+     */
+    public static void adaDelta(INDArray gradient, INDArray msg, INDArray msdx, final double rho,
+                    final double epsilon) {
+        run(new Kernel() {
+            @Override
+            void exec(FloatBuffer[] b, int from, int to) {
+                FloatBuffer g = b[0], msg = b[1], msdx = b[2];
+                float r = (float) rho, or = (float) (1.0 - rho), eps = (float) epsilon;
+                for (int i = from; i < to; i++) {
+                    float gi = g.get(i);
+                    float msgi = r * msg.get(i) + or * gi * gi;
+                    float dx = msdx.get(i);
+                    float update = gi * (float) (Math.sqrt(dx + eps) / Math.sqrt(msgi + eps));
+                    msg.put(i, msgi);
+                    msdx.put(i, r * dx + or * update * update);
+                    g.put(i, update);
+                }
+            }
+
+            @Override
+            void exec(DoubleBuffer[] b, int from, int to) {
+                DoubleBuffer g = b[0], msg = b[1], msdx = b[2];
+                for (int i = from; i < to; i++) {
+                    double gi = g.get(i);
+                    double msgi = rho * msg.get(i) + (1.0 - rho) * gi * gi;
+                    double dx = msdx.get(i);
+                    double update = gi * (Math.sqrt(dx + epsilon) / Math.sqrt(msgi + epsilon));
+                    msg.put(i, msgi);
+                    msdx.put(i, rho * dx + (1.0 - rho) * update * update);
+                    g.put(i, update);
+                }
+            }
+        }, gradient, msg, msdx);
+    }
+
+    /**
+     * AdaGrad: h = h + g^2; g = lr * g / (sqrt(h) + eps)
+     */
+    public static void adaGrad(INDArray gradient, INDArray history, final double learningRate,
+                    final double epsilon) {
+        run(new Kernel() {
+            @Override
+            void exec(FloatBuffer[] b, int from, int to) {
+                FloatBuffer g = b[0], h = b[1];
+                float lr = (float) learningRate, eps = (float) epsilon;
+                for (int i = from; i < to; i++) {
+                    float gi = g.get(i);
+                    float hi = h.get(i) + gi * gi;
+                    h.put(i, hi);
+                    g.put(i, gi * (lr / ((float) Math.sqrt(hi) + eps)));
+                }
+            }
+
+            @Override
+            void exec(DoubleBuffer[] b, int from, int to) {
+                DoubleBuffer g = b[0], h = b[1];
+                for (int i = from; i < to; i++) {
+                    double gi = g.get(i);
+                    double hi = h.get(i) + gi * gi;
+                    h.put(i, hi);
+                    g.put(i, gi * (learningRate / (Math.sqrt(hi) + epsilon)));
+                }
+            }
+        }, gradient, history);
+    }
+
+    /**
+     * Nesterov momentum: v' = mu * v - lr * g; g = mu * v + (-1 - mu) * v'
+     */
+    public static void nesterovs(INDArray gradient, INDArray v, final double momentum, final double learningRate) {
+        run(new Kernel() {
+            @Override
+            void exec(FloatBuffer[] b, int from, int to) {
+                FloatBuffer g = b[0], v = b[1];
+                float mu = (float) momentum, lr = (float) learningRate, mu1 = (float) (-momentum - 1.0);
+                for (int i = from; i < to; i++) {
+                    float prev = v.get(i);
+                    float vi = mu * prev - lr * g.get(i);
+                    v.put(i, vi);
+                    g.put(i, mu * prev + mu1 * vi);
+                }
+            }
+
+            @Override
+            void exec(DoubleBuffer[] b, int from, int to) {
+                DoubleBuffer g = b[0], v = b[1];
+                for (int i = from; i < to; i++) {
+                    double prev = v.get(i);
+                    double vi = momentum * prev - learningRate * g.get(i);
+                    v.put(i, vi);
+                    g.put(i, momentum * prev + (-momentum - 1.0) * vi);
+                }
+            }
+        }, gradient, v);
+    }
+
+    private static void run(final Kernel kernel, INDArray... arrays) {
+        // kernels work on host memory, so all queued ops should be finished
+        Nd4j.getExecutioner().commit();
+
+        AffinityManager affinityManager = Nd4j.getAffinityManager();
+        final boolean isDouble = arrays[0].data().dataType() == DataBuffer.Type.DOUBLE;
+        final Buffer[] buffers = isDouble ? new DoubleBuffer[arrays.length] : new FloatBuffer[arrays.length];
+        for (int e = 0; e < arrays.length; e++) {
+            affinityManager.ensureLocation(arrays[e], AffinityManager.Location.HOST);
+
+            // nio buffers are positioned at array offset already
+            buffers[e] = isDouble ? arrays[e].data().asNioDouble().slice() : arrays[e].data().asNioFloat().slice();
+        }
+
+        int length = arrays[0].length();
+        ForkJoinPool pool = ExecutorServiceProvider.getForkJoinPool();
+        int numChunks = Math.min(pool.getParallelism(), length / MIN_CHUNK_SIZE);
+        if (length < PARALLEL_THRESHOLD || numChunks < 2) {
+            kernel.run(buffers, isDouble, 0, length);
+        } else {
+            List<Callable<Void>> tasks = new ArrayList<>(numChunks);
+            int chunkSize = (length + numChunks - 1) / numChunks;
+            for (int from = 0; from < length; from += chunkSize) {
+                final int start = from;
+                final int end = Math.min(length, from + chunkSize);
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        kernel.run(buffers, isDouble, start, end);
+                        return null;
+                    }
+                });
+            }
+
+            try {
+                for (Future<Void> future : pool.invokeAll(tasks))
+                    future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        for (INDArray array : arrays)
+            affinityManager.tagLocation(array, AffinityManager.Location.HOST);
+    }
+
+    private abstract static class Kernel {
+        abstract void exec(FloatBuffer[] buffers, int from, int to);
+
+        abstract void exec(DoubleBuffer[] buffers, int from, int to);
+
+        void run(Buffer[] buffers, boolean isDouble, int from, int to) {
+            if (isDouble)
+                exec((DoubleBuffer[]) buffers, from, to);
+            else
+                exec((FloatBuffer[]) buffers, from, to);
+        }
+    }
+}
@@ -81,14 +81,19 @@ public class NadamUpdater implements GradientUpdater<Nadam> {
         double learningRate = config.getLearningRate(iteration, epoch);
         double epsilon = config.getEpsilon();
 
+        double beta1t = FastMath.pow(beta1, iteration + 1);
+
+        if (FusedUpdaters.canFuse(gradient, m, v)) {
+            FusedUpdaters.nadam(gradient, m, v, beta1, beta2, learningRate, beta1t, epsilon);
+            return;
+        }
+
         INDArray oneMinusBeta1Grad = gradient.mul(1.0 - beta1);
         m.muli(beta1).addi(oneMinusBeta1Grad);
 
         INDArray oneMinusBeta2GradSquared = gradient.mul(gradient).muli(1.0 - beta2);
         v.muli(beta2).addi(oneMinusBeta2GradSquared);
 
-        double beta1t = FastMath.pow(beta1, iteration + 1);
-
         INDArray biasCorrectedEstimateOfMomentum = m.mul(beta1).divi(1.0 - beta1t);
         INDArray secondTerm = oneMinusBeta1Grad.divi(1 - beta1t);
 
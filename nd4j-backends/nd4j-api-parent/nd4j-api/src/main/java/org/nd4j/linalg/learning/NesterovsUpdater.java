@@ -76,6 +76,11 @@ public class NesterovsUpdater implements GradientUpdater<Nesterovs> {
         double momentum = config.currentMomentum(iteration, epoch);
         double learningRate = config.getLearningRate(iteration, epoch);
 
+        if (FusedUpdaters.canFuse(gradient, v)) {
+            FusedUpdaters.nesterovs(gradient, v, momentum, learningRate);
+            return;
+        }
+
         //reference https://cs231n.github.io/neural-networks-3/#sgd 2nd equation
         //DL4J default is negative step function thus we flipped the signs:
         // x += mu * v_prev + (-1 - mu) * v
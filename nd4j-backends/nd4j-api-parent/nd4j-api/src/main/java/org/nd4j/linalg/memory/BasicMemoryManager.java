@@ -8,7 +8,9 @@ import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.memory.abstracts.DummyWorkspace;
 
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -18,6 +20,8 @@ import java.util.concurrent.atomic.AtomicLong;
  * @author raver119@gmail.com
  */
 public abstract class BasicMemoryManager implements MemoryManager {
+    public static final String TRACK_ALLOCATIONS_PROPERTY = "org.nd4j.linalg.memory.track";
+
     protected AtomicInteger frequency = new AtomicInteger(0);
     protected AtomicLong freqCounter = new AtomicLong(0);
 
@@ -39,6 +43,12 @@ public abstract class BasicMemoryManager implements MemoryManager {
 
     private ThreadLocal<MemoryWorkspace> tempWorkspace = new ThreadLocal<>();
 
+    // off-heap memory allocated via allocate(), tracked for monitoring purposes only if enabled
+    protected volatile boolean trackAllocations =
+                    Boolean.parseBoolean(System.getProperty(TRACK_ALLOCATIONS_PROPERTY, "false"));
+    protected final AtomicLong allocatedBytes = new AtomicLong(0);
+    protected final Map<Long, Long> allocationSizes = new ConcurrentHashMap<>();
+
 
     /**
      * This method returns
@@ -54,6 +64,56 @@ public abstract class BasicMemoryManager implements MemoryManager {
         throw new UnsupportedOperationException("This method isn't available for this backend");
     }
 
+    /**
+     * This method enables or disables tracking of memory allocated via {@link #allocate(long, MemoryKind, boolean)}.
+     * Tracking costs a map update per allocation and release, so it's disabled by default.
+     * It can also be enabled with "org.nd4j.linalg.memory.track" system property.
+     *
+     * @param enabled
+     */
+    public void toggleAllocationTracking(boolean enabled) {
+        trackAllocations = enabled;
+    }
+
+    public boolean isAllocationTrackingEnabled() {
+        return trackAllocations;
+    }
+
+    /**
+     * This method returns number of off-heap bytes currently allocated via {@link #allocate(long, MemoryKind, boolean)}
+     * and not yet released, counting only allocations made while tracking was enabled.
+     * Always 0 if tracking was never enabled, see {@link #toggleAllocationTracking(boolean)}
+     *
+     * @return
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    /**
+     * This method should be called by implementations for each successful allocation
+     */
+    protected void trackAllocation(Pointer pointer, long bytes) {
+        if (!trackAllocations)
+            return;
+
+        Long previous = allocationSizes.put(pointer.address(), bytes);
+        allocatedBytes.addAndGet(previous == null ? bytes : bytes - previous);
+    }
+
+    /**
+     * This method should be called by implementations for each release
+     */
+    protected void trackRelease(Pointer pointer) {
+        // allocations tracked before tracking was disabled are still released here
+        if (allocationSizes.isEmpty())
+            return;
+
+        Long bytes = allocationSizes.remove(pointer.address());
+        if (bytes != null)
+            allocatedBytes.addAndGet(-bytes);
+    }
+
     /**
      * This method detaches off-heap memory from passed INDArray instances, and optionally stores them in cache for future reuse
      * PLEASE NOTE: Cache options depend on specific implementations
@@ -101,6 +101,34 @@ public abstract class BasicWorkspaceManager implements MemoryWorkspaceManager {
         referenceMap.put(reference.getKey(), reference);
     }
 
+    /**
+     * This method returns all workspaces that are still reachable, across all threads.
+     *
+     * PLEASE NOTE: This method is meant for monitoring purposes only, workspaces should be used by their own threads
+     *
+     * @return
+     */
+    public List<MemoryWorkspace> getAllWorkspaces() {
+        List<MemoryWorkspace> workspaces = new ArrayList<>();
+        for (Nd4jWorkspace.GarbageWorkspaceReference reference : referenceMap.values()) {
+            MemoryWorkspace workspace = reference.get();
+            if (workspace != null)
+                workspaces.add(workspace);
+        }
+
+        return workspaces;
+    }
+
+    /**
+     * This method returns number of workspaces tracked by deallocator: reachable ones,
+     * and ones released by GC, but not deallocated yet
+     *
+     * @return
+     */
+    public int getNumberOfTrackedWorkspaces() {
+        return referenceMap.size();
+    }
+
     @Override
     public void setWorkspaceForCurrentThread(MemoryWorkspace workspace) {
         setWorkspaceForCurrentThread(workspace, MemoryWorkspace.DEFAULT_ID);
@@ -6,12 +6,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.ops.*;
+import org.nd4j.linalg.profiler.data.LatencyHistogram;
 import org.nd4j.linalg.profiler.data.StackAggregator;
 import org.nd4j.linalg.profiler.data.StringAggregator;
 import org.nd4j.linalg.profiler.data.StringCounter;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.nd4j.linalg.profiler.OpProfiler.PenaltyCause.NONE;
@@ -22,6 +28,8 @@ import static org.nd4j.linalg.profiler.OpProfiler.PenaltyCause.NONE;
  * sequential ops executed on the same data
  *
  * PLEASE NOTE: This isn't thread-safe implementation.
+ * The only exception is ProfilingMode.SAMPLING: each thread times every Nth op (or one op per time interval)
+ * into its own shard of latency histograms, and shards are merged on read only.
  *
  * @author raver119@gmail.com
  */
@@ -96,6 +104,48 @@ public class OpProfiler {
     private String prevOpMatchingInverted = "";
     private long lastZ = 0;
 
+    // sampling mode: per-thread shards, merged on read
+    private volatile int samplingFrequency = 100;
+    private volatile long samplingInterval = 0L;
+    private final List<SamplingShard> samplingShards = new CopyOnWriteArrayList<>();
+    // stats of shards that belonged to terminated threads
+    private final SamplingShard retiredShard = new SamplingShard(null);
+    // reset() bumps epoch, and each owner thread zeroes its own counter once it sees new epoch
+    private final AtomicLong samplingEpoch = new AtomicLong(0);
+    private final ThreadLocal<SamplingShard> samplingShard = new ThreadLocal<SamplingShard>() {
+        @Override
+        protected SamplingShard initialValue() {
+            pruneSamplingShards();
+
+            SamplingShard shard = new SamplingShard(Thread.currentThread());
+            shard.epoch = samplingEpoch.get();
+            samplingShards.add(shard);
+            return shard;
+        }
+    };
+
+    /**
+     * Per-thread sampling state. Counter and histograms are updated by owner thread only (histograms under shard lock),
+     * so readers never contend with other threads. Owner thread is referenced weakly, so shards of terminated threads
+     * can be folded into retired stats.
+     */
+    private static class SamplingShard {
+        private final WeakReference<Thread> owner;
+        private final AtomicLong invocations = new AtomicLong(0);
+        private volatile long epoch = 0L;
+        private long lastSample = 0L;
+        private final Map<String, LatencyHistogram> histograms = new HashMap<>();
+
+        private SamplingShard(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        private boolean isRetired() {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+    }
+
 
     /**
      * Clear the listener from the profiler
@@ -142,6 +192,19 @@ public class OpProfiler {
 
         orderCounter.reset();
         listeners.clear();
+
+        // invocation counters are zeroed by owner threads, so concurrent increments aren't lost
+        samplingEpoch.incrementAndGet();
+        for (SamplingShard shard : samplingShards) {
+            synchronized (shard) {
+                shard.histograms.clear();
+            }
+        }
+
+        synchronized (retiredShard) {
+            retiredShard.invocations.set(0);
+            retiredShard.histograms.clear();
+        }
     }
 
 
@@ -336,6 +399,181 @@ public class OpProfiler {
         lastZ = 0;
     }
 
+    /**
+     * This method sets sampling frequency for ProfilingMode.SAMPLING: every Nth op of each thread gets timed.
+     * Default value: 100
+     *
+     * @param frequency
+     */
+    public void setSamplingFrequency(int frequency) {
+        if (frequency < 1)
+            throw new IllegalArgumentException("Sampling frequency should be positive");
+
+        this.samplingFrequency = frequency;
+    }
+
+    public int getSamplingFrequency() {
+        return samplingFrequency;
+    }
+
+    /**
+     * This method enables time-based sampling for ProfilingMode.SAMPLING: at most one op per interval
+     * gets timed for each thread. 0 disables time-based sampling, so sampling frequency is used instead.
+     * Default value: 0
+     *
+     * @param intervalNanos
+     */
+    public void setSamplingInterval(long intervalNanos) {
+        if (intervalNanos < 0)
+            throw new IllegalArgumentException("Sampling interval can't be negative");
+
+        this.samplingInterval = intervalNanos;
+    }
+
+    public long getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * This method decides if given op should be timed in ProfilingMode.SAMPLING
+     *
+     * @param op
+     * @return start time if op was sampled, 0 otherwise
+     */
+    public long sampleOpCall(Op op) {
+        SamplingShard shard = samplingShard.get();
+
+        long epoch = samplingEpoch.get();
+        if (shard.epoch != epoch) {
+            shard.invocations.lazySet(0);
+            shard.epoch = epoch;
+        }
+
+        // single writer, so there's no need in atomic increment
+        long invocations = shard.invocations.get() + 1;
+        shard.invocations.lazySet(invocations);
+
+        if (samplingInterval > 0) {
+            long time = System.nanoTime();
+            if (time - shard.lastSample < samplingInterval)
+                return 0L;
+
+            shard.lastSample = time;
+            return time;
+        }
+
+        return invocations % samplingFrequency == 0 ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * This method stores latency of the op sampled with {@link #sampleOpCall(Op)}
+     *
+     * @param op
+     * @param startTime
+     */
+    public void timeSampledOpCall(Op op, long startTime) {
+        long timeSpent = System.nanoTime() - startTime;
+        String key = op.opName() + " " + getShapeBucket(op);
+
+        SamplingShard shard = samplingShard.get();
+        synchronized (shard) {
+            LatencyHistogram histogram = shard.histograms.get(key);
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+                shard.histograms.put(key, histogram);
+            }
+
+            histogram.record(timeSpent);
+        }
+    }
+
+    /**
+     * This method returns shape bucket of the op: its length, rounded up to power of two
+     */
+    protected String getShapeBucket(Op op) {
+        INDArray array = op.x() != null ? op.x() : op.z();
+        if (array == null)
+            return "[scalar]";
+
+        long length = array.lengthLong();
+        long bucket = length <= 1 ? 1 : Long.highestOneBit(length - 1) << 1;
+        return "[len <= " + bucket + "]";
+    }
+
+    /**
+     * This method returns latency histograms of the sampled ops, merged over all threads,
+     * keyed by op name and shape bucket
+     *
+     * @return
+     */
+    public Map<String, LatencyHistogram> getLatencyHistograms() {
+        pruneSamplingShards();
+
+        Map<String, LatencyHistogram> result = new TreeMap<>();
+        for (SamplingShard shard : samplingShards) {
+            synchronized (shard) {
+                mergeHistograms(shard.histograms, result);
+            }
+        }
+
+        synchronized (retiredShard) {
+            mergeHistograms(retiredShard.histograms, result);
+        }
+
+        return result;
+    }
+
+    private static void mergeHistograms(Map<String, LatencyHistogram> source, Map<String, LatencyHistogram> target) {
+        for (Map.Entry<String, LatencyHistogram> entry : source.entrySet()) {
+            LatencyHistogram histogram = target.get(entry.getKey());
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+                target.put(entry.getKey(), histogram);
+            }
+
+            histogram.merge(entry.getValue());
+        }
+    }
+
+    /**
+     * This method folds shards of terminated threads into retired stats, so they don't pile up
+     */
+    protected void pruneSamplingShards() {
+        for (SamplingShard shard : samplingShards) {
+            // remove() succeeds only once, so each shard gets folded by a single thread
+            if (!shard.isRetired() || !samplingShards.remove(shard))
+                continue;
+
+            synchronized (shard) {
+                synchronized (retiredShard) {
+                    if (shard.epoch == samplingEpoch.get())
+                        retiredShard.invocations.addAndGet(shard.invocations.get());
+
+                    mergeHistograms(shard.histograms, retiredShard.histograms);
+                }
+            }
+        }
+    }
+
+    /**
+     * This method returns number of op calls seen in ProfilingMode.SAMPLING, over all threads.
+     * PLEASE NOTE: counters are updated without synchronization, so this value is approximate for running threads
+     *
+     * @return
+     */
+    public long getSampledInvocationsCount() {
+        pruneSamplingShards();
+
+        long epoch = samplingEpoch.get();
+        long result = retiredShard.invocations.get();
+        for (SamplingShard shard : samplingShards)
+            // shards that haven't seen reset() yet are counted as zero
+            if (shard.epoch == epoch)
+                result += shard.invocations.get();
+
+        return result;
+    }
+
     public void timeBlasCall() {
 
     }
@@ -410,6 +648,11 @@ public class OpProfiler {
         System.out.println("Unique entries: " + blasAggregator.getUniqueBranchesNumber());
         blasAggregator.renderTree(false);
         System.out.println();
+        log.info("--- Sampled Op latency statistics: ---");
+        System.out.println("Total Op calls: " + getSampledInvocationsCount());
+        for (Map.Entry<String, LatencyHistogram> entry : getLatencyHistograms().entrySet())
+            System.out.println(entry.getKey() + "  >>> " + entry.getValue().asString());
+        System.out.println();
 
     }
 
@@ -0,0 +1,125 @@
+package org.nd4j.linalg.profiler.data;
+
+/**
+ * Fixed-size latency histogram with power-of-two buckets: bucket i holds values within [2^(i-1), 2^i).
+ *
+ * Recording is allocation-free and costs a few arithmetic ops, so it's suitable for hot paths.
+ * PLEASE NOTE: This class isn't thread-safe, callers are expected to guard it.
+ */
+public class LatencyHistogram {
+    public static final int NUM_BUCKETS = 64;
+
+    private final long[] buckets = new long[NUM_BUCKETS];
+    private long count;
+    private long sum;
+    private long minimum = Long.MAX_VALUE;
+    private long maximum = Long.MIN_VALUE;
+
+    public LatencyHistogram() {
+
+    }
+
+    /**
+     * This method returns index of the bucket for given value
+     */
+    public static int bucketFor(long value) {
+        return value <= 0 ? 0 : Math.min(NUM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    public void record(long nanos) {
+        buckets[bucketFor(nanos)]++;
+        count++;
+        sum += nanos;
+
+        if (nanos < minimum)
+            minimum = nanos;
+
+        if (nanos > maximum)
+            maximum = nanos;
+    }
+
+    /**
+     * This method adds all values from other histogram into this one
+     *
+     * @param other
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            buckets[i] += other.buckets[i];
+
+        count += other.count;
+        sum += other.sum;
+        minimum = Math.min(minimum, other.minimum);
+        maximum = Math.max(maximum, other.maximum);
+    }
+
+    public void reset() {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            buckets[i] = 0;
+
+        count = 0;
+        sum = 0;
+        minimum = Long.MAX_VALUE;
+        maximum = Long.MIN_VALUE;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getAverage() {
+        return count == 0 ? 0L : sum / count;
+    }
+
+    public long getMinimum() {
+        return count == 0 ? 0L : minimum;
+    }
+
+    public long getMaximum() {
+        return count == 0 ? 0L : maximum;
+    }
+
+    public long getBucketCount(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * This method returns approximate percentile: upper bound of the bucket that holds it, capped by maximum
+     *
+     * @param percentile value within [0, 100]
+     * @return
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0)
+            return 0L;
+
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        if (rank < 1)
+            rank = 1;
+
+        long cnt = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            cnt += buckets[i];
+            if (cnt >= rank) {
+                long upper = i == 0 ? 0L : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+                return Math.max(getMinimum(), Math.min(upper, maximum));
+            }
+        }
+
+        return maximum;
+    }
+
+    public String asString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(count).append(" calls; ").append("Min: ").append(getMinimum()).append(" ns; ").append("Max: ")
+                        .append(getMaximum()).append(" ns; ").append("Average: ").append(getAverage())
+                        .append(" ns; ").append("p50: ").append(getPercentile(50)).append(" ns; ").append("p99: ")
+                        .append(getPercentile(99)).append(" ns; ");
+
+        return builder.toString();
+    }
+}
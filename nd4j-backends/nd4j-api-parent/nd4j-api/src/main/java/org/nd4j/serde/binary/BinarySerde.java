@@ -2,6 +2,7 @@ package org.nd4j.serde.binary;
 
 import lombok.extern.slf4j.Slf4j;
 import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.Pointer;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.concurrency.AffinityManager;
 import org.nd4j.linalg.api.ndarray.INDArray;
@@ -23,6 +24,9 @@ import java.nio.channels.WritableByteChannel;
  */
 @Slf4j
 public class BinarySerde {
+    // size of single mapping used while reading arrays larger then 2GB
+    private static final long MAP_CHUNK_SIZE = 1L << 30;
+    private static final int MAX_RANK = 32;
 
 
     /**
@@ -265,21 +269,178 @@ public class BinarySerde {
 
 
     /**
-     * Read an ndarray from disk
-     * @param readFrom
-     * @return
+     * Read an ndarray from disk.
+     *
+     * The file is opened read-only and mapped with {@link FileChannel.MapMode#READ_ONLY},
+     * and the data is copied into a newly allocated buffer owned by the array,
+     * so read-only files work, the array may be freely modified
+     * and changes are never written back to the file.
+     * Use {@link #readFromDisk(File, FileChannel.MapMode)} to wrap the mapping without copying.
+     *
+     * @param readFrom the file to read from
+     * @return the array stored in the file
      * @throws IOException
      */
     public static INDArray readFromDisk(File readFrom) throws IOException {
-        try (FileInputStream os = new FileInputStream(readFrom)) {
-            FileChannel channel = os.getChannel();
-            ByteBuffer buffer = ByteBuffer.allocateDirect((int) readFrom.length());
-            channel.read(buffer);
-            INDArray ret = toArray(buffer);
-            return ret;
+        return readFromDisk(readFrom, FileChannel.MapMode.READ_ONLY, true);
+    }
+
+    /**
+     * Read an ndarray from disk
+     * by memory mapping the file.
+     *
+     * For files up to 2GB the returned array wraps the mapping directly (no copy),
+     * so pages are loaded lazily by the OS and are shared between all processes
+     * mapping the same file (until they're modified, in case of {@link FileChannel.MapMode#PRIVATE}).
+     * Bigger files can't be mapped as single contiguous region, so their data is copied
+     * into a newly allocated buffer, one mapped chunk at a time.
+     *
+     * {@link FileChannel.MapMode#PRIVATE} and {@link FileChannel.MapMode#READ_WRITE} need the file
+     * to be opened for writing. For a file that isn't writable, PRIVATE falls back to copying
+     * the data as {@link #readFromDisk(File)} does, while READ_WRITE fails.
+     *
+     * PLEASE NOTE: with {@link FileChannel.MapMode#READ_ONLY} the array MUST NOT be modified,
+     * since writes go straight to read-only pages and will crash the JVM.
+     * With {@link FileChannel.MapMode#READ_WRITE} changes to the array are written back to the file.
+     *
+     * @param readFrom the file to read from
+     * @param mode the map mode to use
+     * @return the array stored in the file
+     * @throws FileNotFoundException if the file doesn't exist or isn't a regular file
+     * @throws IOException
+     */
+    public static INDArray readFromDisk(File readFrom, FileChannel.MapMode mode) throws IOException {
+        if (mode == FileChannel.MapMode.PRIVATE && !readFrom.canWrite())
+            return readFromDisk(readFrom, FileChannel.MapMode.READ_ONLY, true);
+
+        return readFromDisk(readFrom, mode, false);
+    }
+
+    private static INDArray readFromDisk(File readFrom, FileChannel.MapMode mode, boolean copy) throws IOException {
+        //"rw" would silently create a missing file
+        if (!readFrom.isFile())
+            throw new FileNotFoundException("File [" + readFrom.getAbsolutePath() + "] doesn't exist or isn't a regular file");
+
+        try (RandomAccessFile file = new RandomAccessFile(readFrom, mode == FileChannel.MapMode.READ_ONLY ? "r" : "rw")) {
+            FileChannel channel = file.getChannel();
+            long length = channel.size();
+            if (length <= Integer.MAX_VALUE) {
+                ByteBuffer mapped = channel.map(mode, 0, length);
+                //toArray copies the data, so the mapping is released on next GC
+                return copy ? toArray(mapped) : toArrayMapped(mapped);
+            } else {
+                return readLargeFromDisk(channel);
+            }
         }
     }
 
+    /**
+     * Create an ndarray that wraps the memory mapped buffer
+     * without copying the data.
+     * Compressed arrays are decoded via {@link #toArray(ByteBuffer)}
+     * @param mapped the mapped buffer
+     * @return the ndarray backed by the mapped buffer
+     */
+    private static INDArray toArrayMapped(ByteBuffer mapped) {
+        mapped.position(0);
+        return toArrayView(mapped);
+    }
+
+    /**
+     * Create an ndarray that wraps the given direct buffer
+     * without copying the data, starting at the current
+     * position of the buffer. The position is advanced past the array.
+     * Compressed arrays are copied as in {@link #toArrayAndByteBuffer(ByteBuffer, int)}
+     *
+     * PLEASE NOTE: the array shares memory with the buffer,
+     * so changes to either of them are visible in both.
+     * The buffer is referenced by the array's DataBuffer, so it stays alive
+     * (and mapped, for memory mapped buffers) for as long as the array does
+     * @param buffer the direct buffer to wrap
+     * @return the ndarray backed by the given buffer
+     */
+    public static INDArray toArrayView(ByteBuffer buffer) {
+        ByteBuffer byteBuffer = buffer.order(ByteOrder.nativeOrder());
+        int start = byteBuffer.position();
+        int rank = byteBuffer.getInt();
+        if (rank < 0)
+            throw new IllegalStateException("Found negative integer. Corrupt serialization?");
+        DataBuffer.Type type = DataBuffer.Type.values()[byteBuffer.getInt()];
+        if (type == DataBuffer.Type.COMPRESSED || !byteBuffer.isDirect()) {
+            Pair<INDArray, ByteBuffer> pair = toArrayAndByteBuffer(byteBuffer, start);
+            return pair.getFirst();
+        }
+
+        int shapeBufferLength = Shape.shapeInfoLength(rank);
+        DataBuffer shapeBuff = Nd4j.createBufferDetached(new int[shapeBufferLength]);
+        for (int i = 0; i < shapeBufferLength; i++) {
+            shapeBuff.put(i, byteBuffer.getInt());
+        }
+
+        //pointer keeps only the address, the data buffer holds the byte buffer itself, so the mapping stays alive
+        DataBuffer buff = Nd4j.createBuffer(byteBuffer.slice(), type, Shape.length(shapeBuff));
+        byteBuffer.position(byteBuffer.position() + buff.getElementSize() * (int) buff.length());
+        return Nd4j.createArrayFromShapeBuffer(buff, shapeBuff);
+    }
+
+    /**
+     * Read an array larger then 2GB, mapping the file in chunks
+     * and copying each chunk into the destination buffer
+     * @param channel the channel to read from
+     * @return the ndarray stored in the file
+     * @throws IOException
+     */
+    private static INDArray readLargeFromDisk(FileChannel channel) throws IOException {
+        // header is mapped once: rank, data type and shape info, which is limited by max rank
+        long headerLength = Math.min(channel.size(), 8 + Shape.shapeInfoLength(MAX_RANK) * 4);
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, headerLength).order(ByteOrder.nativeOrder());
+        int rank = header.getInt();
+        if (rank < 0 || rank > MAX_RANK)
+            throw new IllegalStateException("Found invalid rank " + rank + ". Corrupt serialization?");
+
+        DataBuffer.Type type = DataBuffer.Type.values()[header.getInt()];
+        if (type == DataBuffer.Type.COMPRESSED)
+            throw new IllegalStateException("Compressed arrays larger then 2GB are not supported");
+
+        int shapeBufferLength = Shape.shapeInfoLength(rank);
+        DataBuffer shapeBuff = Nd4j.createBufferDetached(new int[shapeBufferLength]);
+        for (int i = 0; i < shapeBufferLength; i++) {
+            shapeBuff.put(i, header.getInt());
+        }
+
+        long dataOffset = 8 + shapeBufferLength * 4;
+        long length = Shape.length(shapeBuff);
+        DataBuffer buff;
+        switch (type) {
+            case DOUBLE:
+                buff = Nd4j.getDataBufferFactory().createDouble(length, false);
+                break;
+            case FLOAT:
+                buff = Nd4j.getDataBufferFactory().createFloat(length, false);
+                break;
+            case HALF:
+                buff = Nd4j.getDataBufferFactory().createHalf(length, false);
+                break;
+            case INT:
+                buff = Nd4j.getDataBufferFactory().createInt(length, false);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported data type " + type);
+        }
+
+        long totalBytes = length * buff.getElementSize();
+        BytePointer target = new BytePointer(buff.addressPointer());
+        long copied = 0;
+        while (copied < totalBytes) {
+            long chunk = Math.min(MAP_CHUNK_SIZE, totalBytes - copied);
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + copied, chunk);
+            Pointer.memcpy(target.position(copied), new BytePointer(mapped), chunk);
+            copied += chunk;
+        }
+        target.position(0);
+
+        return Nd4j.createArrayFromShapeBuffer(buff, shapeBuff);
+    }
 
     /**
      * This method returns shape databuffer from saved earlier file
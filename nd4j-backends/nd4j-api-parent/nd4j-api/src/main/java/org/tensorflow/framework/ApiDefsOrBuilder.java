@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/api_def.proto
+
+package org.tensorflow.framework;
+
+public interface ApiDefsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:tensorflow.ApiDefs)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .tensorflow.ApiDef op = 1;</code>
+   */
+  java.util.List<org.tensorflow.framework.ApiDef> 
+      getOpList();
+  /**
+   * <code>repeated .tensorflow.ApiDef op = 1;</code>
+   */
+  org.tensorflow.framework.ApiDef getOp(int index);
+  /**
+   * <code>repeated .tensorflow.ApiDef op = 1;</code>
+   */
+  int getOpCount();
+  /**
+   * <code>repeated .tensorflow.ApiDef op = 1;</code>
+   */
+  java.util.List<? extends org.tensorflow.framework.ApiDefOrBuilder> 
+      getOpOrBuilderList();
+  /**
+   * <code>repeated .tensorflow.ApiDef op = 1;</code>
+   */
+  org.tensorflow.framework.ApiDefOrBuilder getOpOrBuilder(
+      int index);
+}
@@ -0,0 +1,864 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/step_stats.proto
+
+package org.tensorflow.framework;
+
+/**
+ * Protobuf type {@code tensorflow.DeviceStepStats}
+ */
+public  final class DeviceStepStats extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:tensorflow.DeviceStepStats)
+    DeviceStepStatsOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use DeviceStepStats.newBuilder() to construct.
+  private DeviceStepStats(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DeviceStepStats() {
+    device_ = "";
+    nodeStats_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private DeviceStepStats(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            device_ = s;
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              nodeStats_ = new java.util.ArrayList<org.tensorflow.framework.NodeExecStats>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            nodeStats_.add(
+                input.readMessage(org.tensorflow.framework.NodeExecStats.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        nodeStats_ = java.util.Collections.unmodifiableList(nodeStats_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.tensorflow.framework.StepStatsProtos.internal_static_tensorflow_DeviceStepStats_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.tensorflow.framework.StepStatsProtos.internal_static_tensorflow_DeviceStepStats_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.tensorflow.framework.DeviceStepStats.class, org.tensorflow.framework.DeviceStepStats.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int DEVICE_FIELD_NUMBER = 1;
+  private volatile java.lang.Object device_;
+  /**
+   * <code>string device = 1;</code>
+   */
+  public java.lang.String getDevice() {
+    java.lang.Object ref = device_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      device_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string device = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getDeviceBytes() {
+    java.lang.Object ref = device_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      device_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int NODE_STATS_FIELD_NUMBER = 2;
+  private java.util.List<org.tensorflow.framework.NodeExecStats> nodeStats_;
+  /**
+   * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+   */
+  public java.util.List<org.tensorflow.framework.NodeExecStats> getNodeStatsList() {
+    return nodeStats_;
+  }
+  /**
+   * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+   */
+  public java.util.List<? extends org.tensorflow.framework.NodeExecStatsOrBuilder> 
+      getNodeStatsOrBuilderList() {
+    return nodeStats_;
+  }
+  /**
+   * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+   */
+  public int getNodeStatsCount() {
+    return nodeStats_.size();
+  }
+  /**
+   * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+   */
+  public org.tensorflow.framework.NodeExecStats getNodeStats(int index) {
+    return nodeStats_.get(index);
+  }
+  /**
+   * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+   */
+  public org.tensorflow.framework.NodeExecStatsOrBuilder getNodeStatsOrBuilder(
+      int index) {
+    return nodeStats_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getDeviceBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, device_);
+    }
+    for (int i = 0; i < nodeStats_.size(); i++) {
+      output.writeMessage(2, nodeStats_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getDeviceBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, device_);
+    }
+    for (int i = 0; i < nodeStats_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, nodeStats_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.tensorflow.framework.DeviceStepStats)) {
+      return super.equals(obj);
+    }
+    org.tensorflow.framework.DeviceStepStats other = (org.tensorflow.framework.DeviceStepStats) obj;
+
+    boolean result = true;
+    result = result && getDevice()
+        .equals(other.getDevice());
+    result = result && getNodeStatsList()
+        .equals(other.getNodeStatsList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + DEVICE_FIELD_NUMBER;
+    hash = (53 * hash) + getDevice().hashCode();
+    if (getNodeStatsCount() > 0) {
+      hash = (37 * hash) + NODE_STATS_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeStatsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.DeviceStepStats parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.tensorflow.framework.DeviceStepStats prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code tensorflow.DeviceStepStats}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:tensorflow.DeviceStepStats)
+      org.tensorflow.framework.DeviceStepStatsOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.tensorflow.framework.StepStatsProtos.internal_static_tensorflow_DeviceStepStats_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.tensorflow.framework.StepStatsProtos.internal_static_tensorflow_DeviceStepStats_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.tensorflow.framework.DeviceStepStats.class, org.tensorflow.framework.DeviceStepStats.Builder.class);
+    }
+
+    // Construct using org.tensorflow.framework.DeviceStepStats.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getNodeStatsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      device_ = "";
+
+      if (nodeStatsBuilder_ == null) {
+        nodeStats_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        nodeStatsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.tensorflow.framework.StepStatsProtos.internal_static_tensorflow_DeviceStepStats_descriptor;
+    }
+
+    public org.tensorflow.framework.DeviceStepStats getDefaultInstanceForType() {
+      return org.tensorflow.framework.DeviceStepStats.getDefaultInstance();
+    }
+
+    public org.tensorflow.framework.DeviceStepStats build() {
+      org.tensorflow.framework.DeviceStepStats result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public org.tensorflow.framework.DeviceStepStats buildPartial() {
+      org.tensorflow.framework.DeviceStepStats result = new org.tensorflow.framework.DeviceStepStats(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.device_ = device_;
+      if (nodeStatsBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          nodeStats_ = java.util.Collections.unmodifiableList(nodeStats_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.nodeStats_ = nodeStats_;
+      } else {
+        result.nodeStats_ = nodeStatsBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.tensorflow.framework.DeviceStepStats) {
+        return mergeFrom((org.tensorflow.framework.DeviceStepStats)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.tensorflow.framework.DeviceStepStats other) {
+      if (other == org.tensorflow.framework.DeviceStepStats.getDefaultInstance()) return this;
+      if (!other.getDevice().isEmpty()) {
+        device_ = other.device_;
+        onChanged();
+      }
+      if (nodeStatsBuilder_ == null) {
+        if (!other.nodeStats_.isEmpty()) {
+          if (nodeStats_.isEmpty()) {
+            nodeStats_ = other.nodeStats_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureNodeStatsIsMutable();
+            nodeStats_.addAll(other.nodeStats_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.nodeStats_.isEmpty()) {
+          if (nodeStatsBuilder_.isEmpty()) {
+            nodeStatsBuilder_.dispose();
+            nodeStatsBuilder_ = null;
+            nodeStats_ = other.nodeStats_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            nodeStatsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getNodeStatsFieldBuilder() : null;
+          } else {
+            nodeStatsBuilder_.addAllMessages(other.nodeStats_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.tensorflow.framework.DeviceStepStats parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.tensorflow.framework.DeviceStepStats) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object device_ = "";
+    /**
+     * <code>string device = 1;</code>
+     */
+    public java.lang.String getDevice() {
+      java.lang.Object ref = device_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        device_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string device = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDeviceBytes() {
+      java.lang.Object ref = device_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        device_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string device = 1;</code>
+     */
+    public Builder setDevice(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      device_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string device = 1;</code>
+     */
+    public Builder clearDevice() {
+      
+      device_ = getDefaultInstance().getDevice();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string device = 1;</code>
+     */
+    public Builder setDeviceBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      device_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<org.tensorflow.framework.NodeExecStats> nodeStats_ =
+      java.util.Collections.emptyList();
+    private void ensureNodeStatsIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        nodeStats_ = new java.util.ArrayList<org.tensorflow.framework.NodeExecStats>(nodeStats_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.tensorflow.framework.NodeExecStats, org.tensorflow.framework.NodeExecStats.Builder, org.tensorflow.framework.NodeExecStatsOrBuilder> nodeStatsBuilder_;
+
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public java.util.List<org.tensorflow.framework.NodeExecStats> getNodeStatsList() {
+      if (nodeStatsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(nodeStats_);
+      } else {
+        return nodeStatsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public int getNodeStatsCount() {
+      if (nodeStatsBuilder_ == null) {
+        return nodeStats_.size();
+      } else {
+        return nodeStatsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public org.tensorflow.framework.NodeExecStats getNodeStats(int index) {
+      if (nodeStatsBuilder_ == null) {
+        return nodeStats_.get(index);
+      } else {
+        return nodeStatsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder setNodeStats(
+        int index, org.tensorflow.framework.NodeExecStats value) {
+      if (nodeStatsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNodeStatsIsMutable();
+        nodeStats_.set(index, value);
+        onChanged();
+      } else {
+        nodeStatsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder setNodeStats(
+        int index, org.tensorflow.framework.NodeExecStats.Builder builderForValue) {
+      if (nodeStatsBuilder_ == null) {
+        ensureNodeStatsIsMutable();
+        nodeStats_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        nodeStatsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder addNodeStats(org.tensorflow.framework.NodeExecStats value) {
+      if (nodeStatsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNodeStatsIsMutable();
+        nodeStats_.add(value);
+        onChanged();
+      } else {
+        nodeStatsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder addNodeStats(
+        int index, org.tensorflow.framework.NodeExecStats value) {
+      if (nodeStatsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNodeStatsIsMutable();
+        nodeStats_.add(index, value);
+        onChanged();
+      } else {
+        nodeStatsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder addNodeStats(
+        org.tensorflow.framework.NodeExecStats.Builder builderForValue) {
+      if (nodeStatsBuilder_ == null) {
+        ensureNodeStatsIsMutable();
+        nodeStats_.add(builderForValue.build());
+        onChanged();
+      } else {
+        nodeStatsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder addNodeStats(
+        int index, org.tensorflow.framework.NodeExecStats.Builder builderForValue) {
+      if (nodeStatsBuilder_ == null) {
+        ensureNodeStatsIsMutable();
+        nodeStats_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        nodeStatsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder addAllNodeStats(
+        java.lang.Iterable<? extends org.tensorflow.framework.NodeExecStats> values) {
+      if (nodeStatsBuilder_ == null) {
+        ensureNodeStatsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, nodeStats_);
+        onChanged();
+      } else {
+        nodeStatsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder clearNodeStats() {
+      if (nodeStatsBuilder_ == null) {
+        nodeStats_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        nodeStatsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public Builder removeNodeStats(int index) {
+      if (nodeStatsBuilder_ == null) {
+        ensureNodeStatsIsMutable();
+        nodeStats_.remove(index);
+        onChanged();
+      } else {
+        nodeStatsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public org.tensorflow.framework.NodeExecStats.Builder getNodeStatsBuilder(
+        int index) {
+      return getNodeStatsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public org.tensorflow.framework.NodeExecStatsOrBuilder getNodeStatsOrBuilder(
+        int index) {
+      if (nodeStatsBuilder_ == null) {
+        return nodeStats_.get(index);  } else {
+        return nodeStatsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public java.util.List<? extends org.tensorflow.framework.NodeExecStatsOrBuilder> 
+         getNodeStatsOrBuilderList() {
+      if (nodeStatsBuilder_ != null) {
+        return nodeStatsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(nodeStats_);
+      }
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public org.tensorflow.framework.NodeExecStats.Builder addNodeStatsBuilder() {
+      return getNodeStatsFieldBuilder().addBuilder(
+          org.tensorflow.framework.NodeExecStats.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public org.tensorflow.framework.NodeExecStats.Builder addNodeStatsBuilder(
+        int index) {
+      return getNodeStatsFieldBuilder().addBuilder(
+          index, org.tensorflow.framework.NodeExecStats.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .tensorflow.NodeExecStats node_stats = 2;</code>
+     */
+    public java.util.List<org.tensorflow.framework.NodeExecStats.Builder> 
+         getNodeStatsBuilderList() {
+      return getNodeStatsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.tensorflow.framework.NodeExecStats, org.tensorflow.framework.NodeExecStats.Builder, org.tensorflow.framework.NodeExecStatsOrBuilder> 
+        getNodeStatsFieldBuilder() {
+      if (nodeStatsBuilder_ == null) {
+        nodeStatsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.tensorflow.framework.NodeExecStats, org.tensorflow.framework.NodeExecStats.Builder, org.tensorflow.framework.NodeExecStatsOrBuilder>(
+                nodeStats_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        nodeStats_ = null;
+      }
+      return nodeStatsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:tensorflow.DeviceStepStats)
+  }
+
+  // @@protoc_insertion_point(class_scope:tensorflow.DeviceStepStats)
+  private static final org.tensorflow.framework.DeviceStepStats DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.tensorflow.framework.DeviceStepStats();
+  }
+
+  public static org.tensorflow.framework.DeviceStepStats getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DeviceStepStats>
+      PARSER = new com.google.protobuf.AbstractParser<DeviceStepStats>() {
+    public DeviceStepStats parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new DeviceStepStats(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DeviceStepStats> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DeviceStepStats> getParserForType() {
+    return PARSER;
+  }
+
+  public org.tensorflow.framework.DeviceStepStats getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,1003 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/log_memory.proto
+
+package org.tensorflow.framework;
+
+/**
+ * Protobuf type {@code tensorflow.MemoryLogRawAllocation}
+ */
+public  final class MemoryLogRawAllocation extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:tensorflow.MemoryLogRawAllocation)
+    MemoryLogRawAllocationOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use MemoryLogRawAllocation.newBuilder() to construct.
+  private MemoryLogRawAllocation(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private MemoryLogRawAllocation() {
+    stepId_ = 0L;
+    operation_ = "";
+    numBytes_ = 0L;
+    ptr_ = 0L;
+    allocationId_ = 0L;
+    allocatorName_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private MemoryLogRawAllocation(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            stepId_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            operation_ = s;
+            break;
+          }
+          case 24: {
+
+            numBytes_ = input.readInt64();
+            break;
+          }
+          case 32: {
+
+            ptr_ = input.readUInt64();
+            break;
+          }
+          case 40: {
+
+            allocationId_ = input.readInt64();
+            break;
+          }
+          case 50: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            allocatorName_ = s;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.tensorflow.framework.LogMemoryProtos.internal_static_tensorflow_MemoryLogRawAllocation_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.tensorflow.framework.LogMemoryProtos.internal_static_tensorflow_MemoryLogRawAllocation_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.tensorflow.framework.MemoryLogRawAllocation.class, org.tensorflow.framework.MemoryLogRawAllocation.Builder.class);
+  }
+
+  public static final int STEP_ID_FIELD_NUMBER = 1;
+  private long stepId_;
+  /**
+   * <pre>
+   * Process-unique step id.
+   * </pre>
+   *
+   * <code>int64 step_id = 1;</code>
+   */
+  public long getStepId() {
+    return stepId_;
+  }
+
+  public static final int OPERATION_FIELD_NUMBER = 2;
+  private volatile java.lang.Object operation_;
+  /**
+   * <pre>
+   * Name of the operation making the allocation.
+   * </pre>
+   *
+   * <code>string operation = 2;</code>
+   */
+  public java.lang.String getOperation() {
+    java.lang.Object ref = operation_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      operation_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Name of the operation making the allocation.
+   * </pre>
+   *
+   * <code>string operation = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getOperationBytes() {
+    java.lang.Object ref = operation_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      operation_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int NUM_BYTES_FIELD_NUMBER = 3;
+  private long numBytes_;
+  /**
+   * <pre>
+   * Number of bytes in the allocation.
+   * </pre>
+   *
+   * <code>int64 num_bytes = 3;</code>
+   */
+  public long getNumBytes() {
+    return numBytes_;
+  }
+
+  public static final int PTR_FIELD_NUMBER = 4;
+  private long ptr_;
+  /**
+   * <pre>
+   * Address of the allocation.
+   * </pre>
+   *
+   * <code>uint64 ptr = 4;</code>
+   */
+  public long getPtr() {
+    return ptr_;
+  }
+
+  public static final int ALLOCATION_ID_FIELD_NUMBER = 5;
+  private long allocationId_;
+  /**
+   * <pre>
+   * Id of the tensor buffer being allocated, used to match to a
+   * corresponding deallocation.
+   * </pre>
+   *
+   * <code>int64 allocation_id = 5;</code>
+   */
+  public long getAllocationId() {
+    return allocationId_;
+  }
+
+  public static final int ALLOCATOR_NAME_FIELD_NUMBER = 6;
+  private volatile java.lang.Object allocatorName_;
+  /**
+   * <pre>
+   * Name of the allocator used.
+   * </pre>
+   *
+   * <code>string allocator_name = 6;</code>
+   */
+  public java.lang.String getAllocatorName() {
+    java.lang.Object ref = allocatorName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      allocatorName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Name of the allocator used.
+   * </pre>
+   *
+   * <code>string allocator_name = 6;</code>
+   */
+  public com.google.protobuf.ByteString
+      getAllocatorNameBytes() {
+    java.lang.Object ref = allocatorName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      allocatorName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (stepId_ != 0L) {
+      output.writeInt64(1, stepId_);
+    }
+    if (!getOperationBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, operation_);
+    }
+    if (numBytes_ != 0L) {
+      output.writeInt64(3, numBytes_);
+    }
+    if (ptr_ != 0L) {
+      output.writeUInt64(4, ptr_);
+    }
+    if (allocationId_ != 0L) {
+      output.writeInt64(5, allocationId_);
+    }
+    if (!getAllocatorNameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, allocatorName_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (stepId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, stepId_);
+    }
+    if (!getOperationBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, operation_);
+    }
+    if (numBytes_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, numBytes_);
+    }
+    if (ptr_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(4, ptr_);
+    }
+    if (allocationId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(5, allocationId_);
+    }
+    if (!getAllocatorNameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, allocatorName_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.tensorflow.framework.MemoryLogRawAllocation)) {
+      return super.equals(obj);
+    }
+    org.tensorflow.framework.MemoryLogRawAllocation other = (org.tensorflow.framework.MemoryLogRawAllocation) obj;
+
+    boolean result = true;
+    result = result && (getStepId()
+        == other.getStepId());
+    result = result && getOperation()
+        .equals(other.getOperation());
+    result = result && (getNumBytes()
+        == other.getNumBytes());
+    result = result && (getPtr()
+        == other.getPtr());
+    result = result && (getAllocationId()
+        == other.getAllocationId());
+    result = result && getAllocatorName()
+        .equals(other.getAllocatorName());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + STEP_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getStepId());
+    hash = (37 * hash) + OPERATION_FIELD_NUMBER;
+    hash = (53 * hash) + getOperation().hashCode();
+    hash = (37 * hash) + NUM_BYTES_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getNumBytes());
+    hash = (37 * hash) + PTR_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getPtr());
+    hash = (37 * hash) + ALLOCATION_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAllocationId());
+    hash = (37 * hash) + ALLOCATOR_NAME_FIELD_NUMBER;
+    hash = (53 * hash) + getAllocatorName().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.MemoryLogRawAllocation parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.tensorflow.framework.MemoryLogRawAllocation prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code tensorflow.MemoryLogRawAllocation}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:tensorflow.MemoryLogRawAllocation)
+      org.tensorflow.framework.MemoryLogRawAllocationOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.tensorflow.framework.LogMemoryProtos.internal_static_tensorflow_MemoryLogRawAllocation_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.tensorflow.framework.LogMemoryProtos.internal_static_tensorflow_MemoryLogRawAllocation_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.tensorflow.framework.MemoryLogRawAllocation.class, org.tensorflow.framework.MemoryLogRawAllocation.Builder.class);
+    }
+
+    // Construct using org.tensorflow.framework.MemoryLogRawAllocation.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      stepId_ = 0L;
+
+      operation_ = "";
+
+      numBytes_ = 0L;
+
+      ptr_ = 0L;
+
+      allocationId_ = 0L;
+
+      allocatorName_ = "";
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.tensorflow.framework.LogMemoryProtos.internal_static_tensorflow_MemoryLogRawAllocation_descriptor;
+    }
+
+    public org.tensorflow.framework.MemoryLogRawAllocation getDefaultInstanceForType() {
+      return org.tensorflow.framework.MemoryLogRawAllocation.getDefaultInstance();
+    }
+
+    public org.tensorflow.framework.MemoryLogRawAllocation build() {
+      org.tensorflow.framework.MemoryLogRawAllocation result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public org.tensorflow.framework.MemoryLogRawAllocation buildPartial() {
+      org.tensorflow.framework.MemoryLogRawAllocation result = new org.tensorflow.framework.MemoryLogRawAllocation(this);
+      result.stepId_ = stepId_;
+      result.operation_ = operation_;
+      result.numBytes_ = numBytes_;
+      result.ptr_ = ptr_;
+      result.allocationId_ = allocationId_;
+      result.allocatorName_ = allocatorName_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.tensorflow.framework.MemoryLogRawAllocation) {
+        return mergeFrom((org.tensorflow.framework.MemoryLogRawAllocation)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.tensorflow.framework.MemoryLogRawAllocation other) {
+      if (other == org.tensorflow.framework.MemoryLogRawAllocation.getDefaultInstance()) return this;
+      if (other.getStepId() != 0L) {
+        setStepId(other.getStepId());
+      }
+      if (!other.getOperation().isEmpty()) {
+        operation_ = other.operation_;
+        onChanged();
+      }
+      if (other.getNumBytes() != 0L) {
+        setNumBytes(other.getNumBytes());
+      }
+      if (other.getPtr() != 0L) {
+        setPtr(other.getPtr());
+      }
+      if (other.getAllocationId() != 0L) {
+        setAllocationId(other.getAllocationId());
+      }
+      if (!other.getAllocatorName().isEmpty()) {
+        allocatorName_ = other.allocatorName_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.tensorflow.framework.MemoryLogRawAllocation parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.tensorflow.framework.MemoryLogRawAllocation) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long stepId_ ;
+    /**
+     * <pre>
+     * Process-unique step id.
+     * </pre>
+     *
+     * <code>int64 step_id = 1;</code>
+     */
+    public long getStepId() {
+      return stepId_;
+    }
+    /**
+     * <pre>
+     * Process-unique step id.
+     * </pre>
+     *
+     * <code>int64 step_id = 1;</code>
+     */
+    public Builder setStepId(long value) {
+      
+      stepId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Process-unique step id.
+     * </pre>
+     *
+     * <code>int64 step_id = 1;</code>
+     */
+    public Builder clearStepId() {
+      
+      stepId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object operation_ = "";
+    /**
+     * <pre>
+     * Name of the operation making the allocation.
+     * </pre>
+     *
+     * <code>string operation = 2;</code>
+     */
+    public java.lang.String getOperation() {
+      java.lang.Object ref = operation_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        operation_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the operation making the allocation.
+     * </pre>
+     *
+     * <code>string operation = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOperationBytes() {
+      java.lang.Object ref = operation_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        operation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the operation making the allocation.
+     * </pre>
+     *
+     * <code>string operation = 2;</code>
+     */
+    public Builder setOperation(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      operation_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of the operation making the allocation.
+     * </pre>
+     *
+     * <code>string operation = 2;</code>
+     */
+    public Builder clearOperation() {
+      
+      operation_ = getDefaultInstance().getOperation();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of the operation making the allocation.
+     * </pre>
+     *
+     * <code>string operation = 2;</code>
+     */
+    public Builder setOperationBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      operation_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long numBytes_ ;
+    /**
+     * <pre>
+     * Number of bytes in the allocation.
+     * </pre>
+     *
+     * <code>int64 num_bytes = 3;</code>
+     */
+    public long getNumBytes() {
+      return numBytes_;
+    }
+    /**
+     * <pre>
+     * Number of bytes in the allocation.
+     * </pre>
+     *
+     * <code>int64 num_bytes = 3;</code>
+     */
+    public Builder setNumBytes(long value) {
+      
+      numBytes_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Number of bytes in the allocation.
+     * </pre>
+     *
+     * <code>int64 num_bytes = 3;</code>
+     */
+    public Builder clearNumBytes() {
+      
+      numBytes_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long ptr_ ;
+    /**
+     * <pre>
+     * Address of the allocation.
+     * </pre>
+     *
+     * <code>uint64 ptr = 4;</code>
+     */
+    public long getPtr() {
+      return ptr_;
+    }
+    /**
+     * <pre>
+     * Address of the allocation.
+     * </pre>
+     *
+     * <code>uint64 ptr = 4;</code>
+     */
+    public Builder setPtr(long value) {
+      
+      ptr_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Address of the allocation.
+     * </pre>
+     *
+     * <code>uint64 ptr = 4;</code>
+     */
+    public Builder clearPtr() {
+      
+      ptr_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long allocationId_ ;
+    /**
+     * <pre>
+     * Id of the tensor buffer being allocated, used to match to a
+     * corresponding deallocation.
+     * </pre>
+     *
+     * <code>int64 allocation_id = 5;</code>
+     */
+    public long getAllocationId() {
+      return allocationId_;
+    }
+    /**
+     * <pre>
+     * Id of the tensor buffer being allocated, used to match to a
+     * corresponding deallocation.
+     * </pre>
+     *
+     * <code>int64 allocation_id = 5;</code>
+     */
+    public Builder setAllocationId(long value) {
+      
+      allocationId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Id of the tensor buffer being allocated, used to match to a
+     * corresponding deallocation.
+     * </pre>
+     *
+     * <code>int64 allocation_id = 5;</code>
+     */
+    public Builder clearAllocationId() {
+      
+      allocationId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object allocatorName_ = "";
+    /**
+     * <pre>
+     * Name of the allocator used.
+     * </pre>
+     *
+     * <code>string allocator_name = 6;</code>
+     */
+    public java.lang.String getAllocatorName() {
+      java.lang.Object ref = allocatorName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        allocatorName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the allocator used.
+     * </pre>
+     *
+     * <code>string allocator_name = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAllocatorNameBytes() {
+      java.lang.Object ref = allocatorName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        allocatorName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the allocator used.
+     * </pre>
+     *
+     * <code>string allocator_name = 6;</code>
+     */
+    public Builder setAllocatorName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      allocatorName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of the allocator used.
+     * </pre>
+     *
+     * <code>string allocator_name = 6;</code>
+     */
+    public Builder clearAllocatorName() {
+      
+      allocatorName_ = getDefaultInstance().getAllocatorName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of the allocator used.
+     * </pre>
+     *
+     * <code>string allocator_name = 6;</code>
+     */
+    public Builder setAllocatorNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      allocatorName_ = value;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:tensorflow.MemoryLogRawAllocation)
+  }
+
+  // @@protoc_insertion_point(class_scope:tensorflow.MemoryLogRawAllocation)
+  private static final org.tensorflow.framework.MemoryLogRawAllocation DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.tensorflow.framework.MemoryLogRawAllocation();
+  }
+
+  public static org.tensorflow.framework.MemoryLogRawAllocation getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<MemoryLogRawAllocation>
+      PARSER = new com.google.protobuf.AbstractParser<MemoryLogRawAllocation>() {
+    public MemoryLogRawAllocation parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new MemoryLogRawAllocation(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<MemoryLogRawAllocation> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<MemoryLogRawAllocation> getParserForType() {
+    return PARSER;
+  }
+
+  public org.tensorflow.framework.MemoryLogRawAllocation getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
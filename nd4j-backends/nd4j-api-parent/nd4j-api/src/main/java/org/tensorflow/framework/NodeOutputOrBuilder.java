@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/step_stats.proto
+
+package org.tensorflow.framework;
+
+public interface NodeOutputOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:tensorflow.NodeOutput)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 slot = 1;</code>
+   */
+  int getSlot();
+
+  /**
+   * <code>.tensorflow.TensorDescription tensor_description = 3;</code>
+   */
+  boolean hasTensorDescription();
+  /**
+   * <code>.tensorflow.TensorDescription tensor_description = 3;</code>
+   */
+  org.tensorflow.framework.TensorDescription getTensorDescription();
+  /**
+   * <code>.tensorflow.TensorDescription tensor_description = 3;</code>
+   */
+  org.tensorflow.framework.TensorDescriptionOrBuilder getTensorDescriptionOrBuilder();
+}
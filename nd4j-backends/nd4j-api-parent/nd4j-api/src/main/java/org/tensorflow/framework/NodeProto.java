@@ -0,0 +1,75 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/node_def.proto
+
+package org.tensorflow.framework;
+
+public final class NodeProto {
+  private NodeProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tensorflow_NodeDef_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tensorflow_NodeDef_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tensorflow_NodeDef_AttrEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tensorflow_NodeDef_AttrEntry_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n(tensorflow/core/framework/node_def.pro" +
+      "to\022\ntensorflow\032*tensorflow/core/framewor" +
+      "k/attr_value.proto\"\263\001\n\007NodeDef\022\014\n\004name\030\001" +
+      " \001(\t\022\n\n\002op\030\002 \001(\t\022\r\n\005input\030\003 \003(\t\022\016\n\006devic" +
+      "e\030\004 \001(\t\022+\n\004attr\030\005 \003(\0132\035.tensorflow.NodeD" +
+      "ef.AttrEntry\032B\n\tAttrEntry\022\013\n\003key\030\001 \001(\t\022$" +
+      "\n\005value\030\002 \001(\0132\025.tensorflow.AttrValue:\0028\001" +
+      "B*\n\030org.tensorflow.frameworkB\tNodeProtoP" +
+      "\001\370\001\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.tensorflow.framework.AttrValueProtos.getDescriptor(),
+        }, assigner);
+    internal_static_tensorflow_NodeDef_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_tensorflow_NodeDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tensorflow_NodeDef_descriptor,
+        new java.lang.String[] { "Name", "Op", "Input", "Device", "Attr", });
+    internal_static_tensorflow_NodeDef_AttrEntry_descriptor =
+      internal_static_tensorflow_NodeDef_descriptor.getNestedTypes().get(0);
+    internal_static_tensorflow_NodeDef_AttrEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tensorflow_NodeDef_AttrEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    org.tensorflow.framework.AttrValueProtos.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/op_def.proto
+
+package org.tensorflow.framework;
+
+public interface OpListOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:tensorflow.OpList)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .tensorflow.OpDef op = 1;</code>
+   */
+  java.util.List<org.tensorflow.framework.OpDef> 
+      getOpList();
+  /**
+   * <code>repeated .tensorflow.OpDef op = 1;</code>
+   */
+  org.tensorflow.framework.OpDef getOp(int index);
+  /**
+   * <code>repeated .tensorflow.OpDef op = 1;</code>
+   */
+  int getOpCount();
+  /**
+   * <code>repeated .tensorflow.OpDef op = 1;</code>
+   */
+  java.util.List<? extends org.tensorflow.framework.OpDefOrBuilder> 
+      getOpOrBuilderList();
+  /**
+   * <code>repeated .tensorflow.OpDef op = 1;</code>
+   */
+  org.tensorflow.framework.OpDefOrBuilder getOpOrBuilder(
+      int index);
+}
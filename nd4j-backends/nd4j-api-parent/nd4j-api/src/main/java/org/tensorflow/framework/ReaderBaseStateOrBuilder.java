@@ -0,0 +1,29 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/reader_base.proto
+
+package org.tensorflow.framework;
+
+public interface ReaderBaseStateOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:tensorflow.ReaderBaseState)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 work_started = 1;</code>
+   */
+  long getWorkStarted();
+
+  /**
+   * <code>int64 work_finished = 2;</code>
+   */
+  long getWorkFinished();
+
+  /**
+   * <code>int64 num_records_produced = 3;</code>
+   */
+  long getNumRecordsProduced();
+
+  /**
+   * <code>bytes current_work = 4;</code>
+   */
+  com.google.protobuf.ByteString getCurrentWork();
+}
@@ -0,0 +1,93 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/remote_fused_graph_execute_info.proto
+
+package org.tensorflow.framework;
+
+public final class RemoteFusedGraphExecuteInfoProto {
+  private RemoteFusedGraphExecuteInfoProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tensorflow_RemoteFusedGraphExecuteInfo_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tensorflow_RemoteFusedGraphExecuteInfo_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tensorflow_RemoteFusedGraphExecuteInfo_TensorShapeTypeProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tensorflow_RemoteFusedGraphExecuteInfo_TensorShapeTypeProto_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n?tensorflow/core/framework/remote_fused" +
+      "_graph_execute_info.proto\022\ntensorflow\032%t" +
+      "ensorflow/core/framework/graph.proto\032,te" +
+      "nsorflow/core/framework/tensor_shape.pro" +
+      "to\032%tensorflow/core/framework/types.prot" +
+      "o\"\362\004\n\033RemoteFusedGraphExecuteInfo\022*\n\014rem" +
+      "ote_graph\030\001 \001(\0132\024.tensorflow.GraphDef\022\035\n" +
+      "\025graph_input_node_name\030\002 \003(\t\022\036\n\026graph_ou" +
+      "tput_node_name\030\003 \003(\t\022\025\n\rexecutor_name\030\004 " +
+      "\001(\t\022&\n\036serialized_executor_parameters\030\005 " +
+      "\001(\014\022f\n default_graph_input_tensor_shape\030" +
+      "\006 \003(\0132<.tensorflow.RemoteFusedGraphExecu" +
+      "teInfo.TensorShapeTypeProto\022g\n!default_g" +
+      "raph_output_tensor_shape\030\007 \003(\0132<.tensorf" +
+      "low.RemoteFusedGraphExecuteInfo.TensorSh" +
+      "apeTypeProto\032h\n\024TensorShapeTypeProto\022#\n\005" +
+      "dtype\030\001 \001(\0162\024.tensorflow.DataType\022+\n\005sha" +
+      "pe\030\002 \001(\0132\034.tensorflow.TensorShapeProto\"n" +
+      "\n\010NodeType\022\n\n\006UNUSED\020\000\022\017\n\013GRAPH_INPUT\020\001\022" +
+      "\020\n\014GRAPH_OUTPUT\020\002\022\016\n\nFUSED_NODE\020\003\022\020\n\014BOR" +
+      "DER_INPUT\020\004\022\021\n\rBORDER_OUTPUT\020\005BA\n\030org.te" +
+      "nsorflow.frameworkB RemoteFusedGraphExec" +
+      "uteInfoProtoP\001\370\001\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.tensorflow.framework.GraphProtos.getDescriptor(),
+          org.tensorflow.framework.TensorShapeProtos.getDescriptor(),
+          org.tensorflow.framework.TypesProtos.getDescriptor(),
+        }, assigner);
+    internal_static_tensorflow_RemoteFusedGraphExecuteInfo_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_tensorflow_RemoteFusedGraphExecuteInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tensorflow_RemoteFusedGraphExecuteInfo_descriptor,
+        new java.lang.String[] { "RemoteGraph", "GraphInputNodeName", "GraphOutputNodeName", "ExecutorName", "SerializedExecutorParameters", "DefaultGraphInputTensorShape", "DefaultGraphOutputTensorShape", });
+    internal_static_tensorflow_RemoteFusedGraphExecuteInfo_TensorShapeTypeProto_descriptor =
+      internal_static_tensorflow_RemoteFusedGraphExecuteInfo_descriptor.getNestedTypes().get(0);
+    internal_static_tensorflow_RemoteFusedGraphExecuteInfo_TensorShapeTypeProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tensorflow_RemoteFusedGraphExecuteInfo_TensorShapeTypeProto_descriptor,
+        new java.lang.String[] { "Dtype", "Shape", });
+    org.tensorflow.framework.GraphProtos.getDescriptor();
+    org.tensorflow.framework.TensorShapeProtos.getDescriptor();
+    org.tensorflow.framework.TypesProtos.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
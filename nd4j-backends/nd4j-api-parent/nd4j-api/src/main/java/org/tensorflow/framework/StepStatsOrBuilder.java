@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/step_stats.proto
+
+package org.tensorflow.framework;
+
+public interface StepStatsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:tensorflow.StepStats)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .tensorflow.DeviceStepStats dev_stats = 1;</code>
+   */
+  java.util.List<org.tensorflow.framework.DeviceStepStats> 
+      getDevStatsList();
+  /**
+   * <code>repeated .tensorflow.DeviceStepStats dev_stats = 1;</code>
+   */
+  org.tensorflow.framework.DeviceStepStats getDevStats(int index);
+  /**
+   * <code>repeated .tensorflow.DeviceStepStats dev_stats = 1;</code>
+   */
+  int getDevStatsCount();
+  /**
+   * <code>repeated .tensorflow.DeviceStepStats dev_stats = 1;</code>
+   */
+  java.util.List<? extends org.tensorflow.framework.DeviceStepStatsOrBuilder> 
+      getDevStatsOrBuilderList();
+  /**
+   * <code>repeated .tensorflow.DeviceStepStats dev_stats = 1;</code>
+   */
+  org.tensorflow.framework.DeviceStepStatsOrBuilder getDevStatsOrBuilder(
+      int index);
+}
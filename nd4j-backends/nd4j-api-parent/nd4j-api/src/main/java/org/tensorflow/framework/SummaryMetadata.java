@@ -0,0 +1,1590 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/summary.proto
+
+package org.tensorflow.framework;
+
+/**
+ * <pre>
+ * A SummaryMetadata encapsulates information on which plugins are able to make
+ * use of a certain summary value.
+ * </pre>
+ *
+ * Protobuf type {@code tensorflow.SummaryMetadata}
+ */
+public  final class SummaryMetadata extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:tensorflow.SummaryMetadata)
+    SummaryMetadataOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SummaryMetadata.newBuilder() to construct.
+  private SummaryMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SummaryMetadata() {
+    displayName_ = "";
+    summaryDescription_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SummaryMetadata(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            org.tensorflow.framework.SummaryMetadata.PluginData.Builder subBuilder = null;
+            if (pluginData_ != null) {
+              subBuilder = pluginData_.toBuilder();
+            }
+            pluginData_ = input.readMessage(org.tensorflow.framework.SummaryMetadata.PluginData.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(pluginData_);
+              pluginData_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            displayName_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            summaryDescription_ = s;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.tensorflow.framework.SummaryMetadata.class, org.tensorflow.framework.SummaryMetadata.Builder.class);
+  }
+
+  public interface PluginDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tensorflow.SummaryMetadata.PluginData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The name of the plugin this data pertains to.
+     * </pre>
+     *
+     * <code>string plugin_name = 1;</code>
+     */
+    java.lang.String getPluginName();
+    /**
+     * <pre>
+     * The name of the plugin this data pertains to.
+     * </pre>
+     *
+     * <code>string plugin_name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getPluginNameBytes();
+
+    /**
+     * <pre>
+     * The content to store for the plugin. The best practice is for this to be
+     * a binary serialized protocol buffer.
+     * </pre>
+     *
+     * <code>bytes content = 2;</code>
+     */
+    com.google.protobuf.ByteString getContent();
+  }
+  /**
+   * Protobuf type {@code tensorflow.SummaryMetadata.PluginData}
+   */
+  public  static final class PluginData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tensorflow.SummaryMetadata.PluginData)
+      PluginDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PluginData.newBuilder() to construct.
+    private PluginData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PluginData() {
+      pluginName_ = "";
+      content_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PluginData(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              pluginName_ = s;
+              break;
+            }
+            case 18: {
+
+              content_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_PluginData_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_PluginData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.tensorflow.framework.SummaryMetadata.PluginData.class, org.tensorflow.framework.SummaryMetadata.PluginData.Builder.class);
+    }
+
+    public static final int PLUGIN_NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object pluginName_;
+    /**
+     * <pre>
+     * The name of the plugin this data pertains to.
+     * </pre>
+     *
+     * <code>string plugin_name = 1;</code>
+     */
+    public java.lang.String getPluginName() {
+      java.lang.Object ref = pluginName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pluginName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The name of the plugin this data pertains to.
+     * </pre>
+     *
+     * <code>string plugin_name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPluginNameBytes() {
+      java.lang.Object ref = pluginName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pluginName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CONTENT_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString content_;
+    /**
+     * <pre>
+     * The content to store for the plugin. The best practice is for this to be
+     * a binary serialized protocol buffer.
+     * </pre>
+     *
+     * <code>bytes content = 2;</code>
+     */
+    public com.google.protobuf.ByteString getContent() {
+      return content_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getPluginNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, pluginName_);
+      }
+      if (!content_.isEmpty()) {
+        output.writeBytes(2, content_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getPluginNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, pluginName_);
+      }
+      if (!content_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, content_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.tensorflow.framework.SummaryMetadata.PluginData)) {
+        return super.equals(obj);
+      }
+      org.tensorflow.framework.SummaryMetadata.PluginData other = (org.tensorflow.framework.SummaryMetadata.PluginData) obj;
+
+      boolean result = true;
+      result = result && getPluginName()
+          .equals(other.getPluginName());
+      result = result && getContent()
+          .equals(other.getContent());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PLUGIN_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getPluginName().hashCode();
+      hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+      hash = (53 * hash) + getContent().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.tensorflow.framework.SummaryMetadata.PluginData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.tensorflow.framework.SummaryMetadata.PluginData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tensorflow.SummaryMetadata.PluginData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tensorflow.SummaryMetadata.PluginData)
+        org.tensorflow.framework.SummaryMetadata.PluginDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_PluginData_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_PluginData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.tensorflow.framework.SummaryMetadata.PluginData.class, org.tensorflow.framework.SummaryMetadata.PluginData.Builder.class);
+      }
+
+      // Construct using org.tensorflow.framework.SummaryMetadata.PluginData.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        pluginName_ = "";
+
+        content_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_PluginData_descriptor;
+      }
+
+      public org.tensorflow.framework.SummaryMetadata.PluginData getDefaultInstanceForType() {
+        return org.tensorflow.framework.SummaryMetadata.PluginData.getDefaultInstance();
+      }
+
+      public org.tensorflow.framework.SummaryMetadata.PluginData build() {
+        org.tensorflow.framework.SummaryMetadata.PluginData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.tensorflow.framework.SummaryMetadata.PluginData buildPartial() {
+        org.tensorflow.framework.SummaryMetadata.PluginData result = new org.tensorflow.framework.SummaryMetadata.PluginData(this);
+        result.pluginName_ = pluginName_;
+        result.content_ = content_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.tensorflow.framework.SummaryMetadata.PluginData) {
+          return mergeFrom((org.tensorflow.framework.SummaryMetadata.PluginData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.tensorflow.framework.SummaryMetadata.PluginData other) {
+        if (other == org.tensorflow.framework.SummaryMetadata.PluginData.getDefaultInstance()) return this;
+        if (!other.getPluginName().isEmpty()) {
+          pluginName_ = other.pluginName_;
+          onChanged();
+        }
+        if (other.getContent() != com.google.protobuf.ByteString.EMPTY) {
+          setContent(other.getContent());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.tensorflow.framework.SummaryMetadata.PluginData parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.tensorflow.framework.SummaryMetadata.PluginData) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object pluginName_ = "";
+      /**
+       * <pre>
+       * The name of the plugin this data pertains to.
+       * </pre>
+       *
+       * <code>string plugin_name = 1;</code>
+       */
+      public java.lang.String getPluginName() {
+        java.lang.Object ref = pluginName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pluginName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The name of the plugin this data pertains to.
+       * </pre>
+       *
+       * <code>string plugin_name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPluginNameBytes() {
+        java.lang.Object ref = pluginName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pluginName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The name of the plugin this data pertains to.
+       * </pre>
+       *
+       * <code>string plugin_name = 1;</code>
+       */
+      public Builder setPluginName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pluginName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The name of the plugin this data pertains to.
+       * </pre>
+       *
+       * <code>string plugin_name = 1;</code>
+       */
+      public Builder clearPluginName() {
+        
+        pluginName_ = getDefaultInstance().getPluginName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The name of the plugin this data pertains to.
+       * </pre>
+       *
+       * <code>string plugin_name = 1;</code>
+       */
+      public Builder setPluginNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        pluginName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString content_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * The content to store for the plugin. The best practice is for this to be
+       * a binary serialized protocol buffer.
+       * </pre>
+       *
+       * <code>bytes content = 2;</code>
+       */
+      public com.google.protobuf.ByteString getContent() {
+        return content_;
+      }
+      /**
+       * <pre>
+       * The content to store for the plugin. The best practice is for this to be
+       * a binary serialized protocol buffer.
+       * </pre>
+       *
+       * <code>bytes content = 2;</code>
+       */
+      public Builder setContent(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        content_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The content to store for the plugin. The best practice is for this to be
+       * a binary serialized protocol buffer.
+       * </pre>
+       *
+       * <code>bytes content = 2;</code>
+       */
+      public Builder clearContent() {
+        
+        content_ = getDefaultInstance().getContent();
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tensorflow.SummaryMetadata.PluginData)
+    }
+
+    // @@protoc_insertion_point(class_scope:tensorflow.SummaryMetadata.PluginData)
+    private static final org.tensorflow.framework.SummaryMetadata.PluginData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.tensorflow.framework.SummaryMetadata.PluginData();
+    }
+
+    public static org.tensorflow.framework.SummaryMetadata.PluginData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PluginData>
+        PARSER = new com.google.protobuf.AbstractParser<PluginData>() {
+      public PluginData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PluginData(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PluginData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PluginData> getParserForType() {
+      return PARSER;
+    }
+
+    public org.tensorflow.framework.SummaryMetadata.PluginData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public static final int PLUGIN_DATA_FIELD_NUMBER = 1;
+  private org.tensorflow.framework.SummaryMetadata.PluginData pluginData_;
+  /**
+   * <pre>
+   * Data that associates a summary with a certain plugin.
+   * </pre>
+   *
+   * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+   */
+  public boolean hasPluginData() {
+    return pluginData_ != null;
+  }
+  /**
+   * <pre>
+   * Data that associates a summary with a certain plugin.
+   * </pre>
+   *
+   * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+   */
+  public org.tensorflow.framework.SummaryMetadata.PluginData getPluginData() {
+    return pluginData_ == null ? org.tensorflow.framework.SummaryMetadata.PluginData.getDefaultInstance() : pluginData_;
+  }
+  /**
+   * <pre>
+   * Data that associates a summary with a certain plugin.
+   * </pre>
+   *
+   * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+   */
+  public org.tensorflow.framework.SummaryMetadata.PluginDataOrBuilder getPluginDataOrBuilder() {
+    return getPluginData();
+  }
+
+  public static final int DISPLAY_NAME_FIELD_NUMBER = 2;
+  private volatile java.lang.Object displayName_;
+  /**
+   * <pre>
+   * Display name for viewing in TensorBoard.
+   * </pre>
+   *
+   * <code>string display_name = 2;</code>
+   */
+  public java.lang.String getDisplayName() {
+    java.lang.Object ref = displayName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      displayName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Display name for viewing in TensorBoard.
+   * </pre>
+   *
+   * <code>string display_name = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getDisplayNameBytes() {
+    java.lang.Object ref = displayName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      displayName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SUMMARY_DESCRIPTION_FIELD_NUMBER = 3;
+  private volatile java.lang.Object summaryDescription_;
+  /**
+   * <pre>
+   * Longform readable description of the summary sequence. Markdown supported.
+   * </pre>
+   *
+   * <code>string summary_description = 3;</code>
+   */
+  public java.lang.String getSummaryDescription() {
+    java.lang.Object ref = summaryDescription_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      summaryDescription_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Longform readable description of the summary sequence. Markdown supported.
+   * </pre>
+   *
+   * <code>string summary_description = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getSummaryDescriptionBytes() {
+    java.lang.Object ref = summaryDescription_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      summaryDescription_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (pluginData_ != null) {
+      output.writeMessage(1, getPluginData());
+    }
+    if (!getDisplayNameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, displayName_);
+    }
+    if (!getSummaryDescriptionBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, summaryDescription_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (pluginData_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getPluginData());
+    }
+    if (!getDisplayNameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, displayName_);
+    }
+    if (!getSummaryDescriptionBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, summaryDescription_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.tensorflow.framework.SummaryMetadata)) {
+      return super.equals(obj);
+    }
+    org.tensorflow.framework.SummaryMetadata other = (org.tensorflow.framework.SummaryMetadata) obj;
+
+    boolean result = true;
+    result = result && (hasPluginData() == other.hasPluginData());
+    if (hasPluginData()) {
+      result = result && getPluginData()
+          .equals(other.getPluginData());
+    }
+    result = result && getDisplayName()
+        .equals(other.getDisplayName());
+    result = result && getSummaryDescription()
+        .equals(other.getSummaryDescription());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasPluginData()) {
+      hash = (37 * hash) + PLUGIN_DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getPluginData().hashCode();
+    }
+    hash = (37 * hash) + DISPLAY_NAME_FIELD_NUMBER;
+    hash = (53 * hash) + getDisplayName().hashCode();
+    hash = (37 * hash) + SUMMARY_DESCRIPTION_FIELD_NUMBER;
+    hash = (53 * hash) + getSummaryDescription().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.framework.SummaryMetadata parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.tensorflow.framework.SummaryMetadata prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * A SummaryMetadata encapsulates information on which plugins are able to make
+   * use of a certain summary value.
+   * </pre>
+   *
+   * Protobuf type {@code tensorflow.SummaryMetadata}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:tensorflow.SummaryMetadata)
+      org.tensorflow.framework.SummaryMetadataOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.tensorflow.framework.SummaryMetadata.class, org.tensorflow.framework.SummaryMetadata.Builder.class);
+    }
+
+    // Construct using org.tensorflow.framework.SummaryMetadata.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (pluginDataBuilder_ == null) {
+        pluginData_ = null;
+      } else {
+        pluginData_ = null;
+        pluginDataBuilder_ = null;
+      }
+      displayName_ = "";
+
+      summaryDescription_ = "";
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.tensorflow.framework.SummaryProtos.internal_static_tensorflow_SummaryMetadata_descriptor;
+    }
+
+    public org.tensorflow.framework.SummaryMetadata getDefaultInstanceForType() {
+      return org.tensorflow.framework.SummaryMetadata.getDefaultInstance();
+    }
+
+    public org.tensorflow.framework.SummaryMetadata build() {
+      org.tensorflow.framework.SummaryMetadata result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public org.tensorflow.framework.SummaryMetadata buildPartial() {
+      org.tensorflow.framework.SummaryMetadata result = new org.tensorflow.framework.SummaryMetadata(this);
+      if (pluginDataBuilder_ == null) {
+        result.pluginData_ = pluginData_;
+      } else {
+        result.pluginData_ = pluginDataBuilder_.build();
+      }
+      result.displayName_ = displayName_;
+      result.summaryDescription_ = summaryDescription_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.tensorflow.framework.SummaryMetadata) {
+        return mergeFrom((org.tensorflow.framework.SummaryMetadata)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.tensorflow.framework.SummaryMetadata other) {
+      if (other == org.tensorflow.framework.SummaryMetadata.getDefaultInstance()) return this;
+      if (other.hasPluginData()) {
+        mergePluginData(other.getPluginData());
+      }
+      if (!other.getDisplayName().isEmpty()) {
+        displayName_ = other.displayName_;
+        onChanged();
+      }
+      if (!other.getSummaryDescription().isEmpty()) {
+        summaryDescription_ = other.summaryDescription_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.tensorflow.framework.SummaryMetadata parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.tensorflow.framework.SummaryMetadata) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private org.tensorflow.framework.SummaryMetadata.PluginData pluginData_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.tensorflow.framework.SummaryMetadata.PluginData, org.tensorflow.framework.SummaryMetadata.PluginData.Builder, org.tensorflow.framework.SummaryMetadata.PluginDataOrBuilder> pluginDataBuilder_;
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    public boolean hasPluginData() {
+      return pluginDataBuilder_ != null || pluginData_ != null;
+    }
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    public org.tensorflow.framework.SummaryMetadata.PluginData getPluginData() {
+      if (pluginDataBuilder_ == null) {
+        return pluginData_ == null ? org.tensorflow.framework.SummaryMetadata.PluginData.getDefaultInstance() : pluginData_;
+      } else {
+        return pluginDataBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    public Builder setPluginData(org.tensorflow.framework.SummaryMetadata.PluginData value) {
+      if (pluginDataBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        pluginData_ = value;
+        onChanged();
+      } else {
+        pluginDataBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    public Builder setPluginData(
+        org.tensorflow.framework.SummaryMetadata.PluginData.Builder builderForValue) {
+      if (pluginDataBuilder_ == null) {
+        pluginData_ = builderForValue.build();
+        onChanged();
+      } else {
+        pluginDataBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    public Builder mergePluginData(org.tensorflow.framework.SummaryMetadata.PluginData value) {
+      if (pluginDataBuilder_ == null) {
+        if (pluginData_ != null) {
+          pluginData_ =
+            org.tensorflow.framework.SummaryMetadata.PluginData.newBuilder(pluginData_).mergeFrom(value).buildPartial();
+        } else {
+          pluginData_ = value;
+        }
+        onChanged();
+      } else {
+        pluginDataBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    public Builder clearPluginData() {
+      if (pluginDataBuilder_ == null) {
+        pluginData_ = null;
+        onChanged();
+      } else {
+        pluginData_ = null;
+        pluginDataBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    public org.tensorflow.framework.SummaryMetadata.PluginData.Builder getPluginDataBuilder() {
+      
+      onChanged();
+      return getPluginDataFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    public org.tensorflow.framework.SummaryMetadata.PluginDataOrBuilder getPluginDataOrBuilder() {
+      if (pluginDataBuilder_ != null) {
+        return pluginDataBuilder_.getMessageOrBuilder();
+      } else {
+        return pluginData_ == null ?
+            org.tensorflow.framework.SummaryMetadata.PluginData.getDefaultInstance() : pluginData_;
+      }
+    }
+    /**
+     * <pre>
+     * Data that associates a summary with a certain plugin.
+     * </pre>
+     *
+     * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.tensorflow.framework.SummaryMetadata.PluginData, org.tensorflow.framework.SummaryMetadata.PluginData.Builder, org.tensorflow.framework.SummaryMetadata.PluginDataOrBuilder> 
+        getPluginDataFieldBuilder() {
+      if (pluginDataBuilder_ == null) {
+        pluginDataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.tensorflow.framework.SummaryMetadata.PluginData, org.tensorflow.framework.SummaryMetadata.PluginData.Builder, org.tensorflow.framework.SummaryMetadata.PluginDataOrBuilder>(
+                getPluginData(),
+                getParentForChildren(),
+                isClean());
+        pluginData_ = null;
+      }
+      return pluginDataBuilder_;
+    }
+
+    private java.lang.Object displayName_ = "";
+    /**
+     * <pre>
+     * Display name for viewing in TensorBoard.
+     * </pre>
+     *
+     * <code>string display_name = 2;</code>
+     */
+    public java.lang.String getDisplayName() {
+      java.lang.Object ref = displayName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        displayName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Display name for viewing in TensorBoard.
+     * </pre>
+     *
+     * <code>string display_name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDisplayNameBytes() {
+      java.lang.Object ref = displayName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        displayName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Display name for viewing in TensorBoard.
+     * </pre>
+     *
+     * <code>string display_name = 2;</code>
+     */
+    public Builder setDisplayName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      displayName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Display name for viewing in TensorBoard.
+     * </pre>
+     *
+     * <code>string display_name = 2;</code>
+     */
+    public Builder clearDisplayName() {
+      
+      displayName_ = getDefaultInstance().getDisplayName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Display name for viewing in TensorBoard.
+     * </pre>
+     *
+     * <code>string display_name = 2;</code>
+     */
+    public Builder setDisplayNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      displayName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object summaryDescription_ = "";
+    /**
+     * <pre>
+     * Longform readable description of the summary sequence. Markdown supported.
+     * </pre>
+     *
+     * <code>string summary_description = 3;</code>
+     */
+    public java.lang.String getSummaryDescription() {
+      java.lang.Object ref = summaryDescription_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        summaryDescription_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Longform readable description of the summary sequence. Markdown supported.
+     * </pre>
+     *
+     * <code>string summary_description = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSummaryDescriptionBytes() {
+      java.lang.Object ref = summaryDescription_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        summaryDescription_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Longform readable description of the summary sequence. Markdown supported.
+     * </pre>
+     *
+     * <code>string summary_description = 3;</code>
+     */
+    public Builder setSummaryDescription(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      summaryDescription_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Longform readable description of the summary sequence. Markdown supported.
+     * </pre>
+     *
+     * <code>string summary_description = 3;</code>
+     */
+    public Builder clearSummaryDescription() {
+      
+      summaryDescription_ = getDefaultInstance().getSummaryDescription();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Longform readable description of the summary sequence. Markdown supported.
+     * </pre>
+     *
+     * <code>string summary_description = 3;</code>
+     */
+    public Builder setSummaryDescriptionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      summaryDescription_ = value;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:tensorflow.SummaryMetadata)
+  }
+
+  // @@protoc_insertion_point(class_scope:tensorflow.SummaryMetadata)
+  private static final org.tensorflow.framework.SummaryMetadata DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.tensorflow.framework.SummaryMetadata();
+  }
+
+  public static org.tensorflow.framework.SummaryMetadata getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SummaryMetadata>
+      PARSER = new com.google.protobuf.AbstractParser<SummaryMetadata>() {
+    public SummaryMetadata parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SummaryMetadata(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SummaryMetadata> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SummaryMetadata> getParserForType() {
+    return PARSER;
+  }
+
+  public org.tensorflow.framework.SummaryMetadata getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
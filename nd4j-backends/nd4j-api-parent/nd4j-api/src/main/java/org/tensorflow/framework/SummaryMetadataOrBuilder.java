@@ -0,0 +1,70 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/summary.proto
+
+package org.tensorflow.framework;
+
+public interface SummaryMetadataOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:tensorflow.SummaryMetadata)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Data that associates a summary with a certain plugin.
+   * </pre>
+   *
+   * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+   */
+  boolean hasPluginData();
+  /**
+   * <pre>
+   * Data that associates a summary with a certain plugin.
+   * </pre>
+   *
+   * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+   */
+  org.tensorflow.framework.SummaryMetadata.PluginData getPluginData();
+  /**
+   * <pre>
+   * Data that associates a summary with a certain plugin.
+   * </pre>
+   *
+   * <code>.tensorflow.SummaryMetadata.PluginData plugin_data = 1;</code>
+   */
+  org.tensorflow.framework.SummaryMetadata.PluginDataOrBuilder getPluginDataOrBuilder();
+
+  /**
+   * <pre>
+   * Display name for viewing in TensorBoard.
+   * </pre>
+   *
+   * <code>string display_name = 2;</code>
+   */
+  java.lang.String getDisplayName();
+  /**
+   * <pre>
+   * Display name for viewing in TensorBoard.
+   * </pre>
+   *
+   * <code>string display_name = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getDisplayNameBytes();
+
+  /**
+   * <pre>
+   * Longform readable description of the summary sequence. Markdown supported.
+   * </pre>
+   *
+   * <code>string summary_description = 3;</code>
+   */
+  java.lang.String getSummaryDescription();
+  /**
+   * <pre>
+   * Longform readable description of the summary sequence. Markdown supported.
+   * </pre>
+   *
+   * <code>string summary_description = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getSummaryDescriptionBytes();
+}
@@ -0,0 +1,781 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/iterator.proto
+
+package org.tensorflow.util;
+
+/**
+ * <pre>
+ * Protocol buffer representing the metadata for an iterator's state stored
+ * as a Variant tensor.
+ * </pre>
+ *
+ * Protobuf type {@code tensorflow.IteratorStateMetadata}
+ */
+public  final class IteratorStateMetadata extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:tensorflow.IteratorStateMetadata)
+    IteratorStateMetadataOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use IteratorStateMetadata.newBuilder() to construct.
+  private IteratorStateMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private IteratorStateMetadata() {
+    version_ = "";
+    keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private IteratorStateMetadata(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            version_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              keys_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            keys_.add(s);
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        keys_ = keys_.getUnmodifiableView();
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.tensorflow.util.IteratorProtos.internal_static_tensorflow_IteratorStateMetadata_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.tensorflow.util.IteratorProtos.internal_static_tensorflow_IteratorStateMetadata_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.tensorflow.util.IteratorStateMetadata.class, org.tensorflow.util.IteratorStateMetadata.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int VERSION_FIELD_NUMBER = 1;
+  private volatile java.lang.Object version_;
+  /**
+   * <pre>
+   * A user-specified version string.
+   * </pre>
+   *
+   * <code>string version = 1;</code>
+   */
+  public java.lang.String getVersion() {
+    java.lang.Object ref = version_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      version_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * A user-specified version string.
+   * </pre>
+   *
+   * <code>string version = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getVersionBytes() {
+    java.lang.Object ref = version_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      version_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int KEYS_FIELD_NUMBER = 2;
+  private com.google.protobuf.LazyStringList keys_;
+  /**
+   * <pre>
+   * Keys for tensors in the VariantTensorDataProto.
+   * </pre>
+   *
+   * <code>repeated string keys = 2;</code>
+   */
+  public com.google.protobuf.ProtocolStringList
+      getKeysList() {
+    return keys_;
+  }
+  /**
+   * <pre>
+   * Keys for tensors in the VariantTensorDataProto.
+   * </pre>
+   *
+   * <code>repeated string keys = 2;</code>
+   */
+  public int getKeysCount() {
+    return keys_.size();
+  }
+  /**
+   * <pre>
+   * Keys for tensors in the VariantTensorDataProto.
+   * </pre>
+   *
+   * <code>repeated string keys = 2;</code>
+   */
+  public java.lang.String getKeys(int index) {
+    return keys_.get(index);
+  }
+  /**
+   * <pre>
+   * Keys for tensors in the VariantTensorDataProto.
+   * </pre>
+   *
+   * <code>repeated string keys = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getKeysBytes(int index) {
+    return keys_.getByteString(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getVersionBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, version_);
+    }
+    for (int i = 0; i < keys_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, keys_.getRaw(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getVersionBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, version_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < keys_.size(); i++) {
+        dataSize += computeStringSizeNoTag(keys_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getKeysList().size();
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.tensorflow.util.IteratorStateMetadata)) {
+      return super.equals(obj);
+    }
+    org.tensorflow.util.IteratorStateMetadata other = (org.tensorflow.util.IteratorStateMetadata) obj;
+
+    boolean result = true;
+    result = result && getVersion()
+        .equals(other.getVersion());
+    result = result && getKeysList()
+        .equals(other.getKeysList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getVersion().hashCode();
+    if (getKeysCount() > 0) {
+      hash = (37 * hash) + KEYS_FIELD_NUMBER;
+      hash = (53 * hash) + getKeysList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.tensorflow.util.IteratorStateMetadata parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.tensorflow.util.IteratorStateMetadata prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Protocol buffer representing the metadata for an iterator's state stored
+   * as a Variant tensor.
+   * </pre>
+   *
+   * Protobuf type {@code tensorflow.IteratorStateMetadata}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:tensorflow.IteratorStateMetadata)
+      org.tensorflow.util.IteratorStateMetadataOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.tensorflow.util.IteratorProtos.internal_static_tensorflow_IteratorStateMetadata_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.tensorflow.util.IteratorProtos.internal_static_tensorflow_IteratorStateMetadata_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.tensorflow.util.IteratorStateMetadata.class, org.tensorflow.util.IteratorStateMetadata.Builder.class);
+    }
+
+    // Construct using org.tensorflow.util.IteratorStateMetadata.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      version_ = "";
+
+      keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.tensorflow.util.IteratorProtos.internal_static_tensorflow_IteratorStateMetadata_descriptor;
+    }
+
+    public org.tensorflow.util.IteratorStateMetadata getDefaultInstanceForType() {
+      return org.tensorflow.util.IteratorStateMetadata.getDefaultInstance();
+    }
+
+    public org.tensorflow.util.IteratorStateMetadata build() {
+      org.tensorflow.util.IteratorStateMetadata result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public org.tensorflow.util.IteratorStateMetadata buildPartial() {
+      org.tensorflow.util.IteratorStateMetadata result = new org.tensorflow.util.IteratorStateMetadata(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.version_ = version_;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        keys_ = keys_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.keys_ = keys_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.tensorflow.util.IteratorStateMetadata) {
+        return mergeFrom((org.tensorflow.util.IteratorStateMetadata)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.tensorflow.util.IteratorStateMetadata other) {
+      if (other == org.tensorflow.util.IteratorStateMetadata.getDefaultInstance()) return this;
+      if (!other.getVersion().isEmpty()) {
+        version_ = other.version_;
+        onChanged();
+      }
+      if (!other.keys_.isEmpty()) {
+        if (keys_.isEmpty()) {
+          keys_ = other.keys_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureKeysIsMutable();
+          keys_.addAll(other.keys_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.tensorflow.util.IteratorStateMetadata parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.tensorflow.util.IteratorStateMetadata) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object version_ = "";
+    /**
+     * <pre>
+     * A user-specified version string.
+     * </pre>
+     *
+     * <code>string version = 1;</code>
+     */
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * A user-specified version string.
+     * </pre>
+     *
+     * <code>string version = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * A user-specified version string.
+     * </pre>
+     *
+     * <code>string version = 1;</code>
+     */
+    public Builder setVersion(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * A user-specified version string.
+     * </pre>
+     *
+     * <code>string version = 1;</code>
+     */
+    public Builder clearVersion() {
+      
+      version_ = getDefaultInstance().getVersion();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * A user-specified version string.
+     * </pre>
+     *
+     * <code>string version = 1;</code>
+     */
+    public Builder setVersionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureKeysIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        keys_ = new com.google.protobuf.LazyStringArrayList(keys_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getKeysList() {
+      return keys_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public int getKeysCount() {
+      return keys_.size();
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public java.lang.String getKeys(int index) {
+      return keys_.get(index);
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeysBytes(int index) {
+      return keys_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public Builder setKeys(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeysIsMutable();
+      keys_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public Builder addKeys(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeysIsMutable();
+      keys_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public Builder addAllKeys(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureKeysIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, keys_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public Builder clearKeys() {
+      keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Keys for tensors in the VariantTensorDataProto.
+     * </pre>
+     *
+     * <code>repeated string keys = 2;</code>
+     */
+    public Builder addKeysBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureKeysIsMutable();
+      keys_.add(value);
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:tensorflow.IteratorStateMetadata)
+  }
+
+  // @@protoc_insertion_point(class_scope:tensorflow.IteratorStateMetadata)
+  private static final org.tensorflow.util.IteratorStateMetadata DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.tensorflow.util.IteratorStateMetadata();
+  }
+
+  public static org.tensorflow.util.IteratorStateMetadata getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<IteratorStateMetadata>
+      PARSER = new com.google.protobuf.AbstractParser<IteratorStateMetadata>() {
+    public IteratorStateMetadata parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new IteratorStateMetadata(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<IteratorStateMetadata> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<IteratorStateMetadata> getParserForType() {
+    return PARSER;
+  }
+
+  public org.tensorflow.util.IteratorStateMetadata getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
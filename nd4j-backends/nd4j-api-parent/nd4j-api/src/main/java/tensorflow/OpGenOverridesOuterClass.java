@@ -0,0 +1,4967 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tensorflow/core/framework/op_gen_overrides.proto
+
+package tensorflow;
+
+public final class OpGenOverridesOuterClass {
+  private OpGenOverridesOuterClass() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface OpGenOverrideOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tensorflow.OpGenOverride)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Name of the op to apply overrides to.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Name of the op to apply overrides to.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * Do not include this op in the generated API.
+     * If `skip` is true, all other overrides are ignored for this op.
+     * </pre>
+     *
+     * <code>bool skip = 2;</code>
+     */
+    boolean getSkip();
+
+    /**
+     * <pre>
+     * Hide this op by putting it into an internal namespace (or whatever
+     * is appropriate in the target language).
+     * </pre>
+     *
+     * <code>bool hide = 3;</code>
+     */
+    boolean getHide();
+
+    /**
+     * <pre>
+     * Use a different name in the API than the op's name. Note that
+     * the op's name in `backticks` will also be replaced in the docs.
+     * </pre>
+     *
+     * <code>string rename_to = 4;</code>
+     */
+    java.lang.String getRenameTo();
+    /**
+     * <pre>
+     * Use a different name in the API than the op's name. Note that
+     * the op's name in `backticks` will also be replaced in the docs.
+     * </pre>
+     *
+     * <code>string rename_to = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getRenameToBytes();
+
+    /**
+     * <pre>
+     * Create *additional* API endpoints with different names (contrast
+     * with rename_to, which affects the original name).
+     * </pre>
+     *
+     * <code>repeated string alias = 5;</code>
+     */
+    java.util.List<java.lang.String>
+        getAliasList();
+    /**
+     * <pre>
+     * Create *additional* API endpoints with different names (contrast
+     * with rename_to, which affects the original name).
+     * </pre>
+     *
+     * <code>repeated string alias = 5;</code>
+     */
+    int getAliasCount();
+    /**
+     * <pre>
+     * Create *additional* API endpoints with different names (contrast
+     * with rename_to, which affects the original name).
+     * </pre>
+     *
+     * <code>repeated string alias = 5;</code>
+     */
+    java.lang.String getAlias(int index);
+    /**
+     * <pre>
+     * Create *additional* API endpoints with different names (contrast
+     * with rename_to, which affects the original name).
+     * </pre>
+     *
+     * <code>repeated string alias = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getAliasBytes(int index);
+
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault> 
+        getAttrDefaultList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault getAttrDefault(int index);
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    int getAttrDefaultCount();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder> 
+        getAttrDefaultOrBuilderList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder getAttrDefaultOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> 
+        getAttrRenameList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getAttrRename(int index);
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    int getAttrRenameCount();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+        getAttrRenameOrBuilderList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getAttrRenameOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> 
+        getInputRenameList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getInputRename(int index);
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    int getInputRenameCount();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+        getInputRenameOrBuilderList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getInputRenameOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> 
+        getOutputRenameList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getOutputRename(int index);
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    int getOutputRenameCount();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+        getOutputRenameOrBuilderList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getOutputRenameOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Used to override the default API &amp; behavior in the generated code
+   * for client languages, from what you would get from the OpDef alone.
+   * This is so we can evolve the API while remaining backwards
+   * compatible when interpretting old graphs.  Overrides go in an
+   * "op_gen_overrides.pbtxt" file with a text-format OpGenOverrides
+   * message.  Right now these only apply to the C++ API.
+   * TODO(josh11b): In the future there will be a common set of overrides
+   * and per-client-language overrides.
+   * WARNING: Be *very* careful using these features -- these overrides
+   * can change the semantics of existing code.  These changes may need
+   * to wait until a major release of TensorFlow to avoid breaking our
+   * compatibility promises.
+   * </pre>
+   *
+   * Protobuf type {@code tensorflow.OpGenOverride}
+   */
+  public  static final class OpGenOverride extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tensorflow.OpGenOverride)
+      OpGenOverrideOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use OpGenOverride.newBuilder() to construct.
+    private OpGenOverride(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private OpGenOverride() {
+      name_ = "";
+      skip_ = false;
+      hide_ = false;
+      renameTo_ = "";
+      alias_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      attrDefault_ = java.util.Collections.emptyList();
+      attrRename_ = java.util.Collections.emptyList();
+      inputRename_ = java.util.Collections.emptyList();
+      outputRename_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private OpGenOverride(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 16: {
+
+              skip_ = input.readBool();
+              break;
+            }
+            case 24: {
+
+              hide_ = input.readBool();
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              renameTo_ = s;
+              break;
+            }
+            case 42: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                alias_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              alias_.add(s);
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                attrDefault_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              attrDefault_.add(
+                  input.readMessage(tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.parser(), extensionRegistry));
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                attrRename_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              attrRename_.add(
+                  input.readMessage(tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.parser(), extensionRegistry));
+              break;
+            }
+            case 66: {
+              if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                inputRename_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename>();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              inputRename_.add(
+                  input.readMessage(tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.parser(), extensionRegistry));
+              break;
+            }
+            case 74: {
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+                outputRename_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              outputRename_.add(
+                  input.readMessage(tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          alias_ = alias_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          attrDefault_ = java.util.Collections.unmodifiableList(attrDefault_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          attrRename_ = java.util.Collections.unmodifiableList(attrRename_);
+        }
+        if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+          inputRename_ = java.util.Collections.unmodifiableList(inputRename_);
+        }
+        if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+          outputRename_ = java.util.Collections.unmodifiableList(outputRename_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              tensorflow.OpGenOverridesOuterClass.OpGenOverride.class, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder.class);
+    }
+
+    public interface AttrDefaultOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:tensorflow.OpGenOverride.AttrDefault)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string name = 1;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>string name = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>.tensorflow.AttrValue value = 2;</code>
+       */
+      boolean hasValue();
+      /**
+       * <code>.tensorflow.AttrValue value = 2;</code>
+       */
+      org.tensorflow.framework.AttrValue getValue();
+      /**
+       * <code>.tensorflow.AttrValue value = 2;</code>
+       */
+      org.tensorflow.framework.AttrValueOrBuilder getValueOrBuilder();
+    }
+    /**
+     * <pre>
+     * Map the name of an attr to a new default value to use.  This
+     * default will be used when creating new graphs, as opposed to the
+     * default in the OpDef, which will be used when interpreting old
+     * GraphDefs.  If this attr is also renamed (using attr_rename
+     * below), use the original name of the attr.
+     * </pre>
+     *
+     * Protobuf type {@code tensorflow.OpGenOverride.AttrDefault}
+     */
+    public  static final class AttrDefault extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:tensorflow.OpGenOverride.AttrDefault)
+        AttrDefaultOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use AttrDefault.newBuilder() to construct.
+      private AttrDefault(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private AttrDefault() {
+        name_ = "";
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private AttrDefault(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownFieldProto3(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                name_ = s;
+                break;
+              }
+              case 18: {
+                org.tensorflow.framework.AttrValue.Builder subBuilder = null;
+                if (value_ != null) {
+                  subBuilder = value_.toBuilder();
+                }
+                value_ = input.readMessage(org.tensorflow.framework.AttrValue.parser(), extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(value_);
+                  value_ = subBuilder.buildPartial();
+                }
+
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_AttrDefault_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_AttrDefault_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.class, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder.class);
+      }
+
+      public static final int NAME_FIELD_NUMBER = 1;
+      private volatile java.lang.Object name_;
+      /**
+       * <code>string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int VALUE_FIELD_NUMBER = 2;
+      private org.tensorflow.framework.AttrValue value_;
+      /**
+       * <code>.tensorflow.AttrValue value = 2;</code>
+       */
+      public boolean hasValue() {
+        return value_ != null;
+      }
+      /**
+       * <code>.tensorflow.AttrValue value = 2;</code>
+       */
+      public org.tensorflow.framework.AttrValue getValue() {
+        return value_ == null ? org.tensorflow.framework.AttrValue.getDefaultInstance() : value_;
+      }
+      /**
+       * <code>.tensorflow.AttrValue value = 2;</code>
+       */
+      public org.tensorflow.framework.AttrValueOrBuilder getValueOrBuilder() {
+        return getValue();
+      }
+
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!getNameBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        if (value_ != null) {
+          output.writeMessage(2, getValue());
+        }
+        unknownFields.writeTo(output);
+      }
+
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!getNameBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        if (value_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, getValue());
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault)) {
+          return super.equals(obj);
+        }
+        tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault other = (tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault) obj;
+
+        boolean result = true;
+        result = result && getName()
+            .equals(other.getName());
+        result = result && (hasValue() == other.hasValue());
+        if (hasValue()) {
+          result = result && getValue()
+              .equals(other.getValue());
+        }
+        result = result && unknownFields.equals(other.unknownFields);
+        return result;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        if (hasValue()) {
+          hash = (37 * hash) + VALUE_FIELD_NUMBER;
+          hash = (53 * hash) + getValue().hashCode();
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Map the name of an attr to a new default value to use.  This
+       * default will be used when creating new graphs, as opposed to the
+       * default in the OpDef, which will be used when interpreting old
+       * GraphDefs.  If this attr is also renamed (using attr_rename
+       * below), use the original name of the attr.
+       * </pre>
+       *
+       * Protobuf type {@code tensorflow.OpGenOverride.AttrDefault}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:tensorflow.OpGenOverride.AttrDefault)
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_AttrDefault_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_AttrDefault_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.class, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder.class);
+        }
+
+        // Construct using tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+
+          if (valueBuilder_ == null) {
+            value_ = null;
+          } else {
+            value_ = null;
+            valueBuilder_ = null;
+          }
+          return this;
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_AttrDefault_descriptor;
+        }
+
+        public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault getDefaultInstanceForType() {
+          return tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.getDefaultInstance();
+        }
+
+        public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault build() {
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault buildPartial() {
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault result = new tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault(this);
+          result.name_ = name_;
+          if (valueBuilder_ == null) {
+            result.value_ = value_;
+          } else {
+            result.value_ = valueBuilder_.build();
+          }
+          onBuilt();
+          return result;
+        }
+
+        public Builder clone() {
+          return (Builder) super.clone();
+        }
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.setField(field, value);
+        }
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return (Builder) super.clearField(field);
+        }
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return (Builder) super.clearOneof(oneof);
+        }
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return (Builder) super.setRepeatedField(field, index, value);
+        }
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.addRepeatedField(field, value);
+        }
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault) {
+            return mergeFrom((tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault other) {
+          if (other == tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasValue()) {
+            mergeValue(other.getValue());
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>string name = 1;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder clearName() {
+          
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+          
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private org.tensorflow.framework.AttrValue value_ = null;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.tensorflow.framework.AttrValue, org.tensorflow.framework.AttrValue.Builder, org.tensorflow.framework.AttrValueOrBuilder> valueBuilder_;
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        public boolean hasValue() {
+          return valueBuilder_ != null || value_ != null;
+        }
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        public org.tensorflow.framework.AttrValue getValue() {
+          if (valueBuilder_ == null) {
+            return value_ == null ? org.tensorflow.framework.AttrValue.getDefaultInstance() : value_;
+          } else {
+            return valueBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        public Builder setValue(org.tensorflow.framework.AttrValue value) {
+          if (valueBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            value_ = value;
+            onChanged();
+          } else {
+            valueBuilder_.setMessage(value);
+          }
+
+          return this;
+        }
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        public Builder setValue(
+            org.tensorflow.framework.AttrValue.Builder builderForValue) {
+          if (valueBuilder_ == null) {
+            value_ = builderForValue.build();
+            onChanged();
+          } else {
+            valueBuilder_.setMessage(builderForValue.build());
+          }
+
+          return this;
+        }
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        public Builder mergeValue(org.tensorflow.framework.AttrValue value) {
+          if (valueBuilder_ == null) {
+            if (value_ != null) {
+              value_ =
+                org.tensorflow.framework.AttrValue.newBuilder(value_).mergeFrom(value).buildPartial();
+            } else {
+              value_ = value;
+            }
+            onChanged();
+          } else {
+            valueBuilder_.mergeFrom(value);
+          }
+
+          return this;
+        }
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        public Builder clearValue() {
+          if (valueBuilder_ == null) {
+            value_ = null;
+            onChanged();
+          } else {
+            value_ = null;
+            valueBuilder_ = null;
+          }
+
+          return this;
+        }
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        public org.tensorflow.framework.AttrValue.Builder getValueBuilder() {
+          
+          onChanged();
+          return getValueFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        public org.tensorflow.framework.AttrValueOrBuilder getValueOrBuilder() {
+          if (valueBuilder_ != null) {
+            return valueBuilder_.getMessageOrBuilder();
+          } else {
+            return value_ == null ?
+                org.tensorflow.framework.AttrValue.getDefaultInstance() : value_;
+          }
+        }
+        /**
+         * <code>.tensorflow.AttrValue value = 2;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.tensorflow.framework.AttrValue, org.tensorflow.framework.AttrValue.Builder, org.tensorflow.framework.AttrValueOrBuilder> 
+            getValueFieldBuilder() {
+          if (valueBuilder_ == null) {
+            valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.tensorflow.framework.AttrValue, org.tensorflow.framework.AttrValue.Builder, org.tensorflow.framework.AttrValueOrBuilder>(
+                    getValue(),
+                    getParentForChildren(),
+                    isClean());
+            value_ = null;
+          }
+          return valueBuilder_;
+        }
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFieldsProto3(unknownFields);
+        }
+
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:tensorflow.OpGenOverride.AttrDefault)
+      }
+
+      // @@protoc_insertion_point(class_scope:tensorflow.OpGenOverride.AttrDefault)
+      private static final tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault();
+      }
+
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<AttrDefault>
+          PARSER = new com.google.protobuf.AbstractParser<AttrDefault>() {
+        public AttrDefault parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new AttrDefault(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<AttrDefault> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<AttrDefault> getParserForType() {
+        return PARSER;
+      }
+
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface RenameOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:tensorflow.OpGenOverride.Rename)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string from = 1;</code>
+       */
+      java.lang.String getFrom();
+      /**
+       * <code>string from = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getFromBytes();
+
+      /**
+       * <code>string to = 2;</code>
+       */
+      java.lang.String getTo();
+      /**
+       * <code>string to = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getToBytes();
+    }
+    /**
+     * <pre>
+     * Change the name used to access attrs/inputs/outputs in the API
+     * from what is used in the GraphDef.  Note that these names in
+     * `backticks` will also be replaced in the docs.
+     * </pre>
+     *
+     * Protobuf type {@code tensorflow.OpGenOverride.Rename}
+     */
+    public  static final class Rename extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:tensorflow.OpGenOverride.Rename)
+        RenameOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Rename.newBuilder() to construct.
+      private Rename(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Rename() {
+        from_ = "";
+        to_ = "";
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Rename(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownFieldProto3(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                from_ = s;
+                break;
+              }
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                to_ = s;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_Rename_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_Rename_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.class, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder.class);
+      }
+
+      public static final int FROM_FIELD_NUMBER = 1;
+      private volatile java.lang.Object from_;
+      /**
+       * <code>string from = 1;</code>
+       */
+      public java.lang.String getFrom() {
+        java.lang.Object ref = from_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          from_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string from = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFromBytes() {
+        java.lang.Object ref = from_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          from_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TO_FIELD_NUMBER = 2;
+      private volatile java.lang.Object to_;
+      /**
+       * <code>string to = 2;</code>
+       */
+      public java.lang.String getTo() {
+        java.lang.Object ref = to_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          to_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string to = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getToBytes() {
+        java.lang.Object ref = to_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          to_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!getFromBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, from_);
+        }
+        if (!getToBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, to_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!getFromBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, from_);
+        }
+        if (!getToBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, to_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename)) {
+          return super.equals(obj);
+        }
+        tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename other = (tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename) obj;
+
+        boolean result = true;
+        result = result && getFrom()
+            .equals(other.getFrom());
+        result = result && getTo()
+            .equals(other.getTo());
+        result = result && unknownFields.equals(other.unknownFields);
+        return result;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + FROM_FIELD_NUMBER;
+        hash = (53 * hash) + getFrom().hashCode();
+        hash = (37 * hash) + TO_FIELD_NUMBER;
+        hash = (53 * hash) + getTo().hashCode();
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Change the name used to access attrs/inputs/outputs in the API
+       * from what is used in the GraphDef.  Note that these names in
+       * `backticks` will also be replaced in the docs.
+       * </pre>
+       *
+       * Protobuf type {@code tensorflow.OpGenOverride.Rename}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:tensorflow.OpGenOverride.Rename)
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_Rename_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_Rename_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.class, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder.class);
+        }
+
+        // Construct using tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        public Builder clear() {
+          super.clear();
+          from_ = "";
+
+          to_ = "";
+
+          return this;
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_Rename_descriptor;
+        }
+
+        public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getDefaultInstanceForType() {
+          return tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.getDefaultInstance();
+        }
+
+        public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename build() {
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename buildPartial() {
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename result = new tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename(this);
+          result.from_ = from_;
+          result.to_ = to_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder clone() {
+          return (Builder) super.clone();
+        }
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.setField(field, value);
+        }
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return (Builder) super.clearField(field);
+        }
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return (Builder) super.clearOneof(oneof);
+        }
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return (Builder) super.setRepeatedField(field, index, value);
+        }
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.addRepeatedField(field, value);
+        }
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename) {
+            return mergeFrom((tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename other) {
+          if (other == tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.getDefaultInstance()) return this;
+          if (!other.getFrom().isEmpty()) {
+            from_ = other.from_;
+            onChanged();
+          }
+          if (!other.getTo().isEmpty()) {
+            to_ = other.to_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+
+        private java.lang.Object from_ = "";
+        /**
+         * <code>string from = 1;</code>
+         */
+        public java.lang.String getFrom() {
+          java.lang.Object ref = from_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            from_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string from = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getFromBytes() {
+          java.lang.Object ref = from_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            from_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string from = 1;</code>
+         */
+        public Builder setFrom(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          from_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string from = 1;</code>
+         */
+        public Builder clearFrom() {
+          
+          from_ = getDefaultInstance().getFrom();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string from = 1;</code>
+         */
+        public Builder setFromBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+          
+          from_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object to_ = "";
+        /**
+         * <code>string to = 2;</code>
+         */
+        public java.lang.String getTo() {
+          java.lang.Object ref = to_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            to_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string to = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getToBytes() {
+          java.lang.Object ref = to_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            to_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string to = 2;</code>
+         */
+        public Builder setTo(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          to_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string to = 2;</code>
+         */
+        public Builder clearTo() {
+          
+          to_ = getDefaultInstance().getTo();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string to = 2;</code>
+         */
+        public Builder setToBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+          
+          to_ = value;
+          onChanged();
+          return this;
+        }
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFieldsProto3(unknownFields);
+        }
+
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:tensorflow.OpGenOverride.Rename)
+      }
+
+      // @@protoc_insertion_point(class_scope:tensorflow.OpGenOverride.Rename)
+      private static final tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename();
+      }
+
+      public static tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Rename>
+          PARSER = new com.google.protobuf.AbstractParser<Rename>() {
+        public Rename parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Rename(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<Rename> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Rename> getParserForType() {
+        return PARSER;
+      }
+
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <pre>
+     * Name of the op to apply overrides to.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the op to apply overrides to.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SKIP_FIELD_NUMBER = 2;
+    private boolean skip_;
+    /**
+     * <pre>
+     * Do not include this op in the generated API.
+     * If `skip` is true, all other overrides are ignored for this op.
+     * </pre>
+     *
+     * <code>bool skip = 2;</code>
+     */
+    public boolean getSkip() {
+      return skip_;
+    }
+
+    public static final int HIDE_FIELD_NUMBER = 3;
+    private boolean hide_;
+    /**
+     * <pre>
+     * Hide this op by putting it into an internal namespace (or whatever
+     * is appropriate in the target language).
+     * </pre>
+     *
+     * <code>bool hide = 3;</code>
+     */
+    public boolean getHide() {
+      return hide_;
+    }
+
+    public static final int RENAME_TO_FIELD_NUMBER = 4;
+    private volatile java.lang.Object renameTo_;
+    /**
+     * <pre>
+     * Use a different name in the API than the op's name. Note that
+     * the op's name in `backticks` will also be replaced in the docs.
+     * </pre>
+     *
+     * <code>string rename_to = 4;</code>
+     */
+    public java.lang.String getRenameTo() {
+      java.lang.Object ref = renameTo_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        renameTo_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Use a different name in the API than the op's name. Note that
+     * the op's name in `backticks` will also be replaced in the docs.
+     * </pre>
+     *
+     * <code>string rename_to = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRenameToBytes() {
+      java.lang.Object ref = renameTo_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        renameTo_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ALIAS_FIELD_NUMBER = 5;
+    private com.google.protobuf.LazyStringList alias_;
+    /**
+     * <pre>
+     * Create *additional* API endpoints with different names (contrast
+     * with rename_to, which affects the original name).
+     * </pre>
+     *
+     * <code>repeated string alias = 5;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getAliasList() {
+      return alias_;
+    }
+    /**
+     * <pre>
+     * Create *additional* API endpoints with different names (contrast
+     * with rename_to, which affects the original name).
+     * </pre>
+     *
+     * <code>repeated string alias = 5;</code>
+     */
+    public int getAliasCount() {
+      return alias_.size();
+    }
+    /**
+     * <pre>
+     * Create *additional* API endpoints with different names (contrast
+     * with rename_to, which affects the original name).
+     * </pre>
+     *
+     * <code>repeated string alias = 5;</code>
+     */
+    public java.lang.String getAlias(int index) {
+      return alias_.get(index);
+    }
+    /**
+     * <pre>
+     * Create *additional* API endpoints with different names (contrast
+     * with rename_to, which affects the original name).
+     * </pre>
+     *
+     * <code>repeated string alias = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAliasBytes(int index) {
+      return alias_.getByteString(index);
+    }
+
+    public static final int ATTR_DEFAULT_FIELD_NUMBER = 6;
+    private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault> attrDefault_;
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault> getAttrDefaultList() {
+      return attrDefault_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder> 
+        getAttrDefaultOrBuilderList() {
+      return attrDefault_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    public int getAttrDefaultCount() {
+      return attrDefault_.size();
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault getAttrDefault(int index) {
+      return attrDefault_.get(index);
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder getAttrDefaultOrBuilder(
+        int index) {
+      return attrDefault_.get(index);
+    }
+
+    public static final int ATTR_RENAME_FIELD_NUMBER = 7;
+    private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> attrRename_;
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> getAttrRenameList() {
+      return attrRename_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+        getAttrRenameOrBuilderList() {
+      return attrRename_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    public int getAttrRenameCount() {
+      return attrRename_.size();
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getAttrRename(int index) {
+      return attrRename_.get(index);
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getAttrRenameOrBuilder(
+        int index) {
+      return attrRename_.get(index);
+    }
+
+    public static final int INPUT_RENAME_FIELD_NUMBER = 8;
+    private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> inputRename_;
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> getInputRenameList() {
+      return inputRename_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+        getInputRenameOrBuilderList() {
+      return inputRename_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    public int getInputRenameCount() {
+      return inputRename_.size();
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getInputRename(int index) {
+      return inputRename_.get(index);
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getInputRenameOrBuilder(
+        int index) {
+      return inputRename_.get(index);
+    }
+
+    public static final int OUTPUT_RENAME_FIELD_NUMBER = 9;
+    private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> outputRename_;
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> getOutputRenameList() {
+      return outputRename_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+        getOutputRenameOrBuilderList() {
+      return outputRename_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    public int getOutputRenameCount() {
+      return outputRename_.size();
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getOutputRename(int index) {
+      return outputRename_.get(index);
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getOutputRenameOrBuilder(
+        int index) {
+      return outputRename_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (skip_ != false) {
+        output.writeBool(2, skip_);
+      }
+      if (hide_ != false) {
+        output.writeBool(3, hide_);
+      }
+      if (!getRenameToBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, renameTo_);
+      }
+      for (int i = 0; i < alias_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, alias_.getRaw(i));
+      }
+      for (int i = 0; i < attrDefault_.size(); i++) {
+        output.writeMessage(6, attrDefault_.get(i));
+      }
+      for (int i = 0; i < attrRename_.size(); i++) {
+        output.writeMessage(7, attrRename_.get(i));
+      }
+      for (int i = 0; i < inputRename_.size(); i++) {
+        output.writeMessage(8, inputRename_.get(i));
+      }
+      for (int i = 0; i < outputRename_.size(); i++) {
+        output.writeMessage(9, outputRename_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (skip_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, skip_);
+      }
+      if (hide_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, hide_);
+      }
+      if (!getRenameToBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, renameTo_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < alias_.size(); i++) {
+          dataSize += computeStringSizeNoTag(alias_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getAliasList().size();
+      }
+      for (int i = 0; i < attrDefault_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, attrDefault_.get(i));
+      }
+      for (int i = 0; i < attrRename_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, attrRename_.get(i));
+      }
+      for (int i = 0; i < inputRename_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, inputRename_.get(i));
+      }
+      for (int i = 0; i < outputRename_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, outputRename_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof tensorflow.OpGenOverridesOuterClass.OpGenOverride)) {
+        return super.equals(obj);
+      }
+      tensorflow.OpGenOverridesOuterClass.OpGenOverride other = (tensorflow.OpGenOverridesOuterClass.OpGenOverride) obj;
+
+      boolean result = true;
+      result = result && getName()
+          .equals(other.getName());
+      result = result && (getSkip()
+          == other.getSkip());
+      result = result && (getHide()
+          == other.getHide());
+      result = result && getRenameTo()
+          .equals(other.getRenameTo());
+      result = result && getAliasList()
+          .equals(other.getAliasList());
+      result = result && getAttrDefaultList()
+          .equals(other.getAttrDefaultList());
+      result = result && getAttrRenameList()
+          .equals(other.getAttrRenameList());
+      result = result && getInputRenameList()
+          .equals(other.getInputRenameList());
+      result = result && getOutputRenameList()
+          .equals(other.getOutputRenameList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + SKIP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSkip());
+      hash = (37 * hash) + HIDE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getHide());
+      hash = (37 * hash) + RENAME_TO_FIELD_NUMBER;
+      hash = (53 * hash) + getRenameTo().hashCode();
+      if (getAliasCount() > 0) {
+        hash = (37 * hash) + ALIAS_FIELD_NUMBER;
+        hash = (53 * hash) + getAliasList().hashCode();
+      }
+      if (getAttrDefaultCount() > 0) {
+        hash = (37 * hash) + ATTR_DEFAULT_FIELD_NUMBER;
+        hash = (53 * hash) + getAttrDefaultList().hashCode();
+      }
+      if (getAttrRenameCount() > 0) {
+        hash = (37 * hash) + ATTR_RENAME_FIELD_NUMBER;
+        hash = (53 * hash) + getAttrRenameList().hashCode();
+      }
+      if (getInputRenameCount() > 0) {
+        hash = (37 * hash) + INPUT_RENAME_FIELD_NUMBER;
+        hash = (53 * hash) + getInputRenameList().hashCode();
+      }
+      if (getOutputRenameCount() > 0) {
+        hash = (37 * hash) + OUTPUT_RENAME_FIELD_NUMBER;
+        hash = (53 * hash) + getOutputRenameList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(tensorflow.OpGenOverridesOuterClass.OpGenOverride prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Used to override the default API &amp; behavior in the generated code
+     * for client languages, from what you would get from the OpDef alone.
+     * This is so we can evolve the API while remaining backwards
+     * compatible when interpretting old graphs.  Overrides go in an
+     * "op_gen_overrides.pbtxt" file with a text-format OpGenOverrides
+     * message.  Right now these only apply to the C++ API.
+     * TODO(josh11b): In the future there will be a common set of overrides
+     * and per-client-language overrides.
+     * WARNING: Be *very* careful using these features -- these overrides
+     * can change the semantics of existing code.  These changes may need
+     * to wait until a major release of TensorFlow to avoid breaking our
+     * compatibility promises.
+     * </pre>
+     *
+     * Protobuf type {@code tensorflow.OpGenOverride}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tensorflow.OpGenOverride)
+        tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                tensorflow.OpGenOverridesOuterClass.OpGenOverride.class, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder.class);
+      }
+
+      // Construct using tensorflow.OpGenOverridesOuterClass.OpGenOverride.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getAttrDefaultFieldBuilder();
+          getAttrRenameFieldBuilder();
+          getInputRenameFieldBuilder();
+          getOutputRenameFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        skip_ = false;
+
+        hide_ = false;
+
+        renameTo_ = "";
+
+        alias_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (attrDefaultBuilder_ == null) {
+          attrDefault_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          attrDefaultBuilder_.clear();
+        }
+        if (attrRenameBuilder_ == null) {
+          attrRename_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        } else {
+          attrRenameBuilder_.clear();
+        }
+        if (inputRenameBuilder_ == null) {
+          inputRename_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        } else {
+          inputRenameBuilder_.clear();
+        }
+        if (outputRenameBuilder_ == null) {
+          outputRename_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+        } else {
+          outputRenameBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverride_descriptor;
+      }
+
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride getDefaultInstanceForType() {
+        return tensorflow.OpGenOverridesOuterClass.OpGenOverride.getDefaultInstance();
+      }
+
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride build() {
+        tensorflow.OpGenOverridesOuterClass.OpGenOverride result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride buildPartial() {
+        tensorflow.OpGenOverridesOuterClass.OpGenOverride result = new tensorflow.OpGenOverridesOuterClass.OpGenOverride(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.name_ = name_;
+        result.skip_ = skip_;
+        result.hide_ = hide_;
+        result.renameTo_ = renameTo_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          alias_ = alias_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.alias_ = alias_;
+        if (attrDefaultBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            attrDefault_ = java.util.Collections.unmodifiableList(attrDefault_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.attrDefault_ = attrDefault_;
+        } else {
+          result.attrDefault_ = attrDefaultBuilder_.build();
+        }
+        if (attrRenameBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040)) {
+            attrRename_ = java.util.Collections.unmodifiableList(attrRename_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.attrRename_ = attrRename_;
+        } else {
+          result.attrRename_ = attrRenameBuilder_.build();
+        }
+        if (inputRenameBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) == 0x00000080)) {
+            inputRename_ = java.util.Collections.unmodifiableList(inputRename_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.inputRename_ = inputRename_;
+        } else {
+          result.inputRename_ = inputRenameBuilder_.build();
+        }
+        if (outputRenameBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) == 0x00000100)) {
+            outputRename_ = java.util.Collections.unmodifiableList(outputRename_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.outputRename_ = outputRename_;
+        } else {
+          result.outputRename_ = outputRenameBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof tensorflow.OpGenOverridesOuterClass.OpGenOverride) {
+          return mergeFrom((tensorflow.OpGenOverridesOuterClass.OpGenOverride)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(tensorflow.OpGenOverridesOuterClass.OpGenOverride other) {
+        if (other == tensorflow.OpGenOverridesOuterClass.OpGenOverride.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.getSkip() != false) {
+          setSkip(other.getSkip());
+        }
+        if (other.getHide() != false) {
+          setHide(other.getHide());
+        }
+        if (!other.getRenameTo().isEmpty()) {
+          renameTo_ = other.renameTo_;
+          onChanged();
+        }
+        if (!other.alias_.isEmpty()) {
+          if (alias_.isEmpty()) {
+            alias_ = other.alias_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureAliasIsMutable();
+            alias_.addAll(other.alias_);
+          }
+          onChanged();
+        }
+        if (attrDefaultBuilder_ == null) {
+          if (!other.attrDefault_.isEmpty()) {
+            if (attrDefault_.isEmpty()) {
+              attrDefault_ = other.attrDefault_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureAttrDefaultIsMutable();
+              attrDefault_.addAll(other.attrDefault_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attrDefault_.isEmpty()) {
+            if (attrDefaultBuilder_.isEmpty()) {
+              attrDefaultBuilder_.dispose();
+              attrDefaultBuilder_ = null;
+              attrDefault_ = other.attrDefault_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              attrDefaultBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAttrDefaultFieldBuilder() : null;
+            } else {
+              attrDefaultBuilder_.addAllMessages(other.attrDefault_);
+            }
+          }
+        }
+        if (attrRenameBuilder_ == null) {
+          if (!other.attrRename_.isEmpty()) {
+            if (attrRename_.isEmpty()) {
+              attrRename_ = other.attrRename_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureAttrRenameIsMutable();
+              attrRename_.addAll(other.attrRename_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attrRename_.isEmpty()) {
+            if (attrRenameBuilder_.isEmpty()) {
+              attrRenameBuilder_.dispose();
+              attrRenameBuilder_ = null;
+              attrRename_ = other.attrRename_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              attrRenameBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAttrRenameFieldBuilder() : null;
+            } else {
+              attrRenameBuilder_.addAllMessages(other.attrRename_);
+            }
+          }
+        }
+        if (inputRenameBuilder_ == null) {
+          if (!other.inputRename_.isEmpty()) {
+            if (inputRename_.isEmpty()) {
+              inputRename_ = other.inputRename_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureInputRenameIsMutable();
+              inputRename_.addAll(other.inputRename_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.inputRename_.isEmpty()) {
+            if (inputRenameBuilder_.isEmpty()) {
+              inputRenameBuilder_.dispose();
+              inputRenameBuilder_ = null;
+              inputRename_ = other.inputRename_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              inputRenameBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getInputRenameFieldBuilder() : null;
+            } else {
+              inputRenameBuilder_.addAllMessages(other.inputRename_);
+            }
+          }
+        }
+        if (outputRenameBuilder_ == null) {
+          if (!other.outputRename_.isEmpty()) {
+            if (outputRename_.isEmpty()) {
+              outputRename_ = other.outputRename_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureOutputRenameIsMutable();
+              outputRename_.addAll(other.outputRename_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.outputRename_.isEmpty()) {
+            if (outputRenameBuilder_.isEmpty()) {
+              outputRenameBuilder_.dispose();
+              outputRenameBuilder_ = null;
+              outputRename_ = other.outputRename_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+              outputRenameBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getOutputRenameFieldBuilder() : null;
+            } else {
+              outputRenameBuilder_.addAllMessages(other.outputRename_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        tensorflow.OpGenOverridesOuterClass.OpGenOverride parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (tensorflow.OpGenOverridesOuterClass.OpGenOverride) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the op to apply overrides to.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the op to apply overrides to.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the op to apply overrides to.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the op to apply overrides to.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the op to apply overrides to.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean skip_ ;
+      /**
+       * <pre>
+       * Do not include this op in the generated API.
+       * If `skip` is true, all other overrides are ignored for this op.
+       * </pre>
+       *
+       * <code>bool skip = 2;</code>
+       */
+      public boolean getSkip() {
+        return skip_;
+      }
+      /**
+       * <pre>
+       * Do not include this op in the generated API.
+       * If `skip` is true, all other overrides are ignored for this op.
+       * </pre>
+       *
+       * <code>bool skip = 2;</code>
+       */
+      public Builder setSkip(boolean value) {
+        
+        skip_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Do not include this op in the generated API.
+       * If `skip` is true, all other overrides are ignored for this op.
+       * </pre>
+       *
+       * <code>bool skip = 2;</code>
+       */
+      public Builder clearSkip() {
+        
+        skip_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean hide_ ;
+      /**
+       * <pre>
+       * Hide this op by putting it into an internal namespace (or whatever
+       * is appropriate in the target language).
+       * </pre>
+       *
+       * <code>bool hide = 3;</code>
+       */
+      public boolean getHide() {
+        return hide_;
+      }
+      /**
+       * <pre>
+       * Hide this op by putting it into an internal namespace (or whatever
+       * is appropriate in the target language).
+       * </pre>
+       *
+       * <code>bool hide = 3;</code>
+       */
+      public Builder setHide(boolean value) {
+        
+        hide_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Hide this op by putting it into an internal namespace (or whatever
+       * is appropriate in the target language).
+       * </pre>
+       *
+       * <code>bool hide = 3;</code>
+       */
+      public Builder clearHide() {
+        
+        hide_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object renameTo_ = "";
+      /**
+       * <pre>
+       * Use a different name in the API than the op's name. Note that
+       * the op's name in `backticks` will also be replaced in the docs.
+       * </pre>
+       *
+       * <code>string rename_to = 4;</code>
+       */
+      public java.lang.String getRenameTo() {
+        java.lang.Object ref = renameTo_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          renameTo_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Use a different name in the API than the op's name. Note that
+       * the op's name in `backticks` will also be replaced in the docs.
+       * </pre>
+       *
+       * <code>string rename_to = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRenameToBytes() {
+        java.lang.Object ref = renameTo_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          renameTo_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Use a different name in the API than the op's name. Note that
+       * the op's name in `backticks` will also be replaced in the docs.
+       * </pre>
+       *
+       * <code>string rename_to = 4;</code>
+       */
+      public Builder setRenameTo(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        renameTo_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Use a different name in the API than the op's name. Note that
+       * the op's name in `backticks` will also be replaced in the docs.
+       * </pre>
+       *
+       * <code>string rename_to = 4;</code>
+       */
+      public Builder clearRenameTo() {
+        
+        renameTo_ = getDefaultInstance().getRenameTo();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Use a different name in the API than the op's name. Note that
+       * the op's name in `backticks` will also be replaced in the docs.
+       * </pre>
+       *
+       * <code>string rename_to = 4;</code>
+       */
+      public Builder setRenameToBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        renameTo_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList alias_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureAliasIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          alias_ = new com.google.protobuf.LazyStringArrayList(alias_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getAliasList() {
+        return alias_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public int getAliasCount() {
+        return alias_.size();
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public java.lang.String getAlias(int index) {
+        return alias_.get(index);
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAliasBytes(int index) {
+        return alias_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public Builder setAlias(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAliasIsMutable();
+        alias_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public Builder addAlias(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAliasIsMutable();
+        alias_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public Builder addAllAlias(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureAliasIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, alias_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public Builder clearAlias() {
+        alias_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Create *additional* API endpoints with different names (contrast
+       * with rename_to, which affects the original name).
+       * </pre>
+       *
+       * <code>repeated string alias = 5;</code>
+       */
+      public Builder addAliasBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureAliasIsMutable();
+        alias_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault> attrDefault_ =
+        java.util.Collections.emptyList();
+      private void ensureAttrDefaultIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          attrDefault_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault>(attrDefault_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder> attrDefaultBuilder_;
+
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault> getAttrDefaultList() {
+        if (attrDefaultBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attrDefault_);
+        } else {
+          return attrDefaultBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public int getAttrDefaultCount() {
+        if (attrDefaultBuilder_ == null) {
+          return attrDefault_.size();
+        } else {
+          return attrDefaultBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault getAttrDefault(int index) {
+        if (attrDefaultBuilder_ == null) {
+          return attrDefault_.get(index);
+        } else {
+          return attrDefaultBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder setAttrDefault(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault value) {
+        if (attrDefaultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrDefaultIsMutable();
+          attrDefault_.set(index, value);
+          onChanged();
+        } else {
+          attrDefaultBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder setAttrDefault(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder builderForValue) {
+        if (attrDefaultBuilder_ == null) {
+          ensureAttrDefaultIsMutable();
+          attrDefault_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrDefaultBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder addAttrDefault(tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault value) {
+        if (attrDefaultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrDefaultIsMutable();
+          attrDefault_.add(value);
+          onChanged();
+        } else {
+          attrDefaultBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder addAttrDefault(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault value) {
+        if (attrDefaultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrDefaultIsMutable();
+          attrDefault_.add(index, value);
+          onChanged();
+        } else {
+          attrDefaultBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder addAttrDefault(
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder builderForValue) {
+        if (attrDefaultBuilder_ == null) {
+          ensureAttrDefaultIsMutable();
+          attrDefault_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attrDefaultBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder addAttrDefault(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder builderForValue) {
+        if (attrDefaultBuilder_ == null) {
+          ensureAttrDefaultIsMutable();
+          attrDefault_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrDefaultBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder addAllAttrDefault(
+          java.lang.Iterable<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault> values) {
+        if (attrDefaultBuilder_ == null) {
+          ensureAttrDefaultIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attrDefault_);
+          onChanged();
+        } else {
+          attrDefaultBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder clearAttrDefault() {
+        if (attrDefaultBuilder_ == null) {
+          attrDefault_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          attrDefaultBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public Builder removeAttrDefault(int index) {
+        if (attrDefaultBuilder_ == null) {
+          ensureAttrDefaultIsMutable();
+          attrDefault_.remove(index);
+          onChanged();
+        } else {
+          attrDefaultBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder getAttrDefaultBuilder(
+          int index) {
+        return getAttrDefaultFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder getAttrDefaultOrBuilder(
+          int index) {
+        if (attrDefaultBuilder_ == null) {
+          return attrDefault_.get(index);  } else {
+          return attrDefaultBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder> 
+           getAttrDefaultOrBuilderList() {
+        if (attrDefaultBuilder_ != null) {
+          return attrDefaultBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attrDefault_);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder addAttrDefaultBuilder() {
+        return getAttrDefaultFieldBuilder().addBuilder(
+            tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder addAttrDefaultBuilder(
+          int index) {
+        return getAttrDefaultFieldBuilder().addBuilder(
+            index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.AttrDefault attr_default = 6;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder> 
+           getAttrDefaultBuilderList() {
+        return getAttrDefaultFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder> 
+          getAttrDefaultFieldBuilder() {
+        if (attrDefaultBuilder_ == null) {
+          attrDefaultBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefault.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.AttrDefaultOrBuilder>(
+                  attrDefault_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          attrDefault_ = null;
+        }
+        return attrDefaultBuilder_;
+      }
+
+      private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> attrRename_ =
+        java.util.Collections.emptyList();
+      private void ensureAttrRenameIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          attrRename_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename>(attrRename_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> attrRenameBuilder_;
+
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> getAttrRenameList() {
+        if (attrRenameBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attrRename_);
+        } else {
+          return attrRenameBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public int getAttrRenameCount() {
+        if (attrRenameBuilder_ == null) {
+          return attrRename_.size();
+        } else {
+          return attrRenameBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getAttrRename(int index) {
+        if (attrRenameBuilder_ == null) {
+          return attrRename_.get(index);
+        } else {
+          return attrRenameBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder setAttrRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (attrRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrRenameIsMutable();
+          attrRename_.set(index, value);
+          onChanged();
+        } else {
+          attrRenameBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder setAttrRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (attrRenameBuilder_ == null) {
+          ensureAttrRenameIsMutable();
+          attrRename_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrRenameBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder addAttrRename(tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (attrRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrRenameIsMutable();
+          attrRename_.add(value);
+          onChanged();
+        } else {
+          attrRenameBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder addAttrRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (attrRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrRenameIsMutable();
+          attrRename_.add(index, value);
+          onChanged();
+        } else {
+          attrRenameBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder addAttrRename(
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (attrRenameBuilder_ == null) {
+          ensureAttrRenameIsMutable();
+          attrRename_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attrRenameBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder addAttrRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (attrRenameBuilder_ == null) {
+          ensureAttrRenameIsMutable();
+          attrRename_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrRenameBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder addAllAttrRename(
+          java.lang.Iterable<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> values) {
+        if (attrRenameBuilder_ == null) {
+          ensureAttrRenameIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attrRename_);
+          onChanged();
+        } else {
+          attrRenameBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder clearAttrRename() {
+        if (attrRenameBuilder_ == null) {
+          attrRename_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          attrRenameBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public Builder removeAttrRename(int index) {
+        if (attrRenameBuilder_ == null) {
+          ensureAttrRenameIsMutable();
+          attrRename_.remove(index);
+          onChanged();
+        } else {
+          attrRenameBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder getAttrRenameBuilder(
+          int index) {
+        return getAttrRenameFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getAttrRenameOrBuilder(
+          int index) {
+        if (attrRenameBuilder_ == null) {
+          return attrRename_.get(index);  } else {
+          return attrRenameBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+           getAttrRenameOrBuilderList() {
+        if (attrRenameBuilder_ != null) {
+          return attrRenameBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attrRename_);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder addAttrRenameBuilder() {
+        return getAttrRenameFieldBuilder().addBuilder(
+            tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder addAttrRenameBuilder(
+          int index) {
+        return getAttrRenameFieldBuilder().addBuilder(
+            index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename attr_rename = 7;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder> 
+           getAttrRenameBuilderList() {
+        return getAttrRenameFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+          getAttrRenameFieldBuilder() {
+        if (attrRenameBuilder_ == null) {
+          attrRenameBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder>(
+                  attrRename_,
+                  ((bitField0_ & 0x00000040) == 0x00000040),
+                  getParentForChildren(),
+                  isClean());
+          attrRename_ = null;
+        }
+        return attrRenameBuilder_;
+      }
+
+      private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> inputRename_ =
+        java.util.Collections.emptyList();
+      private void ensureInputRenameIsMutable() {
+        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+          inputRename_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename>(inputRename_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> inputRenameBuilder_;
+
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> getInputRenameList() {
+        if (inputRenameBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(inputRename_);
+        } else {
+          return inputRenameBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public int getInputRenameCount() {
+        if (inputRenameBuilder_ == null) {
+          return inputRename_.size();
+        } else {
+          return inputRenameBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getInputRename(int index) {
+        if (inputRenameBuilder_ == null) {
+          return inputRename_.get(index);
+        } else {
+          return inputRenameBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder setInputRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (inputRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputRenameIsMutable();
+          inputRename_.set(index, value);
+          onChanged();
+        } else {
+          inputRenameBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder setInputRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (inputRenameBuilder_ == null) {
+          ensureInputRenameIsMutable();
+          inputRename_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputRenameBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder addInputRename(tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (inputRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputRenameIsMutable();
+          inputRename_.add(value);
+          onChanged();
+        } else {
+          inputRenameBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder addInputRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (inputRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputRenameIsMutable();
+          inputRename_.add(index, value);
+          onChanged();
+        } else {
+          inputRenameBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder addInputRename(
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (inputRenameBuilder_ == null) {
+          ensureInputRenameIsMutable();
+          inputRename_.add(builderForValue.build());
+          onChanged();
+        } else {
+          inputRenameBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder addInputRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (inputRenameBuilder_ == null) {
+          ensureInputRenameIsMutable();
+          inputRename_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputRenameBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder addAllInputRename(
+          java.lang.Iterable<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> values) {
+        if (inputRenameBuilder_ == null) {
+          ensureInputRenameIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, inputRename_);
+          onChanged();
+        } else {
+          inputRenameBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder clearInputRename() {
+        if (inputRenameBuilder_ == null) {
+          inputRename_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          inputRenameBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public Builder removeInputRename(int index) {
+        if (inputRenameBuilder_ == null) {
+          ensureInputRenameIsMutable();
+          inputRename_.remove(index);
+          onChanged();
+        } else {
+          inputRenameBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder getInputRenameBuilder(
+          int index) {
+        return getInputRenameFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getInputRenameOrBuilder(
+          int index) {
+        if (inputRenameBuilder_ == null) {
+          return inputRename_.get(index);  } else {
+          return inputRenameBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+           getInputRenameOrBuilderList() {
+        if (inputRenameBuilder_ != null) {
+          return inputRenameBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(inputRename_);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder addInputRenameBuilder() {
+        return getInputRenameFieldBuilder().addBuilder(
+            tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder addInputRenameBuilder(
+          int index) {
+        return getInputRenameFieldBuilder().addBuilder(
+            index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename input_rename = 8;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder> 
+           getInputRenameBuilderList() {
+        return getInputRenameFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+          getInputRenameFieldBuilder() {
+        if (inputRenameBuilder_ == null) {
+          inputRenameBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder>(
+                  inputRename_,
+                  ((bitField0_ & 0x00000080) == 0x00000080),
+                  getParentForChildren(),
+                  isClean());
+          inputRename_ = null;
+        }
+        return inputRenameBuilder_;
+      }
+
+      private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> outputRename_ =
+        java.util.Collections.emptyList();
+      private void ensureOutputRenameIsMutable() {
+        if (!((bitField0_ & 0x00000100) == 0x00000100)) {
+          outputRename_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename>(outputRename_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> outputRenameBuilder_;
+
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> getOutputRenameList() {
+        if (outputRenameBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(outputRename_);
+        } else {
+          return outputRenameBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public int getOutputRenameCount() {
+        if (outputRenameBuilder_ == null) {
+          return outputRename_.size();
+        } else {
+          return outputRenameBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename getOutputRename(int index) {
+        if (outputRenameBuilder_ == null) {
+          return outputRename_.get(index);
+        } else {
+          return outputRenameBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder setOutputRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (outputRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputRenameIsMutable();
+          outputRename_.set(index, value);
+          onChanged();
+        } else {
+          outputRenameBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder setOutputRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (outputRenameBuilder_ == null) {
+          ensureOutputRenameIsMutable();
+          outputRename_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          outputRenameBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder addOutputRename(tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (outputRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputRenameIsMutable();
+          outputRename_.add(value);
+          onChanged();
+        } else {
+          outputRenameBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder addOutputRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename value) {
+        if (outputRenameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputRenameIsMutable();
+          outputRename_.add(index, value);
+          onChanged();
+        } else {
+          outputRenameBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder addOutputRename(
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (outputRenameBuilder_ == null) {
+          ensureOutputRenameIsMutable();
+          outputRename_.add(builderForValue.build());
+          onChanged();
+        } else {
+          outputRenameBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder addOutputRename(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder builderForValue) {
+        if (outputRenameBuilder_ == null) {
+          ensureOutputRenameIsMutable();
+          outputRename_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          outputRenameBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder addAllOutputRename(
+          java.lang.Iterable<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename> values) {
+        if (outputRenameBuilder_ == null) {
+          ensureOutputRenameIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, outputRename_);
+          onChanged();
+        } else {
+          outputRenameBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder clearOutputRename() {
+        if (outputRenameBuilder_ == null) {
+          outputRename_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+        } else {
+          outputRenameBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public Builder removeOutputRename(int index) {
+        if (outputRenameBuilder_ == null) {
+          ensureOutputRenameIsMutable();
+          outputRename_.remove(index);
+          onChanged();
+        } else {
+          outputRenameBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder getOutputRenameBuilder(
+          int index) {
+        return getOutputRenameFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder getOutputRenameOrBuilder(
+          int index) {
+        if (outputRenameBuilder_ == null) {
+          return outputRename_.get(index);  } else {
+          return outputRenameBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+           getOutputRenameOrBuilderList() {
+        if (outputRenameBuilder_ != null) {
+          return outputRenameBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(outputRename_);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder addOutputRenameBuilder() {
+        return getOutputRenameFieldBuilder().addBuilder(
+            tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder addOutputRenameBuilder(
+          int index) {
+        return getOutputRenameFieldBuilder().addBuilder(
+            index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride.Rename output_rename = 9;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder> 
+           getOutputRenameBuilderList() {
+        return getOutputRenameFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder> 
+          getOutputRenameFieldBuilder() {
+        if (outputRenameBuilder_ == null) {
+          outputRenameBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Rename.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverride.RenameOrBuilder>(
+                  outputRename_,
+                  ((bitField0_ & 0x00000100) == 0x00000100),
+                  getParentForChildren(),
+                  isClean());
+          outputRename_ = null;
+        }
+        return outputRenameBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tensorflow.OpGenOverride)
+    }
+
+    // @@protoc_insertion_point(class_scope:tensorflow.OpGenOverride)
+    private static final tensorflow.OpGenOverridesOuterClass.OpGenOverride DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new tensorflow.OpGenOverridesOuterClass.OpGenOverride();
+    }
+
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverride getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<OpGenOverride>
+        PARSER = new com.google.protobuf.AbstractParser<OpGenOverride>() {
+      public OpGenOverride parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new OpGenOverride(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<OpGenOverride> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<OpGenOverride> getParserForType() {
+      return PARSER;
+    }
+
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface OpGenOverridesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tensorflow.OpGenOverrides)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride> 
+        getOpList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverride getOp(int index);
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    int getOpCount();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder> 
+        getOpOrBuilderList();
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder getOpOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code tensorflow.OpGenOverrides}
+   */
+  public  static final class OpGenOverrides extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tensorflow.OpGenOverrides)
+      OpGenOverridesOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use OpGenOverrides.newBuilder() to construct.
+    private OpGenOverrides(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private OpGenOverrides() {
+      op_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private OpGenOverrides(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                op_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              op_.add(
+                  input.readMessage(tensorflow.OpGenOverridesOuterClass.OpGenOverride.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          op_ = java.util.Collections.unmodifiableList(op_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverrides_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverrides_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              tensorflow.OpGenOverridesOuterClass.OpGenOverrides.class, tensorflow.OpGenOverridesOuterClass.OpGenOverrides.Builder.class);
+    }
+
+    public static final int OP_FIELD_NUMBER = 1;
+    private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride> op_;
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride> getOpList() {
+      return op_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder> 
+        getOpOrBuilderList() {
+      return op_;
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    public int getOpCount() {
+      return op_.size();
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverride getOp(int index) {
+      return op_.get(index);
+    }
+    /**
+     * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+     */
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder getOpOrBuilder(
+        int index) {
+      return op_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < op_.size(); i++) {
+        output.writeMessage(1, op_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < op_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, op_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof tensorflow.OpGenOverridesOuterClass.OpGenOverrides)) {
+        return super.equals(obj);
+      }
+      tensorflow.OpGenOverridesOuterClass.OpGenOverrides other = (tensorflow.OpGenOverridesOuterClass.OpGenOverrides) obj;
+
+      boolean result = true;
+      result = result && getOpList()
+          .equals(other.getOpList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getOpCount() > 0) {
+        hash = (37 * hash) + OP_FIELD_NUMBER;
+        hash = (53 * hash) + getOpList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(tensorflow.OpGenOverridesOuterClass.OpGenOverrides prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tensorflow.OpGenOverrides}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tensorflow.OpGenOverrides)
+        tensorflow.OpGenOverridesOuterClass.OpGenOverridesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverrides_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverrides_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                tensorflow.OpGenOverridesOuterClass.OpGenOverrides.class, tensorflow.OpGenOverridesOuterClass.OpGenOverrides.Builder.class);
+      }
+
+      // Construct using tensorflow.OpGenOverridesOuterClass.OpGenOverrides.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getOpFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (opBuilder_ == null) {
+          op_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          opBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return tensorflow.OpGenOverridesOuterClass.internal_static_tensorflow_OpGenOverrides_descriptor;
+      }
+
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverrides getDefaultInstanceForType() {
+        return tensorflow.OpGenOverridesOuterClass.OpGenOverrides.getDefaultInstance();
+      }
+
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverrides build() {
+        tensorflow.OpGenOverridesOuterClass.OpGenOverrides result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverrides buildPartial() {
+        tensorflow.OpGenOverridesOuterClass.OpGenOverrides result = new tensorflow.OpGenOverridesOuterClass.OpGenOverrides(this);
+        int from_bitField0_ = bitField0_;
+        if (opBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            op_ = java.util.Collections.unmodifiableList(op_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.op_ = op_;
+        } else {
+          result.op_ = opBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof tensorflow.OpGenOverridesOuterClass.OpGenOverrides) {
+          return mergeFrom((tensorflow.OpGenOverridesOuterClass.OpGenOverrides)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(tensorflow.OpGenOverridesOuterClass.OpGenOverrides other) {
+        if (other == tensorflow.OpGenOverridesOuterClass.OpGenOverrides.getDefaultInstance()) return this;
+        if (opBuilder_ == null) {
+          if (!other.op_.isEmpty()) {
+            if (op_.isEmpty()) {
+              op_ = other.op_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureOpIsMutable();
+              op_.addAll(other.op_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.op_.isEmpty()) {
+            if (opBuilder_.isEmpty()) {
+              opBuilder_.dispose();
+              opBuilder_ = null;
+              op_ = other.op_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              opBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getOpFieldBuilder() : null;
+            } else {
+              opBuilder_.addAllMessages(other.op_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        tensorflow.OpGenOverridesOuterClass.OpGenOverrides parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (tensorflow.OpGenOverridesOuterClass.OpGenOverrides) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride> op_ =
+        java.util.Collections.emptyList();
+      private void ensureOpIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          op_ = new java.util.ArrayList<tensorflow.OpGenOverridesOuterClass.OpGenOverride>(op_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder> opBuilder_;
+
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride> getOpList() {
+        if (opBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(op_);
+        } else {
+          return opBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public int getOpCount() {
+        if (opBuilder_ == null) {
+          return op_.size();
+        } else {
+          return opBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride getOp(int index) {
+        if (opBuilder_ == null) {
+          return op_.get(index);
+        } else {
+          return opBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder setOp(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride value) {
+        if (opBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOpIsMutable();
+          op_.set(index, value);
+          onChanged();
+        } else {
+          opBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder setOp(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder builderForValue) {
+        if (opBuilder_ == null) {
+          ensureOpIsMutable();
+          op_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          opBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder addOp(tensorflow.OpGenOverridesOuterClass.OpGenOverride value) {
+        if (opBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOpIsMutable();
+          op_.add(value);
+          onChanged();
+        } else {
+          opBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder addOp(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride value) {
+        if (opBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOpIsMutable();
+          op_.add(index, value);
+          onChanged();
+        } else {
+          opBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder addOp(
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder builderForValue) {
+        if (opBuilder_ == null) {
+          ensureOpIsMutable();
+          op_.add(builderForValue.build());
+          onChanged();
+        } else {
+          opBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder addOp(
+          int index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder builderForValue) {
+        if (opBuilder_ == null) {
+          ensureOpIsMutable();
+          op_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          opBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder addAllOp(
+          java.lang.Iterable<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverride> values) {
+        if (opBuilder_ == null) {
+          ensureOpIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, op_);
+          onChanged();
+        } else {
+          opBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder clearOp() {
+        if (opBuilder_ == null) {
+          op_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          opBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public Builder removeOp(int index) {
+        if (opBuilder_ == null) {
+          ensureOpIsMutable();
+          op_.remove(index);
+          onChanged();
+        } else {
+          opBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder getOpBuilder(
+          int index) {
+        return getOpFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder getOpOrBuilder(
+          int index) {
+        if (opBuilder_ == null) {
+          return op_.get(index);  } else {
+          return opBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public java.util.List<? extends tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder> 
+           getOpOrBuilderList() {
+        if (opBuilder_ != null) {
+          return opBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(op_);
+        }
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder addOpBuilder() {
+        return getOpFieldBuilder().addBuilder(
+            tensorflow.OpGenOverridesOuterClass.OpGenOverride.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder addOpBuilder(
+          int index) {
+        return getOpFieldBuilder().addBuilder(
+            index, tensorflow.OpGenOverridesOuterClass.OpGenOverride.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tensorflow.OpGenOverride op = 1;</code>
+       */
+      public java.util.List<tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder> 
+           getOpBuilderList() {
+        return getOpFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          tensorflow.OpGenOverridesOuterClass.OpGenOverride, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder> 
+          getOpFieldBuilder() {
+        if (opBuilder_ == null) {
+          opBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              tensorflow.OpGenOverridesOuterClass.OpGenOverride, tensorflow.OpGenOverridesOuterClass.OpGenOverride.Builder, tensorflow.OpGenOverridesOuterClass.OpGenOverrideOrBuilder>(
+                  op_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          op_ = null;
+        }
+        return opBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tensorflow.OpGenOverrides)
+    }
+
+    // @@protoc_insertion_point(class_scope:tensorflow.OpGenOverrides)
+    private static final tensorflow.OpGenOverridesOuterClass.OpGenOverrides DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new tensorflow.OpGenOverridesOuterClass.OpGenOverrides();
+    }
+
+    public static tensorflow.OpGenOverridesOuterClass.OpGenOverrides getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<OpGenOverrides>
+        PARSER = new com.google.protobuf.AbstractParser<OpGenOverrides>() {
+      public OpGenOverrides parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new OpGenOverrides(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<OpGenOverrides> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<OpGenOverrides> getParserForType() {
+      return PARSER;
+    }
+
+    public tensorflow.OpGenOverridesOuterClass.OpGenOverrides getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tensorflow_OpGenOverride_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tensorflow_OpGenOverride_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tensorflow_OpGenOverride_AttrDefault_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tensorflow_OpGenOverride_AttrDefault_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tensorflow_OpGenOverride_Rename_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tensorflow_OpGenOverride_Rename_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tensorflow_OpGenOverrides_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tensorflow_OpGenOverrides_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n0tensorflow/core/framework/op_gen_overr" +
+      "ides.proto\022\ntensorflow\032*tensorflow/core/" +
+      "framework/attr_value.proto\"\247\003\n\rOpGenOver" +
+      "ride\022\014\n\004name\030\001 \001(\t\022\014\n\004skip\030\002 \001(\010\022\014\n\004hide" +
+      "\030\003 \001(\010\022\021\n\trename_to\030\004 \001(\t\022\r\n\005alias\030\005 \003(\t" +
+      "\022;\n\014attr_default\030\006 \003(\0132%.tensorflow.OpGe" +
+      "nOverride.AttrDefault\0225\n\013attr_rename\030\007 \003" +
+      "(\0132 .tensorflow.OpGenOverride.Rename\0226\n\014" +
+      "input_rename\030\010 \003(\0132 .tensorflow.OpGenOve" +
+      "rride.Rename\0227\n\routput_rename\030\t \003(\0132 .te" +
+      "nsorflow.OpGenOverride.Rename\032A\n\013AttrDef" +
+      "ault\022\014\n\004name\030\001 \001(\t\022$\n\005value\030\002 \001(\0132\025.tens" +
+      "orflow.AttrValue\032\"\n\006Rename\022\014\n\004from\030\001 \001(\t" +
+      "\022\n\n\002to\030\002 \001(\t\"7\n\016OpGenOverrides\022%\n\002op\030\001 \003" +
+      "(\0132\031.tensorflow.OpGenOverrideb\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.tensorflow.framework.AttrValueProtos.getDescriptor(),
+        }, assigner);
+    internal_static_tensorflow_OpGenOverride_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_tensorflow_OpGenOverride_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tensorflow_OpGenOverride_descriptor,
+        new java.lang.String[] { "Name", "Skip", "Hide", "RenameTo", "Alias", "AttrDefault", "AttrRename", "InputRename", "OutputRename", });
+    internal_static_tensorflow_OpGenOverride_AttrDefault_descriptor =
+      internal_static_tensorflow_OpGenOverride_descriptor.getNestedTypes().get(0);
+    internal_static_tensorflow_OpGenOverride_AttrDefault_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tensorflow_OpGenOverride_AttrDefault_descriptor,
+        new java.lang.String[] { "Name", "Value", });
+    internal_static_tensorflow_OpGenOverride_Rename_descriptor =
+      internal_static_tensorflow_OpGenOverride_descriptor.getNestedTypes().get(1);
+    internal_static_tensorflow_OpGenOverride_Rename_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tensorflow_OpGenOverride_Rename_descriptor,
+        new java.lang.String[] { "From", "To", });
+    internal_static_tensorflow_OpGenOverrides_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_tensorflow_OpGenOverrides_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tensorflow_OpGenOverrides_descriptor,
+        new java.lang.String[] { "Op", });
+    org.tensorflow.framework.AttrValueProtos.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -1,5 +1,6 @@
 package org.nd4j.rng;
 
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.bytedeco.javacpp.LongPointer;
 import org.bytedeco.javacpp.Pointer;
@@ -8,6 +9,7 @@ import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.ops.random.impl.GaussianDistribution;
 import org.nd4j.linalg.api.ops.random.impl.UniformDistribution;
+import org.nd4j.linalg.api.rng.PhiloxRandom;
 import org.nd4j.linalg.api.rng.Random;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.nativeblas.NativeOps;
@@ -15,7 +17,7 @@ import org.nd4j.nativeblas.NativeOpsHolder;
 import org.nd4j.rng.deallocator.NativePack;
 import org.nd4j.rng.deallocator.NativeRandomDeallocator;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Basic NativeRandom implementation
@@ -27,11 +29,13 @@ public abstract class NativeRandom implements Random {
     protected NativeOps nativeOps;
     protected DataBuffer stateBuffer;
     protected Pointer statePointer;
-    protected long seed;
-    protected long amplifier;
-    protected long generation;
+    protected volatile long seed;
+    protected volatile long amplifier;
+    // generation of the first value after last setSeed()/refreshState()
+    protected volatile long generation;
     protected long numberOfElements;
-    protected AtomicInteger position = new AtomicInteger(0);
+    // number of scalar values drawn since last setSeed()/refreshState(), claimed lock-free by nextLong()
+    protected final AtomicLong draws = new AtomicLong(0);
     protected LongPointer hostPointer;
     protected boolean isDestroyed = false;
     protected NativeRandomDeallocator deallocator;
@@ -50,12 +54,19 @@ public abstract class NativeRandom implements Random {
         return numberOfElements;
     }
 
+    /**
+     * This method returns position of the last drawn value within state buffer, in range [0, numberOfElements]
+     *
+     * @return
+     */
     public int getPosition() {
-        return position.get();
+        long drawn = draws.get();
+        return drawn == 0 ? 0 : (int) ((drawn - 1) % numberOfElements + 1);
     }
 
     public long getGeneration() {
-        return generation;
+        long drawn = draws.get();
+        return drawn == 0 ? generation : generation + (drawn - 1) / numberOfElements;
     }
 
     public NativeRandom() {
@@ -108,7 +119,8 @@ public abstract class NativeRandom implements Random {
         synchronized (this) {
             this.seed = seed;
             this.amplifier = seed;
-            this.position.set(0);
+            this.generation = getGeneration();
+            this.draws.set(0);
             nativeOps.refreshBuffer(getExtraPointers(), seed, statePointer);
         }
     }
@@ -141,29 +153,56 @@ public abstract class NativeRandom implements Random {
         return r;
     }
 
+    /**
+     * This method draws next value from state buffer. It's lock-free: each call claims its own index
+     * with a single atomic increment, so concurrent callers never wait for each other.
+     * Once state buffer is exhausted, values are drawn from its start again, mixed with next generation.
+     *
+     * @return
+     */
     @Override
     public long nextLong() {
-        long next = 0;
-        synchronized (this) {
-            if (position.get() >= numberOfElements) {
-                position.set(0);
-                generation++;
-            }
+        long index = draws.getAndIncrement();
+        long next = hostPointer.get(index % numberOfElements);
 
-            next = hostPointer.get(position.getAndIncrement());
+        long currentGeneration = generation + index / numberOfElements;
+        if (currentGeneration > 1)
+            next = next ^ currentGeneration + 11;
 
-            if (generation > 1)
-                next = next ^ generation + 11;
-
-            if (amplifier != seed)
-                next = next ^ amplifier + 11;
-        }
+        long currentAmplifier = amplifier;
+        if (currentAmplifier != seed)
+            next = next ^ currentAmplifier + 11;
 
         return next < 0 ? -1 * next : next;
     }
 
     public abstract PointerPointer getExtraPointers();
 
+    /**
+     * This method refills state buffer from given counter-based stream, so native RandomOps will draw their values
+     * from that stream, instead of values generated by initRandom/refreshBuffer. Scalar draws are affected as well.
+     *
+     * Since stream position is deterministic, the same stream state always produces the same RNG state,
+     * regardless of what was drawn from this NativeRandom before.
+     *
+     * @param stream
+     */
+    public void refreshState(@NonNull PhiloxRandom.Stream stream) {
+        synchronized (this) {
+            stream.fillState(stateBuffer);
+            generation = 1;
+            draws.set(0);
+            onStateRefreshed();
+        }
+    }
+
+    /**
+     * This method is called after state buffer was modified on host side
+     */
+    protected void onStateRefreshed() {
+        // no-op for host-only backends
+    }
+
     @Override
     public boolean nextBoolean() {
         return nextInt() % 2 == 0;
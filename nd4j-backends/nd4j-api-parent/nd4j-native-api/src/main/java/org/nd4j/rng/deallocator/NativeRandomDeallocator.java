@@ -54,6 +54,16 @@ public class NativeRandomDeallocator {
     }
 
 
+    /**
+     * This method returns number of RNG states tracked by deallocator: reachable ones,
+     * and ones released by GC, but not deallocated yet
+     *
+     * @return
+     */
+    public int getNumberOfTrackedStates() {
+        return referenceMap.size();
+    }
+
     /**
      * This class provides garbage collection for NativeRandom state memory. It's not too big amount of memory used, but we don't want any leaks.
      *
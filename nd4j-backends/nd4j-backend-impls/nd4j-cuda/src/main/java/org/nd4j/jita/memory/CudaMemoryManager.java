@@ -47,6 +47,8 @@ public class CudaMemoryManager extends BasicMemoryManager {
             if (initialize)
                 Pointer.memset(ptr, 0, bytes);
 
+            trackAllocation(ptr, bytes);
+
             return ptr;//allocator.getMemoryHandler().alloc(AllocationStatus.HOST, null, null, initialize).getHostPointer();
         } else if (kind == MemoryKind.DEVICE) {
             Pointer ptr = NativeOpsHolder.getInstance().getDeviceNativeOps().mallocDevice(bytes, null, 0);
@@ -67,6 +69,7 @@ public class CudaMemoryManager extends BasicMemoryManager {
                 context.getSpecialStream().synchronize();
             }
 
+            trackAllocation(ptr, bytes);
 
             return ptr; //allocator.getMemoryHandler().alloc(AllocationStatus.HOST, null, null, initialize).getDevicePointer();
         } else
@@ -191,6 +194,7 @@ public class CudaMemoryManager extends BasicMemoryManager {
      */
     @Override
     public void release(Pointer pointer, MemoryKind kind) {
+        trackRelease(pointer);
         if (kind == MemoryKind.DEVICE) {
             NativeOpsHolder.getInstance().getDeviceNativeOps().freeDevice(pointer, null);
         } else if (kind == MemoryKind.HOST) {
@@ -90,10 +90,10 @@ public class CudaWorkspace extends Nd4jWorkspace {
         clearPinnedAllocations(extended);
 
         if (workspace.getHostPointer() != null)
-            NativeOpsHolder.getInstance().getDeviceNativeOps().freeHost(workspace.getHostPointer());
+            memoryManager.release(workspace.getHostPointer(), MemoryKind.HOST);
 
         if (workspace.getDevicePointer() != null)
-            NativeOpsHolder.getInstance().getDeviceNativeOps().freeDevice(workspace.getDevicePointer(), null);
+            memoryManager.release(workspace.getDevicePointer(), MemoryKind.DEVICE);
 
         workspace.setDevicePointer(null);
         workspace.setHostPointer(null);
@@ -289,7 +289,7 @@ public class CudaWorkspace extends Nd4jWorkspace {
                 pinnedAllocations.remove();
 
                 if (pair.getDevicePointer() != null) {
-                    NativeOpsHolder.getInstance().getDeviceNativeOps().freeDevice(pair.getDevicePointer(), null);
+                    memoryManager.release(pair.getDevicePointer(), MemoryKind.DEVICE);
                     pinnedCount.decrementAndGet();
 
                     if (isDebug.get())
@@ -297,7 +297,7 @@ public class CudaWorkspace extends Nd4jWorkspace {
                 }
 
                 if (pair.getHostPointer() != null) {
-                    NativeOpsHolder.getInstance().getDeviceNativeOps().freeHost(pair.getHostPointer());
+                    memoryManager.release(pair.getHostPointer(), MemoryKind.HOST);
 
                     if (isDebug.get())
                         log.info("deleting external host allocation ");
@@ -320,14 +320,14 @@ public class CudaWorkspace extends Nd4jWorkspace {
         try {
             for (PointersPair pair : externalAllocations) {
                 if (pair.getHostPointer() != null) {
-                    NativeOpsHolder.getInstance().getDeviceNativeOps().freeHost(pair.getHostPointer());
+                    memoryManager.release(pair.getHostPointer(), MemoryKind.HOST);
 
                     if (isDebug.get())
                         log.info("deleting external host allocation... ");
                 }
 
                 if (pair.getDevicePointer() != null) {
-                    NativeOpsHolder.getInstance().getDeviceNativeOps().freeDevice(pair.getDevicePointer(), null);
+                    memoryManager.release(pair.getDevicePointer(), MemoryKind.DEVICE);
 
                     if (isDebug.get())
                         log.info("deleting external device allocation... ");
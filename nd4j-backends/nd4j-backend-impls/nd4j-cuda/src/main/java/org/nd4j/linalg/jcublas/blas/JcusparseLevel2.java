@@ -11,12 +11,26 @@ public class JcusparseLevel2 extends SparseBaseLevel2 {
 
 
     @Override
-    protected void scoomv(char transA, int M, DataBuffer values, DataBuffer rowInd, DataBuffer colInd, int nnz, INDArray x, INDArray y) {
+    protected void scoomv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray x, double beta, INDArray y) {
+        throw new UnsupportedOperationException();
+    }
 
+    @Override
+    protected void dcoomv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray x, double beta, INDArray y) {
+        throw new UnsupportedOperationException();
     }
 
     @Override
-    protected void dcoomv(char transA, int M, DataBuffer values, DataBuffer rowInd, DataBuffer colInd, int nnz, INDArray x, INDArray y) {
+    protected void scsrmv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray x, double beta, INDArray y) {
+        throw new UnsupportedOperationException();
+    }
 
+    @Override
+    protected void dcsrmv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray x, double beta, INDArray y) {
+        throw new UnsupportedOperationException();
     }
 }
@@ -1,9 +1,37 @@
 package org.nd4j.linalg.jcublas.blas;
 
 import org.nd4j.linalg.api.blas.impl.SparseBaseLevel3;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
 
 /**
  * @author Audrey Loeffel
  */
 public class JcusparseLevel3 extends SparseBaseLevel3 {
+
+    @Override
+    protected void scsrmm(char transA, int M, int N, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray B, int ldb, double beta, INDArray C,
+                    int ldc) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected void dcsrmm(char transA, int M, int N, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray B, int ldb, double beta, INDArray C,
+                    int ldc) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected void scoomm(char transA, int M, int N, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray B, int ldb, double beta, INDArray C, int ldc) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected void dcoomm(char transA, int M, int N, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray B, int ldb, double beta, INDArray C, int ldc) {
+        throw new UnsupportedOperationException();
+    }
 }
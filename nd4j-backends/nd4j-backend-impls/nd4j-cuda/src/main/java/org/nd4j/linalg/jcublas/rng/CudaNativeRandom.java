@@ -39,6 +39,13 @@ public class CudaNativeRandom extends NativeRandom {
         AtomicAllocator.getInstance().getAllocationPoint(stateBuffer).tickDeviceWrite();
     }
 
+    @Override
+    protected void onStateRefreshed() {
+        // state was updated on host side, so device copy has to be updated before next RandomOp
+        AtomicAllocator.getInstance().getAllocationPoint(stateBuffer).tickHostWrite();
+        AtomicAllocator.getInstance().getPointer(stateBuffer);
+    }
+
     @Override
     public PointerPointer getExtraPointers() {
         PointerPointer ptr = new PointerPointer(4);
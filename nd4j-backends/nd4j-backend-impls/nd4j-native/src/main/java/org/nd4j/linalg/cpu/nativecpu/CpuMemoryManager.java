@@ -38,6 +38,8 @@ public class CpuMemoryManager extends BasicMemoryManager {
         if (initialize)
             Pointer.memset(ptr, 0, bytes);
 
+        trackAllocation(ptr, bytes);
+
         return ptr;
     }
 
@@ -50,7 +52,8 @@ public class CpuMemoryManager extends BasicMemoryManager {
      */
     @Override
     public void release(@NonNull Pointer pointer, MemoryKind kind) {
-        Pointer.free(pointer);
+        trackRelease(pointer);
+        NativeOpsHolder.getInstance().getDeviceNativeOps().freeHost(pointer);
     }
 
     /**
@@ -2,36 +2,57 @@ package org.nd4j.linalg.cpu.nativecpu;
 
 import lombok.NonNull;
 import org.nd4j.linalg.primitives.Pair;
-import org.bytedeco.javacpp.DoublePointer;
 import org.bytedeco.javacpp.IntPointer;
 import org.bytedeco.javacpp.Pointer;
 import org.nd4j.linalg.api.buffer.DataBuffer;
-import org.nd4j.linalg.api.buffer.DoubleBuffer;
 import org.nd4j.linalg.api.buffer.IntBuffer;
 import org.nd4j.linalg.api.buffer.LongBuffer;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.cache.BoundedCache;
+import org.nd4j.linalg.cache.CacheStatistics;
 import org.nd4j.linalg.cache.ConstantHandler;
 import org.nd4j.linalg.cache.TADManager;
 import org.nd4j.linalg.cache.TadDescriptor;
+import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.nativeblas.LongPointerWrapper;
 import org.nd4j.nativeblas.NativeOps;
 
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * TAD cache for CPU backend.
+ *
+ * Cache is split per device, and each device cache is LRU cache bounded by number of entries and bytes,
+ * so hot shapes stay resident while rarely used ones get evicted.
+ *
+ * Limits can be set via system properties {@link #MAX_ENTRIES_PROPERTY} and {@link #MAX_BYTES_PROPERTY},
+ * or via {@link #setLimits(long, long)}
+ *
  * @author raver119@gmail.com
  */
-public class CpuTADManager implements TADManager {
-    private Map<TadDescriptor, Pair<DataBuffer, DataBuffer>> cache = new ConcurrentHashMap<>();
+public class CpuTADManager implements TADManager, CacheStatistics {
+    public static final String MAX_ENTRIES_PROPERTY = "org.nd4j.tad.cache.maxentries";
+    public static final String MAX_BYTES_PROPERTY = "org.nd4j.tad.cache.maxbytes";
+
+    private static final long DEFAULT_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024L * 1024L;
+    private static final int NUM_SEGMENTS = 8;
+
+    private static final BoundedCache.Weigher<Pair<DataBuffer, DataBuffer>> WEIGHER =
+                    new BoundedCache.Weigher<Pair<DataBuffer, DataBuffer>>() {
+                        @Override
+                        public long weigh(Pair<DataBuffer, DataBuffer> value) {
+                            return (value.getFirst().length() * 4) + (value.getSecond().length() * 8);
+                        }
+                    };
+
+    private Map<Integer, BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>>> cache = new ConcurrentHashMap<>();
     private NativeOps nativeOps;
     private ConstantHandler constantHandler;
-    private AtomicLong bytes = new AtomicLong(0);
-    private AtomicInteger counter = new AtomicInteger(0);
-    private static final int MAX_ENTRIES = 100;
+    private volatile long maxEntries = Long.getLong(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES);
+    private volatile long maxBytes = Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES);
 
     public CpuTADManager() {
         //
@@ -42,12 +63,40 @@ public class CpuTADManager implements TADManager {
         this.constantHandler = constantHandler;
     }
 
+    /**
+     * This method sets per-device limits for TAD cache, and drops all cached entries.
+     *
+     * @param maxEntries maximum number of cached TADs per device, 0 means no limit
+     * @param maxBytes maximum number of bytes used by cached TADs per device, 0 means no limit
+     */
+    public void setLimits(long maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.cache = new ConcurrentHashMap<>();
+    }
+
     /**
      * This method removes all cached shape buffers
      */
     @Override
     public void purgeBuffers() {
-        cache = new ConcurrentHashMap<>();
+        for (BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> deviceCache : cache.values())
+            deviceCache.clear();
+    }
+
+    protected BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> getDeviceCache() {
+        Integer deviceId = Nd4j.getAffinityManager().getDeviceForCurrentThread();
+        BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> deviceCache = cache.get(deviceId);
+        if (deviceCache == null) {
+            synchronized (this) {
+                deviceCache = cache.get(deviceId);
+                if (deviceCache == null) {
+                    deviceCache = new BoundedCache<>(maxEntries, maxBytes, NUM_SEGMENTS, WEIGHER);
+                    cache.put(deviceId, deviceCache);
+                }
+            }
+        }
+        return deviceCache;
     }
 
     @Override
@@ -59,8 +108,10 @@ public class CpuTADManager implements TADManager {
             return new Pair<>(array.shapeInfoDataBuffer(), null);
         } else {
             TadDescriptor descriptor = new TadDescriptor(array, dimension);
+            BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> deviceCache = getDeviceCache();
 
-            if (!cache.containsKey(descriptor)) {
+            Pair<DataBuffer, DataBuffer> cached = deviceCache.get(descriptor);
+            if (cached == null) {
                 int dimensionLength = dimension.length;
 
                 // FIXME: this is fast triage, remove it later
@@ -90,21 +141,59 @@ public class CpuTADManager implements TADManager {
                 // If the line below will be uncommented, shapes from JVM will be used on native side
                 //outputBuffer = array.tensorAlongDimension(0, dimension).shapeInfoDataBuffer();
                 Pair<DataBuffer, DataBuffer> pair = new Pair<>(outputBuffer, offsetsBuffer);
-                if (counter.get() < MAX_ENTRIES) {
-                    counter.incrementAndGet();
-                    cache.put(descriptor, pair);
+                deviceCache.put(descriptor, pair);
 
-                    bytes.addAndGet((outputBuffer.length() * 4) + (offsetsBuffer.length() * 8));
-                }
                 return pair;
             }
 
-            return cache.get(descriptor);
+            return cached;
         }
     }
 
     @Override
     public long getCachedBytes() {
-        return bytes.get();
+        long bytes = 0;
+        for (BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> deviceCache : cache.values())
+            bytes += deviceCache.getCachedBytes();
+        return bytes;
+    }
+
+    /**
+     * This method returns number of TAD requests served from cache
+     *
+     * @return
+     */
+    @Override
+    public long getCacheHits() {
+        long hits = 0;
+        for (BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> deviceCache : cache.values())
+            hits += deviceCache.getHits();
+        return hits;
+    }
+
+    /**
+     * This method returns number of TAD requests that required native TAD calculation
+     *
+     * @return
+     */
+    @Override
+    public long getCacheMisses() {
+        long misses = 0;
+        for (BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> deviceCache : cache.values())
+            misses += deviceCache.getMisses();
+        return misses;
+    }
+
+    /**
+     * This method returns number of TADs evicted from cache
+     *
+     * @return
+     */
+    @Override
+    public long getCacheEvictions() {
+        long evictions = 0;
+        for (BoundedCache<TadDescriptor, Pair<DataBuffer, DataBuffer>> deviceCache : cache.values())
+            evictions += deviceCache.getEvictions();
+        return evictions;
     }
 }
@@ -17,28 +17,75 @@ import static org.bytedeco.javacpp.mkl_rt.*;
  */
 public class SparseCpuLevel2 extends SparseBaseLevel2 {
     private SparseNd4jBlas sparseNd4jBlas = (SparseNd4jBlas) Nd4j.sparseFactory().blas();
+
+    /**
+     * Matrix descriptor for the sparse BLAS: general matrix, zero-based indexing
+     */
+    protected static final String MATDESCRA = "G00C";
+
     // Mapping with Sparse Blas calls
 
-    public void scoomv(char transA, int M, DataBuffer values, DataBuffer rowInd, DataBuffer colInd, int nnz, INDArray x, INDArray y){
-        mkl_cspblas_scoogemv(
-                Character.toString(transA),
-                (IntPointer) Nd4j.createBuffer(new int[]{M}).addressPointer(),
+    public void scoomv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray x, double beta, INDArray y) {
+        mkl_scoomv(Character.toString(transA),
+                new IntPointer(new int[] {M}),
+                new IntPointer(new int[] {K}),
+                new FloatPointer((float) alpha),
+                MATDESCRA,
                 (FloatPointer) values.addressPointer(),
                 (IntPointer) rowInd.addressPointer(),
                 (IntPointer) colInd.addressPointer(),
-                (IntPointer) Nd4j.createBuffer(new int[]{nnz}).addressPointer(),
+                new IntPointer(new int[] {nnz}),
                 (FloatPointer) x.data().addressPointer(),
-                (FloatPointer)y.data().addressPointer());
+                new FloatPointer((float) beta),
+                (FloatPointer) y.data().addressPointer());
     }
-    public void dcoomv(char transA, int M, DataBuffer values, DataBuffer rowInd, DataBuffer colInd, int nnz, INDArray x, INDArray y){
-        mkl_cspblas_dcoogemv(
-                Character.toString(transA),
-                (IntPointer) Nd4j.createBuffer(new int[]{M}).addressPointer(),
+
+    public void dcoomv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray x, double beta, INDArray y) {
+        mkl_dcoomv(Character.toString(transA),
+                new IntPointer(new int[] {M}),
+                new IntPointer(new int[] {K}),
+                new DoublePointer(alpha),
+                MATDESCRA,
                 (DoublePointer) values.addressPointer(),
                 (IntPointer) rowInd.addressPointer(),
                 (IntPointer) colInd.addressPointer(),
-                (IntPointer) Nd4j.createBuffer(nnz).addressPointer(),
+                new IntPointer(new int[] {nnz}),
+                (DoublePointer) x.data().addressPointer(),
+                new DoublePointer(beta),
+                (DoublePointer) y.data().addressPointer());
+    }
+
+    public void scsrmv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray x, double beta, INDArray y) {
+        mkl_scsrmv(Character.toString(transA),
+                new IntPointer(new int[] {M}),
+                new IntPointer(new int[] {K}),
+                new FloatPointer((float) alpha),
+                MATDESCRA,
+                (FloatPointer) values.addressPointer(),
+                (IntPointer) columns.addressPointer(),
+                (IntPointer) pointerB.addressPointer(),
+                (IntPointer) pointerE.addressPointer(),
+                (FloatPointer) x.data().addressPointer(),
+                new FloatPointer((float) beta),
+                (FloatPointer) y.data().addressPointer());
+    }
+
+    public void dcsrmv(char transA, int M, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray x, double beta, INDArray y) {
+        mkl_dcsrmv(Character.toString(transA),
+                new IntPointer(new int[] {M}),
+                new IntPointer(new int[] {K}),
+                new DoublePointer(alpha),
+                MATDESCRA,
+                (DoublePointer) values.addressPointer(),
+                (IntPointer) columns.addressPointer(),
+                (IntPointer) pointerB.addressPointer(),
+                (IntPointer) pointerE.addressPointer(),
                 (DoublePointer) x.data().addressPointer(),
-                (DoublePointer)y.data().addressPointer());
+                new DoublePointer(beta),
+                (DoublePointer) y.data().addressPointer());
     }
 }
@@ -1,6 +1,11 @@
 package org.nd4j.linalg.cpu.nativecpu.blas;
 
+import org.bytedeco.javacpp.DoublePointer;
+import org.bytedeco.javacpp.FloatPointer;
+import org.bytedeco.javacpp.IntPointer;
 import org.nd4j.linalg.api.blas.impl.SparseBaseLevel3;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.nativeblas.SparseNd4jBlas;
 
@@ -11,5 +16,94 @@ import static org.bytedeco.javacpp.mkl_rt.*;
  */
 public class SparseCpuLevel3 extends SparseBaseLevel3 {
     private SparseNd4jBlas sparseNd4jBlas = (SparseNd4jBlas) Nd4j.sparseFactory().blas();
-    // TODO Mappings with Sparse Blas methods
+
+    /**
+     * Matrix descriptor for the sparse BLAS: general matrix, zero-based indexing.
+     * With zero-based indexing dense matrices B and C are expected in row-major order.
+     */
+    protected static final String MATDESCRA = "G00C";
+
+    // Mapping with Sparse Blas calls
+
+    @Override
+    protected void scsrmm(char transA, int M, int N, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray B, int ldb, double beta, INDArray C,
+                    int ldc) {
+        mkl_scsrmm(Character.toString(transA),
+                new IntPointer(new int[] {M}),
+                new IntPointer(new int[] {N}),
+                new IntPointer(new int[] {K}),
+                new FloatPointer((float) alpha),
+                MATDESCRA,
+                (FloatPointer) values.addressPointer(),
+                (IntPointer) columns.addressPointer(),
+                (IntPointer) pointerB.addressPointer(),
+                (IntPointer) pointerE.addressPointer(),
+                (FloatPointer) B.data().addressPointer(),
+                new IntPointer(new int[] {ldb}),
+                new FloatPointer((float) beta),
+                (FloatPointer) C.data().addressPointer(),
+                new IntPointer(new int[] {ldc}));
+    }
+
+    @Override
+    protected void dcsrmm(char transA, int M, int N, int K, double alpha, DataBuffer values, DataBuffer columns,
+                    DataBuffer pointerB, DataBuffer pointerE, INDArray B, int ldb, double beta, INDArray C,
+                    int ldc) {
+        mkl_dcsrmm(Character.toString(transA),
+                new IntPointer(new int[] {M}),
+                new IntPointer(new int[] {N}),
+                new IntPointer(new int[] {K}),
+                new DoublePointer(alpha),
+                MATDESCRA,
+                (DoublePointer) values.addressPointer(),
+                (IntPointer) columns.addressPointer(),
+                (IntPointer) pointerB.addressPointer(),
+                (IntPointer) pointerE.addressPointer(),
+                (DoublePointer) B.data().addressPointer(),
+                new IntPointer(new int[] {ldb}),
+                new DoublePointer(beta),
+                (DoublePointer) C.data().addressPointer(),
+                new IntPointer(new int[] {ldc}));
+    }
+
+    @Override
+    protected void scoomm(char transA, int M, int N, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray B, int ldb, double beta, INDArray C, int ldc) {
+        mkl_scoomm(Character.toString(transA),
+                new IntPointer(new int[] {M}),
+                new IntPointer(new int[] {N}),
+                new IntPointer(new int[] {K}),
+                new FloatPointer((float) alpha),
+                MATDESCRA,
+                (FloatPointer) values.addressPointer(),
+                (IntPointer) rowInd.addressPointer(),
+                (IntPointer) colInd.addressPointer(),
+                new IntPointer(new int[] {nnz}),
+                (FloatPointer) B.data().addressPointer(),
+                new IntPointer(new int[] {ldb}),
+                new FloatPointer((float) beta),
+                (FloatPointer) C.data().addressPointer(),
+                new IntPointer(new int[] {ldc}));
+    }
+
+    @Override
+    protected void dcoomm(char transA, int M, int N, int K, double alpha, DataBuffer values, DataBuffer rowInd,
+                    DataBuffer colInd, int nnz, INDArray B, int ldb, double beta, INDArray C, int ldc) {
+        mkl_dcoomm(Character.toString(transA),
+                new IntPointer(new int[] {M}),
+                new IntPointer(new int[] {N}),
+                new IntPointer(new int[] {K}),
+                new DoublePointer(alpha),
+                MATDESCRA,
+                (DoublePointer) values.addressPointer(),
+                (IntPointer) rowInd.addressPointer(),
+                (IntPointer) colInd.addressPointer(),
+                new IntPointer(new int[] {nnz}),
+                (DoublePointer) B.data().addressPointer(),
+                new IntPointer(new int[] {ldb}),
+                new DoublePointer(beta),
+                (DoublePointer) C.data().addressPointer(),
+                new IntPointer(new int[] {ldc}));
+    }
 }
@@ -3,89 +3,197 @@ package org.nd4j.linalg.cpu.nativecpu.cache;
 import org.nd4j.linalg.api.buffer.DataBuffer;
 import org.nd4j.linalg.cache.ArrayDescriptor;
 import org.nd4j.linalg.cache.BasicConstantHandler;
+import org.nd4j.linalg.cache.BoundedCache;
+import org.nd4j.linalg.cache.CacheStatistics;
 import org.nd4j.linalg.factory.Nd4j;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Constant buffers cache for CPU backend.
+ *
+ * Constants are kept in LRU cache bounded by number of entries and bytes, so constants seen late
+ * in process lifetime are still cached. Evicted buffers are never released explicitly:
+ * arrays that still use them keep them alive, and GC releases them afterwards.
+ *
+ * Constants known upfront can be loaded with preload() methods. Preloaded constants are never evicted.
+ *
+ * Limits can be set via system properties {@link #MAX_ENTRIES_PROPERTY} and {@link #MAX_BYTES_PROPERTY},
+ * or via {@link #setLimits(long, long)}
+ *
  * @author raver119@gmail.com
  */
-public class ConstantBuffersCache extends BasicConstantHandler {
-    protected Map<ArrayDescriptor, DataBuffer> buffersCache = new ConcurrentHashMap<>();
-    private AtomicInteger counter = new AtomicInteger(0);
-    private AtomicLong bytes = new AtomicLong(0);
-    private static final int MAX_ENTRIES = 1000;
+public class ConstantBuffersCache extends BasicConstantHandler implements CacheStatistics {
+    public static final String MAX_ENTRIES_PROPERTY = "org.nd4j.constant.cache.maxentries";
+    public static final String MAX_BYTES_PROPERTY = "org.nd4j.constant.cache.maxbytes";
+
+    private static final long DEFAULT_MAX_ENTRIES = 10000;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024L * 1024L;
+    private static final int NUM_SEGMENTS = 8;
+
+    private static final BoundedCache.Weigher<DataBuffer> WEIGHER = new BoundedCache.Weigher<DataBuffer>() {
+        @Override
+        public long weigh(DataBuffer value) {
+            return value.length() * value.getElementSize();
+        }
+    };
 
-    @Override
-    public DataBuffer getConstantBuffer(int[] array) {
-        ArrayDescriptor descriptor = new ArrayDescriptor(array);
+    protected BoundedCache<ArrayDescriptor, DataBuffer> buffersCache;
+    protected Map<ArrayDescriptor, DataBuffer> preloadedCache = new ConcurrentHashMap<>();
+    private AtomicLong preloadedBytes = new AtomicLong(0);
+    private AtomicLong preloadedHits = new AtomicLong(0);
+
+    public ConstantBuffersCache() {
+        this(Long.getLong(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES), Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES));
+    }
+
+    /**
+     * @param maxEntries maximum number of cached constants, 0 means no limit
+     * @param maxBytes maximum number of bytes used by cached constants, 0 means no limit
+     */
+    public ConstantBuffersCache(long maxEntries, long maxBytes) {
+        buffersCache = new BoundedCache<>(maxEntries, maxBytes, NUM_SEGMENTS, WEIGHER);
+    }
 
-        if (!buffersCache.containsKey(descriptor)) {
-            DataBuffer buffer = Nd4j.createBufferDetached(array);
+    /**
+     * This method sets new limits for cache. All evictable constants are dropped, preloaded ones are kept.
+     *
+     * @param maxEntries maximum number of cached constants, 0 means no limit
+     * @param maxBytes maximum number of bytes used by cached constants, 0 means no limit
+     */
+    public void setLimits(long maxEntries, long maxBytes) {
+        buffersCache = new BoundedCache<>(maxEntries, maxBytes, NUM_SEGMENTS, WEIGHER);
+    }
 
-            // we always allow int arrays with length < 3. 99.9% it's just dimension array. we don't want to recreate them over and over
-            if (counter.get() < MAX_ENTRIES || array.length < 4) {
-                counter.incrementAndGet();
-                buffersCache.put(descriptor, buffer);
-                bytes.addAndGet(array.length * 4);
-            }
+    protected DataBuffer getCached(ArrayDescriptor descriptor) {
+        DataBuffer buffer = preloadedCache.get(descriptor);
+        if (buffer != null) {
+            preloadedHits.incrementAndGet();
             return buffer;
         }
 
         return buffersCache.get(descriptor);
     }
 
+    @Override
+    public DataBuffer getConstantBuffer(int[] array) {
+        DataBuffer buffer = getCached(new ArrayDescriptor(array));
+
+        if (buffer == null) {
+            buffer = Nd4j.createBufferDetached(array);
+
+            // key gets its own copy, so caller is free to reuse original array
+            buffersCache.put(new ArrayDescriptor(array.clone()), buffer);
+        }
+
+        return buffer;
+    }
+
     /**
      * This method removes all cached constants
      */
     @Override
     public void purgeConstants() {
-        buffersCache = new ConcurrentHashMap<>();
+        buffersCache.clear();
+        preloadedCache.clear();
+        preloadedBytes.set(0);
     }
 
     @Override
     public DataBuffer getConstantBuffer(float[] array) {
-        ArrayDescriptor descriptor = new ArrayDescriptor(array);
-
-        if (!buffersCache.containsKey(descriptor)) {
-            DataBuffer buffer = Nd4j.createBufferDetached(array);
+        DataBuffer buffer = getCached(new ArrayDescriptor(array));
 
-            if (counter.get() < MAX_ENTRIES) {
-                counter.incrementAndGet();
-                buffersCache.put(descriptor, buffer);
+        if (buffer == null) {
+            buffer = Nd4j.createBufferDetached(array);
 
-                bytes.addAndGet(array.length * Nd4j.sizeOfDataType());
-            }
-            return buffer;
+            buffersCache.put(new ArrayDescriptor(array.clone()), buffer);
         }
 
-        return buffersCache.get(descriptor);
+        return buffer;
     }
 
     @Override
     public DataBuffer getConstantBuffer(double[] array) {
-        ArrayDescriptor descriptor = new ArrayDescriptor(array);
+        DataBuffer buffer = getCached(new ArrayDescriptor(array));
 
-        if (!buffersCache.containsKey(descriptor)) {
-            DataBuffer buffer = Nd4j.createBufferDetached(array);
+        if (buffer == null) {
+            buffer = Nd4j.createBufferDetached(array);
 
-            if (counter.get() < MAX_ENTRIES) {
-                counter.incrementAndGet();
-                buffersCache.put(descriptor, buffer);
-
-                bytes.addAndGet(array.length * Nd4j.sizeOfDataType());
-            }
-            return buffer;
+            buffersCache.put(new ArrayDescriptor(array.clone()), buffer);
         }
 
-        return buffersCache.get(descriptor);
+        return buffer;
+    }
+
+    /**
+     * This method loads given int constants into cache. These constants are never evicted.
+     *
+     * @param arrays
+     */
+    public void preload(int[]... arrays) {
+        for (int[] array : arrays)
+            preload(new ArrayDescriptor(array.clone()), Nd4j.createBufferDetached(array));
+    }
+
+    /**
+     * This method loads given float constants into cache. These constants are never evicted.
+     *
+     * @param arrays
+     */
+    public void preload(float[]... arrays) {
+        for (float[] array : arrays)
+            preload(new ArrayDescriptor(array.clone()), Nd4j.createBufferDetached(array));
+    }
+
+    /**
+     * This method loads given double constants into cache. These constants are never evicted.
+     *
+     * @param arrays
+     */
+    public void preload(double[]... arrays) {
+        for (double[] array : arrays)
+            preload(new ArrayDescriptor(array.clone()), Nd4j.createBufferDetached(array));
+    }
+
+    protected void preload(ArrayDescriptor descriptor, DataBuffer buffer) {
+        if (preloadedCache.put(descriptor, buffer) == null)
+            preloadedBytes.addAndGet(WEIGHER.weigh(buffer));
     }
 
     @Override
     public long getCachedBytes() {
-        return bytes.get();
+        return buffersCache.getCachedBytes() + preloadedBytes.get();
+    }
+
+    /**
+     * This method returns number of constant requests that weren't served from cache
+     *
+     * @return
+     */
+    @Override
+    public long getCacheMisses() {
+        return buffersCache.getMisses();
+    }
+
+    /**
+     * This method returns number of constant requests served from cache, including preloaded constants
+     *
+     * @return
+     */
+    @Override
+    public long getCacheHits() {
+        return buffersCache.getHits() + preloadedHits.get();
+    }
+
+    /**
+     * This method returns number of constants evicted from cache
+     *
+     * @return
+     */
+    @Override
+    public long getCacheEvictions() {
+        return buffersCache.getEvictions();
     }
 }
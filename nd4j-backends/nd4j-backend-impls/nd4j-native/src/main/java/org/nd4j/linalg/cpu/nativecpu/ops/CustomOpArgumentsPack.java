@@ -0,0 +1,221 @@
+package org.nd4j.linalg.cpu.nativecpu.ops;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.bytedeco.javacpp.*;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.CustomOp;
+import org.nd4j.linalg.api.ops.executioner.OpStatus;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.util.ArrayUtil;
+import org.nd4j.nativeblas.NativeOps;
+
+/**
+ * Reusable native memory for CustomOp arguments: input/output buffers & shapes, integer and floating point arguments.
+ *
+ * Instead of allocating new pointers for each CustomOp invocation, we keep them around and grow them when needed.
+ * Since for NativeOpExecutioner all executions are synchronous, one pack per thread is enough.
+ *
+ * PLEASE NOTE: This class isn't thread-safe
+ */
+public class CustomOpArgumentsPack {
+    private static final int MIN_CAPACITY = 4;
+
+    @Getter
+    private PointerPointer inputBuffers;
+    @Getter
+    private PointerPointer inputShapes;
+    @Getter
+    private PointerPointer outputBuffers;
+    @Getter
+    private PointerPointer outputShapes;
+    private IntPointer iArgs;
+    private Pointer tArgs;
+
+    private int inputsCapacity;
+    private int outputsCapacity;
+    private int iArgsCapacity;
+    private int tArgsCapacity;
+    private DataBuffer.Type tArgsType;
+
+    @Getter
+    private int numInputs;
+    @Getter
+    private int numOutputs;
+    @Getter
+    private int numIArgs;
+    @Getter
+    private int numTArgs;
+
+    public CustomOpArgumentsPack() {
+        //
+    }
+
+    /**
+     * This method binds inputs, outputs and arguments of given op
+     *
+     * @param op
+     */
+    public void bind(@NonNull CustomOp op) {
+        bindInputs(op);
+        bindOutputs(op);
+        bindArguments(op);
+    }
+
+    public void bindInputs(@NonNull CustomOp op) {
+        INDArray[] inputs = op.inputArguments();
+        if (inputs.length > inputsCapacity) {
+            inputsCapacity = grow(inputsCapacity, inputs.length);
+            inputBuffers = reallocate(inputBuffers, inputsCapacity);
+            inputShapes = reallocate(inputShapes, inputsCapacity);
+        }
+
+        for (int e = 0; e < inputs.length; e++) {
+            if (inputs[e] == null)
+                throw new NullPointerException("Input argument is null");
+
+            inputBuffers.put(e, inputs[e].data().addressPointer());
+            inputShapes.put(e, inputs[e].shapeInfoDataBuffer().addressPointer());
+        }
+
+        numInputs = inputs.length;
+    }
+
+    public void bindOutputs(@NonNull CustomOp op) {
+        INDArray[] outputs = op.outputArguments();
+        if (outputs.length > outputsCapacity) {
+            outputsCapacity = grow(outputsCapacity, outputs.length);
+            outputBuffers = reallocate(outputBuffers, outputsCapacity);
+            outputShapes = reallocate(outputShapes, outputsCapacity);
+        }
+
+        for (int e = 0; e < outputs.length; e++) {
+            if (outputs[e] == null)
+                throw new ND4JIllegalStateException("Op output arguments must not be null!");
+
+            outputBuffers.put(e, outputs[e].data().addressPointer());
+            outputShapes.put(e, outputs[e].shapeInfoDataBuffer().addressPointer());
+        }
+
+        numOutputs = outputs.length;
+    }
+
+    public void bindArguments(@NonNull CustomOp op) {
+        int[] iArgs1 = op.iArgs();
+        if (iArgs1.length > iArgsCapacity) {
+            iArgsCapacity = grow(iArgsCapacity, iArgs1.length);
+            if (iArgs != null)
+                iArgs.deallocate();
+
+            iArgs = new IntPointer(iArgsCapacity);
+        }
+
+        for (int e = 0; e < iArgs1.length; e++)
+            iArgs.put(e, iArgs1[e]);
+
+        numIArgs = iArgs1.length;
+
+        double[] tArgs1 = op.tArgs();
+        DataBuffer.Type type = Nd4j.dataType();
+        if (tArgs1.length > tArgsCapacity || type != tArgsType) {
+            tArgsCapacity = grow(tArgsCapacity, tArgs1.length);
+            if (tArgs != null)
+                tArgs.deallocate();
+
+            if (type == DataBuffer.Type.DOUBLE)
+                tArgs = new DoublePointer(tArgsCapacity);
+            else if (type == DataBuffer.Type.FLOAT)
+                tArgs = new FloatPointer(tArgsCapacity);
+            else if (type == DataBuffer.Type.HALF)
+                tArgs = new ShortPointer(tArgsCapacity);
+            else
+                throw new ND4JIllegalStateException("Unsupported data type: " + type);
+
+            tArgsType = type;
+        }
+
+        for (int e = 0; e < tArgs1.length; e++) {
+            if (type == DataBuffer.Type.DOUBLE)
+                ((DoublePointer) tArgs).put(e, tArgs1[e]);
+            else if (type == DataBuffer.Type.FLOAT)
+                ((FloatPointer) tArgs).put(e, (float) tArgs1[e]);
+            else
+                ((ShortPointer) tArgs).put(e, ArrayUtil.toHalf(tArgs1[e]));
+        }
+
+        numTArgs = tArgs1.length;
+    }
+
+    /**
+     * This method returns pointer to integer arguments, or null if there are no integer arguments bound
+     */
+    public IntPointer getIArgs() {
+        return numIArgs > 0 ? iArgs : null;
+    }
+
+    /**
+     * This method returns pointer to floating point arguments, or null if there are no floating point arguments bound
+     */
+    public Pointer getTArgs() {
+        return numTArgs > 0 ? tArgs : null;
+    }
+
+    /**
+     * This method executes given op using currently bound arguments
+     *
+     * @param loop
+     * @param hash
+     * @param inplace
+     * @return
+     */
+    public OpStatus exec(@NonNull NativeOps loop, long hash, boolean inplace) {
+        if (Nd4j.dataType() != tArgsType)
+            throw new ND4JIllegalStateException("Data type was changed after arguments were bound: " + tArgsType
+                            + " vs " + Nd4j.dataType());
+
+        int status;
+        if (tArgsType == DataBuffer.Type.FLOAT)
+            status = loop.execCustomOpFloat(null, hash, inputBuffers, inputShapes, numInputs, outputBuffers,
+                            outputShapes, numOutputs, (FloatPointer) getTArgs(), numTArgs, getIArgs(), numIArgs,
+                            inplace);
+        else if (tArgsType == DataBuffer.Type.DOUBLE)
+            status = loop.execCustomOpDouble(null, hash, inputBuffers, inputShapes, numInputs, outputBuffers,
+                            outputShapes, numOutputs, (DoublePointer) getTArgs(), numTArgs, getIArgs(), numIArgs,
+                            inplace);
+        else
+            status = loop.execCustomOpHalf(null, hash, inputBuffers, inputShapes, numInputs, outputBuffers,
+                            outputShapes, numOutputs, (ShortPointer) getTArgs(), numTArgs, getIArgs(), numIArgs,
+                            inplace);
+
+        return OpStatus.byNumber(status);
+    }
+
+    /**
+     * This method releases all native memory held by this pack
+     */
+    public void release() {
+        for (Pointer pointer : new Pointer[] {inputBuffers, inputShapes, outputBuffers, outputShapes, iArgs, tArgs})
+            if (pointer != null)
+                pointer.deallocate();
+
+        inputBuffers = inputShapes = outputBuffers = outputShapes = null;
+        iArgs = null;
+        tArgs = null;
+        inputsCapacity = outputsCapacity = iArgsCapacity = tArgsCapacity = 0;
+        numInputs = numOutputs = numIArgs = numTArgs = 0;
+        tArgsType = null;
+    }
+
+    protected static int grow(int capacity, int required) {
+        return Math.max(required, Math.max(MIN_CAPACITY, capacity * 2));
+    }
+
+    protected static PointerPointer reallocate(PointerPointer pointer, int capacity) {
+        if (pointer != null)
+            pointer.deallocate();
+
+        return new PointerPointer(capacity);
+    }
+}
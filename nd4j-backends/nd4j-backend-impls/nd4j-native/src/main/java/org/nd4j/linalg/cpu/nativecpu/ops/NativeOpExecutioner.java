@@ -19,11 +19,14 @@ import org.nd4j.linalg.api.ops.aggregates.Aggregate;
 import org.nd4j.linalg.api.ops.aggregates.Batch;
 import org.nd4j.linalg.api.ops.executioner.DefaultOpExecutioner;
 import org.nd4j.linalg.api.ops.executioner.OpStatus;
+import org.nd4j.linalg.api.ops.executioner.PreparedCustomOp;
 import org.nd4j.linalg.api.ops.impl.accum.MatchCondition;
 import org.nd4j.linalg.api.ops.impl.accum.Variance;
 import org.nd4j.linalg.api.rng.Random;
 import org.nd4j.linalg.api.shape.Shape;
+import org.nd4j.linalg.cache.CacheStatistics;
 import org.nd4j.linalg.cache.ConstantHandler;
+import org.nd4j.linalg.cache.ShapeInferenceCache;
 import org.nd4j.linalg.cache.TADManager;
 import org.nd4j.linalg.compression.CompressionDescriptor;
 import org.nd4j.linalg.compression.CompressionType;
@@ -55,6 +58,8 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
     private ConstantHandler constantHandler = Nd4j.getConstantHandler();
     @Getter
     private CpuTADManager tadManager = new CpuTADManager();
+    @Getter
+    private ShapeInferenceCache shapeCache = new ShapeInferenceCache();
 
     private static final String DEBUG_ENABLED = "ND4J_DEBUG";
     private static final String VERBOSE = "ND4J_VERBOSE";
@@ -71,6 +76,11 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
     private ThreadLocal<Map<Integer, Pointer>> batchPointers = new ThreadLocal<>();
     private ThreadLocal<Map<Integer, AggregateMemoryBlock>> memoryBlocks = new ThreadLocal<>();
 
+    /**
+     * Same as above, CustomOp arguments are marshalled into per-thread packs, growing when needed
+     */
+    private ThreadLocal<CustomOpArgumentsPack> argumentsPacks = new ThreadLocal<>();
+
     public NativeOpExecutioner() {
         tadManager.init(loop, constantHandler);
 
@@ -1539,101 +1549,46 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
         if (op.numOutputArguments() == 0 && !op.isInplaceCall())
             throw new ND4JIllegalStateException("Op name " + op.opName() +  " failed to execute. You can't execute non-inplace CustomOp without outputs being specified");
 
-        val name = op.opName().toLowerCase();
-        val hash = op.opHash();
-
-
-        val inputShapes = new PointerPointer<>(op.numInputArguments());
-        val inputBuffers = new PointerPointer<>(op.numInputArguments());
-
-        int cnt= 0;
-        val inputArgs = op.inputArguments();
-        for (val in: inputArgs) {
-            if(in == null){
-                throw new NullPointerException("Input argument is null");
-            }
-            inputBuffers.put(cnt, in.data().addressPointer());
-            inputShapes.put(cnt++, in.shapeInfoDataBuffer().addressPointer());
-        }
+        val pack = getArgumentsPack();
+        pack.bind(op);
 
-        val outputArgs = op.outputArguments();
-        for(int i = 0; i < outputArgs.length; i++) {
-            if(outputArgs[i] == null)
-                throw new ND4JIllegalStateException("Op output arguments must not be null!");
+        OpStatus status;
+        try {
+            status = pack.exec(loop, op.opHash(), op.isInplaceCall());
+        } catch (Exception e) {
+            log.error("Failed to execute. Please see above message (printed out from c++) for a possible cause of error.");
+            throw e;
         }
 
+        if (status != OpStatus.ND4J_STATUS_OK)
+            throw new ND4JIllegalStateException("Op execution failed: " + status);
+    }
 
-        val outputShapes = new PointerPointer<>(op.numOutputArguments());
-        val outputBuffers = new PointerPointer<>(op.numOutputArguments());
+    /**
+     * This method binds given CustomOp to dedicated argument pack, so it can be executed multiple times without
+     * any native allocations
+     *
+     * @param op
+     * @return
+     */
+    @Override
+    public PreparedCustomOp prepare(@NonNull CustomOp op) {
+        return new NativePreparedCustomOp(loop, op);
+    }
 
-        cnt= 0;
-        for (val out: outputArgs) {
-            outputBuffers.put(cnt, out.data().addressPointer());
-            outputShapes.put(cnt++, out.shapeInfoDataBuffer().addressPointer());
+    /**
+     * This method returns CustomOp arguments pack for current thread
+     *
+     * @return
+     */
+    protected CustomOpArgumentsPack getArgumentsPack() {
+        CustomOpArgumentsPack pack = argumentsPacks.get();
+        if (pack == null) {
+            pack = new CustomOpArgumentsPack();
+            argumentsPacks.set(pack);
         }
 
-
-
-        val iArgs = op.numIArguments() > 0 ? new IntPointer(op.numIArguments()) : null;
-        cnt = 0;
-        val iArgs1 = op.iArgs();
-        for (val i: iArgs1)
-            iArgs.put(cnt++, i);
-
-        if (Nd4j.dataType() == DataBuffer.Type.FLOAT) {
-            val tArgs = op.numTArguments() > 0 ? new FloatPointer(op.numTArguments()) : null;
-
-
-            val tArgs1 = op.tArgs();
-            cnt = 0;
-            for (val t: tArgs1)
-                tArgs.put(cnt++, (float) t);
-
-            val status = OpStatus.byNumber(loop.execCustomOpFloat(null, hash, inputBuffers, inputShapes, op.numInputArguments(), outputBuffers, outputShapes, op.numOutputArguments(), tArgs, op.numTArguments(), iArgs, op.numIArguments(), op.isInplaceCall()));
-            if (status != OpStatus.ND4J_STATUS_OK)
-                throw new ND4JIllegalStateException("Op execution failed: " + status);
-        }  else if (Nd4j.dataType() == DataBuffer.Type.DOUBLE) {
-            val tArgs = op.numTArguments() > 0 ? new DoublePointer(op.numTArguments()) : null;
-            val tArgs1 = op.tArgs();
-
-            cnt = 0;
-            for (val t: tArgs1)
-                tArgs.put(cnt++, t);
-
-            val t = op.numInputArguments();
-
-            OpStatus status = OpStatus.ND4J_STATUS_OK;
-            try {
-                status = OpStatus.byNumber(loop.execCustomOpDouble(
-                        null,
-                        hash,
-                        inputBuffers,
-                        inputShapes,
-                        op.numInputArguments(),
-                        outputBuffers,
-                        outputShapes,
-                        op.numOutputArguments(),
-                        tArgs, op.numTArguments(),
-                        iArgs, op.numIArguments(),
-                        op.isInplaceCall()));
-            }catch(Exception e) {
-                 log.error("Failed to execute. Please see above message (printed out from c++) for a possible cause of error.");
-                throw e;
-            }
-
-        } else if (Nd4j.dataType() == DataBuffer.Type.HALF) {
-            val tArgs = op.numTArguments() > 0 ? new ShortPointer(op.numTArguments()) : null;
-
-            cnt = 0;
-            val tArgs1 = op.tArgs();
-            for (val t: tArgs1)
-                tArgs.put(cnt++, ArrayUtil.toHalf(t));
-
-            val status = OpStatus.byNumber(loop.execCustomOpHalf(null, hash, inputBuffers, inputShapes, op.numInputArguments(),
-                    outputBuffers, outputShapes, op.numOutputArguments(), tArgs, op.numTArguments(), iArgs, op.numIArguments(), op.isInplaceCall()));
-            if (status != OpStatus.ND4J_STATUS_OK)
-                throw new ND4JIllegalStateException("Op execution failed: " + status);
-        }
+        return pack;
     }
 
     protected int[] getShapeFromPointer(IntPointer ptr) {
@@ -1647,7 +1602,6 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
 
     @Override
     public List<int[]> calculateOutputShape(@NonNull CustomOp op) {
-        val lc = op.opName().toLowerCase();
         val hash = op.opHash();
 
         val result = new ArrayList<int[]>();
@@ -1655,85 +1609,50 @@ public class NativeOpExecutioner extends DefaultOpExecutioner {
             return Collections.emptyList();
         }
 
-
-        val inputBuffers = new PointerPointer<>(op.numInputArguments());
-        val inputShapes = new PointerPointer<>(op.numInputArguments());
-        val inputArgs = op.inputArguments();
-        int cnt= 0;
-        for (val in: inputArgs) {
-            inputBuffers.put(cnt, in.data().addressPointer());
-            inputShapes.put(cnt++, in.shapeInfoDataBuffer().addressPointer());
+        val key = shapeCache.keyFor(op);
+        if (key != null) {
+            val cached = shapeCache.get(key);
+            if (cached != null)
+                return cached;
         }
 
+        val pack = getArgumentsPack();
+        pack.bindInputs(op);
+        pack.bindArguments(op);
 
-        val iArgs = op.numIArguments() > 0 ? new IntPointer(op.numIArguments()) : null;
-        cnt = 0;
-        val iArgs1 = op.iArgs();
-        for (val i: iArgs1)
-            iArgs.put(cnt++, i);
-
+        Pointer ptr;
         if (Nd4j.dataType() == DataBuffer.Type.FLOAT) {
-            val tArgs = op.numTArguments() > 0 ? new FloatPointer(op.numTArguments()) : null;
-            val tArgs1 = op.tArgs();
-            cnt = 0;
-            for (val t: tArgs1)
-                tArgs.put(cnt++, (float) t);
-
-            val ptrptr= (Nd4jCpu.ShapeList) loop.calculateOutputShapesFloat(null,
-                    hash, inputBuffers, inputShapes, op.numInputArguments(),
-                    tArgs, op.numTArguments(), iArgs, op.numIArguments());
-
-            if (ptrptr == null)
-                throw new RuntimeException();
-
-            for (int e = 0; e < ptrptr.size(); e++ )
-                result.add(getShapeFromPointer(new PagedPointer(ptrptr.at(e)).asIntPointer()));
-
-            loop.deleteShapeList(ptrptr);
+            ptr = loop.calculateOutputShapesFloat(null, hash, pack.getInputBuffers(), pack.getInputShapes(),
+                    pack.getNumInputs(), (FloatPointer) pack.getTArgs(), pack.getNumTArgs(), pack.getIArgs(), pack.getNumIArgs());
         } else if (Nd4j.dataType() == DataBuffer.Type.DOUBLE) {
-            val tArgs = op.numTArguments() > 0 ? new DoublePointer(op.numTArguments()) : null;
-
-            cnt = 0;
-            val tArgs1 = op.tArgs();
-            for (val t: tArgs1)
-                tArgs.put(cnt++, t);
-
-            val ptrptr= (Nd4jCpu.ShapeList) loop.calculateOutputShapesDouble(null,
-                    hash, inputBuffers, inputShapes, op.numInputArguments(), tArgs,
-                    op.numTArguments(), iArgs, op.numIArguments());
-
-            if (ptrptr == null)
-                throw new RuntimeException();
-
-            for (int e = 0; e < ptrptr.size(); e++ )
-                result.add(getShapeFromPointer(new PagedPointer(ptrptr.at(e)).asIntPointer()));
-
-
-            loop.deleteShapeList(ptrptr);
+            ptr = loop.calculateOutputShapesDouble(null, hash, pack.getInputBuffers(), pack.getInputShapes(),
+                    pack.getNumInputs(), (DoublePointer) pack.getTArgs(), pack.getNumTArgs(), pack.getIArgs(), pack.getNumIArgs());
         } else if (Nd4j.dataType() == DataBuffer.Type.HALF) {
-            val tArgs = op.numTArguments() > 0 ? new ShortPointer(op.numTArguments()) : null;
-
-            cnt = 0;
-            val tArgs1 = op.tArgs();
-            for (val t:  tArgs1)
-                tArgs.put(cnt++, ArrayUtil.toHalf(t));
-
-            val ptrptr= (Nd4jCpu.ShapeList) loop.calculateOutputShapesHalf(null, hash, inputBuffers, inputShapes, op.numInputArguments(), tArgs, op.numTArguments(), iArgs, op.numIArguments());
+            ptr = loop.calculateOutputShapesHalf(null, hash, pack.getInputBuffers(), pack.getInputShapes(),
+                    pack.getNumInputs(), (ShortPointer) pack.getTArgs(), pack.getNumTArgs(), pack.getIArgs(), pack.getNumIArgs());
+        } else
+            return result;
 
-            if (ptrptr == null)
-                throw new RuntimeException();
+        val ptrptr = (Nd4jCpu.ShapeList) ptr;
+        if (ptrptr == null)
+            throw new RuntimeException();
 
-            val numOutputs = getCustomOperations().get(lc).getNumOutputs();
-            for (int e = 0; e < ptrptr.size(); e++ )
-                result.add(getShapeFromPointer(new PagedPointer(ptrptr.at(e)).asIntPointer()));
+        for (int e = 0; e < ptrptr.size(); e++ )
+            result.add(getShapeFromPointer(new PagedPointer(ptrptr.at(e)).asIntPointer()));
 
-            loop.deleteShapeList(ptrptr);
-        }
+        loop.deleteShapeList(ptrptr);
 
+        if (key != null)
+            shapeCache.put(key, result);
 
         return result;
     }
 
+    @Override
+    public CacheStatistics getShapeCacheStatistics() {
+        return shapeCache;
+    }
+
 
     @Override
     public void enableDebugMode(boolean reallyEnable) {
@@ -0,0 +1,53 @@
+package org.nd4j.linalg.cpu.nativecpu.ops;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.nd4j.linalg.api.ops.CustomOp;
+import org.nd4j.linalg.api.ops.executioner.OpStatus;
+import org.nd4j.linalg.api.ops.executioner.PreparedCustomOp;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.nativeblas.NativeOps;
+
+/**
+ * PreparedCustomOp implementation for CPU backend: op arguments are marshalled into dedicated
+ * {@link CustomOpArgumentsPack} once, so subsequent executions don't allocate any native memory.
+ */
+public class NativePreparedCustomOp implements PreparedCustomOp {
+    private final NativeOps loop;
+    private final CustomOpArgumentsPack pack = new CustomOpArgumentsPack();
+    private final long hash;
+    @Getter
+    private final CustomOp op;
+    private volatile boolean closed = false;
+
+    public NativePreparedCustomOp(@NonNull NativeOps loop, @NonNull CustomOp op) {
+        if (op.numOutputArguments() == 0 && !op.isInplaceCall())
+            throw new ND4JIllegalStateException("Op name " + op.opName()
+                            + " can't be prepared. You can't execute non-inplace CustomOp without outputs being specified");
+
+        this.loop = loop;
+        this.op = op;
+        this.hash = op.opHash();
+
+        pack.bind(op);
+    }
+
+    @Override
+    public void exec() {
+        if (closed)
+            throw new ND4JIllegalStateException("PreparedCustomOp [" + op.opName() + "] was closed already");
+
+        OpStatus status = pack.exec(loop, hash, op.isInplaceCall());
+        if (status != OpStatus.ND4J_STATUS_OK)
+            throw new ND4JIllegalStateException("Op [" + op.opName() + "] execution failed: " + status);
+    }
+
+    @Override
+    public void close() {
+        if (closed)
+            return;
+
+        closed = true;
+        pack.release();
+    }
+}
@@ -12,7 +12,6 @@ import org.nd4j.linalg.api.memory.pointers.PagedPointer;
 import org.nd4j.linalg.api.memory.pointers.PointersPair;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.memory.abstracts.Nd4jWorkspace;
-import org.nd4j.nativeblas.NativeOps;
 import org.nd4j.nativeblas.NativeOpsHolder;
 
 /**
@@ -83,7 +82,7 @@ public class CpuWorkspace extends Nd4jWorkspace {
             if (stepNumber + 2 < stepCurrent|| extended) {
                 pinnedAllocations.remove();
 
-                NativeOpsHolder.getInstance().getDeviceNativeOps().freeHost(pair.getHostPointer());
+                memoryManager.release(pair.getHostPointer(), MemoryKind.HOST);
 
                 pinnedCount.decrementAndGet();
                 pinnedAllocationsSize.addAndGet(pair.getRequiredMemory() * -1);
@@ -98,10 +97,9 @@ public class CpuWorkspace extends Nd4jWorkspace {
         if (isDebug.get())
             log.info("Workspace [{}] device_{} threadId {} guid [{}]: clearing external allocations...", id, Nd4j.getAffinityManager().getDeviceForCurrentThread(), Thread.currentThread().getId(), guid);
 
-        NativeOps nativeOps = NativeOpsHolder.getInstance().getDeviceNativeOps();
         for (PointersPair pair: externalAllocations) {
             if (pair.getHostPointer() != null)
-                nativeOps.freeHost(pair.getHostPointer());
+                memoryManager.release(pair.getHostPointer(), MemoryKind.HOST);
         }
         externalAllocations.clear();
         externalCount.set(0);
@@ -124,7 +122,7 @@ public class CpuWorkspace extends Nd4jWorkspace {
 
         if (workspaceConfiguration.getPolicyLocation() == LocationPolicy.RAM) {
             if (workspace.getHostPointer() != null)
-                NativeOpsHolder.getInstance().getDeviceNativeOps().freeHost(workspace.getHostPointer());
+                memoryManager.release(workspace.getHostPointer(), MemoryKind.HOST);
         } else if (workspaceConfiguration.getPolicyLocation() == LocationPolicy.MMAP) {
             if (workspace.getHostPointer() != null)
                 NativeOpsHolder.getInstance().getDeviceNativeOps().munmapFile(null, mmap, tempFile.length());
@@ -0,0 +1,101 @@
+package org.nd4j.linalg.cpu.nativecpu.cache;
+
+import org.junit.Test;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+
+import static org.junit.Assert.*;
+
+public class ConstantBuffersCacheTests {
+
+    @Test
+    public void testCacheHit1() {
+        ConstantBuffersCache cache = new ConstantBuffersCache(100, 0);
+
+        DataBuffer first = cache.getConstantBuffer(new int[] {1, 2, 3});
+        assertEquals(0, cache.getCacheHits());
+        assertEquals(1, cache.getCacheMisses());
+
+        // different array instance with same content should hit the cache
+        DataBuffer second = cache.getConstantBuffer(new int[] {1, 2, 3});
+        assertSame(first, second);
+        assertEquals(1, cache.getCacheHits());
+
+        assertNotSame(first, cache.getConstantBuffer(new int[] {1, 2, 4}));
+    }
+
+    @Test
+    public void testCacheKeyCopy1() {
+        ConstantBuffersCache cache = new ConstantBuffersCache(100, 0);
+
+        float[] array = new float[] {1.0f, 2.0f, 3.0f};
+        DataBuffer first = cache.getConstantBuffer(array);
+
+        // caller reuses its array, that shouldn't affect cached entry
+        array[0] = 5.0f;
+        assertNotSame(first, cache.getConstantBuffer(array));
+        assertSame(first, cache.getConstantBuffer(new float[] {1.0f, 2.0f, 3.0f}));
+    }
+
+    @Test
+    public void testEntriesEviction1() {
+        ConstantBuffersCache cache = new ConstantBuffersCache(8, 0);
+
+        DataBuffer first = cache.getConstantBuffer(new double[] {0.0, 1.0});
+        for (int e = 1; e < 100; e++)
+            cache.getConstantBuffer(new double[] {e, e + 1.0});
+
+        // 8 segments, single entry each
+        assertTrue(cache.getCacheEvictions() >= 92);
+
+        // evicted buffers are only dropped from cache, so they're still usable
+        assertEquals(1.0, first.getDouble(1), 1e-5);
+    }
+
+    @Test
+    public void testBytesEviction1() {
+        long maxBytes = 8 * 16 * 8;
+        ConstantBuffersCache cache = new ConstantBuffersCache(0, maxBytes);
+
+        for (int e = 0; e < 1000; e++) {
+            double[] array = new double[16];
+            array[0] = e;
+            cache.getConstantBuffer(array);
+
+            assertTrue(cache.getCachedBytes() <= maxBytes);
+        }
+
+        assertTrue(cache.getCacheEvictions() > 0);
+        assertTrue(cache.getCachedBytes() > 0);
+    }
+
+    @Test
+    public void testPreload1() {
+        ConstantBuffersCache cache = new ConstantBuffersCache(8, 0);
+        cache.preload(new int[] {7, 8, 9}, new int[] {10, 11});
+
+        DataBuffer preloaded = cache.getConstantBuffer(new int[] {7, 8, 9});
+        assertEquals(1, cache.getCacheHits());
+        assertEquals(0, cache.getCacheMisses());
+        assertEquals(9, preloaded.getInt(2));
+
+        // preloaded constants aren't evicted
+        for (int e = 0; e < 100; e++)
+            cache.getConstantBuffer(new int[] {e, -e});
+
+        assertSame(preloaded, cache.getConstantBuffer(new int[] {7, 8, 9}));
+        assertNotNull(cache.getConstantBuffer(new int[] {10, 11}));
+        assertEquals(100, cache.getCacheMisses());
+    }
+
+    @Test
+    public void testPurge1() {
+        ConstantBuffersCache cache = new ConstantBuffersCache(100, 0);
+        cache.preload(new float[] {1.0f});
+        DataBuffer buffer = cache.getConstantBuffer(new float[] {2.0f});
+
+        cache.purgeConstants();
+
+        assertEquals(0, cache.getCachedBytes());
+        assertNotSame(buffer, cache.getConstantBuffer(new float[] {2.0f}));
+    }
+}
@@ -0,0 +1,68 @@
+package org.nd4j.autodiff.execution;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.junit.Test;
+import org.nd4j.autodiff.samediff.SDVariable;
+import org.nd4j.autodiff.samediff.SameDiff;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+@Slf4j
+public class ExecutionPlanTest {
+
+    protected SameDiff chainGraph() {
+        SameDiff sameDiff = SameDiff.create();
+        SDVariable in = sameDiff.var("in", new int[] {-1, 4});
+
+        SDVariable a = sameDiff.tanh(in);
+        SDVariable b = sameDiff.sigmoid(a);
+        SDVariable c = sameDiff.exp(b);
+        SDVariable d = sameDiff.neg(c);
+        sameDiff.tanh(d);
+
+        return sameDiff;
+    }
+
+    @Test
+    public void testPlanEquality1() throws Exception {
+        INDArray first = Nd4j.linspace(1, 12, 12).reshape(3, 4).divi(12);
+        INDArray second = Nd4j.linspace(-6, 5, 12).reshape(3, 4).divi(6);
+
+        val plan = ExecutionPlan.prepare(chainGraph(), Collections.singletonMap("in", first));
+
+        for (INDArray input : new INDArray[] {first, second, first}) {
+            INDArray expected = chainGraph().execWithPlaceHolderAndEndResult(Collections.singletonMap("in", input.dup()));
+            INDArray result = plan.run(Collections.singletonMap("in", input))[0];
+
+            assertEquals(expected, result);
+        }
+    }
+
+    @Test
+    public void testPlanReuse1() throws Exception {
+        INDArray input = Nd4j.linspace(1, 12, 12).reshape(3, 4).divi(12);
+
+        val plan = ExecutionPlan.prepare(chainGraph(), Collections.singletonMap("in", input));
+
+        // 4 intermediate arrays in chain, only 2 of them are alive at any time
+        assertTrue(plan.getArenaBytes() < plan.getRequiredBytes());
+
+        // output array is the same for all runs
+        INDArray output = plan.run(Collections.singletonMap("in", input))[0];
+        assertTrue(output == plan.run(Collections.singletonMap("in", input))[0]);
+    }
+
+    @Test(expected = ND4JIllegalStateException.class)
+    public void testPlanWrongShape1() throws Exception {
+        INDArray input = Nd4j.linspace(1, 12, 12).reshape(3, 4);
+
+        val plan = ExecutionPlan.prepare(chainGraph(), Collections.singletonMap("in", input));
+        plan.run(Collections.singletonMap("in", Nd4j.create(2, 4)));
+    }
+}
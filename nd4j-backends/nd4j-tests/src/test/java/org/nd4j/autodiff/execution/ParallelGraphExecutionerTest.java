@@ -0,0 +1,91 @@
+package org.nd4j.autodiff.execution;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.junit.Test;
+import org.nd4j.autodiff.execution.conf.ExecutorConfiguration;
+import org.nd4j.autodiff.execution.conf.OutputMode;
+import org.nd4j.autodiff.samediff.SDVariable;
+import org.nd4j.autodiff.samediff.SameDiff;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+import static org.junit.Assert.*;
+
+/**
+ * Comparative tests for parallel executioner vs sequential execution
+ */
+@Slf4j
+public class ParallelGraphExecutionerTest {
+
+    protected SameDiff wideGraph(INDArray input) {
+        SameDiff sameDiff = SameDiff.create();
+        SDVariable in = sameDiff.var("in", input);
+
+        // 4 independent branches, joined at the end
+        SDVariable a = sameDiff.tanh(in).mul(2.0);
+        SDVariable b = sameDiff.sigmoid(in).add(1.0);
+        SDVariable c = sameDiff.exp(in).mul(0.5);
+        SDVariable d = sameDiff.neg(in).add(3.0);
+
+        SDVariable ab = a.add(b);
+        SDVariable cd = c.mul(d);
+        ab.add(cd);
+
+        return sameDiff;
+    }
+
+    @Test
+    public void testEquality1() throws Exception {
+        INDArray input = Nd4j.linspace(1, 12, 12).reshape(3, 4).divi(12);
+
+        INDArray expected = new BasicGraphExecutioner().executeGraph(wideGraph(input.dup()))[0];
+        INDArray result = new ParallelGraphExecutioner().executeGraph(wideGraph(input.dup()))[0];
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testFlatBuffersDelegation1() throws Exception {
+        INDArray input = Nd4j.linspace(1, 12, 12).reshape(3, 4).divi(12);
+        val configuration = ExecutorConfiguration.builder().outputMode(OutputMode.IMPLICIT).build();
+
+        val graph = wideGraph(input);
+
+        val expected = new NativeGraphExecutioner().convertToFlatBuffers(graph, configuration);
+        val result = new ParallelGraphExecutioner().convertToFlatBuffers(graph, configuration);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testReuse1() throws Exception {
+        INDArray input = Nd4j.linspace(1, 12, 12).reshape(3, 4).divi(12);
+
+        val executioner = new ParallelGraphExecutioner();
+        val graph = wideGraph(input.dup());
+
+        INDArray expected = executioner.executeGraph(graph)[0].dup();
+        for (int e = 0; e < 10; e++)
+            assertEquals(expected, executioner.executeGraph(graph)[0]);
+    }
+
+    @Test
+    public void testDependencies1() throws Exception {
+        INDArray input = Nd4j.linspace(1, 12, 12).reshape(3, 4).divi(12);
+
+        val executioner = new ParallelGraphExecutioner();
+        val nodes = executioner.buildDependencies(wideGraph(input));
+
+        // tanh, sigmoid, exp and neg depend on input only
+        int roots = 0;
+        for (val node : nodes)
+            if (node.dependencies.isEmpty())
+                roots++;
+
+        assertEquals(4, roots);
+
+        // final op depends on both joins
+        assertEquals(2, nodes.get(nodes.size() - 1).dependencies.size());
+    }
+}
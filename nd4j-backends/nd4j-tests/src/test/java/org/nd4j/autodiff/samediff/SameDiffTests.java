@@ -28,11 +28,15 @@ import org.nd4j.linalg.indexing.NDArrayIndex;
 import org.nd4j.linalg.ops.transforms.Transforms;
 import org.nd4j.linalg.primitives.Pair;
 import org.nd4j.linalg.util.ArrayUtil;
+import org.nd4j.serde.binary.BinarySerdeTest;
 import org.nd4j.weightinit.impl.OneInitScheme;
 import org.nd4j.weightinit.impl.UniformInitScheme;
 import org.nd4j.weightinit.impl.ZeroInitScheme;
 
+import java.io.File;
+import java.io.FileNotFoundException;
 import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
 import java.util.*;
 
 import static org.junit.Assert.*;
@@ -2798,4 +2802,94 @@ public class SameDiffTests {
         assertEquals(Nd4j.rollAxis(inArr, 2), rolled.getArr());
     }
 
+
+    @Test
+    public void testFlatFileRoundTrip1() throws Exception {
+        Nd4j.getRandom().setSeed(12345);
+        SameDiff sd = SameDiff.create();
+        SDVariable in = sd.var("in", Nd4j.rand(3, 4));
+        SDVariable w = sd.var("w", Nd4j.rand(4, 5));
+        SDVariable mmul = sd.mmul("mmul", in, w);
+        SDVariable tanh = sd.tanh("tanh", mmul);
+        SDVariable sum = sd.sum("sum", tanh, 1);
+
+        INDArray exp = sd.execAndEndResult();
+
+        File file = File.createTempFile("samediff", ".fb");
+        file.deleteOnExit();
+        sd.asFlatFile(file);
+
+        SameDiff restored = SameDiff.fromFlatFile(file);
+        assertEquals(sd.getVariable("w").getArr(), restored.getVariable("w").getArr());
+        assertEquals(sd.functions().length, restored.functions().length);
+
+        INDArray out = restored.execAndEndResult();
+        assertEquals(exp, out);
+    }
+
+    @Test
+    public void testFlatFileAfterGc1() throws Exception {
+        SameDiff sd = SameDiff.create();
+        SDVariable in = sd.var("in", Nd4j.linspace(1, 10000, 10000).reshape(100, 100));
+        SDVariable out = sd.tanh("out", in.mul(0.001));
+
+        INDArray exp = sd.execAndEndResult();
+
+        File file = File.createTempFile("samediff", ".fb");
+        file.deleteOnExit();
+        sd.asFlatFile(file);
+
+        // nothing but variable arrays references the mapping
+        SameDiff restored = SameDiff.fromFlatFile(file, FileChannel.MapMode.PRIVATE);
+        BinarySerdeTest.collectGarbage();
+
+        assertEquals(Nd4j.linspace(1, 10000, 10000).reshape(100, 100), restored.getVariable("in").getArr());
+        assertEquals(exp, restored.execAndEndResult());
+    }
+
+    @Test
+    public void testFlatFileReadOnly1() throws Exception {
+        SameDiff sd = SameDiff.create();
+        SDVariable in = sd.var("in", Nd4j.linspace(1, 12, 12).reshape(3, 4));
+        SDVariable out = sd.tanh("out", in.add(1.0));
+
+        INDArray exp = sd.execAndEndResult();
+
+        File file = File.createTempFile("samediff", ".fb");
+        file.deleteOnExit();
+        sd.asFlatFile(file);
+        assertTrue(file.setReadOnly());
+
+        SameDiff restored = SameDiff.fromFlatFile(file);
+        assertEquals(exp, restored.execAndEndResult());
+
+        // variable arrays are copied, so they can be modified
+        restored.getVariable("in").getArr().addi(1.0);
+        assertEquals(Nd4j.linspace(1, 12, 12).reshape(3, 4),
+                        SameDiff.fromFlatFile(file).getVariable("in").getArr());
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void testFlatFileMissing1() throws Exception {
+        File file = new File(System.getProperty("java.io.tmpdir"), "samediff-" + UUID.randomUUID() + ".fb");
+        try {
+            SameDiff.fromFlatFile(file, FileChannel.MapMode.READ_WRITE);
+        } finally {
+            assertFalse(file.exists());
+        }
+    }
+
+    @Test
+    public void testFlatBuffersHeapRoundTrip1() throws Exception {
+        SameDiff sd = SameDiff.create();
+        SDVariable in = sd.var("in", Nd4j.linspace(1, 12, 12).reshape(3, 4));
+        SDVariable out = sd.tanh("out", in.add(1.0));
+
+        INDArray exp = sd.execAndEndResult();
+
+        // heap buffer: arrays are copied
+        SameDiff restored = SameDiff.fromFlatBuffers(sd.asFlatBuffers());
+        assertEquals(exp, restored.execAndEndResult());
+    }
+
 }
\ No newline at end of file
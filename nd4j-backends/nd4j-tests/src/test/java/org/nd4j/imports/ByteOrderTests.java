@@ -9,9 +9,13 @@ import org.junit.runners.Parameterized;
 import org.nd4j.graph.FlatArray;
 import org.nd4j.linalg.BaseNd4jTest;
 import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.api.shape.Shape;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.serde.binary.BinarySerdeTest;
+
+import java.nio.ByteBuffer;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
@@ -127,4 +131,50 @@ public class ByteOrderTests  extends BaseNd4jTest {
     public char ordering() {
         return 'c';
     }
+
+    @Test
+    public void testByteArrayView1() {
+        val original = Nd4j.linspace(1, 25, 25).reshape(5, 5);
+        val bufferBuilder = new FlatBufferBuilder(0);
+
+        int array = original.toFlatArray(bufferBuilder);
+        bufferBuilder.finish(array);
+
+        // direct copy of serialized data, as if it was memory mapped
+        val heap = bufferBuilder.dataBuffer();
+        val direct = ByteBuffer.allocateDirect(heap.remaining());
+        direct.put(heap).flip();
+
+        val flatArray = FlatArray.getRootAsFlatArray(direct);
+        val restored = Nd4j.createFromFlatArrayView(flatArray);
+
+        assertEquals(original, restored);
+
+        // restored array shares memory with the buffer
+        restored.putScalar(0, 119.0f);
+        assertEquals(119.0f, Nd4j.createFromFlatArray(FlatArray.getRootAsFlatArray(direct)).getFloat(0), 1e-5f);
+    }
+
+    @Test
+    public void testByteArrayViewAfterGc1() {
+        val original = Nd4j.linspace(1, 10000, 10000).reshape(100, 100);
+        val restored = flatArrayView(original);
+
+        // direct buffer isn't referenced by anything but the array itself
+        BinarySerdeTest.collectGarbage();
+
+        assertEquals(original, restored);
+    }
+
+    private static INDArray flatArrayView(INDArray original) {
+        val bufferBuilder = new FlatBufferBuilder(0);
+        bufferBuilder.finish(original.toFlatArray(bufferBuilder));
+
+        val heap = bufferBuilder.dataBuffer();
+        val direct = ByteBuffer.allocateDirect(heap.remaining());
+        direct.put(heap).flip();
+
+        return Nd4j.createFromFlatArrayView(FlatArray.getRootAsFlatArray(direct));
+    }
+
 }
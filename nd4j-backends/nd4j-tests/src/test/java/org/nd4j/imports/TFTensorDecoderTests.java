@@ -0,0 +1,102 @@
+package org.nd4j.imports;
+
+import com.google.protobuf.ByteString;
+import lombok.val;
+import org.junit.Test;
+import org.nd4j.imports.graphmapper.tf.TFGraphMapper;
+import org.nd4j.imports.graphmapper.tf.TFTensorDecoder;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.util.ArrayUtil;
+import org.tensorflow.framework.DataType;
+import org.tensorflow.framework.TensorProto;
+import org.tensorflow.framework.TensorShapeProto;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.*;
+
+public class TFTensorDecoderTests {
+
+    private static TensorProto tensor(DataType dataType, ByteBuffer content, int... shape) {
+        val shapeProto = TensorShapeProto.newBuilder();
+        for (int dim : shape)
+            shapeProto.addDim(TensorShapeProto.Dim.newBuilder().setSize(dim));
+
+        content.flip();
+        return TensorProto.newBuilder().setDtype(dataType).setTensorShape(shapeProto)
+                        .setTensorContent(ByteString.copyFrom(content)).build();
+    }
+
+    private static ByteBuffer buffer(int bytes) {
+        return ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Test
+    public void testFloatContent1() {
+        val content = buffer(6 * 4);
+        for (int e = 0; e < 6; e++)
+            content.putFloat(e + 1);
+
+        val array = TFGraphMapper.getInstance().mapTensorProto(tensor(DataType.DT_FLOAT, content, 2, 3));
+
+        assertArrayEquals(new int[] {2, 3}, array.shape());
+        assertEquals('c', array.ordering());
+        assertEquals(Nd4j.linspace(1, 6, 6).reshape(2, 3), array);
+    }
+
+    @Test
+    public void testIntContent1() {
+        val content = buffer(4 * 4);
+        for (int e = 0; e < 4; e++)
+            content.putInt(e * 10);
+
+        val array = TFGraphMapper.getInstance().mapTensorProto(tensor(DataType.DT_INT32, content, 4));
+
+        assertEquals(1, array.rank());
+        assertArrayEquals(new double[] {0, 10, 20, 30}, array.data().asDouble(), 1e-5);
+    }
+
+    @Test
+    public void testUnsignedContent1() {
+        val content = buffer(3);
+        content.put((byte) 1).put((byte) 200).put((byte) 255);
+
+        val array = TFTensorDecoder.decode(ByteString.copyFrom((ByteBuffer) content.flip()), DataType.DT_UINT8,
+                        new int[] {3});
+
+        assertArrayEquals(new double[] {1, 200, 255}, array.data().asDouble(), 1e-5);
+    }
+
+    @Test
+    public void testHalfContent1() {
+        val content = buffer(3 * 2);
+        for (float value : new float[] {0.5f, -2.0f, 3.0f})
+            content.putShort(ArrayUtil.toHalf(value));
+
+        val array = TFGraphMapper.getInstance().mapTensorProto(tensor(DataType.DT_HALF, content, 3));
+
+        assertArrayEquals(new double[] {0.5, -2.0, 3.0}, array.data().asDouble(), 1e-5);
+    }
+
+    @Test
+    public void testScalarContent1() {
+        val content = buffer(8);
+        content.putDouble(42.0);
+
+        val array = TFGraphMapper.getInstance().mapTensorProto(tensor(DataType.DT_DOUBLE, content));
+
+        assertEquals(0, array.rank());
+        assertEquals(42.0, array.getDouble(0), 1e-5);
+    }
+
+    @Test(expected = ND4JIllegalStateException.class)
+    public void testShapeMismatch1() {
+        val content = buffer(5 * 4);
+        for (int e = 0; e < 5; e++)
+            content.putFloat(e);
+
+        TFGraphMapper.getInstance().mapTensorProto(tensor(DataType.DT_FLOAT, content, 2, 3));
+    }
+}
@@ -0,0 +1,50 @@
+package org.nd4j.linalg.api.blas;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.blas.params.MMulTranspose;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class SparseCSRLevel2Test extends BaseNd4jTest {
+
+    // matrix = [[1, 0, 2], [0, 0, 3]]
+    private double[] data = {1, 2, 3};
+    private int[] col = {0, 2, 2};
+    private int[] pointerB = {0, 2};
+    private int[] pointerE = {2, 3};
+    private int[] shape = {2, 3};
+
+    public SparseCSRLevel2Test(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    @Test
+    public void testGemv() {
+        INDArray sparse = Nd4j.createSparseCSR(data, col, pointerB, pointerE, shape);
+        INDArray vec = Nd4j.linspace(1, 3, 3).reshape(3, 1);
+
+        INDArray result = sparse.mmul(vec);
+        assertEquals(Nd4j.create(new double[] {7, 9}, new int[] {2, 1}), result);
+    }
+
+    @Test
+    public void testGemvTransposed() {
+        INDArray sparse = Nd4j.createSparseCSR(data, col, pointerB, pointerE, shape);
+        INDArray vec = Nd4j.linspace(1, 2, 2).reshape(2, 1);
+
+        INDArray result = sparse.mmul(vec, MMulTranspose.builder().transposeA(true).build());
+        assertEquals(Nd4j.create(new double[] {1, 0, 8}, new int[] {3, 1}), result);
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
@@ -0,0 +1,73 @@
+package org.nd4j.linalg.api.blas;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.blas.params.MMulTranspose;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class SparseCSRLevel3Test extends BaseNd4jTest {
+
+    // matrix = [[1, 0, 2], [0, 0, 3]]
+    private double[] data = {1, 2, 3};
+    private int[] col = {0, 2, 2};
+    private int[] pointerB = {0, 2};
+    private int[] pointerE = {2, 3};
+    private int[] shape = {2, 3};
+
+    public SparseCSRLevel3Test(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    @Test
+    public void testGemm() {
+        INDArray sparse = Nd4j.createSparseCSR(data, col, pointerB, pointerE, shape);
+        INDArray dense = Nd4j.linspace(1, 6, 6).reshape(3, 2);
+
+        INDArray exp = Nd4j.create(new double[][] {{11, 14}, {15, 18}});
+        assertEquals(exp, sparse.mmul(dense));
+        assertEquals(exp, sparse.mmul(dense.dup('f')));
+        assertEquals(exp, sparse.toDense().mmul(dense));
+    }
+
+    @Test
+    public void testGemmResultArray() {
+        INDArray sparse = Nd4j.createSparseCSR(data, col, pointerB, pointerE, shape);
+        INDArray dense = Nd4j.linspace(1, 6, 6).reshape(3, 2);
+        INDArray result = Nd4j.create(new int[] {2, 2}, 'f');
+
+        INDArray exp = Nd4j.create(new double[][] {{11, 14}, {15, 18}});
+        assertEquals(exp, sparse.mmul(dense, result));
+        assertEquals(exp, result);
+    }
+
+    @Test
+    public void testGemmTransposed() {
+        INDArray sparse = Nd4j.createSparseCSR(data, col, pointerB, pointerE, shape);
+        INDArray dense = Nd4j.linspace(1, 4, 4).reshape(2, 2);
+
+        // A' * B
+        INDArray exp = Nd4j.create(new double[][] {{1, 2}, {0, 0}, {11, 16}});
+        assertEquals(exp, sparse.mmul(dense, MMulTranspose.builder().transposeA(true).build()));
+
+        // A * B'
+        INDArray denseT = Nd4j.linspace(1, 6, 6).reshape(3, 2).transpose().dup();
+        exp = Nd4j.create(new double[][] {{11, 14}, {15, 18}});
+        assertEquals(exp, sparse.mmul(denseT, MMulTranspose.builder().transposeB(true).build()));
+
+        // (A * B)'
+        exp = Nd4j.create(new double[][] {{11, 15}, {14, 18}});
+        assertEquals(exp, sparse.mmul(denseT.transpose(), MMulTranspose.builder().transposeResult(true).build()));
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
@@ -0,0 +1,92 @@
+package org.nd4j.linalg.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BoundedCacheTests {
+    private static final BoundedCache.Weigher<long[]> WEIGHER = new BoundedCache.Weigher<long[]>() {
+        @Override
+        public long weigh(long[] value) {
+            return value.length * 8;
+        }
+    };
+
+    @Test
+    public void testEntriesLimit1() {
+        BoundedCache<Integer, long[]> cache = new BoundedCache<>(3, 0, 1, WEIGHER);
+
+        for (int i = 0; i < 5; i++)
+            assertTrue(cache.put(i, new long[1]));
+
+        assertEquals(3, cache.size());
+        assertEquals(2, cache.getEvictions());
+        assertFalse(cache.containsKey(0));
+        assertFalse(cache.containsKey(1));
+        assertTrue(cache.containsKey(4));
+        assertEquals(24, cache.getCachedBytes());
+    }
+
+    @Test
+    public void testLruOrder1() {
+        BoundedCache<Integer, long[]> cache = new BoundedCache<>(2, 0, 1, WEIGHER);
+
+        cache.put(1, new long[1]);
+        cache.put(2, new long[1]);
+
+        // touching first entry makes second one the eldest
+        assertNotNull(cache.get(1));
+        cache.put(3, new long[1]);
+
+        assertTrue(cache.containsKey(1));
+        assertFalse(cache.containsKey(2));
+        assertTrue(cache.containsKey(3));
+    }
+
+    @Test
+    public void testBytesLimit1() {
+        BoundedCache<Integer, long[]> cache = new BoundedCache<>(0, 100, 1, WEIGHER);
+
+        cache.put(1, new long[5]);
+        cache.put(2, new long[5]);
+        assertEquals(80, cache.getCachedBytes());
+
+        cache.put(3, new long[5]);
+        assertEquals(80, cache.getCachedBytes());
+        assertFalse(cache.containsKey(1));
+
+        // value larger then whole budget is never cached
+        assertFalse(cache.put(4, new long[20]));
+        assertFalse(cache.containsKey(4));
+    }
+
+    @Test
+    public void testCounters1() {
+        BoundedCache<Integer, long[]> cache = new BoundedCache<>(10, 0, 4, WEIGHER);
+
+        assertNull(cache.get(1));
+        cache.put(1, new long[1]);
+        assertNotNull(cache.get(1));
+        assertNotNull(cache.get(1));
+
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getCachedBytes());
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    public void testReplace1() {
+        BoundedCache<Integer, long[]> cache = new BoundedCache<>(10, 0, 1, WEIGHER);
+
+        cache.put(1, new long[1]);
+        cache.put(1, new long[3]);
+
+        assertEquals(1, cache.size());
+        assertEquals(24, cache.getCachedBytes());
+        assertEquals(0, cache.getEvictions());
+    }
+}
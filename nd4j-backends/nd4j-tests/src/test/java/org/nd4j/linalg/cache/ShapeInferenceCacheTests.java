@@ -0,0 +1,97 @@
+package org.nd4j.linalg.cache;
+
+import lombok.val;
+import org.junit.Test;
+import org.nd4j.linalg.api.ops.CustomOp;
+import org.nd4j.linalg.api.ops.DynamicCustomOp;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ShapeInferenceCacheTests {
+
+    @Test
+    public void testKeys1() {
+        val cache = new ShapeInferenceCache();
+
+        CustomOp opA = DynamicCustomOp.builder("mergemax").addInputs(Nd4j.create(5, 2), Nd4j.create(5, 2)).build();
+        CustomOp opB = DynamicCustomOp.builder("mergemax").addInputs(Nd4j.create(5, 2), Nd4j.create(5, 2)).build();
+        CustomOp opC = DynamicCustomOp.builder("mergemax").addInputs(Nd4j.create(5, 3), Nd4j.create(5, 3)).build();
+        CustomOp opD = DynamicCustomOp.builder("mergemax").addInputs(Nd4j.create(new int[] {5, 2}, 'f'),
+                        Nd4j.create(new int[] {5, 2}, 'f')).build();
+
+        // same shapes, different arrays
+        assertEquals(cache.keyFor(opA), cache.keyFor(opB));
+        assertEquals(cache.keyFor(opA).hashCode(), cache.keyFor(opB).hashCode());
+
+        assertNotEquals(cache.keyFor(opA), cache.keyFor(opC));
+        assertNotEquals(cache.keyFor(opA), cache.keyFor(opD));
+    }
+
+    @Test
+    public void testKeysWithValues1() {
+        val cache = new ShapeInferenceCache();
+
+        // reshape takes shape from second input values, so they should be part of the key
+        CustomOp opA = DynamicCustomOp.builder("reshape").addInputs(Nd4j.create(4, 3), Nd4j.create(new double[] {2, 6}))
+                        .build();
+        CustomOp opB = DynamicCustomOp.builder("reshape").addInputs(Nd4j.create(4, 3), Nd4j.create(new double[] {6, 2}))
+                        .build();
+
+        assertNotEquals(cache.keyFor(opA), cache.keyFor(opB));
+    }
+
+    @Test
+    public void testExclusions1() {
+        val cache = new ShapeInferenceCache();
+
+        assertNull(cache.keyFor(DynamicCustomOp.builder("unique").addInputs(Nd4j.create(10)).build()));
+        assertNull(cache.keyFor(DynamicCustomOp.builder("read_list").addInputs(Nd4j.create(10)).build()));
+
+        cache.exclude("mergemax");
+        assertNull(cache.keyFor(DynamicCustomOp.builder("mergemax").addInputs(Nd4j.create(10)).build()));
+
+        cache.setEnabled(false);
+        assertNull(cache.keyFor(DynamicCustomOp.builder("add").addInputs(Nd4j.create(10), Nd4j.create(10)).build()));
+    }
+
+    @Test
+    public void testDefensiveCopies1() {
+        val cache = new ShapeInferenceCache();
+        val key = cache.keyFor(DynamicCustomOp.builder("mergemax").addInputs(Nd4j.create(5, 2), Nd4j.create(5, 2))
+                        .build());
+
+        List<int[]> shapes = new ArrayList<>();
+        shapes.add(new int[] {2, 5, 2, 2, 1, 0, 1, 99});
+        cache.put(key, shapes);
+
+        // neither source nor returned arrays are shared with cache
+        shapes.get(0)[1] = 7;
+        cache.get(key).get(0)[2] = 7;
+        cache.get(key).add(new int[] {0});
+
+        assertEquals(1, cache.get(key).size());
+        assertArrayEquals(new int[] {2, 5, 2, 2, 1, 0, 1, 99}, cache.get(key).get(0));
+    }
+
+    @Test
+    public void testExecutionerCache1() {
+        val statistics = Nd4j.getExecutioner().getShapeCacheStatistics();
+        assertNotNull(statistics);
+
+        long hits = statistics.getCacheHits();
+
+        for (int e = 0; e < 10; e++) {
+            CustomOp op = DynamicCustomOp.builder("mergemax").addInputs(Nd4j.create(5, 2), Nd4j.create(5, 2)).build();
+            val shapes = Nd4j.getExecutioner().calculateOutputShape(op);
+
+            assertEquals(1, shapes.size());
+            assertArrayEquals(new int[] {5, 2}, shapes.get(0));
+        }
+
+        assertTrue(statistics.getCacheHits() - hits >= 9);
+    }
+}
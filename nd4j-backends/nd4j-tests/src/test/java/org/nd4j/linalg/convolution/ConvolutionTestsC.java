@@ -35,12 +35,14 @@ import org.nd4j.linalg.checkutil.NDArrayCreationUtil;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.linalg.indexing.NDArrayIndex;
 import org.nd4j.linalg.ops.transforms.Transforms;
 import org.nd4j.linalg.primitives.Pair;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.nd4j.linalg.checkutil.NDArrayCreationUtil.getAll4dTestArraysWithShape;
 
@@ -515,6 +517,82 @@ public class ConvolutionTestsC extends BaseNd4jTest {
         return new int[] {hOut, wOut};
     }
 
+    @Test
+    public void testConvnFFT1d() {
+        INDArray input = Nd4j.create(new double[] {1, 2, 3, 4, 5});
+        INDArray kernel = Nd4j.create(new double[] {1, 0, -1});
+
+        assertEquals(Nd4j.create(new double[] {1, 2, 2, 2, 2, -4, -5}),
+                        Convolution.convn(input, kernel, Convolution.Type.FULL));
+        assertEquals(Nd4j.create(new double[] {2, 2, 2, 2, -4}),
+                        Convolution.convn(input, kernel, Convolution.Type.SAME));
+        assertEquals(Nd4j.create(new double[] {2, 2, 2}), Convolution.convn(input, kernel, Convolution.Type.VALID));
+    }
+
+    @Test
+    public void testConvnFFTLongSignal() {
+        // long signal with short kernel goes through overlap-add
+        Nd4j.getRandom().setSeed(12345);
+        INDArray input = Nd4j.rand(1, 2000);
+        INDArray kernel = Nd4j.rand(1, 31);
+
+        for (Convolution.Type type : Convolution.Type.values()) {
+            INDArray exp = directConv1d(input, kernel, type);
+            INDArray result = Convolution.convn(input, kernel, type, new int[] {1});
+            assertEquals(type.toString(), exp, result);
+        }
+    }
+
+    @Test
+    public void testConv2dFFT() {
+        Nd4j.getRandom().setSeed(12345);
+        // batch of 3 images, single kernel broadcast over the batch
+        INDArray input = Nd4j.rand(new int[] {3, 7, 9});
+        INDArray kernel = Nd4j.rand(3, 4);
+
+        INDArray full = Convolution.conv2d(input, kernel, Convolution.Type.FULL);
+        assertArrayEquals(new int[] {3, 9, 12}, full.shape());
+
+        for (int b = 0; b < 3; b++) {
+            INDArray image = input.tensorAlongDimension(b, 1, 2);
+            INDArray exp = Nd4j.create(9, 12);
+            for (int i = 0; i < 7; i++)
+                for (int j = 0; j < 9; j++)
+                    for (int u = 0; u < 3; u++)
+                        for (int v = 0; v < 4; v++)
+                            exp.putScalar(i + u, j + v, exp.getDouble(i + u, j + v)
+                                            + image.getDouble(i, j) * kernel.getDouble(u, v));
+
+            assertEquals(exp, full.tensorAlongDimension(b, 1, 2));
+
+            INDArray valid = Convolution.conv2d(input, kernel, Convolution.Type.VALID);
+            assertEquals(exp.get(NDArrayIndex.interval(2, 7), NDArrayIndex.interval(3, 9)),
+                            valid.tensorAlongDimension(b, 1, 2));
+
+            INDArray same = Convolution.conv2d(input, kernel, Convolution.Type.SAME);
+            assertEquals(exp.get(NDArrayIndex.interval(1, 8), NDArrayIndex.interval(1, 10)),
+                            same.tensorAlongDimension(b, 1, 2));
+        }
+    }
+
+    private static INDArray directConv1d(INDArray input, INDArray kernel, Convolution.Type type) {
+        int n = input.columns();
+        int k = kernel.columns();
+        double[] full = new double[n + k - 1];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < k; j++)
+                full[i + j] += input.getDouble(i) * kernel.getDouble(j);
+
+        switch (type) {
+            case SAME:
+                return Nd4j.create(Arrays.copyOfRange(full, (k - 1) / 2, (k - 1) / 2 + n));
+            case VALID:
+                return Nd4j.create(Arrays.copyOfRange(full, k - 1, n));
+            default:
+                return Nd4j.create(full);
+        }
+    }
+
     @Override
     public char ordering() {
         return 'c';
@@ -7,6 +7,7 @@ import org.nd4j.linalg.api.ops.CustomOp;
 import org.nd4j.linalg.api.ops.DynamicCustomOp;
 import org.nd4j.linalg.api.ops.custom.ScatterUpdate;
 import org.nd4j.linalg.api.ops.executioner.OpStatus;
+import org.nd4j.linalg.api.ops.executioner.PreparedCustomOp;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
 
@@ -305,4 +306,51 @@ public class CustomOpsTests {
     public void testOpStatus1() throws Exception {
         assertEquals(OpStatus.ND4J_STATUS_OK, OpStatus.byNumber(0));
     }
+
+    @Test
+    public void testPreparedOp1() throws Exception {
+        val arrayX = Nd4j.create(10, 10);
+        val arrayY = Nd4j.create(10, 10).assign(1.0);
+        val arrayZ = Nd4j.create(10, 10);
+
+        CustomOp op = DynamicCustomOp.builder("add")
+                .addInputs(arrayX, arrayY)
+                .addOutputs(arrayZ)
+                .build();
+
+        try (PreparedCustomOp prepared = Nd4j.getExecutioner().prepare(op)) {
+            // bound arrays are updated in-place between executions
+            for (int e = 0; e < 5; e++) {
+                arrayX.assign(e);
+                prepared.exec();
+
+                assertEquals(Nd4j.create(10, 10).assign(e + 1.0), arrayZ);
+            }
+        }
+    }
+
+    @Test
+    public void testArgumentsPackReuse1() throws Exception {
+        // ops with different number of arguments are executed one after another, sharing the same arguments pack
+        for (int e = 0; e < 3; e++) {
+            val arrayX = Nd4j.create(10, 10).assign(3.0);
+            val arrayY = Nd4j.create(10, 10).assign(1.0);
+            val arrayZ = Nd4j.create(10, 10);
+
+            Nd4j.getExecutioner().exec(DynamicCustomOp.builder("add")
+                    .addInputs(arrayX, arrayY)
+                    .addOutputs(arrayZ)
+                    .build());
+
+            assertEquals(Nd4j.create(10, 10).assign(4.0), arrayZ);
+
+            val matrix = Nd4j.create(5, 5);
+            val updates = Nd4j.create(2, 5).assign(1.0);
+            Nd4j.getExecutioner().exec(new ScatterUpdate(matrix, updates, new int[] {0, 1}, new int[] {0},
+                    ScatterUpdate.UpdateOp.ADD));
+
+            assertEquals(Nd4j.create(1, 5).assign(1.0), matrix.getRow(1));
+            assertEquals(Nd4j.create(1, 5), matrix.getRow(2));
+        }
+    }
 }
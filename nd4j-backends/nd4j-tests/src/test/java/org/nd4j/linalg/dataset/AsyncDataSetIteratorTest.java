@@ -0,0 +1,223 @@
+package org.nd4j.linalg.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
+import org.nd4j.linalg.dataset.api.MultiDataSetPreProcessor;
+import org.nd4j.linalg.dataset.api.iterator.AsyncDataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.AsyncMultiDataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.TestDataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.TestMultiDataSetIterator;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@Slf4j
+@RunWith(Parameterized.class)
+public class AsyncDataSetIteratorTest extends BaseNd4jTest {
+
+    public AsyncDataSetIteratorTest(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+
+    private static DataSet getDataSet(int numExamples) {
+        INDArray features = Nd4j.linspace(1, numExamples * 4, numExamples * 4).reshape(numExamples, 4);
+        INDArray labels = Nd4j.linspace(1, numExamples * 2, numExamples * 2).reshape(numExamples, 2);
+        return new DataSet(features, labels);
+    }
+
+    private static List<DataSet> collect(TestDataSetIterator iterator) {
+        List<DataSet> result = new ArrayList<>();
+        while (iterator.hasNext())
+            result.add(iterator.next());
+        return result;
+    }
+
+    @Test
+    public void testSequence() {
+        for (boolean useWorkspaces : new boolean[] {false, true}) {
+            DataSet dataSet = getDataSet(50);
+            List<DataSet> expected = collect(new TestDataSetIterator(dataSet, 5));
+
+            AsyncDataSetIterator iterator = new AsyncDataSetIterator(new TestDataSetIterator(dataSet, 5), 2,
+                            useWorkspaces);
+            try {
+                for (int epoch = 0; epoch < 3; epoch++) {
+                    int cnt = 0;
+                    while (iterator.hasNext()) {
+                        DataSet ds = iterator.next();
+                        assertEquals(expected.get(cnt).getFeatures(), ds.getFeatures());
+                        assertEquals(expected.get(cnt).getLabels(), ds.getLabels());
+                        cnt++;
+                    }
+
+                    assertEquals(expected.size(), cnt);
+                    iterator.reset();
+                }
+
+                assertEquals(expected.size() * 3, iterator.getNumberOfProducedElements());
+            } finally {
+                iterator.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testCurrentElementAfterHasNext() throws Exception {
+        DataSet dataSet = getDataSet(50);
+        List<DataSet> expected = collect(new TestDataSetIterator(dataSet, 5));
+
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(new TestDataSetIterator(dataSet, 5), 2, true);
+        try {
+            int cnt = 0;
+            while (iterator.hasNext()) {
+                DataSet ds = iterator.next();
+
+                // peeking next element and letting producer fill the queue shouldn't affect current element
+                iterator.hasNext();
+                Thread.sleep(20);
+
+                assertEquals(expected.get(cnt).getFeatures(), ds.getFeatures());
+                assertEquals(expected.get(cnt).getLabels(), ds.getLabels());
+                cnt++;
+            }
+
+            assertEquals(expected.size(), cnt);
+        } finally {
+            iterator.shutdown();
+        }
+    }
+
+    @Test
+    public void testResetMidEpoch() {
+        DataSet dataSet = getDataSet(50);
+        List<DataSet> expected = collect(new TestDataSetIterator(dataSet, 5));
+
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(new TestDataSetIterator(dataSet, 5), 4);
+        try {
+            iterator.next();
+            iterator.next();
+            iterator.reset();
+
+            int cnt = 0;
+            while (iterator.hasNext()) {
+                assertEquals(expected.get(cnt).getFeatures(), iterator.next().getFeatures());
+                cnt++;
+            }
+
+            assertEquals(expected.size(), cnt);
+        } finally {
+            iterator.shutdown();
+        }
+    }
+
+    @Test
+    public void testPreProcessor() {
+        DataSet dataSet = getDataSet(20);
+        List<DataSet> expected = collect(new TestDataSetIterator(dataSet, 5));
+
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(new TestDataSetIterator(dataSet, 5), 2);
+        try {
+            iterator.setPreProcessor(new DataSetPreProcessor() {
+                @Override
+                public void preProcess(org.nd4j.linalg.dataset.api.DataSet toPreProcess) {
+                    toPreProcess.getFeatures().addi(1.0);
+                }
+            });
+
+            // nothing is prefetched before first hasNext(), so every element is preprocessed without reset()
+            int cnt = 0;
+            while (iterator.hasNext()) {
+                assertEquals(expected.get(cnt).getFeatures().add(1.0), iterator.next().getFeatures());
+                cnt++;
+            }
+
+            assertEquals(expected.size(), cnt);
+        } finally {
+            iterator.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownBeforeIteration() {
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(new TestDataSetIterator(getDataSet(20), 5), 2);
+        assertEquals(0, iterator.getNumberOfProducedElements());
+
+        iterator.reset();
+        iterator.shutdown();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testMultiDataSet() {
+        List<org.nd4j.linalg.dataset.api.MultiDataSet> list = new ArrayList<>();
+        for (DataSet ds : getDataSet(30).asList())
+            list.add(new MultiDataSet(ds.getFeatures(), ds.getLabels()));
+
+        TestMultiDataSetIterator reference = new TestMultiDataSetIterator(3,
+                        list.toArray(new org.nd4j.linalg.dataset.api.MultiDataSet[0]));
+        List<org.nd4j.linalg.dataset.api.MultiDataSet> expected = new ArrayList<>();
+        while (reference.hasNext())
+            expected.add(reference.next());
+
+        AsyncMultiDataSetIterator iterator = new AsyncMultiDataSetIterator(new TestMultiDataSetIterator(3,
+                        list.toArray(new org.nd4j.linalg.dataset.api.MultiDataSet[0])), 3);
+        try {
+            iterator.setPreProcessor(new MultiDataSetPreProcessor() {
+                @Override
+                public void preProcess(org.nd4j.linalg.dataset.api.MultiDataSet multiDataSet) {
+                    multiDataSet.getLabels(0).muli(2.0);
+                }
+            });
+            iterator.reset();
+
+            for (int epoch = 0; epoch < 2; epoch++) {
+                int cnt = 0;
+                while (iterator.hasNext()) {
+                    org.nd4j.linalg.dataset.api.MultiDataSet mds = iterator.next();
+                    assertEquals(expected.get(cnt).getFeatures(0), mds.getFeatures(0));
+                    assertEquals(expected.get(cnt).getLabels(0).mul(2.0), mds.getLabels(0));
+                    cnt++;
+                }
+
+                assertEquals(expected.size(), cnt);
+                iterator.reset();
+            }
+        } finally {
+            iterator.shutdown();
+        }
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testProducerException() {
+        DataSet dataSet = getDataSet(20);
+        AsyncDataSetIterator iterator = new AsyncDataSetIterator(new TestDataSetIterator(dataSet, 5), 2);
+        try {
+            iterator.setPreProcessor(new DataSetPreProcessor() {
+                @Override
+                public void preProcess(org.nd4j.linalg.dataset.api.DataSet toPreProcess) {
+                    throw new IllegalStateException("Preprocessor failure");
+                }
+            });
+            iterator.reset();
+
+            while (iterator.hasNext())
+                iterator.next();
+        } finally {
+            iterator.shutdown();
+        }
+    }
+}
@@ -9,14 +9,17 @@ import org.nd4j.linalg.BaseNd4jTest;
 import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
 import org.nd4j.linalg.dataset.api.iterator.CachingDataSetIterator;
 import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
+import org.nd4j.linalg.dataset.api.iterator.MappedFileDataSetIterator;
 import org.nd4j.linalg.dataset.api.iterator.SamplingDataSetIterator;
 import org.nd4j.linalg.dataset.api.iterator.cache.DataSetCache;
 import org.nd4j.linalg.dataset.api.iterator.cache.InFileDataSetCache;
 import org.nd4j.linalg.dataset.api.iterator.cache.InMemoryDataSetCache;
+import org.nd4j.linalg.dataset.api.iterator.cache.MappedFileDataSetCache;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -54,6 +57,110 @@ public class CachingDataSetIteratorTest extends BaseNd4jTest {
         FileUtils.deleteDirectory(cacheDir.toFile());
     }
 
+    @Test
+    public void testMappedFile() throws IOException {
+        Path cacheDir = Files.createTempDirectory("nd4j-data-set-cache-test");
+        MappedFileDataSetCache cache = new MappedFileDataSetCache(cacheDir);
+
+        runDataSetTest(cache);
+
+        cache.close();
+        FileUtils.deleteDirectory(cacheDir.toFile());
+    }
+
+    @Test
+    public void testMappedFileAfterGc() throws IOException {
+        Path cacheDir = Files.createTempDirectory("nd4j-data-set-cache-test");
+        MappedFileDataSetCache cache = new MappedFileDataSetCache(cacheDir);
+
+        DataSet expected = new DataSet(Nd4j.rand(100, 40), Nd4j.rand(100, 2));
+        cache.put("ds", expected);
+
+        // nothing but returned arrays references the mapping here
+        DataSet fromCache = cache.get("ds");
+        for (int e = 0; e < 10; e++) {
+            System.gc();
+            ByteBuffer.allocateDirect(1024 * 1024).putInt(0, e);
+        }
+
+        assertEquals(expected.getFeatures(), fromCache.getFeatures());
+        assertEquals(expected.getLabels(), fromCache.getLabels());
+
+        cache.close();
+        FileUtils.deleteDirectory(cacheDir.toFile());
+    }
+
+    @Test
+    public void testMappedFileReopen() throws IOException {
+        Path cacheDir = Files.createTempDirectory("nd4j-data-set-cache-test");
+        MappedFileDataSetCache cache = new MappedFileDataSetCache(cacheDir);
+
+        DataSet[] dataSets = new DataSet[5];
+        for (int i = 0; i < dataSets.length; i++) {
+            dataSets[i] = new DataSet(Nd4j.rand(3, 4), Nd4j.rand(3, 2), null, Nd4j.ones(3, 2));
+            cache.put("ds-" + i, dataSets[i]);
+        }
+        cache.close();
+
+        // index should be restored from file
+        cache = new MappedFileDataSetCache(cacheDir);
+        assertEquals(dataSets.length, cache.size());
+
+        MappedFileDataSetIterator iterator = new MappedFileDataSetIterator(cache, 2);
+        for (int e = 0; e < 2; e++) {
+            int cnt = 0;
+            while (iterator.hasNext()) {
+                DataSet ds = iterator.next();
+                assertEquals(dataSets[cnt].getFeatures(), ds.getFeatures());
+                assertEquals(dataSets[cnt].getLabels(), ds.getLabels());
+                assertNull(ds.getFeaturesMaskArray());
+                assertEquals(dataSets[cnt].getLabelsMaskArray(), ds.getLabelsMaskArray());
+
+                // changes to served arrays should never reach the file
+                ds.getFeatures().addi(1.0);
+                cnt++;
+            }
+            assertEquals(dataSets.length, cnt);
+            iterator.reset();
+        }
+
+        iterator.shutdown();
+        cache.close();
+        FileUtils.deleteDirectory(cacheDir.toFile());
+    }
+
+    @Test
+    public void testMappedFileIteratorThread() throws Exception {
+        Path cacheDir = Files.createTempDirectory("nd4j-data-set-cache-test");
+        MappedFileDataSetCache cache = new MappedFileDataSetCache(cacheDir);
+        for (int i = 0; i < 5; i++)
+            cache.put("ds-" + i, new DataSet(Nd4j.rand(3, 4), Nd4j.rand(3, 2)));
+
+        MappedFileDataSetIterator iterator = new MappedFileDataSetIterator(cache, 2);
+        for (int e = 0; e < 2; e++) {
+            assertTrue(countPrefetchThreads() > 0);
+            while (iterator.hasNext())
+                iterator.next();
+
+            // prefetch thread is released without explicit shutdown once all DataSets are served
+            for (int i = 0; i < 50 && countPrefetchThreads() > 0; i++)
+                Thread.sleep(100);
+            assertEquals(0, countPrefetchThreads());
+            iterator.reset();
+        }
+
+        cache.close();
+        FileUtils.deleteDirectory(cacheDir.toFile());
+    }
+
+    private static int countPrefetchThreads() {
+        int cnt = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+            if (thread.isAlive() && thread.getName().equals("MappedFileDataSetIterator prefetch thread"))
+                cnt++;
+        return cnt;
+    }
+
     private void runDataSetTest(DataSetCache cache) {
         int rows = 500;
         int inputColumns = 100;
@@ -10,6 +10,7 @@ import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by susaneraly on 11/4/16.
@@ -87,6 +88,78 @@ public class KFoldIteratorTest extends BaseNd4jTest {
         assertEquals(i, 2);
     }
 
+    @Test
+    public void checkShuffledFolds() {
+        INDArray features = Nd4j.linspace(1, 10, 10).reshape(10, 1);
+        DataSet allData = new DataSet(features, features.mul(2));
+
+        KFoldIterator kiter = new KFoldIterator(5, allData, 119);
+        KFoldIterator other = new KFoldIterator(5, allData, 119);
+        kiter.reset();
+        other.reset();
+
+        double sum = 0;
+        while (kiter.hasNext()) {
+            DataSet now = kiter.next();
+            DataSet test = kiter.testFold();
+            DataSet otherNow = other.next();
+
+            assertEquals(8, now.numExamples());
+            assertEquals(2, test.numExamples());
+            double total = now.getFeatures().sumNumber().doubleValue() + test.getFeatures().sumNumber().doubleValue();
+            assertEquals(55.0, total, 1e-5);
+            assertEquals(now.getFeatures().mul(2), now.getLabels());
+            assertEquals(otherNow.getFeatures(), now.getFeatures());
+
+            sum += test.getFeatures().sumNumber().doubleValue();
+        }
+
+        // every example is held out exactly once, and source DataSet is left intact
+        assertEquals(55.0, sum, 1e-5);
+        assertEquals(Nd4j.linspace(1, 10, 10).reshape(10, 1), allData.getFeatures());
+    }
+
+    @Test
+    public void checkReusedFolds() {
+        INDArray features = Nd4j.linspace(1, 9, 9).reshape(9, 1);
+        DataSet allData = new DataSet(features, features.dup());
+
+        KFoldIterator kiter = new KFoldIterator(3, allData, 119);
+        kiter.setReuseBuffers(true);
+        kiter.reset();
+
+        INDArray previous = null;
+        while (kiter.hasNext()) {
+            DataSet now = kiter.next();
+            assertEquals(6, now.numExamples());
+            if (previous != null)
+                assertTrue(previous == now.getFeatures());
+
+            previous = now.getFeatures();
+        }
+    }
+
+    @Test
+    public void checkFoldsModifiedInPlace() {
+        INDArray features = Nd4j.linspace(1, 9, 9).reshape(9, 1);
+        DataSet allData = new DataSet(features, features.dup());
+
+        // no reset(), so the first and the last folds are contiguous ranges of the source
+        KFoldIterator kiter = new KFoldIterator(3, allData);
+        double sum = 0;
+        while (kiter.hasNext()) {
+            DataSet now = kiter.next();
+            DataSet test = kiter.testFold();
+            sum += test.getFeatures().sumNumber().doubleValue();
+
+            now.getFeatures().subi(100.0);
+            test.getFeatures().subi(100.0);
+        }
+
+        assertEquals(45.0, sum, 1e-5);
+        assertEquals(Nd4j.linspace(1, 9, 9).reshape(9, 1), allData.getFeatures());
+    }
+
     public class randomDataSet {
         //only one label
         private int[] dataShape;
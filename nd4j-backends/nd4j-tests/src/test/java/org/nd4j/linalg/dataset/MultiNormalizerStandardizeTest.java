@@ -69,6 +69,23 @@ public class MultiNormalizerStandardizeTest extends BaseNd4jTest {
         assertExpectedMeanStd();
     }
 
+    @Test
+    public void testMultipleInputsAndOutputsWithParallelFit() {
+        MultiDataSetIterator iter = new TestMultiDataSetIterator(16, data.asList().toArray(new MultiDataSet[0]));
+        SUT.fit(iter, 4);
+        assertExpectedMeanStd();
+    }
+
+    @Test
+    public void testMultipleInputsAndOutputsWithPartialFit() {
+        // batches come one by one, as from a stream
+        MultiDataSetIterator iter = new TestMultiDataSetIterator(512, data.asList().toArray(new MultiDataSet[0]));
+        while (iter.hasNext())
+            SUT.partialFit(iter.next());
+
+        assertExpectedMeanStd();
+    }
+
     @Test
     public void testRevertFeaturesINDArray() {
         SUT.fit(data);
@@ -157,6 +157,21 @@ public class NormalizerMinMaxScalerTest extends BaseNd4jTest {
         assertTrue(maxdeltaPerc < tolerancePerc);
     }
 
+    @Test
+    public void testParallelFit() {
+        INDArray values = Nd4j.rand(200, 3);
+        DataSet dataSet = new DataSet(values, values.mul(2));
+
+        NormalizerMinMaxScaler expected = new NormalizerMinMaxScaler();
+        expected.fit(new TestDataSetIterator(dataSet, 7));
+
+        NormalizerMinMaxScaler parallel = new NormalizerMinMaxScaler();
+        parallel.fit(new TestDataSetIterator(dataSet, 7), 4);
+
+        assertEquals(expected.getMin(), parallel.getMin());
+        assertEquals(expected.getMax(), parallel.getMax());
+    }
+
     @Test
     public void testConstant() {
         double tolerancePerc = 0.01; // 0.01% of correct value
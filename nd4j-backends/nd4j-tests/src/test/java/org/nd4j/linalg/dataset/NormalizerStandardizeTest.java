@@ -181,6 +181,25 @@ public class NormalizerStandardizeTest extends BaseNd4jTest {
         assertEquals(1.70783f, norm4.getStd().getFloat(0), 1e-4);
     }
 
+    @Test
+    public void testParallelFit() {
+        INDArray values = Nd4j.linspace(1, 600, 600).reshape(200, 3);
+        DataSet dataSet = new DataSet(values, values.mul(2));
+
+        NormalizerStandardize expected = new NormalizerStandardize();
+        expected.fitLabel(true);
+        expected.fit(new TestDataSetIterator(dataSet, 7));
+
+        NormalizerStandardize parallel = new NormalizerStandardize();
+        parallel.fitLabel(true);
+        parallel.fit(new TestDataSetIterator(dataSet, 7), 4);
+
+        assertTrue(expected.getMean().equalsWithEps(parallel.getMean(), 1e-2));
+        assertTrue(expected.getStd().equalsWithEps(parallel.getStd(), 1e-2));
+        assertTrue(expected.getLabelMean().equalsWithEps(parallel.getLabelMean(), 1e-2));
+        assertTrue(expected.getLabelStd().equalsWithEps(parallel.getLabelStd(), 1e-2));
+    }
+
     @Test
     public void testUnderOverflow() {
         // This dataset will be basically constant with a small std deviation
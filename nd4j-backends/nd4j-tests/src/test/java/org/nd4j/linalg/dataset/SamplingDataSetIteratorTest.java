@@ -0,0 +1,73 @@
+package org.nd4j.linalg.dataset;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.nd4j.linalg.BaseNd4jTest;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.dataset.api.iterator.SamplingDataSetIterator;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.factory.Nd4jBackend;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(Parameterized.class)
+public class SamplingDataSetIteratorTest extends BaseNd4jTest {
+
+    public SamplingDataSetIteratorTest(Nd4jBackend backend) {
+        super(backend);
+    }
+
+    @Test
+    public void testSamplingWithoutReplacement() {
+        INDArray features = Nd4j.linspace(1, 20, 20).reshape(10, 2);
+        INDArray labels = Nd4j.linspace(1, 10, 10).reshape(10, 1);
+        DataSet source = new DataSet(features, labels);
+
+        SamplingDataSetIterator iterator = new SamplingDataSetIterator(source, 10, 30, false, 119);
+        int cnt = 0;
+        while (iterator.hasNext()) {
+            DataSet ds = iterator.next();
+            assertEquals(10, ds.numExamples());
+
+            Set<Double> seen = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                double label = ds.getLabels().getDouble(i, 0);
+                assertFalse(seen.contains(label));
+                seen.add(label);
+
+                // features and labels are picked together
+                assertEquals(label * 2, ds.getFeatures().getDouble(i, 1), 1e-5);
+            }
+            cnt++;
+        }
+
+        assertEquals(3, cnt);
+    }
+
+    @Test
+    public void testSamplingSeed() {
+        DataSet source = new DataSet(Nd4j.rand(50, 4), Nd4j.rand(50, 3));
+
+        SamplingDataSetIterator first = new SamplingDataSetIterator(source, 8, 64, true, 119);
+        SamplingDataSetIterator second = new SamplingDataSetIterator(source, 8, 64, true, 119);
+        second.setReuseBuffers(true);
+
+        while (first.hasNext()) {
+            DataSet a = first.next();
+            DataSet b = second.next();
+
+            assertEquals(a.getFeatures(), b.getFeatures());
+            assertEquals(a.getLabels(), b.getLabels());
+        }
+    }
+
+    @Override
+    public char ordering() {
+        return 'c';
+    }
+}
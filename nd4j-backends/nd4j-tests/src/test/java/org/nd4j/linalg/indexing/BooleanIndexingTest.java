@@ -15,6 +15,7 @@ import org.nd4j.linalg.indexing.conditions.AbsValueGreaterThan;
 import org.nd4j.linalg.indexing.conditions.Condition;
 import org.nd4j.linalg.indexing.conditions.Conditions;
 import org.nd4j.linalg.indexing.functions.Value;
+import org.nd4j.linalg.ops.transforms.Transforms;
 
 import java.util.Arrays;
 
@@ -506,6 +507,99 @@ public class BooleanIndexingTest extends BaseNd4jTest {
         assertEquals(2, numZeroes);
     }
 
+    @Test
+    public void testBooleanMask1() throws Exception {
+        INDArray array = Nd4j.create(new double[] {-2, -1, 0, 1, 2, 3});
+        BooleanMask mask = BooleanMask.of(array, Conditions.greaterThan(0.0));
+
+        assertEquals(Nd4j.create(new double[] {0, 0, 0, 1, 1, 1}), mask.getMask());
+        assertEquals(3, mask.count());
+        assertTrue(mask.any());
+        assertFalse(mask.all());
+        assertArrayEquals(new int[] {3, 4, 5}, mask.indices());
+        assertArrayEquals(new boolean[] {false, false, false, true, true, true}, mask.toBooleanArray());
+    }
+
+    @Test
+    public void testBooleanMaskIndices2() throws Exception {
+        INDArray array = Nd4j.linspace(1, 5000, 5000);
+        BooleanMask mask = BooleanMask.of(array, Conditions.greaterThan(10.0));
+
+        int[] indices = mask.indices();
+        assertEquals(4990, mask.count());
+        assertEquals(4990, indices.length);
+        assertEquals(10, indices[0]);
+        assertEquals(4999, indices[indices.length - 1]);
+    }
+
+    @Test
+    public void testBooleanMaskLogic1() throws Exception {
+        INDArray array = Nd4j.create(new double[] {-2, -1, 0, 1, 2, 3});
+        BooleanMask positive = BooleanMask.of(array, Conditions.greaterThan(0.0));
+        BooleanMask small = BooleanMask.of(array, Conditions.absLessThan(1.5));
+
+        assertArrayEquals(new int[] {3}, positive.and(small).indices());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, positive.or(small).indices());
+        assertArrayEquals(new int[] {0, 1, 2}, positive.not().indices());
+    }
+
+    @Test
+    public void testBooleanMaskSelectScatter1() throws Exception {
+        INDArray array = Nd4j.linspace(-5, 6, 12).reshape(3, 4);
+        BooleanMask mask = BooleanMask.of(array, Conditions.lessThan(0.0));
+
+        INDArray selected = mask.select(array);
+        assertEquals(Nd4j.create(new double[] {-5, -4, -3, -2, -1}), selected);
+
+        mask.scatter(array, selected.neg());
+        assertEquals(Transforms.abs(Nd4j.linspace(-5, 6, 12).reshape(3, 4)), array);
+
+        assertNull(BooleanMask.of(array, Conditions.lessThan(0.0)).select(array));
+    }
+
+    @Test
+    public void testBooleanMaskScatterView1() throws Exception {
+        INDArray array = Nd4j.linspace(1, 12, 12).reshape(3, 4);
+        INDArray view = array.getColumn(1);
+        BooleanMask mask = BooleanMask.of(view, Conditions.greaterThan(5.0));
+
+        mask.scatter(view, Nd4j.create(new double[] {-1, -2}));
+
+        INDArray exp = Nd4j.linspace(1, 12, 12).reshape(3, 4);
+        exp.putScalar(1, 1, -1);
+        exp.putScalar(2, 1, -2);
+        assertEquals(exp, array);
+    }
+
+    @Test
+    public void testBooleanMaskWhere1() throws Exception {
+        INDArray array = Nd4j.create(new double[] {-2, -1, 0, 1, 2, 3});
+        BooleanMask mask = BooleanMask.of(array, Conditions.greaterThan(0.0));
+
+        INDArray relu = mask.where(array, Nd4j.zeros(array.shape()));
+        assertEquals(Nd4j.create(new double[] {0, 0, 0, 1, 2, 3}), relu);
+    }
+
+    @Test
+    public void testApplyWhereMasked1() throws Exception {
+        INDArray array = Nd4j.create(new double[] {-2, -1, 0, 1, 2, 3});
+        BooleanIndexing.applyWhere(array, Conditions.greaterThan(0.0), new Function<Number, Number>() {
+            @Override
+            public Number apply(Number input) {
+                return input.doubleValue() * 10;
+            }
+        }, new Value(-1));
+
+        assertEquals(Nd4j.create(new double[] {-1, -1, -1, 10, 20, 30}), array);
+    }
+
+    @Test
+    public void testSelect1() throws Exception {
+        INDArray array = Nd4j.create(new double[] {5, 1, 7, 2});
+
+        assertEquals(Nd4j.create(new double[] {5, 7}), BooleanIndexing.select(array, Conditions.greaterThan(4.0)));
+    }
+
     @Override
     public char ordering() {
         return 'c';
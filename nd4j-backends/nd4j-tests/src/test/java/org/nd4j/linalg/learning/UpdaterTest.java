@@ -31,6 +31,7 @@ import org.nd4j.linalg.learning.config.AdaGrad;
 import org.nd4j.linalg.learning.legacy.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(Parameterized.class)
 public class UpdaterTest extends BaseNd4jTest {
@@ -174,6 +175,48 @@ public class UpdaterTest extends BaseNd4jTest {
         }
     }
 
+    @Test
+    public void testFusedUpdaters() {
+        IUpdater[] configs = new IUpdater[] {new Adam(), new Nadam(), new AdaMax(), new RmsProp(), new AdaDelta(),
+                        new AdaGrad(), new Nesterovs()};
+
+        int rows = 50;
+        int cols = 30;
+        for (IUpdater config : configs) {
+            for (char order : new char[] {'c', 'f'}) {
+                int stateSize = (int) config.stateSize(rows * cols);
+                INDArray fusedState = Nd4j.zeros(1, stateSize);
+                INDArray genericState = Nd4j.zeros(1, stateSize);
+
+                GradientUpdater fused = config.instantiate(fusedState, true);
+                GradientUpdater generic = config.instantiate(genericState, true);
+                fused.setStateViewArray(fusedState, new int[] {rows, cols}, order, true);
+                generic.setStateViewArray(genericState, new int[] {rows, cols}, order, true);
+
+                for (int i = 0; i < 5; i++) {
+                    INDArray fusedGradient = Nd4j.randn(order, new int[] {rows, cols});
+                    INDArray genericGradient = fusedGradient.dup(order);
+
+                    boolean wasEnabled = FusedUpdaters.isEnabled();
+                    FusedUpdaters.setEnabled(true);
+                    try {
+                        assertTrue(FusedUpdaters.canFuse(fusedGradient, fusedGradient));
+                        fused.applyUpdater(fusedGradient, i, 0);
+
+                        FusedUpdaters.setEnabled(false);
+                        generic.applyUpdater(genericGradient, i, 0);
+                    } finally {
+                        FusedUpdaters.setEnabled(wasEnabled);
+                    }
+
+                    String name = config.getClass().getSimpleName() + " " + order;
+                    assertTrue(name, genericGradient.equalsWithEps(fusedGradient, 1e-4));
+                    assertTrue(name, genericState.equalsWithEps(fusedState, 1e-4));
+                }
+            }
+        }
+    }
+
     @Override
     public char ordering() {
         return 'f';
@@ -15,8 +15,10 @@ import org.nd4j.linalg.api.ops.executioner.OpExecutioner;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.profiler.OpProfiler;
+import org.nd4j.linalg.profiler.data.LatencyHistogram;
 
 import java.util.Arrays;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -384,5 +386,79 @@ public class OperationProfilerTests {
         }
     }
 
+    @Test
+    public void testSampling1() {
+        Nd4j.getExecutioner().setProfilingMode(OpExecutioner.ProfilingMode.SAMPLING);
+        OpProfiler.getInstance().setSamplingFrequency(10);
+
+        INDArray small = Nd4j.createUninitialized(100);
+        INDArray large = Nd4j.createUninitialized(10000);
+        for (int e = 0; e < 100; e++)
+            small.assign(1.0f);
+
+        for (int e = 0; e < 100; e++)
+            large.assign(1.0f);
+
+        Map<String, LatencyHistogram> histograms = OpProfiler.getInstance().getLatencyHistograms();
+
+        assertEquals(200, OpProfiler.getInstance().getSampledInvocationsCount());
+        assertEquals(10, histograms.get("set_scalar [len <= 128]").getCount());
+        assertEquals(10, histograms.get("set_scalar [len <= 16384]").getCount());
 
+        // regular counters are left untouched in this mode
+        assertEquals(0, OpProfiler.getInstance().getInvocationsCount());
+
+        OpProfiler.getInstance().setSamplingFrequency(100);
+    }
+
+    @Test
+    public void testSamplingThreads1() throws Exception {
+        Nd4j.getExecutioner().setProfilingMode(OpExecutioner.ProfilingMode.SAMPLING);
+        OpProfiler.getInstance().setSamplingFrequency(10);
+        int shards = OpProfiler.getInstance().getSamplingShards().size();
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    INDArray array = Nd4j.createUninitialized(100);
+                    for (int e = 0; e < 100; e++)
+                        array.assign(1.0f);
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        // stats of terminated threads are kept, but their shards are dropped
+        assertEquals(400, OpProfiler.getInstance().getSampledInvocationsCount());
+        assertEquals(40, OpProfiler.getInstance().getLatencyHistograms().get("set_scalar [len <= 128]").getCount());
+        assertEquals(shards, OpProfiler.getInstance().getSamplingShards().size());
+
+        OpProfiler.getInstance().reset();
+        assertEquals(0, OpProfiler.getInstance().getSampledInvocationsCount());
+        assertTrue(OpProfiler.getInstance().getLatencyHistograms().isEmpty());
+
+        OpProfiler.getInstance().setSamplingFrequency(100);
+    }
+
+    @Test
+    public void testLatencyHistogram1() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int e = 1; e <= 100; e++)
+            histogram.record(e * 1000);
+
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(1000000);
+        histogram.merge(other);
+
+        assertEquals(101, histogram.getCount());
+        assertEquals(1000, histogram.getMinimum());
+        assertEquals(1000000, histogram.getMaximum());
+        assertTrue(histogram.getPercentile(50) >= 50000 && histogram.getPercentile(50) < 2 * 50000);
+        assertEquals(1000000, histogram.getPercentile(100));
+    }
 }
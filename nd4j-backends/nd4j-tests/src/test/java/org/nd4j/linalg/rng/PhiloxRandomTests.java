@@ -0,0 +1,265 @@
+package org.nd4j.linalg.rng;
+
+import lombok.val;
+import org.junit.Test;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.ops.random.impl.GaussianDistribution;
+import org.nd4j.linalg.api.ops.random.impl.UniformDistribution;
+import org.nd4j.linalg.api.rng.PhiloxRandom;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.rng.NativeRandom;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PhiloxRandomTests {
+
+    @Test
+    public void testKnownAnswers1() {
+        val output = new int[4];
+
+        PhiloxRandom.philox(0, 0, new int[] {0, 0, 0, 0}, output);
+        assertArrayEquals(new int[] {0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8}, output);
+
+        PhiloxRandom.philox(-1, -1, new int[] {-1, -1, -1, -1}, output);
+        assertArrayEquals(new int[] {0x408f276d, 0x41c83b0e, 0xa20bc7c6, 0x6d5451fd}, output);
+
+        PhiloxRandom.philox(0xa4093822, 0x299f31d0, new int[] {0x243f6a88, 0x85a308d3, 0x13198a2e, 0x03707344},
+                        output);
+        assertArrayEquals(new int[] {0xd16cfe09, 0x94fdcceb, 0x5001e420, 0x24126ea1}, output);
+    }
+
+    @Test
+    public void testSkipAhead1() {
+        val random = new PhiloxRandom(119);
+
+        val sequential = random.getStream(1);
+        val values = new long[1000];
+        for (int e = 0; e < values.length; e++)
+            values[e] = sequential.nextLong();
+
+        val skipping = random.getStream(1);
+        skipping.skip(777);
+        assertEquals(777, skipping.getPosition());
+        assertEquals(values[777], skipping.nextLong());
+
+        skipping.setPosition(3);
+        assertEquals(values[3], skipping.nextLong());
+        assertEquals(values[4], skipping.nextLong());
+    }
+
+    @Test
+    public void testSubstreams1() {
+        val randomA = new PhiloxRandom(119);
+        val randomB = new PhiloxRandom(119);
+
+        val streamA = randomA.getStream(5);
+        val streamB = randomB.getStream(5);
+        val streamC = randomA.getStream(6);
+
+        boolean differs = false;
+        for (int e = 0; e < 100; e++) {
+            long a = streamA.nextLong();
+            assertEquals(a, streamB.nextLong());
+            differs |= a != streamC.nextLong();
+        }
+
+        assertTrue(differs);
+    }
+
+    @Test
+    public void testReSeed1() {
+        val random = new PhiloxRandom(119);
+        val first = new double[10];
+        for (int e = 0; e < first.length; e++)
+            first[e] = random.nextDouble();
+
+        random.setSeed(119);
+        for (int e = 0; e < first.length; e++)
+            assertEquals(first[e], random.nextDouble(), 0.0);
+
+        random.setSeed(120);
+        assertNotEquals(first[0], random.nextDouble(), 0.0);
+    }
+
+    @Test
+    public void testFillUniform1() {
+        val random = new PhiloxRandom(119);
+        DataBuffer buffer = Nd4j.createBuffer(new double[1000]);
+
+        random.getStream(3).fillUniform(buffer, -2.0, 3.0);
+
+        val stream = random.getStream(3);
+        for (int e = 0; e < buffer.length(); e++) {
+            double expected = -2.0 + stream.nextDouble() * 5.0;
+            assertEquals(expected, buffer.getDouble(e), 1e-5);
+            assertTrue(buffer.getDouble(e) >= -2.0 && buffer.getDouble(e) <= 3.0);
+        }
+    }
+
+    @Test
+    public void testFillGaussian1() {
+        val random = new PhiloxRandom(119);
+        DataBuffer buffer = Nd4j.createBuffer(new double[100000]);
+
+        random.getStream(3).fillGaussian(buffer, 1.0, 2.0);
+
+        val array = Nd4j.create(buffer);
+        assertEquals(1.0, array.meanNumber().doubleValue(), 0.05);
+        assertEquals(2.0, array.stdNumber().doubleValue(), 0.05);
+    }
+
+    @Test
+    public void testFillView1() {
+        val random = new PhiloxRandom(119);
+        DataBuffer parent = Nd4j.createBuffer(new double[20]);
+        DataBuffer view = Nd4j.createBuffer(parent, 10, 10);
+
+        random.getStream(3).fillUniform(view, 0.0, 1.0);
+
+        val stream = random.getStream(3);
+        for (int e = 0; e < 10; e++) {
+            assertEquals(0.0, parent.getDouble(e), 0.0);
+            assertEquals(stream.nextDouble(), view.getDouble(e), 1e-5);
+            assertEquals(view.getDouble(e), parent.getDouble(10 + e), 0.0);
+        }
+    }
+
+    @Test
+    public void testFillStateView1() {
+        val random = new PhiloxRandom(119);
+        DataBuffer parent = Nd4j.createBuffer(new double[20]);
+        DataBuffer view = Nd4j.createBuffer(parent, 10, 10);
+
+        random.getStream(3).fillState(view);
+
+        val stream = random.getStream(3);
+        for (int e = 0; e < 10; e++) {
+            assertEquals(0.0, parent.getDouble(e), 0.0);
+            assertEquals(stream.nextLong(), Double.doubleToRawLongBits(parent.getDouble(10 + e)));
+        }
+    }
+
+    @Test
+    public void testBoundedInt1() {
+        val stream = new PhiloxRandom(119).getStream(0);
+        val counts = new int[7];
+        for (int e = 0; e < 70000; e++)
+            counts[stream.nextInt(7)]++;
+
+        for (int count : counts)
+            assertEquals(10000, count, 500);
+    }
+
+    @Test
+    public void testThreads1() throws Exception {
+        val random = new PhiloxRandom(119);
+        val threads = new Thread[4];
+        val results = new long[threads.length][];
+        val failures = new AtomicInteger(0);
+
+        for (int t = 0; t < threads.length; t++) {
+            final int thread = t;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        results[thread] = new long[1000];
+                        for (int e = 0; e < results[thread].length; e++)
+                            results[thread][e] = random.nextLong();
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(0, failures.get());
+
+        // every thread gets its own substream
+        for (int a = 0; a < threads.length; a++)
+            for (int b = a + 1; b < threads.length; b++)
+                assertFalse(Arrays.equals(results[a], results[b]));
+    }
+
+    @Test
+    public void testNativeStateRefresh1() {
+        val philox = new PhiloxRandom(119);
+
+        // different seeds and draws before refresh: resulting state depends on stream position only
+        val rngA = (NativeRandom) Nd4j.getRandomFactory().getNewRandomInstance(1, 100000);
+        val rngB = (NativeRandom) Nd4j.getRandomFactory().getNewRandomInstance(2, 100000);
+        rngA.nextDouble();
+        Nd4j.getExecutioner().exec(new UniformDistribution(Nd4j.createUninitialized(100)), rngB);
+
+        val streamA = philox.getStream(7);
+        streamA.skip(100);
+        rngA.refreshState(streamA);
+
+        val streamB = philox.getStream(7);
+        streamB.setPosition(100);
+        rngB.refreshState(streamB);
+
+        INDArray zA = Nd4j.getExecutioner().exec(new GaussianDistribution(Nd4j.createUninitialized(1000), 0.0, 1.0), rngA);
+        INDArray zB = Nd4j.getExecutioner().exec(new GaussianDistribution(Nd4j.createUninitialized(1000), 0.0, 1.0), rngB);
+        assertEquals(zA, zB);
+
+        // other stream position gives other values
+        val streamC = philox.getStream(7);
+        streamC.setPosition(200);
+        rngB.refreshState(streamC);
+
+        INDArray zC = Nd4j.getExecutioner().exec(new GaussianDistribution(Nd4j.createUninitialized(1000), 0.0, 1.0), rngB);
+        assertNotEquals(zA, zC);
+    }
+
+    @Test
+    public void testNativeRandomThreads1() throws Exception {
+        // small state buffer, so draws wrap into next generations
+        val concurrent = (NativeRandom) Nd4j.getRandomFactory().getNewRandomInstance(119, 1000);
+        val sequential = (NativeRandom) Nd4j.getRandomFactory().getNewRandomInstance(119, 1000);
+
+        val threads = new Thread[4];
+        val results = new long[threads.length][2500];
+        for (int t = 0; t < threads.length; t++) {
+            final int thread = t;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int e = 0; e < results[thread].length; e++)
+                        results[thread][e] = concurrent.nextLong();
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        // lock-free draws hand out exactly the values of sequential draws, each of them once
+        val actual = new long[threads.length * 2500];
+        val expected = new long[actual.length];
+        for (int t = 0; t < threads.length; t++)
+            System.arraycopy(results[t], 0, actual, t * 2500, 2500);
+        for (int e = 0; e < expected.length; e++)
+            expected[e] = sequential.nextLong();
+
+        Arrays.sort(actual);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, actual);
+        assertEquals(sequential.getPosition(), concurrent.getPosition());
+        assertEquals(sequential.getGeneration(), concurrent.getGeneration());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRandomOpWithoutState1() {
+        Nd4j.getExecutioner().exec(new UniformDistribution(Nd4j.createUninitialized(100)), new PhiloxRandom(119));
+    }
+}
@@ -15,6 +15,7 @@ import org.nd4j.linalg.api.shape.Shape;
 import org.nd4j.linalg.exception.ND4JIllegalStateException;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.factory.Nd4jBackend;
+import org.nd4j.linalg.memory.BasicMemoryManager;
 import org.nd4j.linalg.memory.abstracts.Nd4jWorkspace;
 import org.nd4j.linalg.api.memory.conf.WorkspaceConfiguration;
 
@@ -765,6 +766,29 @@ public class BasicWorkspaceTests extends BaseNd4jTest {
         assertEquals((reqMem + reqMem % 8) * 2, workspace.getHostOffset());
     }
 
+    @Test
+    public void testAllocationTracking1() throws Exception {
+        BasicMemoryManager memoryManager = (BasicMemoryManager) Nd4j.getMemoryManager();
+        memoryManager.toggleAllocationTracking(true);
+        try {
+            long before = memoryManager.getAllocatedBytes();
+
+            Nd4jWorkspace workspace = (Nd4jWorkspace) Nd4j.getWorkspaceManager()
+                            .getWorkspaceForCurrentThread(basicConfig, "TRACKED");
+            try (MemoryWorkspace ws = workspace.notifyScopeEntered()) {
+                // doesn't fit into workspace, so it's spilled
+                Nd4j.create(2 * 1024 * 1024);
+            }
+            assertTrue(memoryManager.getAllocatedBytes() > before + 10 * 1024 * 1024);
+
+            // workspace memory is released through MemoryManager, so it's not counted anymore
+            workspace.destroyWorkspace(true);
+            assertEquals(before, memoryManager.getAllocatedBytes());
+        } finally {
+            memoryManager.toggleAllocationTracking(false);
+        }
+    }
+
     @Test
     public void testAllocation3() throws Exception {
         Nd4jWorkspace workspace = (Nd4jWorkspace) Nd4j.getWorkspaceManager().getWorkspaceForCurrentThread(basicConfig,
@@ -10,12 +10,16 @@ import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.UUID;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Created by agibsonccc on 9/23/16.
@@ -67,6 +71,107 @@ public class BinarySerdeTest {
         assertEquals(rand, fromDisk);
     }
 
+    @Test
+    public void testReadFileCopyOnWrite() throws Exception {
+        File tmpFile = new File(System.getProperty("java.io.tmpdir"),
+                        "ndarraytmp-" + UUID.randomUUID().toString() + " .bin");
+        tmpFile.deleteOnExit();
+        INDArray rand = Nd4j.randn(5, 5);
+        BinarySerde.writeArrayToDisk(rand, tmpFile);
+        INDArray fromDisk = BinarySerde.readFromDisk(tmpFile, FileChannel.MapMode.PRIVATE);
+        assertEquals(rand, fromDisk);
+
+        // changes to the array should never reach the file
+        fromDisk.addi(1.0);
+        assertEquals(rand, BinarySerde.readFromDisk(tmpFile));
+    }
+
+    @Test
+    public void testReadFileReadWrite() throws Exception {
+        File tmpFile = new File(System.getProperty("java.io.tmpdir"),
+                        "ndarraytmp-" + UUID.randomUUID().toString() + " .bin");
+        tmpFile.deleteOnExit();
+        INDArray rand = Nd4j.randn(5, 5);
+        BinarySerde.writeArrayToDisk(rand, tmpFile);
+        INDArray fromDisk = BinarySerde.readFromDisk(tmpFile, FileChannel.MapMode.READ_WRITE);
+        assertEquals(rand, fromDisk);
+
+        fromDisk.addi(1.0);
+        assertEquals(rand.add(1.0), BinarySerde.readFromDisk(tmpFile));
+    }
+
+    @Test
+    public void testReadReadOnlyFile() throws Exception {
+        File tmpFile = new File(System.getProperty("java.io.tmpdir"),
+                        "ndarraytmp-" + UUID.randomUUID().toString() + " .bin");
+        tmpFile.deleteOnExit();
+        INDArray rand = Nd4j.randn(5, 5);
+        BinarySerde.writeArrayToDisk(rand, tmpFile);
+        assertTrue(tmpFile.setReadOnly());
+
+        INDArray fromDisk = BinarySerde.readFromDisk(tmpFile);
+        assertEquals(rand, fromDisk);
+        assertEquals(rand, BinarySerde.readFromDisk(tmpFile, FileChannel.MapMode.PRIVATE));
+
+        // the array owns its data, so it can be modified
+        fromDisk.addi(1.0);
+        assertEquals(rand.add(1.0), fromDisk);
+        assertEquals(rand, BinarySerde.readFromDisk(tmpFile));
+    }
+
+    @Test
+    public void testReadMissingFile() throws Exception {
+        File tmpFile = new File(System.getProperty("java.io.tmpdir"),
+                        "ndarraytmp-" + UUID.randomUUID().toString() + " .bin");
+        for (FileChannel.MapMode mode : new FileChannel.MapMode[] {FileChannel.MapMode.READ_ONLY,
+                        FileChannel.MapMode.PRIVATE, FileChannel.MapMode.READ_WRITE}) {
+            try {
+                BinarySerde.readFromDisk(tmpFile, mode);
+                fail("FileNotFoundException expected for " + mode);
+            } catch (FileNotFoundException e) {
+                // expected
+            }
+            assertFalse(tmpFile.exists());
+        }
+    }
+
+    @Test
+    public void testReadFileAfterGc() throws Exception {
+        File tmpFile = new File(System.getProperty("java.io.tmpdir"),
+                        "ndarraytmp-" + UUID.randomUUID().toString() + " .bin");
+        tmpFile.deleteOnExit();
+        INDArray rand = Nd4j.randn(100, 100);
+        BinarySerde.writeArrayToDisk(rand, tmpFile);
+
+        // mapping isn't referenced by anything but the array itself
+        INDArray fromDisk = BinarySerde.readFromDisk(tmpFile, FileChannel.MapMode.PRIVATE);
+        collectGarbage();
+
+        assertEquals(rand, fromDisk);
+    }
+
+    @Test
+    public void testArrayViewAfterGc() {
+        INDArray arr = Nd4j.linspace(1, 10000, 10000);
+        INDArray view = BinarySerde.toArrayView(BinarySerde.toByteBuffer(arr));
+        collectGarbage();
+
+        assertEquals(arr, view);
+    }
+
+    public static void collectGarbage() {
+        for (int e = 0; e < 10; e++) {
+            System.gc();
+            // reuse freed memory, if any
+            ByteBuffer.allocateDirect(1024 * 1024).putInt(0, e);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+    }
+
     @Test
     public void testReadShapeFile() throws Exception {
         File tmpFile = new File(System.getProperty("java.io.tmpdir"),
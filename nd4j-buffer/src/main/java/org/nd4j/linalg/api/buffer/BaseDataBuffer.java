@@ -59,6 +59,8 @@ public abstract class BaseDataBuffer implements DataBuffer {
     protected long offset;
     protected byte elementSize;
     //protected transient ByteBuffer wrappedBuffer;
+    // JavaCPP pointers created from ByteBuffer keep only address, so wrapped buffer has to be kept reachable here
+    protected transient ByteBuffer sourceBuffer;
     protected transient DataBuffer wrappedDataBuffer;
     protected transient long workspaceGenerationId = 0L;
 
@@ -447,6 +449,7 @@ public abstract class BaseDataBuffer implements DataBuffer {
         initTypeAndSize();
 
         this.length = length;
+        this.sourceBuffer = buffer;
         allocationMode = AllocUtil.getAllocationModeFromContext();
 
         if (dataType() == Type.DOUBLE) {
@@ -0,0 +1,432 @@
+package org.nd4j.instrumentation.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.JmxReporter;
+import com.codahale.metrics.MetricRegistry;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.bytedeco.javacpp.Pointer;
+import org.nd4j.linalg.api.memory.MemoryWorkspace;
+import org.nd4j.linalg.cache.CacheStatistics;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.memory.BasicMemoryManager;
+import org.nd4j.linalg.memory.abstracts.Nd4jWorkspace;
+import org.nd4j.linalg.memory.provider.BasicWorkspaceManager;
+import org.nd4j.linalg.profiler.OpProfiler;
+import org.nd4j.linalg.profiler.data.LatencyHistogram;
+import org.nd4j.rng.deallocator.NativeRandomDeallocator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics registry for nd4j runtime internals: op invocations and sampled op latencies, workspaces,
+ * TAD and constant caches, off-heap memory and deallocators.
+ *
+ * All metrics are gauges, so values are read from nd4j components only when metrics are collected,
+ * and nothing is added to op execution path. Monotonic ones (op invocations, cache hits/misses/evictions,
+ * workspace cycles) are flagged as counters, see {@link LongGauge#isCounter()}.
+ *
+ * PLEASE NOTE: op invocations and latencies come from OpProfiler, so they stay at 0 unless profiling is enabled:
+ * ProfilingMode.OPERATIONS (or any other mode using OpProfiler) for invocations, and ProfilingMode.SAMPLING for both.
+ * Likewise, off-heap bytes held through MemoryManager stay at 0 unless allocation tracking is enabled,
+ * see {@link BasicMemoryManager#toggleAllocationTracking(boolean)}.
+ *
+ * Usage:
+ * <pre>
+ * Nd4jMetrics metrics = new Nd4jMetrics();
+ * metrics.startJmx(10, TimeUnit.SECONDS);
+ * String scrape = PrometheusExporter.export(metrics);
+ * </pre>
+ */
+@Slf4j
+public class Nd4jMetrics {
+    public static final String PREFIX = "nd4j";
+    public static final String LATENCY_PREFIX = PREFIX + ".ops.latency";
+
+    private final MetricRegistry registry;
+    private volatile Map<String, LatencyHistogram> latencies = Collections.emptyMap();
+    private JmxReporter jmxReporter;
+    private ScheduledExecutorService refresher;
+
+    public Nd4jMetrics() {
+        this(new MetricRegistry());
+    }
+
+    public Nd4jMetrics(@NonNull MetricRegistry registry) {
+        this.registry = registry;
+        registerDefaults();
+    }
+
+    public MetricRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * This method returns latency histograms snapshot, taken on last {@link #refresh()} call
+     *
+     * @return
+     */
+    public Map<String, LatencyHistogram> getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * This method takes new snapshot of op latencies, and registers gauges for op/shape pairs seen for the first time
+     */
+    public synchronized void refresh() {
+        Map<String, LatencyHistogram> snapshot = OpProfiler.getInstance().getLatencyHistograms();
+        latencies = snapshot;
+
+        for (final String key : snapshot.keySet()) {
+            String name = MetricRegistry.name(LATENCY_PREFIX, sanitize(opName(key)), sanitize(shapeBucket(key)));
+            if (registry.getGauges().containsKey(name + ".count"))
+                continue;
+
+            registry.register(name + ".count", new LatencyGauge(key) {
+                @Override
+                protected long value(LatencyHistogram histogram) {
+                    return histogram.getCount();
+                }
+            });
+            registry.register(name + ".mean", new LatencyGauge(key) {
+                @Override
+                protected long value(LatencyHistogram histogram) {
+                    return histogram.getAverage();
+                }
+            });
+            registry.register(name + ".p50", new LatencyGauge(key) {
+                @Override
+                protected long value(LatencyHistogram histogram) {
+                    return histogram.getPercentile(50);
+                }
+            });
+            registry.register(name + ".p99", new LatencyGauge(key) {
+                @Override
+                protected long value(LatencyHistogram histogram) {
+                    return histogram.getPercentile(99);
+                }
+            });
+            registry.register(name + ".max", new LatencyGauge(key) {
+                @Override
+                protected long value(LatencyHistogram histogram) {
+                    return histogram.getMaximum();
+                }
+            });
+        }
+    }
+
+    /**
+     * This method exposes all metrics over JMX, within "org.nd4j" domain.
+     * Op latencies are refreshed with given period.
+     *
+     * @param period
+     * @param timeUnit
+     */
+    public synchronized void startJmx(long period, TimeUnit timeUnit) {
+        if (jmxReporter != null)
+            return;
+
+        refresh();
+
+        refresher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "Nd4jMetrics refresher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        refresher.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    refresh();
+                } catch (Exception e) {
+                    log.warn("Failed to refresh op latencies", e);
+                }
+            }
+        }, period, period, timeUnit);
+
+        jmxReporter = JmxReporter.forRegistry(registry).inDomain("org." + PREFIX).build();
+        jmxReporter.start();
+    }
+
+    public synchronized void stopJmx() {
+        if (jmxReporter == null)
+            return;
+
+        jmxReporter.stop();
+        refresher.shutdownNow();
+        jmxReporter = null;
+        refresher = null;
+    }
+
+    protected void registerDefaults() {
+        // ops, counted by OpProfiler only: reads 0 with ProfilingMode.DISABLED
+        registry.register(MetricRegistry.name(PREFIX, "ops", "invocations"), new LongGauge(true) {
+            @Override
+            protected long value() {
+                return OpProfiler.getInstance().getInvocationsCount()
+                                + OpProfiler.getInstance().getSampledInvocationsCount();
+            }
+        });
+
+        // off-heap memory
+        registry.register(MetricRegistry.name(PREFIX, "memory", "manager", "allocated_bytes"), new LongGauge() {
+            @Override
+            protected long value() {
+                return Nd4j.getMemoryManager() instanceof BasicMemoryManager
+                                ? ((BasicMemoryManager) Nd4j.getMemoryManager()).getAllocatedBytes() : 0L;
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "memory", "javacpp", "total_bytes"), new LongGauge() {
+            @Override
+            protected long value() {
+                return Pointer.totalBytes();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "memory", "javacpp", "physical_bytes"), new LongGauge() {
+            @Override
+            protected long value() {
+                return Pointer.physicalBytes();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "memory", "javacpp", "max_bytes"), new LongGauge() {
+            @Override
+            protected long value() {
+                return Pointer.maxBytes();
+            }
+        });
+
+        // workspaces
+        registry.register(MetricRegistry.name(PREFIX, "workspaces", "count"), new LongGauge() {
+            @Override
+            protected long value() {
+                return workspaces().size();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "workspaces", "current_bytes"), new WorkspaceGauge() {
+            @Override
+            protected long value(Nd4jWorkspace workspace) {
+                return workspace.getCurrentSize();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "workspaces", "spilled_bytes"), new WorkspaceGauge() {
+            @Override
+            protected long value(Nd4jWorkspace workspace) {
+                return workspace.getSpilledSize();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "workspaces", "pinned_bytes"), new WorkspaceGauge() {
+            @Override
+            protected long value(Nd4jWorkspace workspace) {
+                return workspace.getPinnedSize();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "workspaces", "external_allocations"), new WorkspaceGauge() {
+            @Override
+            protected long value(Nd4jWorkspace workspace) {
+                return workspace.getNumberOfExternalAllocations();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "workspaces", "cycles"), new WorkspaceGauge(true) {
+            @Override
+            protected long value(Nd4jWorkspace workspace) {
+                return workspace.getCyclesCount();
+            }
+        });
+
+        // deallocators
+        registry.register(MetricRegistry.name(PREFIX, "deallocator", "workspaces", "tracked"), new LongGauge() {
+            @Override
+            protected long value() {
+                return Nd4j.getWorkspaceManager() instanceof BasicWorkspaceManager
+                                ? ((BasicWorkspaceManager) Nd4j.getWorkspaceManager()).getNumberOfTrackedWorkspaces()
+                                : 0L;
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "deallocator", "rng", "tracked"), new LongGauge() {
+            @Override
+            protected long value() {
+                return NativeRandomDeallocator.getInstance().getNumberOfTrackedStates();
+            }
+        });
+
+        // caches
+        registerCache("tad", new CacheProvider() {
+            @Override
+            public Object get() {
+                return Nd4j.getExecutioner().getTADManager();
+            }
+        });
+        registerCache("constant", new CacheProvider() {
+            @Override
+            public Object get() {
+                return Nd4j.getConstantHandler();
+            }
+        });
+        registerCache("shape", new CacheProvider() {
+            @Override
+            public Object get() {
+                return Nd4j.getExecutioner().getShapeCacheStatistics();
+            }
+        });
+    }
+
+    protected void registerCache(String name, final CacheProvider provider) {
+        registry.register(MetricRegistry.name(PREFIX, "cache", name, "hits"), new CacheGauge(provider, true) {
+            @Override
+            protected long value(CacheStatistics cache) {
+                return cache.getCacheHits();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "cache", name, "misses"), new CacheGauge(provider, true) {
+            @Override
+            protected long value(CacheStatistics cache) {
+                return cache.getCacheMisses();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "cache", name, "evictions"), new CacheGauge(provider, true) {
+            @Override
+            protected long value(CacheStatistics cache) {
+                return cache.getCacheEvictions();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "cache", name, "bytes"), new CacheGauge(provider, false) {
+            @Override
+            protected long value(CacheStatistics cache) {
+                return cache.getCachedBytes();
+            }
+        });
+        registry.register(MetricRegistry.name(PREFIX, "cache", name, "hit_ratio"), new Gauge<Double>() {
+            @Override
+            public Double getValue() {
+                Object cache = provider.get();
+                if (!(cache instanceof CacheStatistics))
+                    return 0.0;
+
+                long hits = ((CacheStatistics) cache).getCacheHits();
+                long total = hits + ((CacheStatistics) cache).getCacheMisses();
+                return total == 0 ? 0.0 : (double) hits / total;
+            }
+        });
+    }
+
+    protected static List<MemoryWorkspace> workspaces() {
+        if (Nd4j.getWorkspaceManager() instanceof BasicWorkspaceManager)
+            return ((BasicWorkspaceManager) Nd4j.getWorkspaceManager()).getAllWorkspaces();
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * This method returns op name out of latency key, built by OpProfiler as "opName [shape bucket]"
+     */
+    public static String opName(String key) {
+        int idx = key.lastIndexOf(" [");
+        return idx < 0 ? key : key.substring(0, idx);
+    }
+
+    /**
+     * This method returns shape bucket out of latency key, built by OpProfiler as "opName [shape bucket]"
+     */
+    public static String shapeBucket(String key) {
+        int idx = key.lastIndexOf(" [");
+        return idx < 0 ? "" : key.substring(idx + 2, key.length() - 1);
+    }
+
+    protected static String sanitize(String name) {
+        return name.replace("<=", "le").replaceAll("[^A-Za-z0-9_]+", "_");
+    }
+
+    protected interface CacheProvider {
+        Object get();
+    }
+
+    protected static abstract class LongGauge implements Gauge<Long> {
+        private final boolean counter;
+
+        protected LongGauge() {
+            this(false);
+        }
+
+        protected LongGauge(boolean counter) {
+            this.counter = counter;
+        }
+
+        /**
+         * This method returns true if gauge value only grows (until reset), so it should be exported as counter
+         */
+        public boolean isCounter() {
+            return counter;
+        }
+
+        protected abstract long value();
+
+        @Override
+        public Long getValue() {
+            return value();
+        }
+    }
+
+    protected static abstract class WorkspaceGauge extends LongGauge {
+        protected WorkspaceGauge() {
+            this(false);
+        }
+
+        protected WorkspaceGauge(boolean counter) {
+            super(counter);
+        }
+
+        protected abstract long value(Nd4jWorkspace workspace);
+
+        @Override
+        protected long value() {
+            long result = 0;
+            for (MemoryWorkspace workspace : workspaces())
+                if (workspace instanceof Nd4jWorkspace)
+                    result += value((Nd4jWorkspace) workspace);
+
+            return result;
+        }
+    }
+
+    protected static abstract class CacheGauge extends LongGauge {
+        private final CacheProvider provider;
+
+        protected CacheGauge(CacheProvider provider, boolean counter) {
+            super(counter);
+            this.provider = provider;
+        }
+
+        protected abstract long value(CacheStatistics cache);
+
+        @Override
+        protected long value() {
+            Object cache = provider.get();
+            return cache instanceof CacheStatistics ? value((CacheStatistics) cache) : 0L;
+        }
+    }
+
+    protected abstract class LatencyGauge extends LongGauge {
+        private final String key;
+
+        protected LatencyGauge(String key) {
+            this.key = key;
+        }
+
+        protected abstract long value(LatencyHistogram histogram);
+
+        @Override
+        protected long value() {
+            LatencyHistogram histogram = latencies.get(key);
+            return histogram == null ? 0L : value(histogram);
+        }
+    }
+}
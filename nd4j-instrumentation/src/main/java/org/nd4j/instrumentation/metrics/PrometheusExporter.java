@@ -0,0 +1,108 @@
+package org.nd4j.instrumentation.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import lombok.NonNull;
+import org.nd4j.linalg.profiler.data.LatencyHistogram;
+
+import java.util.Map;
+
+/**
+ * Renders {@link Nd4jMetrics} in Prometheus text exposition format (version 0.0.4).
+ *
+ * Gauges are exported with dots replaced by underscores. Gauges flagged as counters (see
+ * {@link Nd4jMetrics.LongGauge#isCounter()}) are exported as counters, with "_total" suffix.
+ * Sampled op latencies are exported as single summary metric, labelled with op name and shape bucket.
+ */
+public class PrometheusExporter {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    public static final String LATENCY_METRIC = "nd4j_op_latency_nanoseconds";
+
+    private static final double[] QUANTILES = new double[] {0.5, 0.9, 0.99};
+
+    private PrometheusExporter() {
+        // no-op
+    }
+
+    /**
+     * This method refreshes op latencies and renders all metrics
+     *
+     * @param metrics
+     * @return
+     */
+    public static String export(@NonNull Nd4jMetrics metrics) {
+        metrics.refresh();
+
+        return export(metrics.getRegistry(), metrics.getLatencies());
+    }
+
+    /**
+     * This method renders gauges of given registry, and given op latencies
+     *
+     * @param registry
+     * @param latencies latency histograms, keyed as "opName [shape bucket]"
+     * @return
+     */
+    public static String export(@NonNull MetricRegistry registry, @NonNull Map<String, LatencyHistogram> latencies) {
+        StringBuilder builder = new StringBuilder();
+
+        for (Map.Entry<String, Gauge> entry : registry.getGauges().entrySet()) {
+            // latencies are rendered as labelled summary below
+            if (entry.getKey().startsWith(Nd4jMetrics.LATENCY_PREFIX))
+                continue;
+
+            Object value = entry.getValue().getValue();
+            if (!(value instanceof Number))
+                continue;
+
+            String name = entry.getKey().replaceAll("[^A-Za-z0-9_:]", "_");
+            String type = "gauge";
+            if (isCounter(entry.getValue())) {
+                type = "counter";
+                if (!name.endsWith("_total"))
+                    name += "_total";
+            }
+
+            builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            builder.append(name).append(' ').append(format((Number) value)).append('\n');
+        }
+
+        if (!latencies.isEmpty()) {
+            builder.append("# HELP ").append(LATENCY_METRIC).append(" Sampled op latencies\n");
+            builder.append("# TYPE ").append(LATENCY_METRIC).append(" summary\n");
+
+            for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet()) {
+                String labels = "op=\"" + escape(Nd4jMetrics.opName(entry.getKey())) + "\",shape=\""
+                                + escape(Nd4jMetrics.shapeBucket(entry.getKey())) + "\"";
+                LatencyHistogram histogram = entry.getValue();
+
+                for (double quantile : QUANTILES) {
+                    builder.append(LATENCY_METRIC).append('{').append(labels).append(",quantile=\"").append(quantile)
+                                    .append("\"} ").append(histogram.getPercentile(quantile * 100)).append('\n');
+                }
+
+                builder.append(LATENCY_METRIC).append("_sum{").append(labels).append("} ").append(histogram.getSum())
+                                .append('\n');
+                builder.append(LATENCY_METRIC).append("_count{").append(labels).append("} ")
+                                .append(histogram.getCount()).append('\n');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    protected static boolean isCounter(Gauge gauge) {
+        return gauge instanceof Nd4jMetrics.LongGauge && ((Nd4jMetrics.LongGauge) gauge).isCounter();
+    }
+
+    protected static String format(Number value) {
+        if (value instanceof Double || value instanceof Float)
+            return Double.toString(value.doubleValue());
+
+        return Long.toString(value.longValue());
+    }
+
+    protected static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
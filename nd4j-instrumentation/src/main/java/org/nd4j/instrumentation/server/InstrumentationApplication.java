@@ -22,12 +22,14 @@ package org.nd4j.instrumentation.server;
 import io.dropwizard.Application;
 import io.dropwizard.setup.Environment;
 import org.apache.commons.io.IOUtils;
+import org.nd4j.instrumentation.metrics.Nd4jMetrics;
 import org.nd4j.linalg.io.ClassPathResource;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The instrumentation application
@@ -38,6 +40,7 @@ public class InstrumentationApplication extends Application<Nd4jInstrumentationC
 
     private String resourcePath = "org/nd4j/instrumentation/dropwizard.yml";
     private Environment env;
+    private Nd4jMetrics metrics = new Nd4jMetrics();
 
     public InstrumentationApplication(String resourcePath) {
         this.resourcePath = resourcePath;
@@ -49,9 +52,20 @@ public class InstrumentationApplication extends Application<Nd4jInstrumentationC
     public void run(Nd4jInstrumentationConfiguration nd4jInstrumentationConfiguration, Environment environment)
                     throws Exception {
         environment.jersey().register(new InstrumentationResource());
+        environment.jersey().register(new MetricsResource(metrics));
+        metrics.startJmx(10, TimeUnit.SECONDS);
         this.env = environment;
     }
 
+    /**
+     * This method returns nd4j runtime metrics, exposed over JMX and /metrics endpoint
+     *
+     * @return
+     */
+    public Nd4jMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Start the server
      */
@@ -77,6 +91,7 @@ public class InstrumentationApplication extends Application<Nd4jInstrumentationC
      * @throws Exception
      */
     public void stop() throws Exception {
+        metrics.stopJmx();
         env.getAdminContext().stop();
     }
 
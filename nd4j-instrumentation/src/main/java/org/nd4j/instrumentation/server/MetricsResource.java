@@ -0,0 +1,28 @@
+package org.nd4j.instrumentation.server;
+
+import lombok.NonNull;
+import org.nd4j.instrumentation.metrics.Nd4jMetrics;
+import org.nd4j.instrumentation.metrics.PrometheusExporter;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+
+/**
+ * Prometheus scrape endpoint for nd4j runtime metrics
+ */
+@Path("/metrics")
+public class MetricsResource {
+    private final Nd4jMetrics metrics;
+
+    public MetricsResource(@NonNull Nd4jMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @GET
+    @Produces(PrometheusExporter.CONTENT_TYPE)
+    public Response getMetrics() {
+        return Response.ok(PrometheusExporter.export(metrics)).build();
+    }
+}
@@ -0,0 +1,111 @@
+package org.nd4j.instrumentation.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Test;
+import org.nd4j.linalg.profiler.data.LatencyHistogram;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PrometheusExporterTest {
+
+    @Test
+    public void testGaugesAndCounters1() {
+        MetricRegistry registry = new MetricRegistry();
+        registry.register("nd4j.cache.tad.hits", new Nd4jMetrics.LongGauge(true) {
+            @Override
+            protected long value() {
+                return 17L;
+            }
+        });
+        registry.register("nd4j.cache.tad.bytes", new Nd4jMetrics.LongGauge() {
+            @Override
+            protected long value() {
+                return 1024L;
+            }
+        });
+        registry.register("nd4j.cache.tad.hit_ratio", new Gauge<Double>() {
+            @Override
+            public Double getValue() {
+                return 0.25;
+            }
+        });
+        registry.register("nd4j.version", new Gauge<String>() {
+            @Override
+            public String getValue() {
+                return "0.9.2";
+            }
+        });
+
+        List<String> lines = lines(PrometheusExporter.export(registry,
+                        Collections.<String, LatencyHistogram>emptyMap()));
+
+        assertEquals(Arrays.asList("# TYPE nd4j_cache_tad_bytes gauge", "nd4j_cache_tad_bytes 1024",
+                        "# TYPE nd4j_cache_tad_hit_ratio gauge", "nd4j_cache_tad_hit_ratio 0.25",
+                        "# TYPE nd4j_cache_tad_hits_total counter", "nd4j_cache_tad_hits_total 17"), lines);
+    }
+
+    @Test
+    public void testCounterSuffix1() {
+        MetricRegistry registry = new MetricRegistry();
+        registry.register("nd4j.ops.calls_total", new Nd4jMetrics.LongGauge(true) {
+            @Override
+            protected long value() {
+                return 3L;
+            }
+        });
+
+        List<String> lines = lines(PrometheusExporter.export(registry,
+                        Collections.<String, LatencyHistogram>emptyMap()));
+
+        assertEquals(Arrays.asList("# TYPE nd4j_ops_calls_total counter", "nd4j_ops_calls_total 3"), lines);
+    }
+
+    @Test
+    public void testLatencySummary1() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.record(2000);
+        histogram.record(4000);
+
+        Map<String, LatencyHistogram> latencies = new HashMap<>();
+        latencies.put("set_scalar [len <= 128]", histogram);
+
+        MetricRegistry registry = new MetricRegistry();
+        // per-op gauges are rendered as labelled summary only
+        registry.register(Nd4jMetrics.LATENCY_PREFIX + ".set_scalar.len_128.count", new Nd4jMetrics.LongGauge() {
+            @Override
+            protected long value() {
+                return 3L;
+            }
+        });
+
+        List<String> lines = lines(PrometheusExporter.export(registry, latencies));
+        String labels = "{op=\"set_scalar\",shape=\"len <= 128\"";
+
+        assertEquals(7, lines.size());
+        assertEquals("# HELP " + PrometheusExporter.LATENCY_METRIC + " Sampled op latencies", lines.get(0));
+        assertEquals("# TYPE " + PrometheusExporter.LATENCY_METRIC + " summary", lines.get(1));
+        assertTrue(lines.get(2).startsWith(PrometheusExporter.LATENCY_METRIC + labels + ",quantile=\"0.5\"} "));
+        assertTrue(lines.get(3).startsWith(PrometheusExporter.LATENCY_METRIC + labels + ",quantile=\"0.9\"} "));
+        assertTrue(lines.get(4).startsWith(PrometheusExporter.LATENCY_METRIC + labels + ",quantile=\"0.99\"} "));
+        assertEquals(PrometheusExporter.LATENCY_METRIC + "_sum" + labels + "} 7000", lines.get(5));
+        assertEquals(PrometheusExporter.LATENCY_METRIC + "_count" + labels + "} 3", lines.get(6));
+    }
+
+    @Test
+    public void testEscape1() {
+        assertEquals("a\\\"b\\\\c\\nd", PrometheusExporter.escape("a\"b\\c\nd"));
+    }
+
+    private static List<String> lines(String exposition) {
+        assertTrue(exposition.isEmpty() || exposition.endsWith("\n"));
+        return Arrays.asList(exposition.split("\n"));
+    }
+}
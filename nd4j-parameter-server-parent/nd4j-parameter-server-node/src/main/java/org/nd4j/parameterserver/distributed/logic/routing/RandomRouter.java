@@ -1,7 +1,8 @@
 package org.nd4j.parameterserver.distributed.logic.routing;
 
 import lombok.NonNull;
-import org.apache.commons.lang3.RandomUtils;
+import org.nd4j.linalg.api.rng.PhiloxRandom;
+import org.nd4j.linalg.util.HashUtil;
 import org.nd4j.parameterserver.distributed.conf.VoidConfiguration;
 import org.nd4j.parameterserver.distributed.messages.TrainingMessage;
 import org.nd4j.parameterserver.distributed.messages.VoidMessage;
@@ -10,18 +11,24 @@ import org.nd4j.parameterserver.distributed.transport.Transport;
 /**
  * Basic implementation for ClientRouter: we route each message to random Shard
  *
+ * Shard indices are drawn from per-thread Philox substreams, so concurrent senders don't contend on shared RNG state
+ *
  *
  *
  * @author raver119@gmail.com
  */
 public class RandomRouter extends BaseRouter {
     protected int numShards;
+    protected final PhiloxRandom random = new PhiloxRandom();
 
     @Override
     public void init(@NonNull VoidConfiguration voidConfiguration, @NonNull Transport transport) {
         super.init(voidConfiguration, transport);
 
-        int numShards = voidConfiguration.getNumberOfShards();
+        numShards = voidConfiguration.getNumberOfShards();
+
+        // node endpoint is mixed in, so nodes started at the same time don't pick identical shard sequences
+        random.setSeed(random.getSeed() ^ HashUtil.getLongHash(transport.getIp() + ":" + transport.getPort()));
     }
 
     @Override
@@ -39,6 +46,6 @@ public class RandomRouter extends BaseRouter {
     }
 
     protected short getNextShard() {
-        return (short) RandomUtils.nextInt(0, numShards);
+        return (short) random.getStream().nextInt(numShards);
     }
 }
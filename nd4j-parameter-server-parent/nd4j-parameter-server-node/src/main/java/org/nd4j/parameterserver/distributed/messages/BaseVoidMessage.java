@@ -2,11 +2,11 @@ package org.nd4j.parameterserver.distributed.messages;
 
 import lombok.*;
 import org.agrona.concurrent.UnsafeBuffer;
-import org.apache.commons.lang3.SerializationUtils;
 import org.nd4j.parameterserver.distributed.conf.VoidConfiguration;
 import org.nd4j.parameterserver.distributed.enums.NodeRole;
 import org.nd4j.parameterserver.distributed.logic.completion.Clipboard;
 import org.nd4j.parameterserver.distributed.logic.Storage;
+import org.nd4j.parameterserver.distributed.messages.serde.VoidMessageSerde;
 import org.nd4j.parameterserver.distributed.training.TrainingDriver;
 import org.nd4j.parameterserver.distributed.transport.Transport;
 
@@ -39,7 +39,7 @@ public abstract class BaseVoidMessage implements VoidMessage {
 
     @Override
     public byte[] asBytes() {
-        return SerializationUtils.serialize(this);
+        return VoidMessageSerde.toBytes(this);
     }
 
     @Override
@@ -49,7 +49,7 @@ public abstract class BaseVoidMessage implements VoidMessage {
 
 
     public UnsafeBuffer asUnsafeBuffer() {
-        return new UnsafeBuffer(asBytes());
+        return new UnsafeBuffer(VoidMessageSerde.toByteBuffer(this));
     }
 
     @Override
@@ -30,6 +30,10 @@ public class CbowRequestMessage extends BaseVoidMessage implements TrainingMessa
 
     protected int[] negatives;
 
+    protected CbowRequestMessage() {
+        // used for deserialization
+    }
+
     public CbowRequestMessage(@NonNull int[] syn0rows, @NonNull int[] syn1rows, int w1, byte[] codes, int negSamples,
                     double alpha, long nextRandom) {
         this.syn0rows = syn0rows;
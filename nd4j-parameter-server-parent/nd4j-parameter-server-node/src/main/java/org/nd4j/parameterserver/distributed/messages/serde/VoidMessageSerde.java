@@ -0,0 +1,684 @@
+package org.nd4j.parameterserver.distributed.messages.serde;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.agrona.DirectBuffer;
+import org.apache.commons.io.input.ClassLoaderObjectInputStream;
+import org.apache.commons.lang3.SerializationUtils;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.exception.ND4JIllegalStateException;
+import org.nd4j.linalg.primitives.Pair;
+import org.nd4j.parameterserver.distributed.messages.Frame;
+import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.aggregations.DotAggregation;
+import org.nd4j.parameterserver.distributed.messages.aggregations.InitializationAggregation;
+import org.nd4j.parameterserver.distributed.messages.aggregations.VectorAggregation;
+import org.nd4j.parameterserver.distributed.messages.complete.FrameCompleteMessage;
+import org.nd4j.parameterserver.distributed.messages.complete.InitializationCompleteMessage;
+import org.nd4j.parameterserver.distributed.messages.complete.IntroductionCompleteMessage;
+import org.nd4j.parameterserver.distributed.messages.complete.VectorCompleteMessage;
+import org.nd4j.parameterserver.distributed.messages.intercom.*;
+import org.nd4j.parameterserver.distributed.messages.requests.*;
+import org.nd4j.serde.binary.BinarySerde;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binary serialization for VoidMessages.
+ *
+ * Every registered message class gets explicit message type id, and its schema: list of all non-transient
+ * fields, including fields of superclasses. Message is encoded as type id followed by field values in schema order.
+ * INDArrays are written with {@link BinarySerde} straight into the target buffer, and decoded straight from
+ * the source buffer, so no intermediate byte[] copies are made.
+ *
+ * Messages of classes that weren't registered are encoded with Java serialization,
+ * the same way as before, so custom messages keep working without registration.
+ *
+ * After decoding, all transient fields have default values, exactly as after Java deserialization.
+ */
+@Slf4j
+public class VoidMessageSerde {
+    // message type ids below this value are reserved for built-in messages
+    public static final short FIRST_CUSTOM_TYPE = 128;
+
+    // first two bytes of any Java serialization stream
+    private static final byte JAVA_MAGIC_0 = (byte) 0xAC;
+    private static final byte JAVA_MAGIC_1 = (byte) 0xED;
+
+    // value tags, used for non-primitive fields
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_BOOLEAN = 1;
+    private static final byte TAG_BYTE = 2;
+    private static final byte TAG_SHORT = 3;
+    private static final byte TAG_INT = 4;
+    private static final byte TAG_LONG = 5;
+    private static final byte TAG_FLOAT = 6;
+    private static final byte TAG_DOUBLE = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_BYTE_ARRAY = 9;
+    private static final byte TAG_SHORT_ARRAY = 10;
+    private static final byte TAG_INT_ARRAY = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+    private static final byte TAG_FLOAT_ARRAY = 13;
+    private static final byte TAG_DOUBLE_ARRAY = 14;
+    private static final byte TAG_INDARRAY = 15;
+    private static final byte TAG_MESSAGE = 16;
+    private static final byte TAG_LIST = 17;
+    private static final byte TAG_SERIALIZED = 18;
+
+    private static final Map<Short, Schema> schemasById = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Schema> schemasByClass = new ConcurrentHashMap<>();
+
+    static {
+        register(Frame.class, (short) 1);
+
+        register(SkipGramRequestMessage.class, (short) 2);
+        register(CbowRequestMessage.class, (short) 3);
+        register(VectorRequestMessage.class, (short) 4);
+        register(AssignRequestMessage.class, (short) 5);
+        register(InitializationRequestMessage.class, (short) 6);
+        register(IntroductionRequestMessage.class, (short) 7);
+        register(ShutdownRequestMessage.class, (short) 8);
+
+        register(DistributedInitializationMessage.class, (short) 9);
+        register(DistributedIntroductionMessage.class, (short) 10);
+        register(DistributedShutdownMessage.class, (short) 11);
+        register(DistributedVectorMessage.class, (short) 12);
+        register(DistributedCbowDotMessage.class, (short) 13);
+        register(DistributedSgDotMessage.class, (short) 14);
+        register(DistributedAssignMessage.class, (short) 15);
+        register(DistributedSkipGramMessage.class, (short) 16);
+        register(DistributedSolidMessage.class, (short) 17);
+
+        register(DotAggregation.class, (short) 18);
+        register(InitializationAggregation.class, (short) 19);
+        register(VectorAggregation.class, (short) 20);
+
+        register(FrameCompleteMessage.class, (short) 21);
+        register(InitializationCompleteMessage.class, (short) 22);
+        register(VectorCompleteMessage.class, (short) 23);
+        register(IntroductionCompleteMessage.class, (short) 24);
+    }
+
+    private VoidMessageSerde() {}
+
+    /**
+     * This method registers custom message class for binary serialization.
+     * All nodes should register the same classes with the same ids.
+     *
+     * PLEASE NOTE: message class should have no-args constructor, it doesn't have to be public
+     *
+     * @param clazz message class
+     * @param messageTypeId unique message type id, should be >= {@link #FIRST_CUSTOM_TYPE} for custom messages
+     */
+    public static void registerMessage(@NonNull Class<? extends VoidMessage> clazz, short messageTypeId) {
+        if (messageTypeId < FIRST_CUSTOM_TYPE)
+            throw new ND4JIllegalStateException("Message type ids below " + FIRST_CUSTOM_TYPE + " are reserved");
+
+        register(clazz, messageTypeId);
+    }
+
+    private static void register(Class<? extends VoidMessage> clazz, short messageTypeId) {
+        Schema existing = schemasById.get(messageTypeId);
+        if (existing != null && existing.clazz != clazz)
+            throw new ND4JIllegalStateException("Message type id [" + messageTypeId + "] is already used by "
+                            + existing.clazz.getName());
+
+        Schema schema = new Schema(clazz, messageTypeId);
+        schemasById.put(messageTypeId, schema);
+        schemasByClass.put(clazz, schema);
+    }
+
+    /**
+     * This method returns number of bytes required to encode given message
+     *
+     * @param message
+     * @return
+     */
+    public static int encodedLength(@NonNull VoidMessage message) {
+        Schema schema = schemasByClass.get(message.getClass());
+        if (schema == null)
+            return SerializationUtils.serialize(message).length;
+
+        return 2 + schema.bodyLength(message, new ArrayDeque<>());
+    }
+
+    /**
+     * This method encodes message into newly allocated direct ByteBuffer, ready to be sent over Aeron
+     *
+     * @param message
+     * @return
+     */
+    public static ByteBuffer toByteBuffer(@NonNull VoidMessage message) {
+        Schema schema = schemasByClass.get(message.getClass());
+        if (schema == null) {
+            byte[] bytes = SerializationUtils.serialize(message);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes);
+            buffer.rewind();
+            return buffer;
+        }
+
+        return encode(schema, message, true);
+    }
+
+    /**
+     * This method encodes message into byte array
+     *
+     * @param message
+     * @return
+     */
+    public static byte[] toBytes(@NonNull VoidMessage message) {
+        Schema schema = schemasByClass.get(message.getClass());
+        if (schema == null)
+            return SerializationUtils.serialize(message);
+
+        return encode(schema, message, false).array();
+    }
+
+    private static ByteBuffer encode(Schema schema, VoidMessage message, boolean direct) {
+        // values that are expensive to encode (serialized objects, strings, detached views) are encoded once,
+        // while calculating length, and then consumed in the same order while writing
+        Queue<Object> encoded = new ArrayDeque<>();
+        int length = 2 + schema.bodyLength(message, encoded);
+
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+        buffer.order(ByteOrder.nativeOrder());
+        buffer.putShort(schema.messageTypeId);
+        schema.write(message, buffer, encoded);
+        buffer.rewind();
+        return buffer;
+    }
+
+    /**
+     * This method decodes message from byte array
+     *
+     * @param array
+     * @param <T>
+     * @return
+     */
+    public static <T extends VoidMessage> T fromBytes(@NonNull byte[] array) {
+        return fromByteBuffer(ByteBuffer.wrap(array));
+    }
+
+    /**
+     * This method decodes message from given region of DirectBuffer, without copying it into intermediate byte[]
+     * whenever DirectBuffer is backed by ByteBuffer or byte[]
+     *
+     * @param buffer
+     * @param offset
+     * @param length
+     * @param <T>
+     * @return
+     */
+    public static <T extends VoidMessage> T fromDirectBuffer(@NonNull DirectBuffer buffer, int offset, int length) {
+        ByteBuffer view;
+        if (buffer.byteBuffer() != null) {
+            view = buffer.byteBuffer().duplicate();
+            int position = buffer.wrapAdjustment() + offset;
+            view.limit(position + length);
+            view.position(position);
+        } else if (buffer.byteArray() != null) {
+            view = ByteBuffer.wrap(buffer.byteArray(), buffer.wrapAdjustment() + offset, length);
+        } else {
+            // raw memory address, nothing to wrap here
+            byte[] data = new byte[length];
+            buffer.getBytes(offset, data);
+            view = ByteBuffer.wrap(data);
+        }
+
+        return fromByteBuffer(view.slice());
+    }
+
+    /**
+     * This method decodes message from ByteBuffer, starting at its current position
+     *
+     * @param buffer
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends VoidMessage> T fromByteBuffer(@NonNull ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() >= 2 && buffer.get(start) == JAVA_MAGIC_0 && buffer.get(start + 1) == JAVA_MAGIC_1)
+            return (T) deserializeJava(buffer);
+
+        buffer.order(ByteOrder.nativeOrder());
+        short messageTypeId = buffer.getShort();
+        Schema schema = schemasById.get(messageTypeId);
+        if (schema == null)
+            throw new ND4JIllegalStateException("Unknown message type id: [" + messageTypeId + "]");
+
+        return (T) schema.read(buffer);
+    }
+
+    private static Object deserializeJava(ByteBuffer buffer) {
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        try {
+            ObjectInputStream in = new ClassLoaderObjectInputStream(Thread.currentThread().getContextClassLoader(),
+                            new ByteArrayInputStream(data));
+            return in.readObject();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Schema of single message class: its type id, and all non-transient fields
+     */
+    private static class Schema {
+        private final Class<?> clazz;
+        private final short messageTypeId;
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+        private final Field[] transientFields;
+
+        private Schema(Class<?> clazz, short messageTypeId) {
+            this.clazz = clazz;
+            this.messageTypeId = messageTypeId;
+
+            try {
+                constructor = clazz.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new ND4JIllegalStateException(
+                                "Message class " + clazz.getName() + " should have no-args constructor");
+            }
+
+            // superclass fields go first, fields within each class are sorted by name
+            List<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass())
+                hierarchy.add(0, c);
+
+            List<Field> serialized = new ArrayList<>();
+            List<Field> skipped = new ArrayList<>();
+            for (Class<?> c : hierarchy) {
+                Field[] declared = c.getDeclaredFields();
+                Arrays.sort(declared, new Comparator<Field>() {
+                    @Override
+                    public int compare(Field o1, Field o2) {
+                        return o1.getName().compareTo(o2.getName());
+                    }
+                });
+
+                for (Field field : declared) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || field.isSynthetic())
+                        continue;
+
+                    field.setAccessible(true);
+                    if (Modifier.isTransient(modifiers))
+                        skipped.add(field);
+                    else
+                        serialized.add(field);
+                }
+            }
+
+            fields = serialized.toArray(new Field[serialized.size()]);
+            transientFields = skipped.toArray(new Field[skipped.size()]);
+        }
+
+        private int bodyLength(Object message, Queue<Object> encoded) {
+            try {
+                int length = 0;
+                for (Field field : fields) {
+                    Class<?> type = field.getType();
+                    if (type.isPrimitive())
+                        length += primitiveLength(type);
+                    else
+                        length += valueLength(field.get(message), encoded);
+                }
+                return length;
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void write(Object message, ByteBuffer buffer, Queue<Object> encoded) {
+            try {
+                for (Field field : fields) {
+                    Class<?> type = field.getType();
+                    if (type == int.class)
+                        buffer.putInt(field.getInt(message));
+                    else if (type == long.class)
+                        buffer.putLong(field.getLong(message));
+                    else if (type == double.class)
+                        buffer.putDouble(field.getDouble(message));
+                    else if (type == float.class)
+                        buffer.putFloat(field.getFloat(message));
+                    else if (type == short.class)
+                        buffer.putShort(field.getShort(message));
+                    else if (type == byte.class)
+                        buffer.put(field.getByte(message));
+                    else if (type == boolean.class)
+                        buffer.put(field.getBoolean(message) ? (byte) 1 : (byte) 0);
+                    else if (type == char.class)
+                        buffer.putChar(field.getChar(message));
+                    else
+                        writeValue(field.get(message), buffer, encoded);
+                }
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private Object read(ByteBuffer buffer) {
+            try {
+                Object message = constructor.newInstance();
+
+                // match Java deserialization: transient fields are never initialized
+                for (Field field : transientFields)
+                    field.set(message, defaultValue(field.getType()));
+
+                for (Field field : fields) {
+                    Class<?> type = field.getType();
+                    if (type == int.class)
+                        field.setInt(message, buffer.getInt());
+                    else if (type == long.class)
+                        field.setLong(message, buffer.getLong());
+                    else if (type == double.class)
+                        field.setDouble(message, buffer.getDouble());
+                    else if (type == float.class)
+                        field.setFloat(message, buffer.getFloat());
+                    else if (type == short.class)
+                        field.setShort(message, buffer.getShort());
+                    else if (type == byte.class)
+                        field.setByte(message, buffer.get());
+                    else if (type == boolean.class)
+                        field.setBoolean(message, buffer.get() != 0);
+                    else if (type == char.class)
+                        field.setChar(message, buffer.getChar());
+                    else
+                        field.set(message, readValue(buffer));
+                }
+
+                return message;
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static int primitiveLength(Class<?> type) {
+        if (type == long.class || type == double.class)
+            return 8;
+        else if (type == int.class || type == float.class)
+            return 4;
+        else if (type == short.class || type == char.class)
+            return 2;
+        else
+            return 1;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive())
+            return null;
+        else if (type == boolean.class)
+            return false;
+        else if (type == char.class)
+            return (char) 0;
+        else if (type == byte.class)
+            return (byte) 0;
+        else if (type == short.class)
+            return (short) 0;
+        else if (type == int.class)
+            return 0;
+        else if (type == long.class)
+            return 0L;
+        else if (type == float.class)
+            return 0.0f;
+        else
+            return 0.0;
+    }
+
+    private static int valueLength(Object value, Queue<Object> encoded) {
+        // 1 byte for tag, everything else depends on actual value
+        if (value == null)
+            return 1;
+        else if (value instanceof Boolean || value instanceof Byte)
+            return 2;
+        else if (value instanceof Short)
+            return 3;
+        else if (value instanceof Integer || value instanceof Float)
+            return 5;
+        else if (value instanceof Long || value instanceof Double)
+            return 9;
+        else if (value instanceof String)
+            return 5 + enqueue(encoded, ((String) value).getBytes(java.nio.charset.StandardCharsets.UTF_8)).length;
+        else if (value instanceof byte[])
+            return 5 + ((byte[]) value).length;
+        else if (value instanceof short[])
+            return 5 + ((short[]) value).length * 2;
+        else if (value instanceof int[])
+            return 5 + ((int[]) value).length * 4;
+        else if (value instanceof float[])
+            return 5 + ((float[]) value).length * 4;
+        else if (value instanceof long[])
+            return 5 + ((long[]) value).length * 8;
+        else if (value instanceof double[])
+            return 5 + ((double[]) value).length * 8;
+        else if (value instanceof INDArray)
+            return 5 + BinarySerde.byteBufferSizeFor(enqueue(encoded, detach((INDArray) value)));
+        else if (value instanceof VoidMessage && schemasByClass.containsKey(value.getClass()))
+            return 3 + schemasByClass.get(value.getClass()).bodyLength(value, encoded);
+        else if (value instanceof List) {
+            int length = 5;
+            for (Object element : (List<?>) value)
+                length += valueLength(element, encoded);
+            return length;
+        } else
+            return 5 + enqueue(encoded, serializeJava(value)).length;
+    }
+
+    private static <T> T enqueue(Queue<Object> encoded, T value) {
+        encoded.add(value);
+        return value;
+    }
+
+    private static void writeValue(Object value, ByteBuffer buffer, Queue<Object> encoded) {
+        if (value == null) {
+            buffer.put(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            buffer.put(TAG_BOOLEAN);
+            buffer.put((Boolean) value ? (byte) 1 : (byte) 0);
+        } else if (value instanceof Byte) {
+            buffer.put(TAG_BYTE);
+            buffer.put((Byte) value);
+        } else if (value instanceof Short) {
+            buffer.put(TAG_SHORT);
+            buffer.putShort((Short) value);
+        } else if (value instanceof Integer) {
+            buffer.put(TAG_INT);
+            buffer.putInt((Integer) value);
+        } else if (value instanceof Long) {
+            buffer.put(TAG_LONG);
+            buffer.putLong((Long) value);
+        } else if (value instanceof Float) {
+            buffer.put(TAG_FLOAT);
+            buffer.putFloat((Float) value);
+        } else if (value instanceof Double) {
+            buffer.put(TAG_DOUBLE);
+            buffer.putDouble((Double) value);
+        } else if (value instanceof String) {
+            byte[] bytes = (byte[]) encoded.poll();
+            buffer.put(TAG_STRING);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        } else if (value instanceof byte[]) {
+            byte[] array = (byte[]) value;
+            buffer.put(TAG_BYTE_ARRAY);
+            buffer.putInt(array.length);
+            buffer.put(array);
+        } else if (value instanceof short[]) {
+            short[] array = (short[]) value;
+            buffer.put(TAG_SHORT_ARRAY);
+            buffer.putInt(array.length);
+            for (short v : array)
+                buffer.putShort(v);
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            buffer.put(TAG_INT_ARRAY);
+            buffer.putInt(array.length);
+            for (int v : array)
+                buffer.putInt(v);
+        } else if (value instanceof float[]) {
+            float[] array = (float[]) value;
+            buffer.put(TAG_FLOAT_ARRAY);
+            buffer.putInt(array.length);
+            for (float v : array)
+                buffer.putFloat(v);
+        } else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            buffer.put(TAG_LONG_ARRAY);
+            buffer.putInt(array.length);
+            for (long v : array)
+                buffer.putLong(v);
+        } else if (value instanceof double[]) {
+            double[] array = (double[]) value;
+            buffer.put(TAG_DOUBLE_ARRAY);
+            buffer.putInt(array.length);
+            for (double v : array)
+                buffer.putDouble(v);
+        } else if (value instanceof INDArray) {
+            INDArray array = (INDArray) encoded.poll();
+            buffer.put(TAG_INDARRAY);
+            buffer.putInt(BinarySerde.byteBufferSizeFor(array));
+            if (array.isCompressed())
+                BinarySerde.doByteBufferPutCompressed(array, buffer, false);
+            else
+                BinarySerde.doByteBufferPutUnCompressed(array, buffer, false);
+        } else if (value instanceof VoidMessage && schemasByClass.containsKey(value.getClass())) {
+            Schema schema = schemasByClass.get(value.getClass());
+            buffer.put(TAG_MESSAGE);
+            buffer.putShort(schema.messageTypeId);
+            schema.write(value, buffer, encoded);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            buffer.put(TAG_LIST);
+            buffer.putInt(list.size());
+            for (Object element : list)
+                writeValue(element, buffer, encoded);
+        } else {
+            byte[] bytes = (byte[]) encoded.poll();
+            buffer.put(TAG_SERIALIZED);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_BOOLEAN:
+                return buffer.get() != 0;
+            case TAG_BYTE:
+                return buffer.get();
+            case TAG_SHORT:
+                return buffer.getShort();
+            case TAG_INT:
+                return buffer.getInt();
+            case TAG_LONG:
+                return buffer.getLong();
+            case TAG_FLOAT:
+                return buffer.getFloat();
+            case TAG_DOUBLE:
+                return buffer.getDouble();
+            case TAG_STRING: {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                return new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
+            }
+            case TAG_BYTE_ARRAY: {
+                byte[] array = new byte[buffer.getInt()];
+                buffer.get(array);
+                return array;
+            }
+            case TAG_SHORT_ARRAY: {
+                short[] array = new short[buffer.getInt()];
+                buffer.asShortBuffer().get(array);
+                buffer.position(buffer.position() + array.length * 2);
+                return array;
+            }
+            case TAG_INT_ARRAY: {
+                int[] array = new int[buffer.getInt()];
+                buffer.asIntBuffer().get(array);
+                buffer.position(buffer.position() + array.length * 4);
+                return array;
+            }
+            case TAG_FLOAT_ARRAY: {
+                float[] array = new float[buffer.getInt()];
+                buffer.asFloatBuffer().get(array);
+                buffer.position(buffer.position() + array.length * 4);
+                return array;
+            }
+            case TAG_LONG_ARRAY: {
+                long[] array = new long[buffer.getInt()];
+                buffer.asLongBuffer().get(array);
+                buffer.position(buffer.position() + array.length * 8);
+                return array;
+            }
+            case TAG_DOUBLE_ARRAY: {
+                double[] array = new double[buffer.getInt()];
+                buffer.asDoubleBuffer().get(array);
+                buffer.position(buffer.position() + array.length * 8);
+                return array;
+            }
+            case TAG_INDARRAY: {
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                // array data is copied out of the source buffer here, since Aeron buffers are reused
+                Pair<INDArray, ByteBuffer> pair = BinarySerde.toArrayAndByteBuffer(buffer, buffer.position());
+                buffer.position(end);
+                return pair.getFirst();
+            }
+            case TAG_MESSAGE: {
+                short messageTypeId = buffer.getShort();
+                Schema schema = schemasById.get(messageTypeId);
+                if (schema == null)
+                    throw new ND4JIllegalStateException("Unknown message type id: [" + messageTypeId + "]");
+                return schema.read(buffer);
+            }
+            case TAG_LIST: {
+                int size = buffer.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++)
+                    list.add(readValue(buffer));
+                return list;
+            }
+            case TAG_SERIALIZED: {
+                ByteBuffer slice = buffer.slice();
+                int length = buffer.getInt();
+                slice.position(4);
+                slice.limit(4 + length);
+                buffer.position(buffer.position() + length);
+                return deserializeJava(slice.slice());
+            }
+            default:
+                throw new ND4JIllegalStateException("Unknown value tag: [" + tag + "]");
+        }
+    }
+
+    private static INDArray detach(INDArray array) {
+        // views can't be written directly, same as in BinarySerde.toByteBuffer()
+        return array.isView() ? array.dup() : array;
+    }
+
+    private static byte[] serializeJava(Object value) {
+        if (!(value instanceof Serializable))
+            throw new ND4JIllegalStateException("Can't serialize value of " + value.getClass().getName());
+
+        return SerializationUtils.serialize((Serializable) value);
+    }
+}
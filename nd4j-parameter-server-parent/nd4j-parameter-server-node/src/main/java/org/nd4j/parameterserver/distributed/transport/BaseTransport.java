@@ -206,10 +206,7 @@ public abstract class BaseTransport implements Transport {
          */
         // TODO: implement fragmentation handler here PROBABLY. Or forbid messages > MTU?
         //log.info("shardMessageHandler message request incoming...");
-        byte[] data = new byte[length];
-        buffer.getBytes(offset, data);
-
-        VoidMessage message = VoidMessage.fromBytes(data);
+        VoidMessage message = VoidMessage.fromBuffer(buffer, offset, length);
         if (message.getMessageType() == 7) {
             // if that's vector request message - it's special case, we don't send it to other shards yet
             //log.info("Shortcut for vector request");
@@ -232,10 +229,7 @@ public abstract class BaseTransport implements Transport {
         /**
          * All incoming internal messages are either op commands, or aggregation messages that are tied to commands
          */
-        byte[] data = new byte[length];
-        buffer.getBytes(offset, data);
-
-        VoidMessage message = VoidMessage.fromBytes(data);
+        VoidMessage message = VoidMessage.fromBuffer(buffer, offset, length);
 
         messages.add(message);
 
@@ -257,10 +251,7 @@ public abstract class BaseTransport implements Transport {
         // TODO: to be implemented
         //  log.info("clientMessageHandler message request incoming");
 
-        byte[] data = new byte[length];
-        buffer.getBytes(offset, data);
-
-        MeaningfulMessage message = (MeaningfulMessage) VoidMessage.fromBytes(data);
+        MeaningfulMessage message = (MeaningfulMessage) VoidMessage.fromBuffer(buffer, offset, length);
         completed.put(message.getTaskId(), message);
     }
 
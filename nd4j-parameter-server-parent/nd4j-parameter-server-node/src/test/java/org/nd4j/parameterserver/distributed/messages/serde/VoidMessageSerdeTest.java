@@ -0,0 +1,110 @@
+package org.nd4j.parameterserver.distributed.messages.serde;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.parameterserver.distributed.messages.Frame;
+import org.nd4j.parameterserver.distributed.messages.VoidMessage;
+import org.nd4j.parameterserver.distributed.messages.aggregations.DotAggregation;
+import org.nd4j.parameterserver.distributed.messages.aggregations.VectorAggregation;
+import org.nd4j.parameterserver.distributed.messages.requests.CbowRequestMessage;
+import org.nd4j.parameterserver.distributed.messages.requests.SkipGramRequestMessage;
+import org.nd4j.parameterserver.distributed.messages.requests.VectorRequestMessage;
+
+import static org.junit.Assert.*;
+
+public class VoidMessageSerdeTest {
+
+    @Test
+    public void testSkipGramSerDe() throws Exception {
+        SkipGramRequestMessage message = new SkipGramRequestMessage(10, 12, new int[] {10, 20, 30, 40},
+                        new byte[] {(byte) 0, (byte) 0, (byte) 1, (byte) 0}, (short) 0, 0.0, 117L);
+        message.setOriginatorId(119L);
+
+        byte[] bytes = message.asBytes();
+        // binary encoding is expected to be more compact then Java serialization
+        assertTrue(bytes.length < SerializationUtils.serialize(message).length);
+
+        SkipGramRequestMessage restored = VoidMessage.fromBytes(bytes);
+
+        assertEquals(message, restored);
+        assertEquals(119L, restored.getOriginatorId());
+        assertArrayEquals(message.getPoints(), restored.getPoints());
+        assertArrayEquals(message.getCodes(), restored.getCodes());
+    }
+
+    @Test
+    public void testCbowSerDe() throws Exception {
+        CbowRequestMessage message = new CbowRequestMessage(new int[] {1, 2, 3}, new int[] {4, 5}, 7,
+                        new byte[] {1, 0, 1}, 3, 0.025, 119L);
+
+        CbowRequestMessage restored = VoidMessage.fromBytes(message.asBytes());
+
+        assertEquals(message, restored);
+        assertArrayEquals(message.getSyn0rows(), restored.getSyn0rows());
+        assertArrayEquals(message.getSyn1rows(), restored.getSyn1rows());
+    }
+
+    @Test
+    public void testAggregationSerDe() throws Exception {
+        INDArray array = Nd4j.linspace(1, 10, 10);
+        VectorAggregation aggregation = new VectorAggregation(17L, (short) 2, (short) 1, array);
+
+        UnsafeBuffer buffer = aggregation.asUnsafeBuffer();
+        VectorAggregation restored = VoidMessage.fromBuffer(buffer, 0, buffer.capacity());
+
+        assertEquals(17L, restored.getTaskId());
+        assertEquals(2, restored.getAggregationWidth());
+        assertEquals(1, restored.getShardIndex());
+        assertEquals(array, restored.getPayload());
+
+        // transient fields should be left uninitialized, exactly as after Java deserialization
+        assertNull(restored.getChunks());
+    }
+
+    @Test
+    public void testAggregationViewSerDe() throws Exception {
+        INDArray array = Nd4j.linspace(1, 20, 20).reshape(4, 5).getColumn(2);
+        DotAggregation aggregation = new DotAggregation(17L, (short) 2, (short) 1, array);
+
+        DotAggregation restored = VoidMessage.fromBytes(aggregation.asBytes());
+
+        assertEquals(array, restored.getPayload());
+    }
+
+    @Test
+    public void testFrameSerDe() throws Exception {
+        Frame<SkipGramRequestMessage> frame = new Frame<>(119L);
+        for (int i = 0; i < 5; i++)
+            frame.stackMessage(new SkipGramRequestMessage(i, i + 1, new int[] {i, i + 2}, new byte[] {1, 0},
+                            (short) 0, 0.01, 117L));
+
+        // decode from the middle of larger buffer, the way Aeron hands fragments over
+        UnsafeBuffer encoded = frame.asUnsafeBuffer();
+        UnsafeBuffer buffer = new UnsafeBuffer(new byte[encoded.capacity() + 16]);
+        buffer.putBytes(8, encoded, 0, encoded.capacity());
+
+        Frame<SkipGramRequestMessage> restored = VoidMessage.fromBuffer(buffer, 8, encoded.capacity());
+
+        assertEquals(119L, restored.getTaskId());
+        assertEquals(5, restored.size());
+        int cnt = 0;
+        for (SkipGramRequestMessage message : restored) {
+            assertEquals(cnt, message.getW1());
+            assertArrayEquals(new int[] {cnt, cnt + 2}, message.getPoints());
+            cnt++;
+        }
+    }
+
+    @Test
+    public void testJavaSerializedCompatibility() throws Exception {
+        VectorRequestMessage message = new VectorRequestMessage(12);
+
+        // bytes produced with plain Java serialization should still be decoded
+        VectorRequestMessage restored = VoidMessage.fromBytes(SerializationUtils.serialize(message));
+
+        assertEquals(message, restored);
+    }
+}
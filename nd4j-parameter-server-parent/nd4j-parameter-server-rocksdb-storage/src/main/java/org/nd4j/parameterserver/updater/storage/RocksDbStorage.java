@@ -1,41 +1,189 @@
 package org.nd4j.parameterserver.updater.storage;
 
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.nd4j.aeron.ipc.NDArrayMessage;
 import org.nd4j.linalg.api.ndarray.INDArray;
-import org.rocksdb.Options;
-import org.rocksdb.RocksDB;
-import org.rocksdb.RocksDBException;
-import org.rocksdb.RocksIterator;
+import org.rocksdb.*;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
+ * Update storage backed by RocksDB.
+ *
+ * Updates are stored under sequential 4-byte big-endian keys, so key order matches update order,
+ * and ranges of updates can be replayed with single scan. Number of stored updates is restored from
+ * the last key on open, so updates survive restarts.
+ *
+ * In asynchronous mode (default) addUpdate() only serializes update and puts it into bounded queue,
+ * while background thread writes everything queued so far with single WriteBatch (group commit).
+ * Once queue is full, addUpdate() blocks till writer catches up.
+ * Reads always see all updates added before them.
+ *
  * Created by agibsonccc on 12/2/16.
  */
+@Slf4j
 public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
     static {
         // a static method that loads the RocksDB C++ library.
         RocksDB.loadLibrary();
     }
 
+    private static final PendingUpdate POISON = new PendingUpdate(-1, null);
 
+    private final RocksDbStorageConfiguration configuration;
+    private final Options options;
+    private final WriteOptions writeOptions;
     private RocksDB db;
+
+    // number of updates accepted by addUpdate()
     private int size = 0;
+    // number of updates actually written to the database
+    private int committed = 0;
+    private final Object submitLock = new Object();
+    private final Object commitLock = new Object();
+
+    private final ArrayBlockingQueue<PendingUpdate> queue;
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private Thread writer;
+    private volatile boolean closed;
 
     public RocksDbStorage(String dbPath) {
+        this(dbPath, RocksDbStorageConfiguration.builder().build());
+    }
+
+    public RocksDbStorage(@NonNull String dbPath, @NonNull RocksDbStorageConfiguration configuration) {
+        if (configuration.getBatchSize() < 1)
+            throw new IllegalArgumentException("Batch size should be positive value");
+
+        if (configuration.getQueueCapacity() < 1)
+            throw new IllegalArgumentException("Queue capacity should be positive value");
+
+        this.configuration = configuration;
+
         // that determines the behavior of a database.
-        Options options = new Options().setCreateIfMissing(true);
+        options = new Options().setCreateIfMissing(true);
+        writeOptions = new WriteOptions().setSync(configuration.isSync()).setDisableWAL(configuration.isDisableWAL());
         try {
             // a factory method that returns a RocksDB instance
             db = RocksDB.open(options, dbPath);
-            // do something
         } catch (RocksDBException e) {
-            // do some error handling
+            writeOptions.close();
+            options.close();
+            throw new RuntimeException("Unable to open RocksDB at [" + dbPath + "]", e);
+        }
+
+        // restoring number of updates from the last key
+        try (RocksIterator iterator = db.newIterator()) {
+            iterator.seekToLast();
+            if (iterator.isValid())
+                size = indexOf(iterator.key()) + 1;
+        }
+        committed = size;
 
+        if (configuration.isAsynchronous()) {
+            queue = new ArrayBlockingQueue<>(configuration.getQueueCapacity());
+            writer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    write();
+                }
+            });
+            writer.setName("RocksDbStorage writer thread");
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            queue = null;
         }
     }
 
+    private static byte[] keyOf(int index) {
+        return ByteBuffer.allocate(4).putInt(index).array();
+    }
+
+    private static int indexOf(byte[] key) {
+        return ByteBuffer.wrap(key).getInt();
+    }
+
+    /**
+     * This method serializes message directly into array handed over to RocksDB
+     */
+    private static byte[] serialize(NDArrayMessage message) {
+        byte[] data = new byte[NDArrayMessage.byteBufferSizeForMessage(message)];
+        NDArrayMessage.toByteBuffer(message, ByteBuffer.wrap(data).order(ByteOrder.nativeOrder()));
+        return data;
+    }
+
+    private static NDArrayMessage deserialize(byte[] data) {
+        return NDArrayMessage.fromBuffer(new UnsafeBuffer(data), 0);
+    }
+
+    /**
+     * Writer thread loop: everything queued since previous write goes into single WriteBatch
+     */
+    private void write() {
+        List<PendingUpdate> updates = new ArrayList<>(configuration.getBatchSize());
+        boolean stop = false;
+        while (!stop) {
+            updates.clear();
+            try {
+                updates.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(updates, configuration.getBatchSize() - 1);
+
+            int last = -1;
+            try (WriteBatch batch = new WriteBatch()) {
+                for (PendingUpdate update : updates) {
+                    if (update == POISON) {
+                        stop = true;
+                        break;
+                    }
+
+                    batch.put(keyOf(update.index), update.data);
+                    last = update.index;
+                }
+
+                // after failure updates are dropped, so producers aren't blocked forever
+                if (batch.count() > 0 && error.get() == null)
+                    db.write(writeOptions, batch);
+            } catch (Throwable t) {
+                log.error("Failed to write updates", t);
+                error.compareAndSet(null, t);
+            }
+
+            if (last >= 0) {
+                synchronized (commitLock) {
+                    committed = last + 1;
+                    commitLock.notifyAll();
+                }
+            }
+        }
+
+        synchronized (commitLock) {
+            commitLock.notifyAll();
+        }
+    }
+
+    private void checkError() {
+        Throwable t = error.get();
+        if (t != null)
+            throw new RuntimeException("RocksDbStorage writer failed", t);
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("RocksDbStorage was closed");
+    }
+
     /**
      * Add an ndarray to the storage
      *
@@ -43,21 +191,65 @@ public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
      */
     @Override
     public void addUpdate(NDArrayMessage array) {
-        UnsafeBuffer directBuffer = (UnsafeBuffer) NDArrayMessage.toBuffer(array);
-        byte[] data = directBuffer.byteArray();
-        if (data == null) {
-            data = new byte[directBuffer.capacity()];
-            directBuffer.getBytes(0, data, 0, data.length);
+        checkOpen();
+        checkError();
+
+        byte[] data = serialize(array);
+
+        synchronized (submitLock) {
+            // storage might be closed while we were serializing
+            checkOpen();
+
+            if (queue == null) {
+                try {
+                    db.put(writeOptions, keyOf(size), data);
+                } catch (RocksDBException e) {
+                    throw new RuntimeException(e);
+                }
+
+                size++;
+                synchronized (commitLock) {
+                    committed = size;
+                }
+                return;
+            }
+
+            try {
+                // backpressure: this blocks if writer doesn't keep up
+                queue.put(new PendingUpdate(size, data));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+
+            size++;
         }
-        byte[] key = ByteBuffer.allocate(4).putInt(size).array();
-        try {
-            db.put(key, data);
-        } catch (RocksDBException e) {
-            throw new RuntimeException(e);
+    }
+
+    /**
+     * This method blocks till all updates added so far are written to the database
+     */
+    public void flush() {
+        int target;
+        synchronized (submitLock) {
+            target = size;
         }
 
-        size++;
+        awaitCommitted(target);
+        checkError();
+    }
 
+    private void awaitCommitted(int target) {
+        synchronized (commitLock) {
+            while (committed < target && writer != null && writer.isAlive()) {
+                try {
+                    commitLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+        }
     }
 
     /**
@@ -68,7 +260,9 @@ public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
      */
     @Override
     public int numUpdates() {
-        return size;
+        synchronized (submitLock) {
+            return size;
+        }
     }
 
     /**
@@ -76,15 +270,25 @@ public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
      */
     @Override
     public void clear() {
-        RocksIterator iterator = db.newIterator();
-        while (iterator.isValid())
-            try {
-                db.remove(iterator.key());
+        checkOpen();
+
+        synchronized (submitLock) {
+            flush();
+
+            try (RocksIterator iterator = db.newIterator(); WriteBatch batch = new WriteBatch()) {
+                for (iterator.seekToFirst(); iterator.isValid(); iterator.next())
+                    batch.remove(iterator.key());
+
+                db.write(writeOptions, batch);
             } catch (RocksDBException e) {
                 throw new RuntimeException(e);
             }
-        iterator.close();
-        size = 0;
+
+            size = 0;
+            synchronized (commitLock) {
+                committed = 0;
+            }
+        }
     }
 
     /**
@@ -96,20 +300,104 @@ public class RocksDbStorage extends BaseUpdateStorage implements AutoCloseable {
      */
     @Override
     public NDArrayMessage doGetUpdate(int index) {
-        byte[] key = ByteBuffer.allocate(4).putInt(index).array();
+        checkOpen();
+        awaitCommitted(index + 1);
+        checkError();
+
         try {
-            UnsafeBuffer unsafeBuffer = new UnsafeBuffer(db.get(key));
-            return NDArrayMessage.fromBuffer(unsafeBuffer, 0);
+            byte[] data = db.get(keyOf(index));
+            if (data == null)
+                throw new IllegalStateException("Update [" + index + "] wasn't found in database");
+
+            return deserialize(data);
         } catch (RocksDBException e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Close the database
+     * This method passes stored updates within given range to the consumer, in order they were added.
+     * Updates are read with single range scan, so this is the preferred way to recover updates.
+     *
+     * @param from index of the first update, inclusive
+     * @param to index of the last update, exclusive
+     * @param consumer
+     * @return number of updates passed to consumer
+     */
+    public int replay(int from, int to, @NonNull Consumer<NDArrayMessage> consumer) {
+        checkOpen();
+        if (from < 0 || to < from)
+            throw new IllegalArgumentException("Invalid range: [" + from + ", " + to + ")");
+
+        awaitCommitted(to);
+        checkError();
+
+        int cnt = 0;
+        try (RocksIterator iterator = db.newIterator()) {
+            for (iterator.seek(keyOf(from)); iterator.isValid(); iterator.next()) {
+                if (indexOf(iterator.key()) >= to)
+                    break;
+
+                consumer.accept(deserialize(iterator.value()));
+                cnt++;
+            }
+        }
+
+        return cnt;
+    }
+
+    /**
+     * This method returns stored updates within given range, in order they were added
+     *
+     * @param from index of the first update, inclusive
+     * @param to index of the last update, exclusive
+     * @return
+     */
+    public List<NDArrayMessage> getUpdates(int from, int to) {
+        final List<NDArrayMessage> result = new ArrayList<>();
+        replay(from, to, new Consumer<NDArrayMessage>() {
+            @Override
+            public void accept(NDArrayMessage message) {
+                result.add(message);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Close the database. All updates added before are written first.
      */
     @Override
     public void close() {
+        synchronized (submitLock) {
+            if (closed)
+                return;
+
+            closed = true;
+        }
+
+        if (writer != null) {
+            try {
+                queue.put(POISON);
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writer.interrupt();
+            }
+        }
+
         db.close();
+        writeOptions.close();
+        options.close();
+    }
+
+    private static class PendingUpdate {
+        private final int index;
+        private final byte[] data;
+
+        private PendingUpdate(int index, byte[] data) {
+            this.index = index;
+            this.data = data;
+        }
     }
 }
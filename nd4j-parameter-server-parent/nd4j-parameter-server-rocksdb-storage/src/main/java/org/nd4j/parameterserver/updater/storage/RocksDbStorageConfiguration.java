@@ -0,0 +1,45 @@
+package org.nd4j.parameterserver.updater.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Configuration bean for {@link RocksDbStorage}
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RocksDbStorageConfiguration implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * If true, updates are written by background thread, and addUpdate() only waits if queue is full.
+     * If false, every update is written to the database within addUpdate() call.
+     */
+    @Builder.Default private boolean asynchronous = true;
+
+    /**
+     * Max number of updates written to the database within single WriteBatch
+     */
+    @Builder.Default private int batchSize = 128;
+
+    /**
+     * Max number of updates waiting to be written. Once it's reached, addUpdate() blocks till writer catches up.
+     */
+    @Builder.Default private int queueCapacity = 1024;
+
+    /**
+     * If true, each write waits for fsync of the write-ahead log
+     */
+    @Builder.Default private boolean sync = false;
+
+    /**
+     * If true, write-ahead log is disabled. Updates not yet flushed to SST files are lost on crash.
+     */
+    @Builder.Default private boolean disableWAL = false;
+}
@@ -1,15 +1,21 @@
 package org.nd4j.parameterserver.updater.storage;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.nd4j.aeron.ipc.NDArrayMessage;
 import org.nd4j.linalg.factory.Nd4j;
 
+import java.util.List;
+
 import static junit.framework.TestCase.assertEquals;
 
 /**
  * Created by agibsonccc on 12/2/16.
  */
 public class UpdaterStorageTests {
+    @Rule
+    public TemporaryFolder testDir = new TemporaryFolder();
 
     @Test
     public void testInMemory() {
@@ -22,4 +28,51 @@ public class UpdaterStorageTests {
         assertEquals(0, updateStorage.numUpdates());
         updateStorage.close();
     }
+
+    @Test
+    public void testBatchedReplay() throws Exception {
+        String path = testDir.newFolder().getAbsolutePath();
+        RocksDbStorageConfiguration configuration =
+                        RocksDbStorageConfiguration.builder().batchSize(16).queueCapacity(8).build();
+
+        RocksDbStorage storage = new RocksDbStorage(path, configuration);
+        for (int i = 0; i < 100; i++)
+            storage.addUpdate(NDArrayMessage.wholeArrayUpdate(Nd4j.scalar((double) i)));
+
+        assertEquals(100, storage.numUpdates());
+        assertEquals(Nd4j.scalar(42.0), storage.getUpdate(42).getArr());
+
+        List<NDArrayMessage> updates = storage.getUpdates(10, 20);
+        assertEquals(10, updates.size());
+        for (int i = 0; i < updates.size(); i++)
+            assertEquals(Nd4j.scalar((double) (i + 10)), updates.get(i).getArr());
+
+        storage.close();
+
+        // updates should survive restart
+        storage = new RocksDbStorage(path, configuration);
+        assertEquals(100, storage.numUpdates());
+        assertEquals(Nd4j.scalar(99.0), storage.getUpdate(99).getArr());
+
+        storage.addUpdate(NDArrayMessage.wholeArrayUpdate(Nd4j.scalar(100.0)));
+        assertEquals(11, storage.getUpdates(90, 200).size());
+
+        storage.clear();
+        assertEquals(0, storage.numUpdates());
+        assertEquals(0, storage.getUpdates(0, 200).size());
+        storage.close();
+    }
+
+    @Test
+    public void testSynchronous() throws Exception {
+        RocksDbStorage storage = new RocksDbStorage(testDir.newFolder().getAbsolutePath(),
+                        RocksDbStorageConfiguration.builder().asynchronous(false).build());
+
+        for (int i = 0; i < 10; i++)
+            storage.addUpdate(NDArrayMessage.wholeArrayUpdate(Nd4j.scalar((double) i)));
+
+        assertEquals(10, storage.numUpdates());
+        assertEquals(Nd4j.scalar(5.0), storage.getUpdate(5).getArr());
+        storage.close();
+    }
 }
@@ -8,8 +8,13 @@ import org.nd4j.linalg.factory.Nd4jBackend;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * Single shot timing without warmup or forking.
+ *
+ * @deprecated use the JMH benchmarks in {@link org.nd4j.linalg.benchmark.jmh}
+ * run through {@link org.nd4j.linalg.benchmark.jmh.JmhBenchmarkRunnerApp}
  * @author Adam Gibson
  */
+@Deprecated
 public abstract class BaseBenchmarkPerformer implements BenchMarkPerformer {
     protected int nTimes;
     protected long averageTime;
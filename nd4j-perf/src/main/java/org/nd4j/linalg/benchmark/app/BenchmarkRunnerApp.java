@@ -19,8 +19,10 @@ import java.util.concurrent.TimeUnit;
  *
  * You can specify the number of trials to run for each benchmark.
  *
+ * @deprecated use {@link org.nd4j.linalg.benchmark.jmh.JmhBenchmarkRunnerApp}
  * @author Adam Gibson
  */
+@Deprecated
 public class BenchmarkRunnerApp {
     @Option(name = "--nTrials", usage = "Number of trials to run", aliases = "-n")
     private int nTrials = 1000;
@@ -0,0 +1,75 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Common JMH configuration for all nd4j benchmarks.
+ *
+ * Every benchmark is parameterized by the data type
+ * and the array ordering. The data type is set on the
+ * runtime before {@link #init()} is called, so subclasses
+ * should allocate all of their arrays in there.
+ *
+ * State is per thread, so benchmarks run with several threads
+ * never share (and mutate) the same arrays.
+ * Benchmarks operating in place should restore their arrays in {@link #reset()},
+ * so values don't drift towards Inf or denormals over a long run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public abstract class BaseNd4jBenchmark {
+
+    @Param({"FLOAT", "DOUBLE"})
+    protected String dataType;
+
+    @Param({"c", "f"})
+    protected char order;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        Nd4j.setDataType(DataBuffer.Type.valueOf(dataType));
+        init();
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        reset();
+    }
+
+    /**
+     * Allocate the arrays used by the benchmark.
+     * Called once per trial, after the data type has been set.
+     */
+    protected abstract void init();
+
+    /**
+     * Restore the state modified by the benchmark methods.
+     * Called before every iteration, outside of the measured time.
+     */
+    protected void reset() {
+        //no-op by default
+    }
+
+    /**
+     * Parse a shape of the form "rows x columns"
+     * as used by the shape parameters
+     * @param shape the shape to parse
+     * @return the shape as an int array
+     */
+    protected static int[] parseShape(String shape) {
+        String[] split = shape.split("x");
+        int[] ret = new int[split.length];
+        for (int i = 0; i < split.length; i++)
+            ret[i] = Integer.parseInt(split[i].trim());
+        return ret;
+    }
+
+}
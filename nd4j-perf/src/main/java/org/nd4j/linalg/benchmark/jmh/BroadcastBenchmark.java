@@ -0,0 +1,50 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Row and column vector broadcasts.
+ */
+public class BroadcastBenchmark extends BaseNd4jBenchmark {
+
+    @Param({"1000x1000", "100x10000", "10000x100"})
+    protected String shape;
+
+    protected INDArray initial;
+    protected INDArray arr;
+    protected INDArray row;
+    protected INDArray column;
+
+    @Override
+    protected void init() {
+        int[] parsed = parseShape(shape);
+        initial = Nd4j.rand(order, parsed);
+        arr = initial.dup(order);
+        row = Nd4j.rand(1, parsed[1]);
+        column = Nd4j.rand(parsed[0], 1);
+    }
+
+    @Override
+    protected void reset() {
+        arr.assign(initial);
+    }
+
+    @Benchmark
+    public INDArray addiRowVector() {
+        return arr.addiRowVector(row);
+    }
+
+    @Benchmark
+    public INDArray addiColumnVector() {
+        return arr.addiColumnVector(column);
+    }
+
+    @Benchmark
+    public INDArray muliRowVector() {
+        return arr.muliRowVector(row);
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Array allocation and duplication.
+ */
+public class CreationBenchmark extends BaseNd4jBenchmark {
+
+    @Param({"10x10", "1000x1000", "32x3x64x64"})
+    protected String shape;
+
+    protected int[] parsedShape;
+    protected INDArray arr;
+
+    @Override
+    protected void init() {
+        parsedShape = parseShape(shape);
+        arr = Nd4j.rand(order, parsedShape);
+    }
+
+    @Benchmark
+    public INDArray create() {
+        return Nd4j.create(parsedShape, order);
+    }
+
+    @Benchmark
+    public INDArray createUninitialized() {
+        return Nd4j.createUninitialized(parsedShape, order);
+    }
+
+    @Benchmark
+    public INDArray dup() {
+        return arr.dup();
+    }
+
+    @Benchmark
+    public INDArray dupOtherOrder() {
+        return arr.dup(order == 'c' ? 'f' : 'c');
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Matrix multiply benchmarks: gemm into a preallocated
+ * result as well as mmul allocating its result.
+ */
+public class GemmBenchmark extends BaseNd4jBenchmark {
+
+    @Param({"64", "256", "1024"})
+    protected int size;
+
+    protected INDArray a;
+    protected INDArray b;
+    protected INDArray c;
+
+    @Override
+    protected void init() {
+        a = Nd4j.rand(order, size, size);
+        b = Nd4j.rand(order, size, size);
+        //gemm requires the result to be f ordered
+        c = Nd4j.create(new int[] {size, size}, 'f');
+    }
+
+    @Benchmark
+    public INDArray gemm() {
+        return Nd4j.gemm(a, b, c, false, false, 1.0, 0.0);
+    }
+
+    @Benchmark
+    public INDArray gemmTransposed() {
+        return Nd4j.gemm(a, b, c, true, false, 1.0, 0.0);
+    }
+
+    @Benchmark
+    public INDArray mmul() {
+        return a.mmul(b);
+    }
+
+}
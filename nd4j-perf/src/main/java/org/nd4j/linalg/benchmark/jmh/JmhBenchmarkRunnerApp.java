@@ -0,0 +1,85 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.kohsuke.args4j.CmdLineException;
+import org.kohsuke.args4j.CmdLineParser;
+import org.kohsuke.args4j.Option;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Runs the JMH benchmarks in this package once per requested
+ * thread count and writes the results as JSON,
+ * one file per thread count, so runs can be compared
+ * across releases.
+ *
+ * The backend to benchmark must be on the class path,
+ * the forked JVMs inherit it.
+ *
+ * Example:
+ * <pre>
+ *     java -cp nd4j-perf.jar:nd4j-native.jar org.nd4j.linalg.benchmark.jmh.JmhBenchmarkRunnerApp \
+ *          --include GemmBenchmark --threads 1,4 --dataType FLOAT --output results
+ * </pre>
+ */
+public class JmhBenchmarkRunnerApp {
+    @Option(name = "--include", usage = "Regular expression of the benchmarks to run", aliases = "-i")
+    private String include = JmhBenchmarkRunnerApp.class.getPackage().getName() + ".*Benchmark";
+    @Option(name = "--threads", usage = "Comma separated list of thread counts to run with", aliases = "-t")
+    private String threads = "1";
+    @Option(name = "--forks", usage = "Number of forks per benchmark", aliases = "-f")
+    private int forks = 1;
+    @Option(name = "--warmupIterations", usage = "Number of warmup iterations", aliases = "-wi")
+    private int warmupIterations = 5;
+    @Option(name = "--measurementIterations", usage = "Number of measurement iterations", aliases = "-mi")
+    private int measurementIterations = 10;
+    @Option(name = "--dataType", usage = "Comma separated list of data types (FLOAT,DOUBLE,HALF)", aliases = "-d")
+    private String dataType;
+    @Option(name = "--order", usage = "Comma separated list of orderings (c,f)", aliases = "-o")
+    private String order;
+    @Option(name = "--output", usage = "Directory to write the json results to", aliases = "-out")
+    private String outputDirectory = ".";
+
+    /**
+     * Do the main method
+     * @param args the arguments for the method
+     * @throws Exception if an exception is thrown
+     */
+    public void doMain(String[] args) throws Exception {
+        CmdLineParser parser = new CmdLineParser(this);
+        try {
+            parser.parseArgument(args);
+        } catch (CmdLineException e) {
+            System.err.println(e.getMessage());
+            parser.printUsage(System.err);
+            return;
+        }
+
+        File outputDir = new File(outputDirectory);
+        if (!outputDir.exists() && !outputDir.mkdirs())
+            throw new IllegalStateException("Unable to create output directory " + outputDir.getAbsolutePath());
+
+        for (String threadCount : threads.split(",")) {
+            int nThreads = Integer.parseInt(threadCount.trim());
+            File result = new File(outputDir, "nd4j-benchmarks-threads-" + nThreads + ".json");
+            ChainedOptionsBuilder builder = new OptionsBuilder().include(include).forks(forks)
+                            .warmupIterations(warmupIterations).measurementIterations(measurementIterations)
+                            .threads(nThreads).resultFormat(ResultFormatType.JSON).result(result.getAbsolutePath());
+            if (dataType != null)
+                builder = builder.param("dataType", dataType.split(","));
+            if (order != null)
+                builder = builder.param("order", order.split(","));
+
+            new Runner(builder.build()).run();
+            System.out.println("Wrote results for " + nThreads + " thread(s) to " + result.getAbsolutePath());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new JmhBenchmarkRunnerApp().doMain(args);
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Accumulations along a dimension and over the whole array.
+ */
+public class ReductionBenchmark extends BaseNd4jBenchmark {
+
+    @Param({"1000x1000", "100x10000", "10000x100"})
+    protected String shape;
+
+    @Param({"0", "1"})
+    protected int dimension;
+
+    protected INDArray arr;
+
+    @Override
+    protected void init() {
+        arr = Nd4j.rand(order, parseShape(shape));
+    }
+
+    @Benchmark
+    public INDArray sum() {
+        return arr.sum(dimension);
+    }
+
+    @Benchmark
+    public INDArray mean() {
+        return arr.mean(dimension);
+    }
+
+    @Benchmark
+    public INDArray max() {
+        return arr.max(dimension);
+    }
+
+    @Benchmark
+    public INDArray std() {
+        return arr.std(dimension);
+    }
+
+    @Benchmark
+    public double sumAll() {
+        return arr.sumNumber().doubleValue();
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.serde.binary.BinarySerde;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Round trips through {@link BinarySerde} and
+ * the stream based {@link Nd4j#write(java.io.OutputStream, INDArray)}.
+ */
+public class SerializationBenchmark extends BaseNd4jBenchmark {
+
+    @Param({"10x10", "1000x1000"})
+    protected String shape;
+
+    protected INDArray arr;
+    protected ByteBuffer serialized;
+    protected byte[] streamSerialized;
+
+    @Override
+    protected void init() {
+        arr = Nd4j.rand(order, parseShape(shape));
+        serialized = BinarySerde.toByteBuffer(arr);
+        try {
+            streamSerialized = write();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer binarySerdeWrite() {
+        return BinarySerde.toByteBuffer(arr);
+    }
+
+    @Benchmark
+    public INDArray binarySerdeRead() {
+        //duplicate so the shared buffer position is never modified
+        return BinarySerde.toArray(serialized.duplicate());
+    }
+
+    @Benchmark
+    public byte[] streamWrite() throws IOException {
+        return write();
+    }
+
+    @Benchmark
+    public INDArray streamRead() throws IOException {
+        return Nd4j.read(new ByteArrayInputStream(streamSerialized));
+    }
+
+    private byte[] write() throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Nd4j.write(bos, arr);
+        return bos.toByteArray();
+    }
+
+}
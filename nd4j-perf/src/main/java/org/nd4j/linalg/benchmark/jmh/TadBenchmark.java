@@ -0,0 +1,43 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Ops that are dominated by tensor along dimension
+ * lookups: index accumulations along a dimension and
+ * iterating over all tensors of a higher rank array.
+ */
+public class TadBenchmark extends BaseNd4jBenchmark {
+
+    @Param({"32x128x128", "128x32x32", "1024x8x8"})
+    protected String shape;
+
+    protected INDArray arr;
+
+    @Override
+    protected void init() {
+        arr = Nd4j.rand(order, parseShape(shape));
+    }
+
+    @Benchmark
+    public INDArray argMax() {
+        return Nd4j.argMax(arr, 1, 2);
+    }
+
+    @Benchmark
+    public INDArray normMax() {
+        return arr.normmax(1, 2);
+    }
+
+    @Benchmark
+    public void tensorAlongDimension(Blackhole blackhole) {
+        int tads = arr.tensorssAlongDimension(1, 2);
+        for (int i = 0; i < tads; i++)
+            blackhole.consume(arr.tensorAlongDimension(i, 1, 2));
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.ops.transforms.Transforms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Scalar, pairwise and element wise transform ops.
+ */
+public class TransformBenchmark extends BaseNd4jBenchmark {
+
+    @Param({"1000x1000", "100x100000"})
+    protected String shape;
+
+    protected INDArray initial;
+    protected INDArray arr;
+    protected INDArray other;
+
+    @Override
+    protected void init() {
+        initial = Nd4j.rand(order, parseShape(shape));
+        arr = initial.dup(order);
+        other = Nd4j.rand(order, parseShape(shape));
+    }
+
+    @Override
+    protected void reset() {
+        arr.assign(initial);
+    }
+
+    @Benchmark
+    public INDArray scalarAdd() {
+        return arr.addi(1.0);
+    }
+
+    @Benchmark
+    public INDArray scalarMul() {
+        return arr.muli(1.0);
+    }
+
+    @Benchmark
+    public INDArray pairwiseAdd() {
+        return arr.addi(other);
+    }
+
+    @Benchmark
+    public INDArray sigmoid() {
+        return Transforms.sigmoid(arr, false);
+    }
+
+    @Benchmark
+    public INDArray tanh() {
+        return Transforms.tanh(arr, false);
+    }
+
+    @Benchmark
+    public INDArray exp() {
+        return Transforms.exp(arr, true);
+    }
+
+}
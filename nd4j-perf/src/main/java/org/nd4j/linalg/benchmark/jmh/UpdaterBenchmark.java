@@ -0,0 +1,89 @@
+package org.nd4j.linalg.benchmark.jmh;
+
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.learning.FusedUpdaters;
+import org.nd4j.linalg.learning.GradientUpdater;
+import org.nd4j.linalg.learning.config.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Single updater step, fused kernels vs generic op-by-op implementations.
+ */
+public class UpdaterBenchmark extends BaseNd4jBenchmark {
+
+    @Param({"Adam", "Nadam", "AdaMax", "RmsProp", "AdaDelta", "AdaGrad", "Nesterovs"})
+    protected String updater;
+
+    @Param({"1000x1000", "10000x1000"})
+    protected String shape;
+
+    @Param({"true", "false"})
+    protected boolean fused;
+
+    protected GradientUpdater gradientUpdater;
+    protected INDArray state;
+    protected INDArray initialGradient;
+    protected INDArray gradient;
+    protected int iteration;
+    protected boolean wasFused;
+
+    @Override
+    protected void init() {
+        wasFused = FusedUpdaters.isEnabled();
+        FusedUpdaters.setEnabled(fused);
+
+        int[] gradientShape = parseShape(shape);
+        IUpdater config = createConfig(updater);
+        state = Nd4j.zeros(1, (int) config.stateSize(gradientShape[0] * gradientShape[1]));
+
+        gradientUpdater = config.instantiate(state, true);
+        gradientUpdater.setStateViewArray(state, gradientShape, order, true);
+        initialGradient = Nd4j.rand(order, gradientShape);
+        gradient = initialGradient.dup(order);
+    }
+
+    @Override
+    protected void reset() {
+        //updaters modify both the gradient and their state in place
+        state.assign(0.0);
+        gradient.assign(initialGradient);
+        iteration = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FusedUpdaters.setEnabled(wasFused);
+    }
+
+    protected static IUpdater createConfig(String name) {
+        switch (name) {
+            case "Adam":
+                return new Adam();
+            case "Nadam":
+                return new Nadam();
+            case "AdaMax":
+                return new AdaMax();
+            case "RmsProp":
+                return new RmsProp();
+            case "AdaDelta":
+                return new AdaDelta();
+            case "AdaGrad":
+                return new AdaGrad();
+            case "Nesterovs":
+                return new Nesterovs();
+            default:
+                throw new IllegalArgumentException("Unknown updater: " + name);
+        }
+    }
+
+    @Benchmark
+    public INDArray applyUpdater() {
+        gradientUpdater.applyUpdater(gradient, iteration++, 0);
+        return gradient;
+    }
+
+}
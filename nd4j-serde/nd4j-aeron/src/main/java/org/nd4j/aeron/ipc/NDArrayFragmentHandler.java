@@ -5,7 +5,7 @@ import io.aeron.logbuffer.Header;
 import lombok.extern.slf4j.Slf4j;
 import org.agrona.DirectBuffer;
 import org.nd4j.aeron.ipc.chunk.ChunkAccumulator;
-import org.nd4j.aeron.ipc.chunk.InMemoryChunkAccumulator;
+import org.nd4j.aeron.ipc.chunk.StreamingChunkAccumulator;
 import org.nd4j.aeron.ipc.chunk.NDArrayMessageChunk;
 
 import java.nio.ByteBuffer;
@@ -21,10 +21,15 @@ import java.nio.ByteOrder;
 @Slf4j
 public class NDArrayFragmentHandler implements FragmentHandler {
     private NDArrayCallback ndArrayCallback;
-    private ChunkAccumulator chunkAccumulator = new InMemoryChunkAccumulator();
+    private ChunkAccumulator chunkAccumulator;
 
     public NDArrayFragmentHandler(NDArrayCallback ndArrayCallback) {
+        this(ndArrayCallback, new StreamingChunkAccumulator());
+    }
+
+    public NDArrayFragmentHandler(NDArrayCallback ndArrayCallback, ChunkAccumulator chunkAccumulator) {
         this.ndArrayCallback = ndArrayCallback;
+        this.chunkAccumulator = chunkAccumulator;
     }
 
     /**
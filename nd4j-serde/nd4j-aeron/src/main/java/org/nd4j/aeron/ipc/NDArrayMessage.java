@@ -274,6 +274,25 @@ public class NDArrayMessage implements Serializable {
     public static DirectBuffer toBuffer(NDArrayMessage message) {
         ByteBuffer byteBuffer =
                         ByteBuffer.allocateDirect(byteBufferSizeForMessage(message)).order(ByteOrder.nativeOrder());
+        toByteBuffer(message, byteBuffer);
+
+        //rewind the buffer before putting it in to the unsafe buffer
+        //note that we set rewind to false in the do byte buffer put methods
+        byteBuffer.rewind();
+
+        return new UnsafeBuffer(byteBuffer);
+    }
+
+    /**
+     * Write a message to the given byte buffer, starting at its current position.
+     * The buffer may be either direct or heap based, and should have at least
+     * {@link #byteBufferSizeForMessage(NDArrayMessage)} bytes remaining.
+     * See {@link NDArrayMessage#fromBuffer(DirectBuffer, int)}
+     * for a description of the format for the buffer
+     * @param message the message to write
+     * @param byteBuffer the buffer to write to (native byte order is expected)
+     */
+    public static void toByteBuffer(NDArrayMessage message, ByteBuffer byteBuffer) {
         //declare message opType
         byteBuffer.putInt(MessageType.WHOLE.ordinal());
         //perform the ndarray put on the
@@ -292,12 +311,6 @@ public class NDArrayMessage implements Serializable {
         for (int i = 0; i < message.getDimensions().length; i++) {
             byteBuffer.putInt(message.getDimensions()[i]);
         }
-
-        //rewind the buffer before putting it in to the unsafe buffer
-        //note that we set rewind to false in the do byte buffer put methods
-        byteBuffer.rewind();
-
-        return new UnsafeBuffer(byteBuffer);
     }
 
     /**
@@ -342,4 +355,33 @@ public class NDArrayMessage implements Serializable {
         return NDArrayMessage.builder().sent(time).arr(arr).index(index).dimensions(dimensions).build();
     }
 
+    /**
+     * Convert a direct byte buffer to an ndarray message,
+     * starting at the current position of the buffer.
+     * The format is the same as for {@link NDArrayMessage#fromBuffer(DirectBuffer, int)},
+     * but the array wraps the buffer memory instead of copying it
+     * (see {@link AeronNDArraySerde#toArrayView(ByteBuffer)}).
+     * The array's DataBuffer keeps a reference to the given buffer, so callers don't have to retain it.
+     * Compressed arrays are decompressed as usual.
+     *
+     * @param buffer the buffer to convert (message opType is expected at the current position)
+     * @return the ndarray message backed by this buffer
+     */
+    public static NDArrayMessage fromBufferView(ByteBuffer buffer) {
+        ByteBuffer rest = buffer.order(ByteOrder.nativeOrder());
+        //skip the message opType
+        rest.getInt();
+        INDArray arr = AeronNDArraySerde.toArrayView(rest);
+        Nd4j.getCompressor().decompressi(arr);
+        long time = rest.getLong();
+        long index = rest.getLong();
+        int dimensionLength = rest.getInt();
+        if (dimensionLength <= 0)
+            throw new IllegalArgumentException("Invalid dimension length " + dimensionLength);
+        int[] dimensions = new int[dimensionLength];
+        for (int i = 0; i < dimensionLength; i++)
+            dimensions[i] = rest.getInt();
+        return NDArrayMessage.builder().sent(time).arr(arr).index(index).dimensions(dimensions).build();
+    }
+
 }
@@ -0,0 +1,296 @@
+package org.nd4j.aeron.ipc.chunk;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.nd4j.aeron.ipc.NDArrayMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chunk accumulator that writes each arriving chunk straight into its offset
+ * within a preallocated off-heap destination buffer.
+ *
+ * Unlike {@link InMemoryChunkAccumulator}, chunks aren't stored: the chunk data is copied once,
+ * as soon as it arrives, so the fragment buffer can be reused right away. Reassembled message
+ * then wraps the destination buffer, without any additional copies: its DataBuffer holds a reference
+ * to the destination buffer, so memory stays valid for as long as the array is reachable.
+ *
+ * Incomplete messages are evicted once they weren't updated for the given timeout,
+ * and total size of destination buffers is bounded by the given memory budget:
+ * if the new message doesn't fit, expired and then the oldest incomplete messages are evicted.
+ */
+@Slf4j
+public class StreamingChunkAccumulator implements ChunkAccumulator {
+    public static final long DEFAULT_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+    public static final long DEFAULT_MAX_BYTES = 1024L * 1024L * 1024L;
+
+    private final Map<String, PendingMessage> messages = new ConcurrentHashMap<>();
+    private final AtomicLong reservedBytes = new AtomicLong(0);
+    private final AtomicLong evictedMessages = new AtomicLong(0);
+
+    @Getter
+    private final long timeoutMillis;
+    @Getter
+    private final long maxBytes;
+
+    private volatile long lastEviction = System.currentTimeMillis();
+
+    public StreamingChunkAccumulator() {
+        this(DEFAULT_TIMEOUT_MS, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param timeoutMillis incomplete messages that weren't updated for that long will be evicted
+     * @param maxBytes maximal total size of destination buffers for incomplete messages
+     */
+    public StreamingChunkAccumulator(long timeoutMillis, long maxBytes) {
+        if (timeoutMillis <= 0)
+            throw new IllegalArgumentException("Timeout should be positive value");
+
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("Memory budget should be positive value");
+
+        this.timeoutMillis = timeoutMillis;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int numChunksSoFar(String id) {
+        PendingMessage message = messages.get(id);
+        return message == null ? 0 : message.getNumReceived();
+    }
+
+    @Override
+    public boolean allPresent(String id) {
+        PendingMessage message = messages.get(id);
+        return message != null && message.isComplete();
+    }
+
+    /**
+     * Reassemble an ndarray message from its destination buffer.
+     *
+     * PLEASE NOTE: the array of returned message wraps the destination buffer, no copies are made.
+     * Accumulator drops the buffer here, and from now on it's kept alive by the array's DataBuffer only
+     *
+     * @param id the id to reassemble
+     * @return the reassembled message
+     */
+    @Override
+    public NDArrayMessage reassemble(String id) {
+        PendingMessage message = messages.get(id);
+        if (message == null)
+            throw new IllegalStateException("Unable to reassemble message " + id + ": no chunks were received");
+
+        if (!message.isComplete())
+            throw new IllegalStateException("Unable to reassemble message chunk " + id + " missing "
+                            + (message.getNumChunks() - message.getNumReceived()) + " chunks");
+
+        release(id, message);
+
+        ByteBuffer buffer = message.getDestination().duplicate().order(ByteOrder.nativeOrder());
+        buffer.position(0);
+        return NDArrayMessage.fromBufferView(buffer);
+    }
+
+    /**
+     * Copy chunk data into its position within destination buffer.
+     * Destination buffer is allocated on first chunk of the message.
+     *
+     * @param chunk the chunk to accumulate
+     */
+    @Override
+    public void accumulateChunk(NDArrayMessageChunk chunk) {
+        String id = chunk.getId();
+        if (chunk.getChunkIndex() < 0 || chunk.getChunkIndex() >= chunk.getNumChunks())
+            throw new IllegalStateException("Chunk index " + chunk.getChunkIndex() + " is out of range for "
+                            + chunk.getNumChunks() + " chunks, message " + id);
+
+        long now = System.currentTimeMillis();
+        if (now - lastEviction > timeoutMillis / 2)
+            evictExpired(now);
+
+        PendingMessage message = messages.get(id);
+        if (message == null) {
+            message = allocate(chunk, now);
+            if (message == null)
+                return;
+        }
+
+        if (!message.write(chunk, now))
+            log.debug("Skipping duplicate chunk {} for id {}", chunk.getChunkIndex(), id);
+    }
+
+    /**
+     * This method evicts all incomplete messages that weren't updated within timeout
+     *
+     * @return number of evicted messages
+     */
+    public int evictExpired() {
+        return evictExpired(System.currentTimeMillis());
+    }
+
+    protected int evictExpired(long now) {
+        lastEviction = now;
+        int cnt = 0;
+        for (Map.Entry<String, PendingMessage> entry : messages.entrySet()) {
+            if (now - entry.getValue().getLastUpdate() > timeoutMillis && release(entry.getKey(), entry.getValue())) {
+                log.warn("Evicting incomplete message {}: {} of {} chunks received", entry.getKey(),
+                                entry.getValue().getNumReceived(), entry.getValue().getNumChunks());
+                evictedMessages.incrementAndGet();
+                cnt++;
+            }
+        }
+
+        return cnt;
+    }
+
+    /**
+     * This method returns number of bytes currently reserved for incomplete messages
+     */
+    public long getReservedBytes() {
+        return reservedBytes.get();
+    }
+
+    /**
+     * This method returns number of incomplete messages evicted so far
+     */
+    public long getEvictedMessages() {
+        return evictedMessages.get();
+    }
+
+    /**
+     * This method returns number of messages being accumulated at this moment
+     */
+    public int getNumberOfPendingMessages() {
+        return messages.size();
+    }
+
+    protected synchronized PendingMessage allocate(NDArrayMessageChunk chunk, long now) {
+        // other thread might have allocated it already
+        PendingMessage message = messages.get(chunk.getId());
+        if (message != null)
+            return message;
+
+        long size = (long) chunk.getChunkSize() * chunk.getNumChunks();
+        if (size > Integer.MAX_VALUE || size > maxBytes) {
+            log.warn("Dropping message {}: {} bytes exceed memory budget of {} bytes", chunk.getId(), size, maxBytes);
+            return null;
+        }
+
+        if (reservedBytes.get() + size > maxBytes)
+            evictExpired(now);
+
+        while (reservedBytes.get() + size > maxBytes && evictOldest())
+            evictedMessages.incrementAndGet();
+
+        if (reservedBytes.get() + size > maxBytes) {
+            log.warn("Dropping message {}: memory budget of {} bytes is exhausted", chunk.getId(), maxBytes);
+            return null;
+        }
+
+        message = new PendingMessage(chunk.getChunkSize(), chunk.getNumChunks(), now);
+        reservedBytes.addAndGet(size);
+        messages.put(chunk.getId(), message);
+
+        return message;
+    }
+
+    protected boolean evictOldest() {
+        String oldestId = null;
+        PendingMessage oldest = null;
+        for (Map.Entry<String, PendingMessage> entry : messages.entrySet()) {
+            if (entry.getValue().isComplete())
+                continue;
+
+            if (oldest == null || entry.getValue().getLastUpdate() < oldest.getLastUpdate()) {
+                oldestId = entry.getKey();
+                oldest = entry.getValue();
+            }
+        }
+
+        if (oldest == null)
+            return false;
+
+        log.warn("Evicting incomplete message {} due to memory budget: {} of {} chunks received", oldestId,
+                        oldest.getNumReceived(), oldest.getNumChunks());
+        release(oldestId, oldest);
+        return true;
+    }
+
+    protected boolean release(String id, PendingMessage message) {
+        if (messages.remove(id, message)) {
+            reservedBytes.addAndGet(-message.getDestination().capacity());
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Destination buffer for one message, along with received chunks bookkeeping
+     */
+    protected static class PendingMessage {
+        @Getter
+        private final ByteBuffer destination;
+        @Getter
+        private final int chunkSize;
+        @Getter
+        private final int numChunks;
+        private final boolean[] received;
+        private int numReceived;
+        private volatile long lastUpdate;
+
+        protected PendingMessage(int chunkSize, int numChunks, long now) {
+            this.destination = ByteBuffer.allocateDirect(chunkSize * numChunks).order(ByteOrder.nativeOrder());
+            this.chunkSize = chunkSize;
+            this.numChunks = numChunks;
+            this.received = new boolean[numChunks];
+            this.lastUpdate = now;
+        }
+
+        /**
+         * This method copies chunk data into destination buffer
+         *
+         * @return false if this chunk was received before
+         */
+        protected synchronized boolean write(NDArrayMessageChunk chunk, long now) {
+            if (chunk.getChunkSize() != chunkSize || chunk.getNumChunks() != numChunks)
+                throw new IllegalStateException("Chunk " + chunk.getChunkIndex() + " of message " + chunk.getId()
+                                + " doesn't match the message layout");
+
+            int index = chunk.getChunkIndex();
+            if (received[index])
+                return false;
+
+            ByteBuffer source = chunk.getData().duplicate();
+            if (source.remaining() > chunkSize)
+                source.limit(source.position() + chunkSize);
+
+            ByteBuffer target = destination.duplicate();
+            target.position(index * chunkSize);
+            target.put(source);
+
+            received[index] = true;
+            numReceived++;
+            lastUpdate = now;
+            return true;
+        }
+
+        protected synchronized int getNumReceived() {
+            return numReceived;
+        }
+
+        protected synchronized boolean isComplete() {
+            return numReceived == numChunks;
+        }
+
+        protected long getLastUpdate() {
+            return lastUpdate;
+        }
+    }
+}
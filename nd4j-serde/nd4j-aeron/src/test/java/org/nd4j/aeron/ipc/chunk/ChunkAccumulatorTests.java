@@ -2,9 +2,14 @@ package org.nd4j.aeron.ipc.chunk;
 
 import org.junit.Test;
 import org.nd4j.aeron.ipc.NDArrayMessage;
+import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 
+import java.nio.ByteBuffer;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by agibsonccc on 11/20/16.
@@ -25,4 +30,87 @@ public class ChunkAccumulatorTests {
         assertEquals(message, message1);
     }
 
+    @Test
+    public void testStreamingAccumulator() {
+        StreamingChunkAccumulator chunkAccumulator = new StreamingChunkAccumulator();
+        NDArrayMessage message = NDArrayMessage.wholeArrayUpdate(Nd4j.linspace(1, 1000, 1000));
+        NDArrayMessageChunk[] chunks = NDArrayMessage.chunks(message, 128);
+        String id = chunks[0].getId();
+
+        // out-of-order delivery, with duplicate chunk
+        for (int i = chunks.length - 1; i >= 0; i--) {
+            chunkAccumulator.accumulateChunk(chunks[i]);
+            assertFalse(i > 0 && chunkAccumulator.allPresent(id));
+        }
+        chunkAccumulator.accumulateChunk(chunks[3]);
+
+        assertEquals(chunks.length, chunkAccumulator.numChunksSoFar(id));
+        assertTrue(chunkAccumulator.allPresent(id));
+
+        NDArrayMessage message1 = chunkAccumulator.reassemble(id);
+        assertEquals(message, message1);
+        assertEquals(0, chunkAccumulator.getReservedBytes());
+        assertEquals(0, chunkAccumulator.getNumberOfPendingMessages());
+    }
+
+    @Test
+    public void testStreamingAccumulatorAfterGc() throws Exception {
+        INDArray array = reassembleStreaming(Nd4j.linspace(1, 10000, 10000));
+
+        // accumulator and destination buffer aren't referenced by anything but the array itself
+        for (int e = 0; e < 10; e++) {
+            System.gc();
+            // reuse freed memory, if any
+            ByteBuffer.allocateDirect(1024 * 1024).putInt(0, e);
+            Thread.sleep(20);
+        }
+
+        assertEquals(Nd4j.linspace(1, 10000, 10000), array);
+    }
+
+    private static INDArray reassembleStreaming(INDArray array) {
+        StreamingChunkAccumulator chunkAccumulator = new StreamingChunkAccumulator();
+        NDArrayMessageChunk[] chunks = NDArrayMessage.chunks(NDArrayMessage.wholeArrayUpdate(array), 1024);
+        for (NDArrayMessageChunk chunk : chunks)
+            chunkAccumulator.accumulateChunk(chunk);
+
+        return chunkAccumulator.reassemble(chunks[0].getId()).getArr();
+    }
+
+    @Test
+    public void testStreamingAccumulatorEviction() throws Exception {
+        StreamingChunkAccumulator chunkAccumulator = new StreamingChunkAccumulator(50, 1024 * 1024);
+        NDArrayMessageChunk[] chunks = NDArrayMessage.chunks(NDArrayMessage.wholeArrayUpdate(Nd4j.ones(1000)), 128);
+        chunkAccumulator.accumulateChunk(chunks[0]);
+        assertTrue(chunkAccumulator.getReservedBytes() > 0);
+
+        Thread.sleep(100);
+
+        assertEquals(1, chunkAccumulator.evictExpired());
+        assertEquals(0, chunkAccumulator.numChunksSoFar(chunks[0].getId()));
+        assertEquals(0, chunkAccumulator.getReservedBytes());
+        assertEquals(1, chunkAccumulator.getEvictedMessages());
+    }
+
+    @Test
+    public void testStreamingAccumulatorBudget() {
+        NDArrayMessageChunk[] chunksA = NDArrayMessage.chunks(NDArrayMessage.wholeArrayUpdate(Nd4j.ones(1000)), 128);
+        NDArrayMessageChunk[] chunksB = NDArrayMessage.chunks(NDArrayMessage.wholeArrayUpdate(Nd4j.ones(1000)), 128);
+        int messageSize = chunksA.length * 128;
+
+        // budget fits only one message at a time
+        StreamingChunkAccumulator chunkAccumulator = new StreamingChunkAccumulator(60000, messageSize + 1);
+        chunkAccumulator.accumulateChunk(chunksA[0]);
+        chunkAccumulator.accumulateChunk(chunksB[0]);
+
+        // oldest incomplete message gets evicted to make room
+        assertEquals(0, chunkAccumulator.numChunksSoFar(chunksA[0].getId()));
+        assertEquals(1, chunkAccumulator.numChunksSoFar(chunksB[0].getId()));
+        assertEquals(messageSize, chunkAccumulator.getReservedBytes());
+
+        // message larger then budget is dropped
+        StreamingChunkAccumulator small = new StreamingChunkAccumulator(60000, 256);
+        small.accumulateChunk(chunksA[0]);
+        assertEquals(0, small.numChunksSoFar(chunksA[0].getId()));
+    }
 }
@@ -1,5 +1,6 @@
 package org.nd4j.camel.kafka;
 
+import kafka.serializer.DefaultEncoder;
 import kafka.serializer.StringEncoder;
 import lombok.Builder;
 import lombok.Data;
@@ -30,6 +31,6 @@ public class KafkaConnectionInformation implements Serializable {
         return String.format(
                         "kafka://%s?topic=%s&groupId=%s&zookeeperHost=%s&zookeeperPort=%d&serializerClass=%s&keySerializerClass=%s",
                         kafkaBrokerList, topicName, groupId, zookeeperHost, zookeeperPort,
-                        StringEncoder.class.getName(), StringEncoder.class.getName());
+                        DefaultEncoder.class.getName(), StringEncoder.class.getName());
     }
 }
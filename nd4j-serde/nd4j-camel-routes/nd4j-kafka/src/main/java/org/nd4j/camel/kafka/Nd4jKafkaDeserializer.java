@@ -0,0 +1,229 @@
+package org.nd4j.camel.kafka;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.concurrency.AffinityManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.api.shape.Shape;
+import org.nd4j.linalg.compression.BasicNDArrayCompressor;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.util.ArrayUtil;
+import org.nd4j.serde.binary.BinarySerde;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Kafka deserializer for INDArrays produced by {@link Nd4jKafkaSerializer}.
+ *
+ * Record payload is copied exactly once: from the record byte array straight into off-heap buffer of the new array.
+ * Besides that, {@link #deserializeBatch(Collection)} allows to stack multiple records into single INDArray,
+ * so consumer gets one allocation per poll instead of one allocation per record.
+ *
+ * Compressed payloads are decompressed unless {@link #DECOMPRESS_KEY} property is set to false.
+ * Payloads with non-default strides (i.e. written by other BinarySerde users) go through {@link BinarySerde#toArray(ByteBuffer)}.
+ */
+public class Nd4jKafkaDeserializer implements Deserializer<INDArray> {
+    public static final String DECOMPRESS_KEY = "nd4j.kafka.decompress";
+
+    // rank + data type
+    private static final int HEADER_LENGTH = 8;
+
+    private boolean decompress = true;
+
+    public Nd4jKafkaDeserializer() {
+        //
+    }
+
+    public Nd4jKafkaDeserializer(boolean decompress) {
+        this.decompress = decompress;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object value = configs == null ? null : configs.get(DECOMPRESS_KEY);
+        if (value != null)
+            decompress = Boolean.parseBoolean(value.toString());
+    }
+
+    @Override
+    public INDArray deserialize(String topic, byte[] data) {
+        return fromBytes(data);
+    }
+
+    @Override
+    public void close() {
+        // no-op
+    }
+
+    /**
+     * This method converts byte array produced by {@link Nd4jKafkaSerializer} back into INDArray
+     *
+     * @param data
+     * @return
+     */
+    public INDArray fromBytes(byte[] data) {
+        if (data == null)
+            return null;
+
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.nativeOrder());
+        int rank = rankOf(buffer);
+        if (!isRawPayload(buffer) || !hasDefaultStrides(buffer, rank))
+            return fallback(data);
+
+        INDArray array = Nd4j.createUninitialized(shapeOf(buffer, rank), orderOf(buffer, rank));
+        copyData(buffer, rank, array, 0);
+
+        return array;
+    }
+
+    /**
+     * This method stacks multiple records into single INDArray, with shape [numRecords, ...recordShape].
+     * Row vector records, i.e. [1, N], are stacked into [numRecords, N] matrix.
+     *
+     * PLEASE NOTE: all records are expected to have the same shape.
+     * Compressed records can't be stacked if decompression is disabled.
+     *
+     * @param records
+     * @return
+     */
+    public INDArray deserializeBatch(Collection<byte[]> records) {
+        if (records == null || records.isEmpty())
+            return null;
+
+        int[] recordShape = null;
+        boolean raw = true;
+        for (byte[] record : records) {
+            if (record == null)
+                throw new IllegalArgumentException("Null records can't be stacked");
+
+            ByteBuffer buffer = ByteBuffer.wrap(record).order(ByteOrder.nativeOrder());
+            if (!decompress && isCompressedPayload(buffer))
+                throw new IllegalStateException("Compressed records can't be stacked with decompression disabled");
+
+            int[] shape = shapeOf(buffer, rankOf(buffer));
+            if (recordShape == null)
+                recordShape = shape;
+            else if (!Arrays.equals(recordShape, shape))
+                throw new IllegalArgumentException("All records should have the same shape: expected "
+                                + Arrays.toString(recordShape) + " but got " + Arrays.toString(shape));
+
+            // raw copy into rows is only possible for dense c-ordered payloads of default data type
+            raw &= isRawPayload(buffer) && hasDefaultStrides(buffer, shape.length)
+                            && (orderOf(buffer, shape.length) == 'c' || Shape.isVector(shape));
+        }
+
+        boolean rowVectors = recordShape.length == 2 && recordShape[0] == 1;
+        int[] batchShape;
+        if (rowVectors) {
+            batchShape = new int[] {records.size(), recordShape[1]};
+        } else {
+            batchShape = new int[recordShape.length + 1];
+            batchShape[0] = records.size();
+            System.arraycopy(recordShape, 0, batchShape, 1, recordShape.length);
+        }
+
+        INDArray batch = Nd4j.createUninitialized(batchShape, 'c');
+        int recordLength = ArrayUtil.prod(recordShape);
+
+        int cnt = 0;
+        for (byte[] record : records) {
+            if (raw) {
+                ByteBuffer buffer = ByteBuffer.wrap(record).order(ByteOrder.nativeOrder());
+                copyData(buffer, rankOf(buffer), batch, cnt * recordLength);
+            } else {
+                INDArray row = rowVectors ? batch.getRow(cnt)
+                                : batch.tensorAlongDimension(cnt, dimensionsOf(batchShape));
+                row.assign(fromBytes(record).reshape(row.shape()));
+            }
+            cnt++;
+        }
+
+        return batch;
+    }
+
+    protected void copyData(ByteBuffer source, int rank, INDArray target, int elementOffset) {
+        int dataOffset = HEADER_LENGTH + Shape.shapeInfoLength(rank) * 4;
+        int elementSize = target.data().getElementSize();
+        int numBytes = ArrayUtil.prod(shapeOf(source, rank)) * elementSize;
+
+        if (source.capacity() < dataOffset + numBytes)
+            throw new IllegalArgumentException("Payload is truncated: expected " + (dataOffset + numBytes)
+                            + " bytes, got " + source.capacity());
+
+        // target memory should be actual on host side before we write there
+        Nd4j.getAffinityManager().ensureLocation(target, AffinityManager.Location.HOST);
+
+        ByteBuffer direct = target.data().pointer().asByteBuffer().order(ByteOrder.nativeOrder());
+        direct.position((int) (target.offset() + elementOffset) * elementSize);
+        direct.put(source.array(), source.arrayOffset() + dataOffset, numBytes);
+
+        Nd4j.getAffinityManager().tagLocation(target, AffinityManager.Location.HOST);
+    }
+
+    protected INDArray fallback(byte[] data) {
+        INDArray array = BinarySerde.toArray(ByteBuffer.wrap(data));
+        if (decompress && array.isCompressed())
+            return BasicNDArrayCompressor.getInstance().decompress(array);
+
+        return array;
+    }
+
+    protected static boolean isRawPayload(ByteBuffer buffer) {
+        return DataBuffer.Type.values()[buffer.getInt(4)] == Nd4j.dataType();
+    }
+
+    protected static boolean isCompressedPayload(ByteBuffer buffer) {
+        return DataBuffer.Type.values()[buffer.getInt(4)] == DataBuffer.Type.COMPRESSED;
+    }
+
+    protected static int rankOf(ByteBuffer buffer) {
+        int rank = buffer.getInt(0);
+        if (rank < 0)
+            throw new IllegalStateException("Found negative integer. Corrupt serialization?");
+
+        return rank;
+    }
+
+    protected static int[] shapeOf(ByteBuffer buffer, int rank) {
+        // shape info goes right after header, and starts with rank
+        int[] shape = new int[rank];
+        for (int i = 0; i < rank; i++)
+            shape[i] = buffer.getInt(HEADER_LENGTH + (i + 1) * 4);
+
+        return shape;
+    }
+
+    protected static int[] stridesOf(ByteBuffer buffer, int rank) {
+        // strides go right after shape
+        int[] strides = new int[rank];
+        for (int i = 0; i < rank; i++)
+            strides[i] = buffer.getInt(HEADER_LENGTH + (rank + i + 1) * 4);
+
+        return strides;
+    }
+
+    /**
+     * This method checks if payload data is laid out densely, in its own ordering, so it can be copied as is
+     */
+    protected static boolean hasDefaultStrides(ByteBuffer buffer, int rank) {
+        int[] shape = shapeOf(buffer, rank);
+        int[] expected = orderOf(buffer, rank) == 'f' ? ArrayUtil.calcStridesFortran(shape) : ArrayUtil.calcStrides(shape);
+        return Arrays.equals(expected, stridesOf(buffer, rank));
+    }
+
+    protected static char orderOf(ByteBuffer buffer, int rank) {
+        return (char) buffer.getInt(HEADER_LENGTH + (Shape.shapeInfoLength(rank) - 1) * 4);
+    }
+
+    private static int[] dimensionsOf(int[] batchShape) {
+        int[] dimensions = new int[batchShape.length - 1];
+        for (int i = 0; i < dimensions.length; i++)
+            dimensions[i] = i + 1;
+
+        return dimensions;
+    }
+}
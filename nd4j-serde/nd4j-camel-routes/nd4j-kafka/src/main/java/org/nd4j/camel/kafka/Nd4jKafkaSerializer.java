@@ -0,0 +1,84 @@
+package org.nd4j.camel.kafka;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.nd4j.linalg.compression.BasicNDArrayCompressor;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.serde.binary.BinarySerde;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Kafka serializer for INDArrays, using {@link BinarySerde} layout: rank, data type, shape info and raw data.
+ *
+ * Unlike Base64 path, array memory is copied exactly once: straight from off-heap buffer into the record payload.
+ * Optional compression can be enabled via {@link #COMPRESSION_KEY} property, i.e. "nd4j.kafka.compression=GZIP"
+ *
+ * Arrays with non-default strides (views, permuted arrays) are copied into their own ordering first,
+ * so payload data always matches its shape and ordering.
+ */
+public class Nd4jKafkaSerializer implements Serializer<INDArray> {
+    public static final String COMPRESSION_KEY = "nd4j.kafka.compression";
+
+    private String compression;
+
+    public Nd4jKafkaSerializer() {
+        this(null);
+    }
+
+    public Nd4jKafkaSerializer(String compression) {
+        this.compression = compression;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object value = configs == null ? null : configs.get(COMPRESSION_KEY);
+        if (value != null)
+            compression = value.toString();
+    }
+
+    @Override
+    public byte[] serialize(String topic, INDArray array) {
+        return toBytes(array);
+    }
+
+    @Override
+    public void close() {
+        // no-op
+    }
+
+    /**
+     * This method converts given INDArray to byte array, with single copy of underlying data
+     *
+     * @param array
+     * @return
+     */
+    public byte[] toBytes(INDArray array) {
+        if (array == null)
+            return null;
+
+        INDArray arr = array;
+
+        // views share buffer with their parent, and permuted arrays keep their parent's layout,
+        // so we have to detach them first
+        if (!arr.isCompressed() && (arr.isView()
+                        || !Arrays.equals(arr.stride(), Nd4j.getStrides(arr.shape(), arr.ordering()))))
+            arr = arr.dup(arr.ordering());
+
+        if (compression != null && !arr.isCompressed())
+            arr = BasicNDArrayCompressor.getInstance().compress(arr, compression);
+
+        byte[] result = new byte[BinarySerde.byteBufferSizeFor(arr)];
+        ByteBuffer buffer = ByteBuffer.wrap(result).order(ByteOrder.nativeOrder());
+
+        if (arr.isCompressed())
+            BinarySerde.doByteBufferPutCompressed(arr, buffer, false);
+        else
+            BinarySerde.doByteBufferPutUnCompressed(arr, buffer, false);
+
+        return result;
+    }
+}
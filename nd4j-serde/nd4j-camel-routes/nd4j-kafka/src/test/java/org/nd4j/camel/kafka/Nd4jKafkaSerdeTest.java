@@ -0,0 +1,93 @@
+package org.nd4j.camel.kafka;
+
+import org.junit.Test;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class Nd4jKafkaSerdeTest {
+    private Nd4jKafkaSerializer serializer = new Nd4jKafkaSerializer();
+    private Nd4jKafkaDeserializer deserializer = new Nd4jKafkaDeserializer();
+
+    @Test
+    public void testRoundTripC1() {
+        INDArray array = Nd4j.linspace(1, 24, 24).reshape('c', 2, 3, 4);
+        INDArray restored = deserializer.fromBytes(serializer.toBytes(array));
+
+        assertEquals(array, restored);
+        assertEquals('c', restored.ordering());
+    }
+
+    @Test
+    public void testRoundTripF1() {
+        INDArray array = Nd4j.linspace(1, 24, 24).reshape('f', 2, 3, 4);
+        INDArray restored = deserializer.fromBytes(serializer.toBytes(array));
+
+        assertEquals(array, restored);
+        assertEquals('f', restored.ordering());
+    }
+
+    @Test
+    public void testRoundTripPermuted1() {
+        INDArray array = Nd4j.linspace(1, 24, 24).reshape(2, 3, 4).permute(1, 0, 2);
+        INDArray restored = deserializer.fromBytes(serializer.toBytes(array));
+
+        assertArrayEquals(array.shape(), restored.shape());
+        assertEquals(array, restored);
+    }
+
+    @Test
+    public void testRoundTripView1() {
+        INDArray array = Nd4j.linspace(1, 24, 24).reshape(4, 6).getColumn(2);
+        INDArray restored = deserializer.fromBytes(serializer.toBytes(array));
+
+        assertEquals(array, restored);
+    }
+
+    @Test
+    public void testRoundTripCompressed1() {
+        INDArray array = Nd4j.linspace(1, 24, 24).reshape(2, 3, 4).permute(1, 0, 2);
+        byte[] payload = new Nd4jKafkaSerializer("GZIP").toBytes(array);
+
+        assertEquals(array, deserializer.fromBytes(payload));
+        assertTrue(new Nd4jKafkaDeserializer(false).fromBytes(payload).isCompressed());
+    }
+
+    @Test
+    public void testBatch1() {
+        INDArray first = Nd4j.linspace(1, 12, 12).reshape('c', 3, 4);
+        INDArray second = Nd4j.linspace(13, 24, 12).reshape('f', 3, 4);
+        INDArray third = Nd4j.linspace(25, 36, 12).reshape(4, 3).transpose();
+
+        INDArray batch = deserializer.deserializeBatch(Arrays.asList(serializer.toBytes(first),
+                        serializer.toBytes(second), serializer.toBytes(third)));
+
+        assertArrayEquals(new int[] {3, 3, 4}, batch.shape());
+        assertEquals(first, batch.tensorAlongDimension(0, 1, 2));
+        assertEquals(second, batch.tensorAlongDimension(1, 1, 2));
+        assertEquals(third, batch.tensorAlongDimension(2, 1, 2));
+    }
+
+    @Test
+    public void testBatchRowVectors1() {
+        INDArray first = Nd4j.linspace(1, 5, 5);
+        INDArray second = Nd4j.linspace(6, 10, 5);
+        Nd4jKafkaSerializer compressing = new Nd4jKafkaSerializer("GZIP");
+
+        INDArray batch = deserializer.deserializeBatch(
+                        Arrays.asList(serializer.toBytes(first), compressing.toBytes(second)));
+
+        assertEquals(Nd4j.linspace(1, 10, 10).reshape(2, 5), batch);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBatchCompressedWithoutDecompression1() {
+        Nd4jKafkaSerializer compressing = new Nd4jKafkaSerializer("GZIP");
+
+        new Nd4jKafkaDeserializer(false).deserializeBatch(Arrays.asList(compressing.toBytes(Nd4j.linspace(1, 5, 5)),
+                        compressing.toBytes(Nd4j.linspace(6, 10, 5))));
+    }
+}